@@ -119,6 +119,21 @@ private ClientRest4ElasticsearchBackendClientSettings() {
 	*/
 	public static final String CLIENT_CONFIGURER = "client.configurer";
 
+	/**
+	 * Whether HTTP compression is enabled.
+	 * <p>
+	 * When enabled, request bodies are compressed with gzip and sent with a {@code Content-Encoding: gzip} header,
+	 * and Elasticsearch is asked to compress responses through an {@code Accept-Encoding: gzip} header.
+	 * This trades some CPU for a significant reduction of the network traffic,
+	 * in particular for bulk indexing requests.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression_enabled";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -133,5 +148,6 @@ private Defaults() {
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 20;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
 	}
 }
@@ -75,7 +75,7 @@ public class ClientRest5ElasticsearchClient implements ElasticsearchClientImplem
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( request, response ) );
 		if ( ElasticsearchRequestLog.INSTANCE.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -195,11 +195,11 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 		request.setOptions( requestOptions );
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		String reason = EnglishReasonPhraseCatalog.INSTANCE.getReason( response.getStatusCode(), Locale.ENGLISH );
 		try {
 
-			JsonObject body = parseBody( response );
+			JsonObject body = parseBody( request, response );
 			return new ElasticsearchResponse(
 					response.getHost().toHostString(),
 					response.getStatusCode(),
@@ -212,7 +212,7 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
+	private JsonObject parseBody(ElasticsearchRequest request, Response response) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
 			return null;
@@ -221,7 +221,7 @@ private JsonObject parseBody(Response response) throws IOException {
 		Charset charset = getCharset( entity );
 		try ( InputStream inputStream = entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
+			return ElasticsearchClientUtils.parseBody( gson, reader, request );
 		}
 	}
 
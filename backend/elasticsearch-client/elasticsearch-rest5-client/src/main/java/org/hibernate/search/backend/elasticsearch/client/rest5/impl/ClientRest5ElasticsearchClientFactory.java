@@ -145,6 +145,12 @@ public class ClientRest5ElasticsearchClientFactory implements ElasticsearchClien
 					.asLongStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ClientRest5ElasticsearchBackendClientSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ClientRest5ElasticsearchBackendClientSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	@Override
 	public ElasticsearchClientImplementor create(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider, String threadNamePrefix,
@@ -184,6 +190,8 @@ private BeanHolder<? extends Rest5Client> createClient(BeanResolver beanResolver
 		if ( !pathPrefix.isEmpty() ) {
 			builder.setPathPrefix( pathPrefix );
 		}
+		// The client compresses request bodies, requests compressed responses and decompresses them transparently.
+		builder.setCompressionEnabled( COMPRESSION_ENABLED.get( propertySource ) );
 
 		Optional<? extends BeanHolder<? extends ElasticsearchHttpClientConfigurer>> customConfig = CLIENT_CONFIGURER
 				.getAndMap( propertySource, beanResolver::resolve );
@@ -61,11 +61,16 @@ public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throw
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new ClientRest5GsonHttpEntity( gson, bodyParts );
+		return new ClientRest5GsonHttpEntity( gson, bodyParts, request.serializedBodyParts() );
 	}
 
 	public ClientRest5GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
-		super( gson, bodyParts );
+		this( gson, bodyParts, null );
+	}
+
+	public ClientRest5GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, List<String> serializedBodyParts)
+			throws IOException {
+		super( gson, bodyParts, serializedBodyParts );
 	}
 
 	@Override
@@ -73,7 +73,7 @@ public class ClientOpenSearchElasticsearchClient implements ElasticsearchClientI
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( request, response ) );
 		if ( ElasticsearchRequestLog.INSTANCE.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -193,9 +193,9 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 		request.setOptions( requestOptions );
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
-			JsonObject body = parseBody( response );
+			JsonObject body = parseBody( request, response );
 			return new ElasticsearchResponse(
 					response.getHost().toHostString(),
 					response.getStatusLine().getStatusCode(),
@@ -208,7 +208,7 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
+	private JsonObject parseBody(ElasticsearchRequest request, Response response) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
 			return null;
@@ -217,7 +217,7 @@ private JsonObject parseBody(Response response) throws IOException {
 		Charset charset = getCharset( entity );
 		try ( InputStream inputStream = entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
+			return ElasticsearchClientUtils.parseBody( gson, reader, request );
 		}
 	}
 
@@ -145,6 +145,12 @@ public class ClientOpenSearchElasticsearchClientFactory implements Elasticsearch
 					.asLongStrictlyPositive()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ClientOpenSearchElasticsearchBackendClientSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ClientOpenSearchElasticsearchBackendClientSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	@Override
 	public ElasticsearchClientImplementor create(BeanResolver beanResolver, ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider, String threadNamePrefix,
@@ -182,6 +188,8 @@ private BeanHolder<? extends RestClient> createClient(BeanResolver beanResolver,
 		if ( !pathPrefix.isEmpty() ) {
 			builder.setPathPrefix( pathPrefix );
 		}
+		// The client compresses request bodies, requests compressed responses and decompresses them transparently.
+		builder.setCompressionEnabled( COMPRESSION_ENABLED.get( propertySource ) );
 
 		Optional<? extends BeanHolder<? extends ElasticsearchHttpClientConfigurer>> customConfig = CLIENT_CONFIGURER
 				.getAndMap( propertySource, beanResolver::resolve );
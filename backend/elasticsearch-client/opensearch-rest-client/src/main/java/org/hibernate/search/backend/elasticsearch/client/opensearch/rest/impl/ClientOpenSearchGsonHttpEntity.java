@@ -60,11 +60,16 @@ public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throw
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new ClientOpenSearchGsonHttpEntity( gson, bodyParts );
+		return new ClientOpenSearchGsonHttpEntity( gson, bodyParts, request.serializedBodyParts() );
 	}
 
 	public ClientOpenSearchGsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
-		super( gson, bodyParts );
+		this( gson, bodyParts, null );
+	}
+
+	public ClientOpenSearchGsonHttpEntity(Gson gson, List<JsonObject> bodyParts, List<String> serializedBodyParts)
+			throws IOException {
+		super( gson, bodyParts, serializedBodyParts );
 	}
 
 	@Override
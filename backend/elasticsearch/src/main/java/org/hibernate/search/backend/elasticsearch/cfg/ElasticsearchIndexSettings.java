@@ -7,6 +7,7 @@
 import org.hibernate.search.backend.elasticsearch.analysis.ElasticsearchAnalysisConfigurer;
 import org.hibernate.search.backend.elasticsearch.index.DynamicMapping;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * Configuration properties for Elasticsearch indexes.
@@ -155,6 +156,98 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size, in bytes, of bulk requests created when processing indexing queues.
+	 * <p>
+	 * The size of a bulk request is the size of its serialized (uncompressed) body.
+	 * When adding a work to a bulk would exceed this size, the bulk is sent and a new one is started,
+	 * even if it has fewer works than {@link #INDEXING_MAX_BULK_SIZE}.
+	 * A single work whose serialized size exceeds this limit is still sent, alone in its own bulk.
+	 * <p>
+	 * Expects a strictly positive long value,
+	 * or a string that can be parsed into a long value.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to no limit: bulk requests are only limited by {@link #INDEXING_MAX_BULK_SIZE}.
+	 */
+	@Incubating
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
+	/**
+	 * The maximum number of times a bulked work rejected by Elasticsearch because of load will be retried.
+	 * <p>
+	 * A work is considered rejected because of load when Elasticsearch responds with the HTTP status
+	 * {@code 429 Too Many Requests}, either for the whole bulk request or for that specific work
+	 * (e.g. {@code es_rejected_execution_exception}).
+	 * Rejected works are retried in a new bulk request after a delay that grows exponentially with each retry:
+	 * see {@link #INDEXING_RETRY_INITIAL_DELAY} and {@link #INDEXING_RETRY_MAX_DELAY}.
+	 * Works that are still rejected after this many retries are reported as failed.
+	 * <p>
+	 * Rejections also temporarily reduce the size of bulk requests below {@link #INDEXING_MAX_BULK_SIZE}
+	 * (halving it on each rejection, then growing it back by one work per successful bulk request),
+	 * so as to reduce the pressure on the Elasticsearch cluster.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_RETRIES}.
+	 */
+	@Incubating
+	public static final String INDEXING_MAX_RETRIES = INDEXING_PREFIX + IndexingRadicals.MAX_RETRIES;
+
+	/**
+	 * The delay, in milliseconds, before the first retry of bulked works rejected by Elasticsearch because of load.
+	 * <p>
+	 * The delay doubles with each subsequent retry, up to {@link #INDEXING_RETRY_MAX_DELAY},
+	 * and a random jitter of up to half the delay is subtracted so that queues do not retry in lockstep.
+	 * <p>
+	 * Expects a strictly positive long value,
+	 * or a string that can be parsed into a long value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_INITIAL_DELAY}.
+	 *
+	 * @see #INDEXING_MAX_RETRIES
+	 */
+	@Incubating
+	public static final String INDEXING_RETRY_INITIAL_DELAY = INDEXING_PREFIX + IndexingRadicals.RETRY_INITIAL_DELAY;
+
+	/**
+	 * The maximum delay, in milliseconds, before a retry of bulked works rejected by Elasticsearch because of load.
+	 * <p>
+	 * Expects a strictly positive long value,
+	 * or a string that can be parsed into a long value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_RETRY_MAX_DELAY}.
+	 *
+	 * @see #INDEXING_MAX_RETRIES
+	 */
+	@Incubating
+	public static final String INDEXING_RETRY_MAX_DELAY = INDEXING_PREFIX + IndexingRadicals.RETRY_MAX_DELAY;
+
+	/**
+	 * Whether updates of entities where only some simple properties changed
+	 * should be sent to Elasticsearch as partial updates of the existing document,
+	 * instead of full replacements of the document.
+	 * <p>
+	 * Partial updates are only used for properties whose value is indexed through value bridges exclusively,
+	 * and only for fields at the root of the document;
+	 * other changes always trigger a full replacement of the document.
+	 * <p>
+	 * Partial updates fail if the document does not exist in the index yet,
+	 * e.g. if the entity was created before the index was populated,
+	 * which is why they are disabled by default.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_PARTIAL_UPDATES}.
+	 */
+	@Incubating
+	public static final String INDEXING_PARTIAL_UPDATES = INDEXING_PREFIX + IndexingRadicals.PARTIAL_UPDATES;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -166,6 +259,11 @@ private IndexingRadicals() {
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
+		public static final String MAX_RETRIES = "max_retries";
+		public static final String RETRY_INITIAL_DELAY = "retry_initial_delay";
+		public static final String RETRY_MAX_DELAY = "retry_max_delay";
+		public static final String PARTIAL_UPDATES = "partial_updates";
 	}
 
 	/**
@@ -187,6 +285,10 @@ private Defaults() {
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final int INDEXING_MAX_RETRIES = 3;
+		public static final long INDEXING_RETRY_INITIAL_DELAY = 50L;
+		public static final long INDEXING_RETRY_MAX_DELAY = 5_000L;
+		public static final boolean INDEXING_PARTIAL_UPDATES = false;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
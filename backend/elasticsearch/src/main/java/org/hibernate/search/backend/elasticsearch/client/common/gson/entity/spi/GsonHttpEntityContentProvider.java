@@ -71,6 +71,7 @@ public class GsonHttpEntityContentProvider implements ContentProducer {
 
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	private final List<String> serializedBodyParts;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -111,10 +112,24 @@ public class GsonHttpEntityContentProvider implements ContentProducer {
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
 	public GsonHttpEntityContentProvider(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bodyParts, null );
+	}
+
+	/**
+	 * @param gson The Gson instance to serialize body parts with.
+	 * @param bodyParts The body parts.
+	 * @param serializedBodyParts The body parts that were already serialized to JSON with the same Gson instance,
+	 * at the same position as in {@code bodyParts}, with {@code null} elements for body parts that still need
+	 * to be serialized; or {@code null} if no body part was serialized already.
+	 * @throws IOException If serialization fails.
+	 */
+	public GsonHttpEntityContentProvider(Gson gson, List<JsonObject> bodyParts, List<String> serializedBodyParts)
+			throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.serializedBodyParts = serializedBodyParts;
 		this.contentLength = -1;
 		attemptOnePassEncoding();
 	}
@@ -135,15 +150,30 @@ public void writeTo(OutputStream out) throws IOException {
 		 * Note we don't close the counting stream or the writer,
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
+		long bytesWritten = write( out );
+		//Now we finally know the content size in bytes:
+		hintContentLength( bytesWritten );
+	}
+
+	private long write(OutputStream out) throws IOException {
 		CountingOutputStream countingStream = new CountingOutputStream( out );
 		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, outWriter );
-			outWriter.append( '\n' );
+		for ( int i = 0; i < bodyParts.size(); i++ ) {
+			writeBodyPart( i, outWriter );
 		}
 		outWriter.flush();
-		//Now we finally know the content size in bytes:
-		hintContentLength( countingStream.getBytesWritten() );
+		return countingStream.getBytesWritten();
+	}
+
+	private void writeBodyPart(int index, Writer outWriter) throws IOException {
+		String serializedBodyPart = serializedBodyParts == null ? null : serializedBodyParts.get( index );
+		if ( serializedBodyPart != null ) {
+			outWriter.write( serializedBodyPart );
+		}
+		else {
+			gson.toJson( bodyParts.get( index ), outWriter );
+		}
+		outWriter.append( '\n' );
 	}
 
 	@Override
@@ -188,9 +218,7 @@ private void attemptOnePassEncoding() throws IOException {
 	 */
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
-			writer.append( '\n' );
+			writeBodyPart( nextBodyToEncodeIndex++, writer );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
 				//Just quit: return control to the caller and trust we'll be called again.
@@ -43,7 +43,9 @@ public static Builder builder(String method) {
 	private final String path;
 	private final Map<String, String> parameters;
 	private final List<JsonObject> bodyParts;
+	private final List<String> serializedBodyParts;
 	private final Deadline deadline;
+	private final ElasticsearchResponseBodyParser responseBodyParser;
 
 	private ElasticsearchRequest(Builder builder) {
 		this.method = builder.method;
@@ -52,7 +54,11 @@ private ElasticsearchRequest(Builder builder) {
 				builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts =
 				builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.serializedBodyParts = builder.serializedBodyParts == null
+				? null
+				: Collections.unmodifiableList( builder.serializedBodyParts );
 		this.deadline = builder.deadline;
+		this.responseBodyParser = builder.responseBodyParser;
 	}
 
 	public String method() {
@@ -71,10 +77,26 @@ public List<JsonObject> bodyParts() {
 		return bodyParts;
 	}
 
+	/**
+	 * @return The body parts that were already serialized to JSON, at the same position as in {@link #bodyParts()},
+	 * with {@code null} elements for body parts that still need to be serialized;
+	 * or {@code null} if no body part was serialized already.
+	 */
+	public List<String> serializedBodyParts() {
+		return serializedBodyParts;
+	}
+
 	public Deadline deadline() {
 		return deadline;
 	}
 
+	/**
+	 * @return The parser to use for the body of the response, or {@code null} to use the default parser.
+	 */
+	public ElasticsearchResponseBodyParser responseBodyParser() {
+		return responseBodyParser;
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", ElasticsearchRequest.class.getSimpleName() + "[", "]" )
@@ -94,7 +116,9 @@ public static final class Builder {
 
 		private Map<String, String> parameters;
 		private List<JsonObject> bodyParts;
+		private List<String> serializedBodyParts;
 		private Deadline deadline;
+		private ElasticsearchResponseBodyParser responseBodyParser;
 
 		private Builder(String method) {
 			super();
@@ -152,10 +176,26 @@ public Builder multiValuedParam(String name, Collection<String> values) {
 		}
 
 		public Builder body(JsonObject object) {
+			return body( object, null );
+		}
+
+		/**
+		 * @param object The body part.
+		 * @param serializedObject The body part, already serialized to JSON with the Gson instance of the client,
+		 * so that it doesn't need to be serialized again. May be {@code null}.
+		 * @return This builder.
+		 */
+		public Builder body(JsonObject object, String serializedObject) {
 			if ( bodyParts == null ) {
 				bodyParts = new ArrayList<>();
 			}
+			if ( serializedObject != null && serializedBodyParts == null ) {
+				serializedBodyParts = new ArrayList<>( Collections.nCopies( bodyParts.size(), null ) );
+			}
 			bodyParts.add( object );
+			if ( serializedBodyParts != null ) {
+				serializedBodyParts.add( serializedObject );
+			}
 			return this;
 		}
 
@@ -164,6 +204,11 @@ public Builder deadline(Deadline deadline) {
 			return this;
 		}
 
+		public Builder responseBodyParser(ElasticsearchResponseBodyParser responseBodyParser) {
+			this.responseBodyParser = responseBodyParser;
+			return this;
+		}
+
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.client.common.spi;
+
+import java.io.IOException;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * A parser for the body of responses to a specific request,
+ * able to process parts of the body while it is being read
+ * instead of building a {@link JsonObject} for the whole body upfront.
+ * <p>
+ * Clients use this parser instead of the default one
+ * when a request {@link ElasticsearchRequest#responseBodyParser() defines one}.
+ * A parser may be invoked multiple times if the request is sent multiple times,
+ * but never concurrently.
+ */
+@Incubating
+@FunctionalInterface
+public interface ElasticsearchResponseBodyParser {
+
+	/**
+	 * @param reader A reader positioned at the start of a non-empty response body.
+	 * @return The response body, possibly stripped of the parts that were consumed by this parser.
+	 * @throws IOException If reading fails.
+	 */
+	JsonObject parse(JsonReader reader) throws IOException;
+
+}
@@ -4,6 +4,16 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.common.util.spi;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.Reader;
+
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchResponseBodyParser;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 
 public final class ElasticsearchClientUtils {
 
@@ -15,4 +25,30 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
+	/**
+	 * Parses the body of a response,
+	 * using the {@link ElasticsearchRequest#responseBodyParser() parser defined by the request} if any.
+	 *
+	 * @param gson The Gson instance to use.
+	 * @param reader A reader for the body of the response.
+	 * @param request The request the response relates to.
+	 * @return The parsed body, or {@code null} if the body is empty.
+	 * @throws IOException If reading fails.
+	 */
+	public static JsonObject parseBody(Gson gson, Reader reader, ElasticsearchRequest request) throws IOException {
+		ElasticsearchResponseBodyParser parser = request.responseBodyParser();
+		if ( parser == null ) {
+			return gson.fromJson( reader, JsonObject.class );
+		}
+		JsonReader jsonReader = gson.newJsonReader( reader );
+		try {
+			jsonReader.peek();
+		}
+		catch (EOFException e) {
+			// Empty body, consistent with Gson#fromJson
+			return null;
+		}
+		return parser.parse( jsonReader );
+	}
+
 }
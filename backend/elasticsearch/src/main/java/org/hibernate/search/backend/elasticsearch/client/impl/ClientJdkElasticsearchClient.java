@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.PushbackInputStream;
 import java.io.Reader;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -24,6 +25,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.client.common.gson.spi.JsonLogHelper;
 import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchClientImplementor;
@@ -52,6 +54,8 @@ public class ClientJdkElasticsearchClient implements ElasticsearchClientImplemen
 
 	private final Optional<Integer> requestTimeoutMs;
 
+	private final boolean compressionEnabled;
+
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
@@ -60,11 +64,13 @@ public class ClientJdkElasticsearchClient implements ElasticsearchClientImplemen
 	ClientJdkElasticsearchClient(BeanHolder<? extends RestJdkClient> restClientHolder,
 			SimpleScheduledExecutor timeoutExecutorService,
 			Optional<Integer> requestTimeoutMs,
+			boolean compressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper, List<HttpRequestInterceptor> requestInterceptors
 	) {
 		this.restClientHolder = restClientHolder;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.requestTimeoutMs = requestTimeoutMs;
+		this.compressionEnabled = compressionEnabled;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 		this.requestInterceptors = requestInterceptors;
@@ -115,10 +121,15 @@ private static Charset getCharset(HttpHeaders headers) {
 		return StandardCharsets.UTF_8;
 	}
 
+	private static boolean isGzipped(HttpHeaders headers) {
+		Optional<String> contentEncoding = headers.firstValue( "Content-Encoding" );
+		return contentEncoding.isPresent() && "gzip".equalsIgnoreCase( contentEncoding.get().trim() );
+	}
+
 	private CompletableFuture<HttpResponse<JsonObject>> send(ElasticsearchRequest elasticsearchRequest) {
 		HttpRequest request;
 		try {
-			HttpRequest.BodyPublisher entity = ClientJdkGsonHttpEntity.toEntity( gson, elasticsearchRequest );
+			HttpRequest.BodyPublisher entity = ClientJdkGsonHttpEntity.toEntity( gson, elasticsearchRequest, compressionEnabled );
 			request = toRequest( elasticsearchRequest, entity );
 		}
 		catch (IOException | RuntimeException e) {
@@ -129,7 +140,7 @@ private CompletableFuture<HttpResponse<JsonObject>> send(ElasticsearchRequest el
 
 		CompletableFuture<HttpResponse<JsonObject>> completableFuture = restClientHolder.get().sendAsync(
 				request,
-				new JsonObjectBodyHandler()
+				new JsonObjectBodyHandler( elasticsearchRequest )
 		);
 
 		Deadline deadline = elasticsearchRequest.deadline();
@@ -170,6 +181,13 @@ private HttpRequest toRequest(ElasticsearchRequest elasticsearchRequest, HttpReq
 		setPerRequestSocketTimeout( elasticsearchRequest, request );
 		if ( !ClientJdkGsonHttpEntity.isNoBodyPublisher( bodyPublisher ) ) {
 			request.header( "Content-Type", "application/json" );
+			if ( compressionEnabled ) {
+				request.header( "Content-Encoding", "gzip" );
+			}
+		}
+		if ( compressionEnabled ) {
+			// Responses are decompressed in JsonObjectBodyHandler.
+			request.header( "Accept-Encoding", "gzip" );
 		}
 
 		HttpRequestInterceptorContext context = new HttpRequestInterceptorContext( elasticsearchRequest.method() );
@@ -240,34 +258,58 @@ public void close() {
 	}
 
 	private class GsonJsonMapper implements Function<InputStream, JsonObject> {
+		private final ElasticsearchRequest request;
 		private final Charset charset;
 		private final int statusCode;
+		private final boolean gzipped;
 
-		public GsonJsonMapper(Charset charset, int statusCode) {
+		public GsonJsonMapper(ElasticsearchRequest request, Charset charset, int statusCode, boolean gzipped) {
+			this.request = request;
 			this.charset = charset;
 			this.statusCode = statusCode;
+			this.gzipped = gzipped;
 		}
 
 		@Override
 		public JsonObject apply(InputStream inputStream) {
-			try ( inputStream; Reader reader = new InputStreamReader( inputStream, charset ) ) {
-				return gson.fromJson( reader, JsonObject.class );
+			try ( inputStream; Reader reader = new InputStreamReader( decode( inputStream ), charset ) ) {
+				return ElasticsearchClientUtils.parseBody( gson, reader, request );
 			}
 			catch (IOException e) {
 				throw ElasticsearchClientLog.INSTANCE.failedToParseElasticsearchResponse( statusCode, null, e.getMessage(), e );
 			}
 		}
+
+		private InputStream decode(InputStream inputStream) throws IOException {
+			if ( !gzipped ) {
+				return inputStream;
+			}
+			// Some responses (e.g. to HEAD requests) have a Content-Encoding header but no body.
+			PushbackInputStream pushbackStream = new PushbackInputStream( inputStream );
+			int firstByte = pushbackStream.read();
+			if ( firstByte < 0 ) {
+				return pushbackStream;
+			}
+			pushbackStream.unread( firstByte );
+			return new GZIPInputStream( pushbackStream );
+		}
 	}
 
 	private class JsonObjectBodyHandler implements HttpResponse.BodyHandler<JsonObject> {
+		private final ElasticsearchRequest request;
+
+		private JsonObjectBodyHandler(ElasticsearchRequest request) {
+			this.request = request;
+		}
 
 		@Override
 		public HttpResponse.BodySubscriber<JsonObject> apply(HttpResponse.ResponseInfo responseInfo) {
 			Charset charset = getCharset( responseInfo.headers() );
+			boolean gzipped = isGzipped( responseInfo.headers() );
 
 			return HttpResponse.BodySubscribers.mapping(
 					HttpResponse.BodySubscribers.ofInputStream(),
-					new GsonJsonMapper( charset, responseInfo.statusCode() )
+					new GsonJsonMapper( request, charset, responseInfo.statusCode(), gzipped )
 			);
 		}
 	}
@@ -93,6 +93,12 @@ public class ClientJdkElasticsearchClientFactory implements ElasticsearchClientF
 					.withDefault( ClientJdkElasticsearchBackendClientSettings.Defaults.CONNECTION_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ClientJdkElasticsearchBackendClientSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ClientJdkElasticsearchBackendClientSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
 	private static final OptionalConfigurationProperty<
 			BeanReference<? extends ElasticsearchHttpClientConfigurer>> CLIENT_CONFIGURER =
 					ConfigurationProperty.forKey( ClientJdkElasticsearchBackendClientSettings.CLIENT_CONFIGURER )
@@ -113,6 +119,7 @@ public ElasticsearchClientImplementor create(BeanResolver beanResolver, Configur
 
 		return new ClientJdkElasticsearchClient(
 				restClientHolder, timeoutExecutorService, requestTimeoutMs,
+				COMPRESSION_ENABLED.get( propertySource ),
 				gsonProvider.getGson(), gsonProvider.getLogHelper(),
 				createRequestInterceptors( beanResolver, propertySource )
 		);
@@ -19,17 +19,31 @@
 public class ClientJdkGsonHttpEntity extends GsonHttpEntityContentProvider implements HttpRequest.BodyPublisher {
 
 	public static HttpRequest.BodyPublisher toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+		return toEntity( gson, request, false );
+	}
+
+	public static HttpRequest.BodyPublisher toEntity(Gson gson, ElasticsearchRequest request, boolean compress)
+			throws IOException {
 		final List<JsonObject> bodyParts = request.bodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return HttpRequest.BodyPublishers.noBody();
 		}
-		return new ClientJdkGsonHttpEntity( gson, bodyParts );
+		ClientJdkGsonHttpEntity entity = new ClientJdkGsonHttpEntity( gson, bodyParts, request.serializedBodyParts() );
+		if ( compress ) {
+			return ClientJdkGzipHttpEntity.compress( entity );
+		}
+		return entity;
 	}
 
 	private final HttpRequest.BodyPublisher delegate;
 
 	public ClientJdkGsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
-		super( gson, bodyParts );
+		this( gson, bodyParts, null );
+	}
+
+	public ClientJdkGsonHttpEntity(Gson gson, List<JsonObject> bodyParts, List<String> serializedBodyParts)
+			throws IOException {
+		super( gson, bodyParts, serializedBodyParts );
 		delegate = HttpRequest.BodyPublishers.ofInputStream( this::getContent );
 	}
 
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A gzip-compressed request body.
+ * <p>
+ * The content is compressed upfront, so that its length is known
+ * and the request can be sent without chunked encoding.
+ * Compressed JSON is typically an order of magnitude smaller than the original,
+ * so holding it in memory is cheaper than holding the uncompressed body would be.
+ */
+final class ClientJdkGzipHttpEntity implements HttpRequest.BodyPublisher {
+
+	static ClientJdkGzipHttpEntity compress(ClientJdkGsonHttpEntity entity) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try ( GZIPOutputStream gzipStream = new GZIPOutputStream( bytes ) ) {
+			entity.writeTo( gzipStream );
+		}
+		return new ClientJdkGzipHttpEntity( bytes.toByteArray() );
+	}
+
+	private final byte[] content;
+	private final HttpRequest.BodyPublisher delegate;
+
+	private ClientJdkGzipHttpEntity(byte[] content) {
+		this.content = content;
+		this.delegate = HttpRequest.BodyPublishers.ofByteArray( content );
+	}
+
+	InputStream getContent() {
+		return new ByteArrayInputStream( content );
+	}
+
+	@Override
+	public long contentLength() {
+		return delegate.contentLength();
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+		delegate.subscribe( subscriber );
+	}
+}
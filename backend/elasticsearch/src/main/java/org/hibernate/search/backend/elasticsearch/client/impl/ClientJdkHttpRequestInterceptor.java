@@ -50,6 +50,9 @@ public InputStream content() {
 			if ( bodyPublisher instanceof ClientJdkGsonHttpEntity publisher ) {
 				return publisher.getContent();
 			}
+			if ( bodyPublisher instanceof ClientJdkGzipHttpEntity publisher ) {
+				return publisher.getContent();
+			}
 			return null;
 		}
 
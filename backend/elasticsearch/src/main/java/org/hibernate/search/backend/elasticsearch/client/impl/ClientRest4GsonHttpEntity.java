@@ -62,11 +62,16 @@ public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throw
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new ClientRest4GsonHttpEntity( gson, bodyParts );
+		return new ClientRest4GsonHttpEntity( gson, bodyParts, request.serializedBodyParts() );
 	}
 
 	public ClientRest4GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
-		super( gson, bodyParts );
+		this( gson, bodyParts, null );
+	}
+
+	public ClientRest4GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, List<String> serializedBodyParts)
+			throws IOException {
+		super( gson, bodyParts, serializedBodyParts );
 	}
 
 	@Override
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchResponse;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+
+/**
+ * A client decorator notifying a {@link MetricsRecorder} of the outcome and duration of each request.
+ */
+public final class MetricsRecordingElasticsearchClient implements ElasticsearchClientImplementor {
+
+	private static final int NO_STATUS_CODE = -1;
+
+	private final ElasticsearchClientImplementor delegate;
+	private final MetricsRecorder metricsRecorder;
+
+	/**
+	 * @param delegate The client to decorate.
+	 * @param metricsRecorder The metrics recorder.
+	 * @return A client notifying the given metrics recorder of each request,
+	 * or the delegate itself if metrics are disabled,
+	 * so that requests do not incur any overhead in that case.
+	 */
+	public static ElasticsearchClientImplementor wrap(ElasticsearchClientImplementor delegate,
+			MetricsRecorder metricsRecorder) {
+		if ( !metricsRecorder.isEnabled() ) {
+			return delegate;
+		}
+		return new MetricsRecordingElasticsearchClient( delegate, metricsRecorder );
+	}
+
+	private MetricsRecordingElasticsearchClient(ElasticsearchClientImplementor delegate,
+			MetricsRecorder metricsRecorder) {
+		this.delegate = delegate;
+		this.metricsRecorder = metricsRecorder;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[delegate=" + delegate + "]";
+	}
+
+	@Override
+	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+		long startNanos = System.nanoTime();
+		return delegate.submit( request ).whenComplete( (response, throwable) -> metricsRecorder.requestExecuted(
+				request.method(), endpoint( request.path() ),
+				response == null ? NO_STATUS_CODE : response.statusCode(),
+				System.nanoTime() - startNanos
+		) );
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> clientClass) {
+		return delegate.unwrap( clientClass );
+	}
+
+	@Override
+	public void close() {
+		delegate.close();
+	}
+
+	/**
+	 * @param path The path of a request, e.g. {@code /myIndex/_doc/1}.
+	 * @return The endpoint targeted by the request, e.g. {@code _doc},
+	 * i.e. the first path component starting with an underscore,
+	 * so that metrics are not split by index name or document identifier.
+	 */
+	static String endpoint(String path) {
+		int start = path.indexOf( "/_" );
+		if ( start < 0 ) {
+			// Index-level request, e.g. index creation or deletion.
+			return "/";
+		}
+		start += 1;
+		int end = path.indexOf( '/', start );
+		return end < 0 ? path.substring( start ) : path.substring( start, end );
+	}
+}
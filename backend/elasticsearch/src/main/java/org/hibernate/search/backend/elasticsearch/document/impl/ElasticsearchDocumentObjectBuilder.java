@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.document.impl;
 
+import java.util.Collection;
 import java.util.Objects;
 
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexCompositeNode;
@@ -23,6 +24,7 @@
 import org.hibernate.search.engine.backend.document.spi.NoOpDocumentElement;
 import org.hibernate.search.engine.common.tree.spi.TreeNodeInclusion;
 
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 
 public class ElasticsearchDocumentObjectBuilder implements DocumentElement {
@@ -120,6 +122,34 @@ public JsonObject build() {
 		return content;
 	}
 
+	/**
+	 * Explicitly sets the given fields to {@code null} if they were not populated,
+	 * so that their values get removed from the indexed document
+	 * when the built object is used as a partial update.
+	 *
+	 * @param fieldReferences References to value fields of the composite node handled by this builder.
+	 */
+	public void addMissingAsNull(Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		for ( IndexFieldReference<?> fieldReference : fieldReferences ) {
+			ElasticsearchIndexValueField<?> node = ( (ElasticsearchIndexFieldReference<?>) fieldReference ).getSchemaNode();
+			checkTreeConsistency( node.parent() );
+			// Excluded fields are not part of the mapping: setting them would fail with strict dynamic mapping.
+			if ( TreeNodeInclusion.EXCLUDED.equals( node.inclusion() ) || content.has( node.relativeName() ) ) {
+				continue;
+			}
+			content.add( node.relativeName(), JsonNull.INSTANCE );
+		}
+	}
+
+	/**
+	 * @param fieldReference A field reference.
+	 * @return {@code true} if the field reference points to a value field at the root of the document.
+	 */
+	public static boolean isRootValueField(IndexFieldReference<?> fieldReference) {
+		return fieldReference instanceof ElasticsearchIndexFieldReference
+				&& ( (ElasticsearchIndexFieldReference<?>) fieldReference ).getSchemaNode().parent().isRoot();
+	}
+
 	private <F> void addValue(ElasticsearchIndexValueField<F> node, F value) {
 		ElasticsearchIndexCompositeNode expectedParentNode = node.parent();
 		checkTreeConsistency( expectedParentNode );
@@ -97,7 +97,8 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 			ElasticsearchDialectFactory dialectFactory = new ElasticsearchDialectFactory();
 			link = new ElasticsearchLinkImpl(
 					clientFactoryHolder, threads, defaultGsonProvider, logPrettyPrinting,
-					dialectFactory, configuredVersion, createTypeNameMapping( propertySource )
+					dialectFactory, configuredVersion, createTypeNameMapping( propertySource ),
+					buildContext.metricsRecorder()
 			);
 			MultiTenancyStrategy multiTenancyStrategy = getMultiTenancyStrategy( propertySource, buildContext );
 
@@ -132,7 +133,8 @@ dialectFactory, configuredVersion, createTypeNameMapping( propertySource )
 					propertyMappingValidatorProvider,
 					userFacingGson,
 					multiTenancyStrategy,
-					buildContext.failureHandler(), buildContext.timingSource()
+					buildContext.failureHandler(), buildContext.timingSource(),
+					buildContext.metricsRecorder()
 			);
 		}
 		catch (RuntimeException e) {
@@ -47,6 +47,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
@@ -102,7 +103,8 @@ class ElasticsearchBackendImpl implements BackendImplementor, ElasticsearchBacke
 			ElasticsearchPropertyMappingValidatorProvider propertyMappingValidatorProvider,
 			Gson userFacingGson,
 			MultiTenancyStrategy multiTenancyStrategy,
-			FailureHandler failureHandler, TimingSource timingSource) {
+			FailureHandler failureHandler, TimingSource timingSource,
+			MetricsRecorder metricsRecorder) {
 		this.backendName = backendName;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -120,7 +122,7 @@ class ElasticsearchBackendImpl implements BackendImplementor, ElasticsearchBacke
 				this, eventContext, threads, link,
 				userFacingGson,
 				multiTenancyStrategy,
-				failureHandler, timingSource,
+				failureHandler, timingSource, metricsRecorder,
 				generalPurposeOrchestrator,
 				propertyMappingValidatorProvider
 		);
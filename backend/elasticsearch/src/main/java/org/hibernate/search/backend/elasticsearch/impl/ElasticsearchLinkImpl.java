@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
+import org.hibernate.search.backend.elasticsearch.client.impl.MetricsRecordingElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.dialect.impl.ElasticsearchDialectFactory;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProviderHelper;
@@ -37,6 +38,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
 
@@ -80,6 +82,7 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private final Optional<ElasticsearchVersion> configuredVersionOnBackendCreationOptional;
 	private final TypeNameMapping typeNameMapping;
 	private final IndexNamesRegistry indexNamesRegistry;
+	private final MetricsRecorder metricsRecorder;
 
 	private ElasticsearchClientImplementor clientImplementor;
 	private ElasticsearchVersion elasticsearchVersion;
@@ -96,7 +99,7 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
 			ElasticsearchDialectFactory dialectFactory,
 			Optional<ElasticsearchVersion> configuredVersionOnBackendCreationOptional,
-			TypeNameMapping typeNameMapping) {
+			TypeNameMapping typeNameMapping, MetricsRecorder metricsRecorder) {
 		this.clientFactoryHolder = clientFactoryHolder;
 		this.threads = threads;
 		this.defaultGsonProvider = defaultGsonProvider;
@@ -105,6 +108,7 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 		this.configuredVersionOnBackendCreationOptional = configuredVersionOnBackendCreationOptional;
 		this.typeNameMapping = typeNameMapping;
 		this.indexNamesRegistry = new IndexNamesRegistry();
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	@Override
@@ -206,9 +210,12 @@ ElasticsearchVersion getElasticsearchVersion() {
 	void onStart(BeanResolver beanResolver, MultiTenancyStrategy multiTenancyStrategy,
 			ConfigurationPropertySource propertySource) {
 		if ( clientImplementor == null ) {
-			clientImplementor = clientFactoryHolder.get().create(
-					beanResolver, propertySource, threads.getThreadProvider(), threads.getPrefix(),
-					threads.getWorkExecutor(), defaultGsonProvider
+			clientImplementor = MetricsRecordingElasticsearchClient.wrap(
+					clientFactoryHolder.get().create(
+							beanResolver, propertySource, threads.getThreadProvider(), threads.getPrefix(),
+							threads.getWorkExecutor(), defaultGsonProvider
+					),
+					metricsRecorder
 			);
 			clientFactoryHolder.close(); // We won't need it anymore
 
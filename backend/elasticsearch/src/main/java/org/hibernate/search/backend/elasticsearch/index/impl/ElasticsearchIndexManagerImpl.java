@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -11,6 +12,7 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
 import org.hibernate.search.backend.elasticsearch.analysis.impl.ElasticsearchAnalysisPerformer;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
@@ -24,6 +26,7 @@
 import org.hibernate.search.backend.elasticsearch.schema.management.impl.ElasticsearchIndexSchemaManager;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.analysis.AnalysisToken;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
@@ -57,6 +60,12 @@
 					.asString()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> PARTIAL_UPDATES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_PARTIAL_UPDATES )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_PARTIAL_UPDATES )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 	private final List<DocumentMetadataContributor> documentMetadataContributors;
 	private final ElasticsearchBatchingWorkOrchestrator indexingOrchestrator;
@@ -64,6 +73,7 @@
 
 	private ElasticsearchIndexSchemaManager schemaManager;
 	private ElasticsearchAnalysisPerformer analysisPerformer;
+	private boolean partialUpdates;
 
 	ElasticsearchIndexManagerImpl(IndexManagerBackendContext backendContext,
 			ElasticsearchIndexModel model,
@@ -110,6 +120,8 @@ public void start(IndexManagerStartContext context) {
 
 			indexingOrchestrator.start( context.configurationPropertySource() );
 
+			partialUpdates = PARTIAL_UPDATES.get( context.configurationPropertySource() );
+
 			analysisPerformer = backendContext.createAnalysisPerformer( model );
 		}
 		catch (RuntimeException e) {
@@ -161,6 +173,29 @@ public JsonObject createDocument(String tenantId, String id,
 		return document;
 	}
 
+	@Override
+	public boolean supportsPartialUpdate(Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		if ( !partialUpdates ) {
+			return false;
+		}
+		for ( IndexFieldReference<?> fieldReference : fieldReferences ) {
+			if ( !ElasticsearchDocumentObjectBuilder.isRootValueField( fieldReference ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public JsonObject createPartialDocument(Collection<? extends IndexFieldReference<?>> fieldReferences,
+			DocumentContributor documentContributor) {
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder( model );
+		documentContributor.contribute( builder );
+		builder.addMissingAsNull( fieldReferences );
+		// Metadata (tenant identifier, routing key, ...) is left untouched by partial updates.
+		return builder.build();
+	}
+
 	public ElasticsearchIndexModel model() {
 		return model;
 	}
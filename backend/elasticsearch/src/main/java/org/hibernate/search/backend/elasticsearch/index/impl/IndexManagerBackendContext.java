@@ -47,6 +47,7 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -74,6 +75,7 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final FailureHandler failureHandler;
 	private final TimingSource timingSource;
+	private final MetricsRecorder metricsRecorder;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
 	private final ElasticsearchPropertyMappingValidatorProvider propertyMappingValidatorProvider;
 
@@ -83,6 +85,7 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 			MultiTenancyStrategy multiTenancyStrategy,
 			FailureHandler failureHandler,
 			TimingSource timingSource,
+			MetricsRecorder metricsRecorder,
 			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator,
 			ElasticsearchPropertyMappingValidatorProvider propertyMappingValidatorProvider) {
 		this.backendAPI = backendAPI;
@@ -93,6 +96,7 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.failureHandler = failureHandler;
 		this.timingSource = timingSource;
+		this.metricsRecorder = metricsRecorder;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
 		this.propertyMappingValidatorProvider = propertyMappingValidatorProvider;
 	}
@@ -171,7 +175,8 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 				link.getWorkFactory(), link.getSearchResultExtractorFactory(),
 				generalPurposeOrchestrator,
 				scope, sessionContext, loadingContextBuilder, rootProjection,
-				link.getScrollTimeout()
+				link.getScrollTimeout(),
+				metricsRecorder
 		);
 	}
 
@@ -226,7 +231,8 @@ ElasticsearchBatchingWorkOrchestrator createIndexingOrchestrator(String indexNam
 		return new ElasticsearchBatchingWorkOrchestrator(
 				"Elasticsearch indexing orchestrator for index " + indexName,
 				threads, link,
-				failureHandler
+				failureHandler,
+				metricsRecorder
 		);
 	}
 
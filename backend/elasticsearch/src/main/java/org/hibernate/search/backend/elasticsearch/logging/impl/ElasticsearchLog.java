@@ -43,6 +43,6 @@
 	 * here to the next value.
 	 */
 	@LogMessage(level = TRACE)
-	@Message(id = ID_OFFSET + 195, value = "")
+	@Message(id = ID_OFFSET + 201, value = "")
 	void nextLoggerIdForConvenience();
 }
@@ -82,4 +82,19 @@ SearchException indexManagerUnwrappingWithUnknownType(@FormatWith(ClassFormatter
 	@Message(id = ID_OFFSET + 191, value = "Normalizing index name from '%1$s' to '%2$s'")
 	void normalizeIndexName(String indexName, String esIndexName);
 
+	@Message(id = ID_OFFSET + 197,
+			value = "Unable to rebuild index '%1$s' into a new generation:"
+					+ " the index layout strategy must define both a write alias and a read alias.")
+	SearchException rebuildRequiresAliases(String indexName);
+
+	@Message(id = ID_OFFSET + 198,
+			value = "Unable to rebuild index '%1$s' into a new generation:"
+					+ " primary index name '%2$s' does not end with a generation number, e.g. '-000001'.")
+	SearchException rebuildUnexpectedPrimaryIndexName(String indexName, String primaryIndexName);
+
+	@Message(id = ID_OFFSET + 199,
+			value = "Unable to finish rebuilding index '%1$s': no rebuild is in progress,"
+					+ " as the write alias and read alias point to the same index.")
+	SearchException noRebuildInProgress(String indexName);
+
 }
@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.elasticsearch.logging.impl;
 
 import static org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchLog.ID_OFFSET;
+import static org.jboss.logging.Logger.Level.DEBUG;
 
 import java.lang.invoke.MethodHandles;
 
@@ -17,6 +18,7 @@
 
 import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.FormatWith;
+import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
 import org.jboss.logging.annotations.Param;
@@ -64,4 +66,10 @@ SearchException invalidFieldValueType(@FormatWith(ClassFormatter.class) Class<?>
 			value = "Unknown field '%1$s'.")
 	SearchException unknownFieldForIndexing(String absoluteFieldPath, @Param EventContext context);
 
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 196,
+			value = "Elasticsearch rejected %1$d out of %2$d bulked works because of load."
+					+ " Retrying them in %3$d ms (retry %4$d out of %5$d).")
+	void retryingRejectedBulkedWorks(int rejectedCount, int bulkedCount, long delayMillis, int retry, int maxRetries);
+
 }
@@ -33,6 +33,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.FormatWith;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
@@ -337,4 +338,15 @@ SearchException vectorKnnMatchVectorTypeDiffersFromField(String absoluteFieldPat
 	@Message(id = ID_OFFSET + 193, value = "Current factory cannot be resocped to '%1$s' as it is scoped to '%2$s'.")
 	SearchException incompatibleScopeRootType(@FormatWith(ClassFormatter.class) Class<?> requested,
 			@FormatWith(ClassFormatter.class) Class<?> actual);
+
+	@Message(id = ID_OFFSET + 195, value = "Invalid page token '%1$s': %2$s."
+			+ " Page tokens must be obtained from the result of a previous execution of the same query.")
+	SearchException invalidPageToken(String token, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 200,
+			value = "Cannot use page tokens with query '%1$s': this query does not sort on a field last."
+					+ " Page tokens require a sort defining a stable, total order on hits,"
+					+ " but ties on the score or on index order are broken differently by each shard in Elasticsearch."
+					+ " Sort the query on a field with unique values, at least as the last sort.")
+	SearchException pageTokensRequireFieldSort(String queryString);
 }
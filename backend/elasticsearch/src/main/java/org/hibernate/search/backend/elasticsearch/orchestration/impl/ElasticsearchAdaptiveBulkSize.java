@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adjusts the size of bulks according to rejections from Elasticsearch,
+ * following an additive-increase/multiplicative-decrease (AIMD) scheme:
+ * the bulk size is halved on each rejection, and grows back by one work on each successful bulk,
+ * up to the configured maximum.
+ * <p>
+ * This class is thread-safe: a single instance is shared by all queues of an orchestrator,
+ * since rejections reflect the load of the whole cluster.
+ */
+final class ElasticsearchAdaptiveBulkSize {
+
+	private final int maxBulkSize;
+	private final AtomicInteger currentMaxBulkSize;
+
+	ElasticsearchAdaptiveBulkSize(int maxBulkSize) {
+		this.maxBulkSize = maxBulkSize;
+		this.currentMaxBulkSize = new AtomicInteger( maxBulkSize );
+	}
+
+	int get() {
+		return currentMaxBulkSize.get();
+	}
+
+	void onSuccess() {
+		if ( currentMaxBulkSize.get() < maxBulkSize ) {
+			currentMaxBulkSize.updateAndGet( size -> Math.min( maxBulkSize, size + 1 ) );
+		}
+	}
+
+	void onRejection() {
+		currentMaxBulkSize.updateAndGet( size -> Math.max( 1, size / 2 ) );
+	}
+}
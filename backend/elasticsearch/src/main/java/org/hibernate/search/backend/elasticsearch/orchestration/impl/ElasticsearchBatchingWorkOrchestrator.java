@@ -4,17 +4,26 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.HashTable;
 import org.hibernate.search.util.common.data.impl.ModuloHashTable;
@@ -52,8 +61,32 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Long> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asLongStrictlyPositive()
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_RETRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Long> RETRY_INITIAL_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_INITIAL_DELAY )
+					.asLongStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_INITIAL_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Long> RETRY_MAX_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_RETRY_MAX_DELAY )
+					.asLongStrictlyPositive()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_RETRY_MAX_DELAY )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
 
 	private HashTable<BatchingExecutor<ElasticsearchBatchedWorkProcessor, ElasticsearchBatchedWork<?>>> executors;
 
@@ -62,13 +95,16 @@
 	 * @param threads The threads for this backend.
 	 * @param link The Elasticsearch link for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param metricsRecorder A recorder for batch metrics.
 	 */
 	public ElasticsearchBatchingWorkOrchestrator(
 			String name, BackendThreads threads, ElasticsearchLink link,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRecorder metricsRecorder) {
 		super( name, link );
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	@Override
@@ -83,20 +119,30 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		Long maxBulkBytes = MAX_BULK_BYTES.get( propertySource ).orElse( null );
+		ElasticsearchBulkRetryPolicy retryPolicy = new ElasticsearchBulkRetryPolicy(
+				MAX_RETRIES.get( propertySource ),
+				RETRY_INITIAL_DELAY.get( propertySource ),
+				RETRY_MAX_DELAY.get( propertySource )
+		);
+		// Shared by all queues, since rejections reflect the load of the whole cluster.
+		ElasticsearchAdaptiveBulkSize adaptiveBulkSize = new ElasticsearchAdaptiveBulkSize( maxBulkSize );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new ModuloHashTable<>( SimpleHashFunction.INSTANCE, queueCount );
 		for ( int i = 0; i < executors.size(); i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, adaptiveBulkSize, maxBulkBytes,
+					retryPolicy );
 			executors.set( i, new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
 					failureHandler,
-					blockingRetryProducer
+					blockingRetryProducer,
+					metricsRecorder
 			) );
 		}
 
@@ -128,12 +174,17 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			ElasticsearchAdaptiveBulkSize adaptiveBulkSize, Long maxBulkBytes, ElasticsearchBulkRetryPolicy retryPolicy) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
+		BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory =
+				(worksToBulk, refreshStrategy) -> link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build();
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				(worksToBulk, refreshStrategy) -> link.getWorkFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				(worksToBulk, refreshStrategy) -> new ElasticsearchRetryingBulkWork( worksToBulk, refreshStrategy,
+						bulkWorkFactory, retryPolicy, adaptiveBulkSize, threads.getWorkExecutor() ),
+				adaptiveBulkSize::get,
+				maxBulkBytes,
+				work -> BulkWork.itemContentLength( link.getGsonProvider().getGson(), work )
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
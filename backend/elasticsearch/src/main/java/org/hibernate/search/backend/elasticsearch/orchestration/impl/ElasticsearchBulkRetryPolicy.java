@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether and when bulked works rejected by Elasticsearch because of load should be retried.
+ * <p>
+ * Delays grow exponentially with each retry, up to a maximum,
+ * with a random jitter so that concurrent queues do not retry in lockstep.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+final class ElasticsearchBulkRetryPolicy {
+
+	private final int maxRetries;
+	private final long initialDelayMillis;
+	private final long maxDelayMillis;
+
+	ElasticsearchBulkRetryPolicy(int maxRetries, long initialDelayMillis, long maxDelayMillis) {
+		this.maxRetries = maxRetries;
+		this.initialDelayMillis = initialDelayMillis;
+		this.maxDelayMillis = Math.max( initialDelayMillis, maxDelayMillis );
+	}
+
+	int maxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @param retries The number of retries already performed.
+	 * @return {@code true} if another retry is allowed.
+	 */
+	boolean canRetry(int retries) {
+		return retries < maxRetries;
+	}
+
+	/**
+	 * @param retries The number of retries already performed.
+	 * @return The delay to wait for before the next retry, in milliseconds.
+	 */
+	long delayMillis(int retries) {
+		// Limit the shift to avoid overflows: the delay is capped anyway.
+		int shift = Math.min( retries, Long.numberOfLeadingZeros( initialDelayMillis ) - 1 );
+		long delay = Math.min( maxDelayMillis, initialDelayMillis << shift );
+		// "Equal jitter": wait at least half the delay, plus a random part of the other half.
+		long half = delay / 2;
+		return delay - half + ThreadLocalRandom.current().nextLong( half + 1 );
+	}
+}
@@ -8,6 +8,8 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+import java.util.function.ToLongFunction;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
@@ -20,9 +22,12 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final BiFunction<List<? extends BulkableWork<?>>,
 			DocumentRefreshStrategy,
 			NonBulkableWork<BulkResult>> bulkWorkFactory;
-	private final int maxBulkSize;
+	private final IntSupplier maxBulkSize;
+	private final Long maxBulkBytes;
+	private final ToLongFunction<BulkableWork<?>> itemLengthFunction;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -37,9 +42,48 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, maxBulkSize, null, null );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkBytes Maximum number of bytes in the body of a single bulk, or {@code null} for no limit.
+	 * If adding a work would make a non-empty bulk exceed this size, the bulk will be
+	 * {@link #finalizeBulkWork() finalized} before the work is added.
+	 * @param itemLengthFunction A function returning the number of bytes a work adds to the body of a bulk.
+	 * Ignored if {@code maxBulkBytes} is {@code null}.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			int maxBulkSize, Long maxBulkBytes, ToLongFunction<BulkableWork<?>> itemLengthFunction) {
+		this( sequenceBuilder, bulkWorkFactory, () -> maxBulkSize, maxBulkBytes, itemLengthFunction );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize A supplier for the maximum number of works in a single bulk,
+	 * which may change over time, e.g. to adapt to the load of the Elasticsearch cluster.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkBytes Maximum number of bytes in the body of a single bulk, or {@code null} for no limit.
+	 * If adding a work would make a non-empty bulk exceed this size, the bulk will be
+	 * {@link #finalizeBulkWork() finalized} before the work is added.
+	 * @param itemLengthFunction A function returning the number of bytes a work adds to the body of a bulk.
+	 * Ignored if {@code maxBulkBytes} is {@code null}.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			IntSupplier maxBulkSize, Long maxBulkBytes, ToLongFunction<BulkableWork<?>> itemLengthFunction) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.itemLengthFunction = itemLengthFunction;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkWorkFuture = null;
@@ -58,6 +102,16 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		long workBytes = 0L;
+		if ( maxBulkBytes != null ) {
+			workBytes = itemLengthFunction.applyAsLong( work );
+			if ( !currentBulkItems.isEmpty() && currentBulkBytes + workBytes > maxBulkBytes ) {
+				// This work would make the bulk too large; send the current bulk first.
+				finalizeBulkWork();
+				currentBulkRefreshStrategy = workRefreshStrategy;
+			}
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -65,12 +119,14 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkBytes += workBytes;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize.getAsInt()
+				|| maxBulkBytes != null && currentBulkBytes >= maxBulkBytes ) {
 			finalizeBulkWork();
 		}
 
@@ -92,6 +148,7 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.IndexingLog;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+
+/**
+ * A bulk work that retries, in new bulks, the bulked works rejected by Elasticsearch because of load.
+ * <p>
+ * The result of this work merges the results of the initial bulk and of all retries,
+ * so that results can be extracted using the index of each work in the initial bulk.
+ * Works that are still rejected once retries are exhausted are reported as failed upon extraction,
+ * just like any other failed bulked work.
+ */
+final class ElasticsearchRetryingBulkWork implements NonBulkableWork<BulkResult> {
+
+	private final List<BulkableWork<?>> bulkedWorks;
+	private final DocumentRefreshStrategy refreshStrategy;
+	private final BiFunction<List<? extends BulkableWork<?>>,
+			DocumentRefreshStrategy,
+			NonBulkableWork<BulkResult>> bulkWorkFactory;
+	private final ElasticsearchBulkRetryPolicy retryPolicy;
+	private final ElasticsearchAdaptiveBulkSize adaptiveBulkSize;
+	private final SimpleScheduledExecutor scheduler;
+
+	private final NonBulkableWork<BulkResult> initialBulkWork;
+
+	ElasticsearchRetryingBulkWork(List<? extends BulkableWork<?>> bulkedWorks, DocumentRefreshStrategy refreshStrategy,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			ElasticsearchBulkRetryPolicy retryPolicy, ElasticsearchAdaptiveBulkSize adaptiveBulkSize,
+			SimpleScheduledExecutor scheduler) {
+		// Copy the list: the bulker will reuse it for the next bulk.
+		this.bulkedWorks = new ArrayList<>( bulkedWorks );
+		this.refreshStrategy = refreshStrategy;
+		this.bulkWorkFactory = bulkWorkFactory;
+		this.retryPolicy = retryPolicy;
+		this.adaptiveBulkSize = adaptiveBulkSize;
+		this.scheduler = scheduler;
+		this.initialBulkWork = bulkWorkFactory.apply( this.bulkedWorks, refreshStrategy );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + initialBulkWork + "]";
+	}
+
+	@Override
+	public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+		MergedBulkResult mergedResult = new MergedBulkResult( bulkedWorks.size() );
+		int[] indexes = new int[bulkedWorks.size()];
+		Arrays.setAll( indexes, i -> i );
+		return execute( context, initialBulkWork, indexes, 0, mergedResult )
+				.thenApply( ignored -> mergedResult );
+	}
+
+	/**
+	 * @param bulkWork The bulk work to execute.
+	 * @param indexes For each work in {@code bulkWork}, its index in the initial bulk.
+	 * @param retries The number of retries already performed.
+	 * @param mergedResult The result to merge the result of {@code bulkWork} into.
+	 * @return A future that will complete when the bulk work and all necessary retries are complete.
+	 */
+	private CompletableFuture<Void> execute(ElasticsearchWorkExecutionContext context,
+			NonBulkableWork<BulkResult> bulkWork, int[] indexes, int retries, MergedBulkResult mergedResult) {
+		return bulkWork.execute( context ).thenCompose( bulkResult -> {
+			int[] rejectedIndexes = mergedResult.merge( bulkResult, indexes );
+			if ( rejectedIndexes.length == 0 ) {
+				adaptiveBulkSize.onSuccess();
+				return CompletableFuture.completedFuture( null );
+			}
+			adaptiveBulkSize.onRejection();
+			if ( !retryPolicy.canRetry( retries ) ) {
+				return CompletableFuture.completedFuture( null );
+			}
+
+			long delay = retryPolicy.delayMillis( retries );
+			IndexingLog.INSTANCE.retryingRejectedBulkedWorks( rejectedIndexes.length, indexes.length, delay,
+					retries + 1, retryPolicy.maxRetries() );
+			List<BulkableWork<?>> worksToRetry = new ArrayList<>( rejectedIndexes.length );
+			for ( int index : rejectedIndexes ) {
+				worksToRetry.add( bulkedWorks.get( index ) );
+			}
+			NonBulkableWork<BulkResult> retryBulkWork = bulkWorkFactory.apply( worksToRetry, refreshStrategy );
+			return delay( delay ).thenCompose(
+					ignored -> execute( context, retryBulkWork, rejectedIndexes, retries + 1, mergedResult ) );
+		} );
+	}
+
+	private CompletableFuture<Void> delay(long delayMillis) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		try {
+			scheduler.schedule( () -> future.complete( null ), delayMillis, TimeUnit.MILLISECONDS );
+		}
+		catch (RejectedExecutionException e) {
+			// The backend is shutting down.
+			future.completeExceptionally( e );
+		}
+		return future;
+	}
+
+	/**
+	 * The result of a bulk and its retries.
+	 * <p>
+	 * Only mutated before the future returned by {@link #execute(ElasticsearchWorkExecutionContext)} completes,
+	 * so it is safe to read from any thread once that future is complete.
+	 */
+	private static final class MergedBulkResult implements BulkResult {
+		private final BulkResult[] results;
+		private final int[] indexesInResults;
+
+		private MergedBulkResult(int size) {
+			this.results = new BulkResult[size];
+			this.indexesInResults = new int[size];
+		}
+
+		/**
+		 * @param bulkResult The result of a bulk.
+		 * @param indexes For each work in that bulk, its index in the initial bulk.
+		 * @return The indexes in the initial bulk of works that were rejected.
+		 */
+		int[] merge(BulkResult bulkResult, int[] indexes) {
+			int[] rejectedIndexes = new int[indexes.length];
+			int rejectedCount = 0;
+			for ( int i = 0; i < indexes.length; i++ ) {
+				int index = indexes[i];
+				results[index] = bulkResult;
+				indexesInResults[index] = i;
+				if ( bulkResult.isRejected( i ) ) {
+					rejectedIndexes[rejectedCount++] = index;
+				}
+			}
+			return Arrays.copyOf( rejectedIndexes, rejectedCount );
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			return results[index].extract( context, work, indexesInResults[index] );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return results[index].isRejected( indexesInResults[index] );
+		}
+	}
+}
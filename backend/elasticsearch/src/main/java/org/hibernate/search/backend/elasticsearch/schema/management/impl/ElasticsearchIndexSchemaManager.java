@@ -26,6 +26,7 @@ public class ElasticsearchIndexSchemaManager implements IndexSchemaManager {
 	private final ElasticsearchSchemaAccessor schemaAccessor;
 	private final ElasticsearchSchemaCreator schemaCreator;
 	private final ElasticsearchSchemaDropper schemaDropper;
+	private final ElasticsearchSchemaRebuilder schemaRebuilder;
 	private final ElasticsearchSchemaValidator schemaValidator;
 	private final ElasticsearchSchemaMigrator schemaMigrator;
 	private final ElasticsearchSchemaExporter schemaExporter;
@@ -47,6 +48,7 @@ public ElasticsearchIndexSchemaManager(Optional<String> backendName,
 
 		this.schemaCreator = new ElasticsearchSchemaCreator( schemaAccessor, indexLayoutStrategy );
 		this.schemaDropper = new ElasticsearchSchemaDropper( schemaAccessor );
+		this.schemaRebuilder = new ElasticsearchSchemaRebuilder( schemaAccessor );
 		this.schemaValidator = new ElasticsearchSchemaValidator( propertyMappingValidatorProvider );
 		this.schemaMigrator = new ElasticsearchSchemaMigrator( schemaAccessor, schemaValidator );
 		this.schemaExporter = new ElasticsearchSchemaExporter( userFacingGson, workFactory, indexLayoutStrategy );
@@ -129,6 +131,21 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 				);
 	}
 
+	@Override
+	public CompletableFuture<?> startRebuild(OperationSubmitter operationSubmitter) {
+		return schemaRebuilder.startRebuild( indexNames, expectedMetadata, operationSubmitter );
+	}
+
+	@Override
+	public CompletableFuture<?> finishRebuild(OperationSubmitter operationSubmitter) {
+		return schemaRebuilder.finishRebuild( indexNames, expectedMetadata, executionOptions, operationSubmitter );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild(OperationSubmitter operationSubmitter) {
+		return schemaRebuilder.abortRebuild( indexNames, expectedMetadata, operationSubmitter );
+	}
+
 	@Override
 	public void exportExpectedSchema(IndexSchemaCollector collector) {
 		collector.indexSchema(
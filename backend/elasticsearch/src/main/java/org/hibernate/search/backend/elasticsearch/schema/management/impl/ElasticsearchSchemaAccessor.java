@@ -19,6 +19,7 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.CreateIndexResult;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
@@ -111,6 +112,31 @@ private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(IndexNa
 				} );
 	}
 
+	/**
+	 * @param indexNames The index names.
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future holding the metadata of all indexes targeted by the write or read name,
+	 * which may be two different indexes while an index is being rebuilt.
+	 */
+	public CompletableFuture<List<ExistingIndexMetadata>> getAllCurrentIndexMetadata(IndexNames indexNames,
+			OperationSubmitter operationSubmitter) {
+		NonBulkableWork<List<ExistingIndexMetadata>> work = getWorkFactory().getIndexMetadata()
+				.index( indexNames.write() )
+				.index( indexNames.read() )
+				.build();
+		return execute( work, operationSubmitter )
+				.exceptionally( Futures.handler( e -> {
+					throw ElasticsearchClientLog.INSTANCE.elasticsearchIndexMetadataRetrievalFailed( e.getMessage(),
+							Throwables.expectException( e ) );
+				} ) )
+				.thenApply( list -> {
+					if ( list.isEmpty() ) {
+						throw ElasticsearchClientLog.INSTANCE.indexMissing( indexNames.write(), indexNames.read() );
+					}
+					return list;
+				} );
+	}
+
 	public CompletableFuture<?> updateAliases(URLEncodedString indexName, Map<String, IndexAliasDefinition> aliases,
 			OperationSubmitter operationSubmitter) {
 		NonBulkableWork<?> work = getWorkFactory().putIndexAliases( indexName, aliases ).build();
@@ -121,6 +147,29 @@ public CompletableFuture<?> updateAliases(URLEncodedString indexName, Map<String
 				} ) );
 	}
 
+	/**
+	 * Atomically moves aliases from one index to another.
+	 *
+	 * @param fromIndexName The name of the index the aliases currently point to.
+	 * @param toIndexName The name of the index the aliases should point to.
+	 * @param aliases The aliases to move.
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future.
+	 */
+	public CompletableFuture<?> moveAliases(URLEncodedString fromIndexName, URLEncodedString toIndexName,
+			Map<String, IndexAliasDefinition> aliases, OperationSubmitter operationSubmitter) {
+		PutIndexAliasesWork.Builder builder = getWorkFactory().putIndexAliases( toIndexName, aliases );
+		for ( String alias : aliases.keySet() ) {
+			builder.remove( fromIndexName, alias );
+		}
+		NonBulkableWork<?> work = builder.build();
+		return execute( work, operationSubmitter )
+				.exceptionally( Futures.handler( e -> {
+					throw ElasticsearchClientLog.INSTANCE.elasticsearchAliasUpdateFailed( toIndexName.original, e.getMessage(),
+							Throwables.expectException( e ) );
+				} ) );
+	}
+
 	public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings,
 			OperationSubmitter operationSubmitter) {
 		NonBulkableWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
@@ -165,6 +214,11 @@ public CompletableFuture<?> waitForIndexStatus(IndexNames indexNames,
 				} ) );
 	}
 
+	public CompletableFuture<?> refresh(URLEncodedString indexName, OperationSubmitter operationSubmitter) {
+		NonBulkableWork<?> work = getWorkFactory().refresh().index( indexName ).build();
+		return execute( work, operationSubmitter );
+	}
+
 	public CompletableFuture<?> dropIndexIfExisting(URLEncodedString indexName, OperationSubmitter operationSubmitter) {
 		NonBulkableWork<?> work = getWorkFactory().dropIndex( indexName ).ignoreIndexNotFound().build();
 		return execute( work, operationSubmitter );
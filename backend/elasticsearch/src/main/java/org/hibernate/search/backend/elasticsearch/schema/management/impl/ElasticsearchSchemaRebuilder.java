@@ -0,0 +1,244 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.schema.management.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchMiscLog;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.util.common.SearchException;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * An object responsible for rebuilding an index into a new generation,
+ * i.e. a new primary index that receives writes through the write alias
+ * while searches keep targeting the current primary index through the read alias.
+ */
+final class ElasticsearchSchemaRebuilder {
+
+	private static final Pattern GENERATION_PATTERN = Pattern.compile( "(.*)-(\\d+)" );
+
+	private static final String INDEX_SETTINGS = "index";
+	private static final String REFRESH_INTERVAL = "refresh_interval";
+	private static final String NUMBER_OF_REPLICAS = "number_of_replicas";
+
+	// Applied to the new generation while it is being filled, to speed up indexing.
+	private static final JsonPrimitive REBUILD_REFRESH_INTERVAL = new JsonPrimitive( "-1" );
+	private static final JsonPrimitive REBUILD_NUMBER_OF_REPLICAS = new JsonPrimitive( "0" );
+
+	private final ElasticsearchSchemaAccessor schemaAccessor;
+
+	public ElasticsearchSchemaRebuilder(ElasticsearchSchemaAccessor schemaAccessor) {
+		this.schemaAccessor = schemaAccessor;
+	}
+
+	/**
+	 * Create a new generation of an index and point the write alias to it.
+	 *
+	 * @param indexNames The index names.
+	 * @param indexMetadata The expected index metadata.
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future.
+	 * @throws SearchException If an error occurs.
+	 */
+	public CompletableFuture<?> startRebuild(IndexNames indexNames, IndexMetadata indexMetadata,
+			OperationSubmitter operationSubmitter) {
+		checkAliases( indexNames );
+		return schemaAccessor.getCurrentIndexMetadata( indexNames, operationSubmitter )
+				.thenCompose( currentIndexMetadata -> {
+					URLEncodedString currentName = URLEncodedString.fromString( currentIndexMetadata.getPrimaryName() );
+					URLEncodedString nextName = URLEncodedString.fromString(
+							nextGenerationName( indexNames, currentIndexMetadata.getPrimaryName() ) );
+					return schemaAccessor.createIndexAssumeNonExisting( nextName, Collections.emptyMap(),
+							rebuildSettings( indexMetadata.getSettings() ), indexMetadata.getMapping(),
+							operationSubmitter
+					)
+							.thenCompose( ignored -> schemaAccessor.moveAliases( currentName, nextName,
+									alias( indexNames.write(), indexMetadata ), operationSubmitter ) );
+				} );
+	}
+
+	/**
+	 * Restore the settings of the new generation of an index, point the read alias to it,
+	 * then drop the previous generation.
+	 * <p>
+	 * Settings altered by {@link #startRebuild(IndexNames, IndexMetadata, OperationSubmitter)}
+	 * are restored to the values defined in the expected settings, or failing that in the previous generation,
+	 * or failing that to the Elasticsearch defaults.
+	 *
+	 * @param indexNames The index names.
+	 * @param indexMetadata The expected index metadata.
+	 * @param executionOptions The execution options, giving more context information.
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future.
+	 * @throws SearchException If an error occurs.
+	 */
+	public CompletableFuture<?> finishRebuild(IndexNames indexNames, IndexMetadata indexMetadata,
+			ElasticsearchIndexLifecycleExecutionOptions executionOptions, OperationSubmitter operationSubmitter) {
+		checkAliases( indexNames );
+		return schemaAccessor.getAllCurrentIndexMetadata( indexNames, operationSubmitter )
+				.thenCompose( list -> {
+					ExistingIndexMetadata next = generation( list, indexNames.write(), true );
+					ExistingIndexMetadata current = generation( list, indexNames.write(), false );
+					if ( next == null || current == null ) {
+						throw ElasticsearchMiscLog.INSTANCE.noRebuildInProgress( indexNames.hibernateSearchIndex() );
+					}
+					URLEncodedString nextName = URLEncodedString.fromString( next.getPrimaryName() );
+					URLEncodedString currentName = URLEncodedString.fromString( current.getPrimaryName() );
+					IndexSettings settings = restoredSettings( indexMetadata.getSettings(),
+							current.getMetadata().getSettings() );
+					return schemaAccessor.updateSettings( nextName, settings, operationSubmitter )
+							.thenCompose( ignored -> schemaAccessor.refresh( nextName, operationSubmitter ) )
+							.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions,
+									operationSubmitter ) )
+							.thenCompose( ignored -> schemaAccessor.moveAliases( currentName, nextName,
+									alias( indexNames.read(), indexMetadata ), operationSubmitter ) )
+							.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( currentName, operationSubmitter ) );
+				} );
+	}
+
+	/**
+	 * Point the write alias back to the current generation of an index, then drop the new generation.
+	 * <p>
+	 * Does nothing if no rebuild is in progress.
+	 *
+	 * @param indexNames The index names.
+	 * @param indexMetadata The expected index metadata.
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future.
+	 * @throws SearchException If an error occurs.
+	 */
+	public CompletableFuture<?> abortRebuild(IndexNames indexNames, IndexMetadata indexMetadata,
+			OperationSubmitter operationSubmitter) {
+		checkAliases( indexNames );
+		return schemaAccessor.getAllCurrentIndexMetadata( indexNames, operationSubmitter )
+				.thenCompose( list -> {
+					ExistingIndexMetadata next = generation( list, indexNames.write(), true );
+					ExistingIndexMetadata current = generation( list, indexNames.write(), false );
+					if ( next == null || current == null ) {
+						return CompletableFuture.completedFuture( null );
+					}
+					URLEncodedString nextName = URLEncodedString.fromString( next.getPrimaryName() );
+					URLEncodedString currentName = URLEncodedString.fromString( current.getPrimaryName() );
+					return schemaAccessor.moveAliases( nextName, currentName,
+							alias( indexNames.write(), indexMetadata ), operationSubmitter )
+							.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( nextName, operationSubmitter ) );
+				} );
+	}
+
+	private static void checkAliases(IndexNames indexNames) {
+		if ( !indexNames.writeIsAlias() || !indexNames.readIsAlias() ) {
+			throw ElasticsearchMiscLog.INSTANCE.rebuildRequiresAliases( indexNames.hibernateSearchIndex() );
+		}
+	}
+
+	private static String nextGenerationName(IndexNames indexNames, String currentPrimaryName) {
+		Matcher matcher = GENERATION_PATTERN.matcher( currentPrimaryName );
+		if ( !matcher.matches() ) {
+			throw ElasticsearchMiscLog.INSTANCE.rebuildUnexpectedPrimaryIndexName( indexNames.hibernateSearchIndex(),
+					currentPrimaryName );
+		}
+		String generation = matcher.group( 2 );
+		String nextGeneration = String.valueOf( Long.parseLong( generation ) + 1 );
+		StringBuilder builder = new StringBuilder( matcher.group( 1 ) ).append( '-' );
+		for ( int i = nextGeneration.length(); i < generation.length(); i++ ) {
+			builder.append( '0' );
+		}
+		return builder.append( nextGeneration ).toString();
+	}
+
+	private static ExistingIndexMetadata generation(List<ExistingIndexMetadata> list, URLEncodedString writeAlias,
+			boolean withWriteAlias) {
+		if ( list.size() < 2 ) {
+			return null;
+		}
+		for ( ExistingIndexMetadata indexMetadata : list ) {
+			Map<String, IndexAliasDefinition> aliases = indexMetadata.getMetadata().getAliases();
+			if ( aliases.containsKey( writeAlias.original ) == withWriteAlias ) {
+				return indexMetadata;
+			}
+		}
+		return null;
+	}
+
+	private static Map<String, IndexAliasDefinition> alias(URLEncodedString alias, IndexMetadata indexMetadata) {
+		return Collections.singletonMap( alias.original, indexMetadata.getAliases().get( alias.original ) );
+	}
+
+	private static IndexSettings rebuildSettings(IndexSettings expectedSettings) {
+		Map<String, JsonElement> extraAttributes = new LinkedHashMap<>();
+		if ( expectedSettings.getExtraAttributes() != null ) {
+			for ( Map.Entry<String, JsonElement> entry : expectedSettings.getExtraAttributes().entrySet() ) {
+				JsonElement value = entry.getValue();
+				if ( INDEX_SETTINGS.equals( entry.getKey() ) && value.isJsonObject() ) {
+					// Avoid conflicts with the settings we override below.
+					JsonObject indexSettings = value.getAsJsonObject().deepCopy();
+					indexSettings.remove( REFRESH_INTERVAL );
+					indexSettings.remove( NUMBER_OF_REPLICAS );
+					value = indexSettings;
+				}
+				extraAttributes.put( entry.getKey(), value );
+			}
+		}
+		extraAttributes.remove( INDEX_SETTINGS + "." + REFRESH_INTERVAL );
+		extraAttributes.remove( INDEX_SETTINGS + "." + NUMBER_OF_REPLICAS );
+		extraAttributes.put( REFRESH_INTERVAL, REBUILD_REFRESH_INTERVAL );
+		extraAttributes.put( NUMBER_OF_REPLICAS, REBUILD_NUMBER_OF_REPLICAS );
+		return new IndexSettings( expectedSettings.getAnalysis(), expectedSettings.getMaxResultWindow(),
+				expectedSettings.getKnn(), extraAttributes );
+	}
+
+	private static IndexSettings restoredSettings(IndexSettings expectedSettings, IndexSettings previousSettings) {
+		Map<String, JsonElement> extraAttributes = new LinkedHashMap<>();
+		extraAttributes.put( REFRESH_INTERVAL, restoredSetting( expectedSettings, previousSettings, REFRESH_INTERVAL ) );
+		extraAttributes.put( NUMBER_OF_REPLICAS, restoredSetting( expectedSettings, previousSettings, NUMBER_OF_REPLICAS ) );
+		IndexSettings settings = new IndexSettings();
+		settings.setExtraAttributes( extraAttributes );
+		return settings;
+	}
+
+	private static JsonElement restoredSetting(IndexSettings expectedSettings, IndexSettings previousSettings,
+			String name) {
+		JsonElement value = setting( expectedSettings, name );
+		if ( value == null ) {
+			value = setting( previousSettings, name );
+		}
+		// A null value resets the setting to the Elasticsearch default.
+		return value == null ? JsonNull.INSTANCE : value;
+	}
+
+	private static JsonElement setting(IndexSettings settings, String name) {
+		Map<String, JsonElement> extraAttributes = settings == null ? null : settings.getExtraAttributes();
+		if ( extraAttributes == null ) {
+			return null;
+		}
+		JsonElement value = extraAttributes.get( name );
+		if ( value == null ) {
+			value = extraAttributes.get( INDEX_SETTINGS + "." + name );
+		}
+		JsonElement indexSettings = extraAttributes.get( INDEX_SETTINGS );
+		if ( value == null && indexSettings != null && indexSettings.isJsonObject() ) {
+			value = indexSettings.getAsJsonObject().get( name );
+		}
+		return value == null || value.isJsonNull() ? null : value;
+	}
+
+}
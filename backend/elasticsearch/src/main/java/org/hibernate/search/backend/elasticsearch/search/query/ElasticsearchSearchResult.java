@@ -15,6 +15,12 @@
 	 * @return The body of the response to the search request as a {@link JsonObject}.
 	 * The returned object must not be modified; use {@link JsonObject#deepCopy()} if necessary.
 	 * <p>
+	 * If {@link org.hibernate.search.backend.elasticsearch.search.query.dsl.ElasticsearchSearchQueryOptionsStep#streamingHitExtraction(boolean)
+	 * streaming hit extraction} was enabled for the query,
+	 * hits are discarded as soon as they are extracted, and thus the {@code hits.hits} array of the returned object
+	 * only includes the last hit, if any.
+	 * Leave streaming hit extraction disabled (the default) to get the complete response body.
+	 * <p>
 	 * <strong>WARNING:</strong> The content of the response may change depending on
 	 * the version of Elasticsearch, depending on which Hibernate Search features are used,
 	 * and even depending on how Hibernate Search features are implemented.
@@ -37,6 +37,27 @@
 	@Incubating
 	ElasticsearchSearchQueryOptionsStep<SR, H, LOS> requestTransformer(ElasticsearchSearchRequestTransformer transformer);
 
+	/**
+	 * Enable or disable streaming extraction of hits for this search query.
+	 * <p>
+	 * When enabled, hits are extracted one at a time while the response from Elasticsearch is being read,
+	 * instead of first reading the whole response in memory and then extracting all hits.
+	 * This reduces the memory used by queries returning many hits,
+	 * in particular when they project on large documents,
+	 * for example when scrolling through an index to export its content.
+	 * <p>
+	 * As a consequence, the {@link org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult#responseBody() response body}
+	 * exposed by search results will not include all hits:
+	 * its {@code hits.hits} array will only include the last hit, if any.
+	 * <p>
+	 * Disabled by default.
+	 *
+	 * @param enabled {@code true} to enable streaming extraction of hits, {@code false} to disable it.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	ElasticsearchSearchQueryOptionsStep<SR, H, LOS> streamingHitExtraction(boolean enabled);
+
 	@Override
 	ElasticsearchSearchQuery<H> toQuery();
 }
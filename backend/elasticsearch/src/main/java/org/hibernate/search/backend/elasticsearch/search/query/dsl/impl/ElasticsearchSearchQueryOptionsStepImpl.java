@@ -49,6 +49,12 @@ public ElasticsearchSearchQueryOptionsStep<SR, H, LOS> requestTransformer(
 		return thisAsS();
 	}
 
+	@Override
+	public ElasticsearchSearchQueryOptionsStep<SR, H, LOS> streamingHitExtraction(boolean enabled) {
+		searchQueryBuilder.streamingHitExtraction( enabled );
+		return thisAsS();
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> toQuery() {
 		return searchQueryBuilder.build();
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -26,6 +27,9 @@
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 class Elasticsearch7SearchResultExtractor<H>
 		implements ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> {
@@ -57,20 +61,25 @@
 	private static final JsonObjectAccessor HIT_SOURCE_ACCESSOR =
 			JsonAccessor.root().property( "_source" ).asObject();
 
+	private static final String HITS_PROPERTY_NAME = "hits";
+
 	private static final String HITS_TOTAL_RELATION_EXACT_VALUE = "eq";
 
 	private final ElasticsearchSearchQueryRequestContext requestContext;
 
 	private final ElasticsearchSearchProjection.Extractor<?, H> rootExtractor;
 	private final List<ElasticsearchSearchAggregation.Extractor<?>> aggregations;
+	private final boolean streamingHitExtraction;
 
 	Elasticsearch7SearchResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
 			ElasticsearchSearchProjection.Extractor<?, H> rootExtractor,
-			List<ElasticsearchSearchAggregation.Extractor<?>> aggregations) {
+			List<ElasticsearchSearchAggregation.Extractor<?>> aggregations,
+			boolean streamingHitExtraction) {
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
+		this.streamingHitExtraction = streamingHitExtraction;
 	}
 
 	@Override
@@ -78,7 +87,16 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody, Dea
 		ElasticsearchSearchQueryExtractContext extractContext = requestContext.createExtractContext(
 				responseBody
 		);
+		return extract( extractContext, responseBody, null, deadline );
+	}
+
+	@Override
+	public Streaming<ElasticsearchLoadableSearchResult<H>> createStreamingExtractor() {
+		return streamingHitExtraction ? new StreamingExtractor() : null;
+	}
 
+	private ElasticsearchLoadableSearchResult<H> extract(ElasticsearchSearchQueryExtractContext extractContext,
+			JsonObject responseBody, List<Object> streamedHits, Deadline deadline) {
 		Integer took = TOOK_ACCESSOR.get( responseBody ).get();
 		boolean timedOut = TIMED_OUT_ACCESSOR.get( responseBody ).get();
 
@@ -89,9 +107,16 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody, Dea
 			total = SimpleSearchResultTotal.lowerBound( total.hitCountLowerBound() );
 		}
 
-		List<Object> extractedHits = ( total.isHitCountLowerBound() || total.hitCount() > 0 )
-				? extractHits( extractContext )
-				: Collections.emptyList();
+		List<Object> extractedHits;
+		if ( streamedHits != null ) {
+			extractedHits = streamedHits;
+		}
+		else if ( total.isHitCountLowerBound() || total.hitCount() > 0 ) {
+			extractedHits = extractHits( extractContext );
+		}
+		else {
+			extractedHits = Collections.emptyList();
+		}
 
 		Map<AggregationKey<?>, ?> extractedAggregations =
 				aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations( extractContext, responseBody );
@@ -126,16 +151,18 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 		List<Object> extractedData = new ArrayList<>( jsonHits.size() );
 
 		for ( JsonElement hit : jsonHits ) {
-			JsonObject hitObject = hit.getAsJsonObject();
-			JsonObject source = HIT_SOURCE_ACCESSOR.get( hitObject ).orElse( null );
-			extractedData.add( rootExtractor.extract(
-					hitMapper, hitObject, source, projectionExtractContext
-			) );
+			extractedData.add( extractHit( hitMapper, hit.getAsJsonObject(), projectionExtractContext ) );
 		}
 
 		return extractedData;
 	}
 
+	private Object extractHit(ProjectionHitMapper<?> hitMapper, JsonObject hitObject,
+			ProjectionExtractContext projectionExtractContext) {
+		JsonObject source = HIT_SOURCE_ACCESSOR.get( hitObject ).orElse( null );
+		return rootExtractor.extract( hitMapper, hitObject, source, projectionExtractContext );
+	}
+
 	private Map<AggregationKey<?>, ?> extractAggregations(ElasticsearchSearchQueryExtractContext extractContext,
 			JsonObject responseBody) {
 		JsonObject jsonAggregations = AGGREGATIONS_ACCESSOR.get( responseBody ).orElseGet( JsonObject::new );
@@ -153,4 +180,101 @@ private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractC
 	protected String extractScrollId(JsonObject responseBody) {
 		return SCROLL_ID_ACCESSOR.get( responseBody ).orElse( null );
 	}
+
+	/**
+	 * Extracts hits one at a time while the response body is being parsed,
+	 * so that the JSON representation of each hit can be garbage-collected as soon as it has been extracted,
+	 * instead of holding the JSON representation of all hits in memory until the end of extraction.
+	 * <p>
+	 * The response body returned by the parser is identical to the original one,
+	 * except that the {@code hits.hits} array only includes the last hit (if any),
+	 * which is necessary to generate page tokens.
+	 */
+	private class StreamingExtractor implements Streaming<ElasticsearchLoadableSearchResult<H>> {
+
+		private ProjectionHitMapper<?> hitMapper;
+		private List<Object> extractedHits;
+		private RuntimeException hitExtractionFailure;
+
+		@Override
+		public JsonObject parse(JsonReader reader) throws IOException {
+			// Reset the state, in case the request is sent multiple times.
+			hitMapper = requestContext.createProjectionHitMapper();
+			extractedHits = new ArrayList<>();
+			hitExtractionFailure = null;
+
+			ProjectionExtractContext projectionExtractContext = new ProjectionExtractContext( requestContext );
+			JsonObject responseBody = new JsonObject();
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( HITS_PROPERTY_NAME.equals( name ) && reader.peek() == JsonToken.BEGIN_OBJECT ) {
+					responseBody.add( name, parseHits( reader, projectionExtractContext ) );
+				}
+				else {
+					responseBody.add( name, JsonParser.parseReader( reader ) );
+				}
+			}
+			reader.endObject();
+			return responseBody;
+		}
+
+		private JsonObject parseHits(JsonReader reader, ProjectionExtractContext projectionExtractContext)
+				throws IOException {
+			JsonObject hits = new JsonObject();
+			reader.beginObject();
+			while ( reader.hasNext() ) {
+				String name = reader.nextName();
+				if ( HITS_PROPERTY_NAME.equals( name ) && reader.peek() == JsonToken.BEGIN_ARRAY ) {
+					hits.add( name, parseHitArray( reader, projectionExtractContext ) );
+				}
+				else {
+					hits.add( name, JsonParser.parseReader( reader ) );
+				}
+			}
+			reader.endObject();
+			return hits;
+		}
+
+		private JsonArray parseHitArray(JsonReader reader, ProjectionExtractContext projectionExtractContext)
+				throws IOException {
+			JsonObject lastHit = null;
+			reader.beginArray();
+			while ( reader.hasNext() ) {
+				lastHit = JsonParser.parseReader( reader ).getAsJsonObject();
+				if ( hitExtractionFailure != null ) {
+					// Keep reading the response, but don't bother extracting.
+					continue;
+				}
+				try {
+					extractedHits.add( extractHit( hitMapper, lastHit, projectionExtractContext ) );
+				}
+				catch (RuntimeException e) {
+					// Don't report extraction failures as parsing failures: rethrow them on extraction.
+					hitExtractionFailure = e;
+				}
+			}
+			reader.endArray();
+			JsonArray result = new JsonArray();
+			if ( lastHit != null ) {
+				result.add( lastHit );
+			}
+			return result;
+		}
+
+		@Override
+		public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody, Deadline deadline) {
+			if ( extractedHits == null ) {
+				// The response body was not parsed by this parser, e.g. because the request was transformed.
+				return Elasticsearch7SearchResultExtractor.this.extract( responseBody, deadline );
+			}
+			if ( hitExtractionFailure != null ) {
+				throw hitExtractionFailure;
+			}
+			ElasticsearchSearchQueryExtractContext extractContext =
+					requestContext.createExtractContext( responseBody, hitMapper );
+			return Elasticsearch7SearchResultExtractor.this.extract( extractContext, responseBody, extractedHits,
+					deadline );
+		}
+	}
 }
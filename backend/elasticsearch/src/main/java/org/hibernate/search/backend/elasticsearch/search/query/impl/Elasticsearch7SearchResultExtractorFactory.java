@@ -18,10 +18,12 @@ public class Elasticsearch7SearchResultExtractorFactory implements Elasticsearch
 	public <H> ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> createResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
 			ElasticsearchSearchProjection.Extractor<?, H> rootExtractor,
-			List<ElasticsearchSearchAggregation.Extractor<?>> aggregations) {
+			List<ElasticsearchSearchAggregation.Extractor<?>> aggregations,
+			boolean streamingHitExtraction) {
 		return new Elasticsearch7SearchResultExtractor<>(
 				requestContext,
-				rootExtractor, aggregations
+				rootExtractor, aggregations,
+				streamingHitExtraction
 		);
 	}
 }
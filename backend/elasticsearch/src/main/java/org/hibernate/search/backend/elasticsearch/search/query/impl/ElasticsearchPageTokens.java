@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.QueryLog;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Converts the sort values of the last hit of a page of results to an opaque page token, and back.
+ * <p>
+ * The sort values are exactly what Elasticsearch expects in the {@code search_after} property
+ * to return the hits that come after that hit.
+ * <p>
+ * Point-in-time searches are not used, so that tokens never expire and don't hold resources on the cluster.
+ * Instead, page tokens are only accepted for queries whose last sort is a field sort:
+ * ties on the score or on index order are broken by shard-local document IDs,
+ * so with these sorts hits may be skipped or returned twice across pages.
+ */
+final class ElasticsearchPageTokens {
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+
+	// Used both on the request payload (sorts) and on hits (sort values)
+	private static final JsonAccessor<JsonArray> SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+
+	private static final Set<String> UNSTABLE_SORT_KEYWORDS = Set.of( "_score", "_doc" );
+
+	private ElasticsearchPageTokens() {
+	}
+
+	static void checkSupported(JsonObject payload) {
+		Optional<JsonArray> sorts = SORT_ACCESSOR.get( payload );
+		if ( sorts.isEmpty() || sorts.get().isEmpty()
+				|| UNSTABLE_SORT_KEYWORDS.contains( sortKeyword( sorts.get().get( sorts.get().size() - 1 ) ) ) ) {
+			throw QueryLog.INSTANCE.pageTokensRequireFieldSort( payload.toString() );
+		}
+	}
+
+	static String fromResponseBody(JsonObject responseBody) {
+		Optional<JsonArray> hits = HITS_HITS_ACCESSOR.get( responseBody );
+		if ( hits.isEmpty() || hits.get().isEmpty() ) {
+			return null;
+		}
+		JsonElement lastHit = hits.get().get( hits.get().size() - 1 );
+		// Sort values are only returned when the request includes a sort.
+		return SORT_ACCESSOR.get( lastHit.getAsJsonObject() )
+				.map( ElasticsearchPageTokens::encode )
+				.orElse( null );
+	}
+
+	static JsonArray decode(String token) {
+		try {
+			String json = new String( Base64.getUrlDecoder().decode( token ), StandardCharsets.UTF_8 );
+			JsonElement element = JsonParser.parseString( json );
+			if ( !element.isJsonArray() ) {
+				throw QueryLog.INSTANCE.invalidPageToken( token, "expected an array of sort values", null );
+			}
+			return element.getAsJsonArray();
+		}
+		catch (IllegalArgumentException | JsonParseException e) {
+			throw QueryLog.INSTANCE.invalidPageToken( token, e.getMessage(), e );
+		}
+	}
+
+	private static String sortKeyword(JsonElement sort) {
+		// Sorts are either a keyword/field name, or an object with a single property named after the keyword/field.
+		if ( sort.isJsonPrimitive() ) {
+			return sort.getAsString();
+		}
+		Set<String> keys = sort.getAsJsonObject().keySet();
+		return keys.size() == 1 ? keys.iterator().next() : null;
+	}
+
+	private static String encode(JsonArray sortValues) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString( sortValues.toString().getBytes( StandardCharsets.UTF_8 ) );
+	}
+}
@@ -31,6 +31,7 @@
 import org.hibernate.search.backend.elasticsearch.work.factory.impl.ElasticsearchWorkFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
 import org.hibernate.search.engine.search.highlighter.SearchHighlighter;
@@ -66,6 +67,7 @@
 	private final SearchLoadingContextBuilder<?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<H> rootProjection;
 	private final Integer scrollTimeout;
+	private final MetricsRecorder metricsRecorder;
 	private final Set<String> routingKeys;
 	private ElasticsearchSearchPredicate elasticsearchPredicate;
 	private JsonArray jsonSort;
@@ -80,6 +82,7 @@
 	private final Map<String, ElasticsearchSearchHighlighter> namedHighlighters = new HashMap<>();
 	private final QueryParameters parameters = new QueryParameters();
 	private ElasticsearchSearchRequestTransformer requestTransformer;
+	private boolean streamingHitExtraction;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkFactory workFactory,
@@ -89,7 +92,8 @@ public ElasticsearchSearchQueryBuilder(
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
 			ElasticsearchSearchProjection<H> rootProjection,
-			Integer scrollTimeout) {
+			Integer scrollTimeout,
+			MetricsRecorder metricsRecorder) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
@@ -102,6 +106,7 @@ public ElasticsearchSearchQueryBuilder(
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
 		this.scrollTimeout = scrollTimeout;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	@Override
@@ -214,6 +219,10 @@ public void requestTransformer(ElasticsearchSearchRequestTransformer transformer
 		this.requestTransformer = transformer;
 	}
 
+	public void streamingHitExtraction(boolean enabled) {
+		this.streamingHitExtraction = enabled;
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> build() {
 		JsonObject payload = new JsonObject();
@@ -276,7 +285,8 @@ public ElasticsearchSearchQuery<H> build() {
 				searchResultExtractorFactory.createResultExtractor(
 						requestContext,
 						rootExtractor,
-						aggregationExtractors
+						aggregationExtractors,
+						streamingHitExtraction
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
@@ -285,7 +295,8 @@ public ElasticsearchSearchQuery<H> build() {
 				payload, requestTransformer,
 				searchResultExtractor,
 				timeoutManager,
-				scrollTimeout, totalHitCountThreshold
+				scrollTimeout, totalHitCountThreshold,
+				metricsRecorder
 		);
 	}
 }
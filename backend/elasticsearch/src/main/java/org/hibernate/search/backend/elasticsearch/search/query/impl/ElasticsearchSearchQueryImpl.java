@@ -4,10 +4,13 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
@@ -31,6 +34,7 @@
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
@@ -38,6 +42,7 @@
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
@@ -55,6 +60,7 @@
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final Integer scrollTimeout;
 	private final Long totalHitCountThreshold;
+	private final MetricsRecorder metricsRecorder;
 
 	/**
 	 * ES limit for (limit + offset); any search query beyond that limit will be rejected.
@@ -72,7 +78,8 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
+			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold,
+			MetricsRecorder metricsRecorder) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 		this.scope = scope;
@@ -85,6 +92,7 @@
 		this.timeoutManager = timeoutManager;
 		this.scrollTimeout = scrollTimeout;
 		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.metricsRecorder = metricsRecorder;
 		this.maxResultWindow = scope.maxResultWindow();
 	}
 
@@ -114,25 +122,26 @@ public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 				.totalHitCountThreshold( totalHitCountThreshold )
 				.build();
 
-		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
-				queryOrchestrator.submit( work, OperationSubmitter.blocking() ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
-		timeoutManager.stop();
-
-		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
-			// user may not be aware of this defaultedLimit
-			QueryLog.INSTANCE.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
-		}
+		ElasticsearchSearchResultImpl<H> result = executeAndLoadBlocking( work );
+		warnIfLimitDefaulted( result, limit, defaultedLimit );
 		return result;
 	}
 
+	@Override
+	public ElasticsearchSearchResult<H> fetchAfter(String pageToken, Integer limit) {
+		ElasticsearchPageTokens.checkSupported( payload );
+		JsonArray searchAfter = pageToken == null ? null : ElasticsearchPageTokens.decode( pageToken );
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, null );
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
+				.paging( defaultedLimit, null )
+				.searchAfter( searchAfter )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.build();
+
+		return executeAndLoadBlocking( work );
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		timeoutManager.start();
@@ -142,27 +151,43 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 				.disableTrackTotalHits()
 				.build();
 
-		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
-				queryOrchestrator.submit( work, OperationSubmitter.blocking() ) )
-				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
-				 */
-				.loadBlocking();
-		timeoutManager.stop();
-
-		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
-			// user may not be aware of this defaultedLimit
-			QueryLog.INSTANCE.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
-		}
+		ElasticsearchSearchResultImpl<H> result = executeAndLoadBlocking( work );
+		warnIfLimitDefaulted( result, limit, defaultedLimit );
 		return result.hits();
 	}
 
+	@Override
+	public CompletionStage<ElasticsearchSearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor executor) {
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
+				.paging( defaultedLimit, offset )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.build();
+
+		return executeAndLoadAsync( work, executor, limit, defaultedLimit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor executor) {
+		timeoutManager.start();
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
+				.paging( defaultedLimit, offset )
+				.disableTrackTotalHits()
+				.build();
+
+		return executeAndLoadAsync( work, executor, limit, defaultedLimit )
+				.thenApply( ElasticsearchSearchResult::hits );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
+		return Futures.unwrappedExceptionJoin( fetchTotalHitCountAsync().toCompletableFuture() );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
 		timeoutManager.start();
 
 		JsonObject filteredPayload = new JsonObject();
@@ -183,9 +208,8 @@ public long fetchTotalHitCount() {
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				);
 		NonBulkableWork<Long> work = builder.build();
-		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work, OperationSubmitter.blocking() ) );
-		timeoutManager.stop();
-		return result;
+		return queryOrchestrator.submit( work, OperationSubmitter.blocking() )
+				.whenComplete( (result, throwable) -> timeoutManager.stop() );
 	}
 
 	@Override
@@ -242,6 +266,56 @@ private SearchWork.Builder<ElasticsearchLoadableSearchResult<H>> searchWorkBuild
 		return builder;
 	}
 
+	private ElasticsearchSearchResultImpl<H> executeAndLoadBlocking(
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work) {
+		ElasticsearchSearchResultImpl<H> result;
+		try {
+			result = Futures.unwrappedExceptionJoin(
+					queryOrchestrator.submit( work, OperationSubmitter.blocking() ) )
+					/*
+					 * WARNING: the following call must run in the user thread.
+					 * See executeAndLoadAsync() for the non-blocking counterpart,
+					 * which runs it in a caller-supplied executor instead.
+					 */
+					.loadBlocking();
+		}
+		finally {
+			timeoutManager.stop();
+		}
+		recordQueryExecuted( result );
+		return result;
+	}
+
+	private CompletionStage<ElasticsearchSearchResult<H>> executeAndLoadAsync(
+			NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work, Executor executor,
+			Integer limit, Integer defaultedLimit) {
+		return queryOrchestrator.submit( work, OperationSubmitter.blocking() )
+				/*
+				 * WARNING: loading may block, so it must not run in the threads of the Elasticsearch client,
+				 * which complete the future returned by the orchestrator.
+				 */
+				.<ElasticsearchSearchResult<H>>thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlocking, executor )
+				.whenComplete( (result, throwable) -> timeoutManager.stop() )
+				.thenApply( result -> {
+					recordQueryExecuted( result );
+					warnIfLimitDefaulted( result, limit, defaultedLimit );
+					return result;
+				} );
+	}
+
+	private void warnIfLimitDefaulted(ElasticsearchSearchResult<H> result, Integer limit, Integer defaultedLimit) {
+		if ( limit == null && result.total().hitCountLowerBound() > defaultedLimit ) {
+			// user may not be aware of this defaultedLimit
+			QueryLog.INSTANCE.defaultedLimitedHits( defaultedLimit, result.total().hitCountLowerBound() );
+		}
+	}
+
+	private void recordQueryExecuted(ElasticsearchSearchResult<H> result) {
+		Duration took = result.took();
+		metricsRecorder.queryExecuted( scope.hibernateSearchIndexNames(), result.hits().size(),
+				took == null ? -1L : took.toNanos() );
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
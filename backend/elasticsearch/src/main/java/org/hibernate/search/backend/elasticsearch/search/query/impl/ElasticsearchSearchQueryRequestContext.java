@@ -21,6 +21,7 @@
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.common.NamedValues;
 import org.hibernate.search.engine.search.common.spi.SearchQueryElementTypeKey;
+import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.projection.ProjectionCollector;
 import org.hibernate.search.engine.search.query.spi.QueryParameters;
@@ -165,12 +166,21 @@ public boolean isCompatibleHighlighter(String highlighterName, ProjectionCollect
 	}
 
 	ElasticsearchSearchQueryExtractContext createExtractContext(JsonObject responseBody) {
+		return createExtractContext( responseBody, createProjectionHitMapper() );
+	}
+
+	ElasticsearchSearchQueryExtractContext createExtractContext(JsonObject responseBody,
+			ProjectionHitMapper<?> projectionHitMapper) {
 		return new ElasticsearchSearchQueryExtractContext(
 				this,
 				sessionContext,
-				loadingContext.createProjectionHitMapper(),
+				projectionHitMapper,
 				responseBody
 		);
 	}
 
+	ProjectionHitMapper<?> createProjectionHitMapper() {
+		return loadingContext.createProjectionHitMapper();
+	}
+
 }
@@ -93,6 +93,8 @@ public ElasticsearchRequest apply(ElasticsearchSearchRequestTransformer transfor
 			builder.body( body );
 		}
 
+		builder.responseBodyParser( originalRequest.responseBodyParser() );
+
 		return builder.build();
 	}
 }
@@ -15,6 +15,7 @@ public interface ElasticsearchSearchResultExtractorFactory {
 	<H> ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> createResultExtractor(
 			ElasticsearchSearchQueryRequestContext requestContext,
 			ElasticsearchSearchProjection.Extractor<?, H> rootExtractor,
-			List<ElasticsearchSearchAggregation.Extractor<?>> aggregations);
+			List<ElasticsearchSearchAggregation.Extractor<?>> aggregations,
+			boolean streamingHitExtraction);
 
 }
@@ -36,4 +36,10 @@ public JsonObject responseBody() {
 	public String scrollId() {
 		return scrollId;
 	}
+
+	@Override
+	public String nextPageToken() {
+		// Computed lazily: most callers never need it.
+		return ElasticsearchPageTokens.fromResponseBody( responseBody );
+	}
 }
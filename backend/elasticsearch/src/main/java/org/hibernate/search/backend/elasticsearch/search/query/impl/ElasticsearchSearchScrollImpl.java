@@ -4,6 +4,9 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
@@ -57,20 +60,37 @@ public void close() {
 	public ElasticsearchSearchScrollResult<H> next() {
 		timeoutManager.start();
 
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> scroll = ( scrollId == null )
-				? firstScroll.build()
-				: workFactory.scroll( scrollId, scrollTimeoutString, searchResultExtractor )
-						.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
-						.build();
-
 		ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin(
 				queryOrchestrator.submit(
-						scroll,
+						nextScrollWork(),
 						OperationSubmitter.blocking()
 				)
 		);
 		ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
 
+		return onChunkLoaded( loadableSearchResult, searchResult );
+	}
+
+	@Override
+	public CompletionStage<ElasticsearchSearchScrollResult<H>> nextAsync(Executor executor) {
+		timeoutManager.start();
+
+		return queryOrchestrator.submit( nextScrollWork(), OperationSubmitter.blocking() )
+				// Loading may block: it must not run in the threads of the Elasticsearch client.
+				.thenApplyAsync( loadableSearchResult -> onChunkLoaded( loadableSearchResult,
+						loadableSearchResult.loadBlocking() ), executor );
+	}
+
+	private NonBulkableWork<ElasticsearchLoadableSearchResult<H>> nextScrollWork() {
+		return ( scrollId == null )
+				? firstScroll.build()
+				: workFactory.scroll( scrollId, scrollTimeoutString, searchResultExtractor )
+						.deadline( timeoutManager.deadlineOrNull(), timeoutManager.hasHardTimeout() )
+						.build();
+	}
+
+	private ElasticsearchSearchScrollResult<H> onChunkLoaded(ElasticsearchLoadableSearchResult<H> loadableSearchResult,
+			ElasticsearchSearchResultImpl<H> searchResult) {
 		scrollId = searchResult.scrollId();
 		if ( scrollId == null ) {
 			throw new AssertionFailure( "Elasticsearch response lacked a value for scroll id" );
@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
 import com.google.gson.JsonObject;
@@ -31,4 +34,9 @@ public interface WorkExecutionIndexManagerContext {
 	JsonObject createDocument(String tenantId, String id,
 			DocumentContributor documentContributor);
 
+	boolean supportsPartialUpdate(Collection<? extends IndexFieldReference<?>> fieldReferences);
+
+	JsonObject createPartialDocument(Collection<? extends IndexFieldReference<?>> fieldReferences,
+			DocumentContributor documentContributor);
+
 }
@@ -36,6 +36,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.RefreshWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.UpdateWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.WaitForIndexStatusWork;
 
 import com.google.gson.JsonObject;
@@ -61,6 +62,14 @@ public IndexWork.Builder index(String entityTypeName, Object entityIdentifier,
 				elasticsearchIndexName, documentIdentifier, routingKey, document );
 	}
 
+	@Override
+	public UpdateWork.Builder update(String entityTypeName, Object entityIdentifier,
+			URLEncodedString elasticsearchIndexName,
+			String documentIdentifier, String routingKey, JsonObject partialDocument) {
+		return UpdateWork.Builder.create( entityTypeName, entityIdentifier,
+				elasticsearchIndexName, documentIdentifier, routingKey, partialDocument );
+	}
+
 	@Override
 	public DeleteWork.Builder delete(String entityTypeName, Object entityIdentifier,
 			URLEncodedString elasticsearchIndexName, String documentIdentifier, String routingKey) {
@@ -7,6 +7,7 @@
 import org.hibernate.search.backend.elasticsearch.logging.spi.ElasticsearchClientLog;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 public abstract class AbstractSingleDocumentIndexingWork
@@ -22,6 +23,8 @@
 
 	private final DocumentRefreshStrategy refreshStrategy;
 
+	private volatile SerializedBulkItem serializedBulkItem;
+
 	protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
 		this.bulkableActionBody = builder.buildBulkableActionBody();
@@ -62,6 +65,21 @@ public JsonObject getBulkableActionBody() {
 		return bulkableActionBody;
 	}
 
+	@Override
+	public SerializedBulkItem serializeBulkItem(Gson gson) {
+		SerializedBulkItem result = serializedBulkItem;
+		if ( result == null ) {
+			result = SerializedBulkItem.of( gson, this );
+			serializedBulkItem = result;
+		}
+		return result;
+	}
+
+	@Override
+	public SerializedBulkItem getSerializedBulkItem() {
+		return serializedBulkItem;
+	}
+
 	@Override
 	public Void handleBulkResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
 		try {
@@ -10,15 +10,27 @@
 import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.spi.ElasticsearchClientLog;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.SearchException;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+
+	// Rejections because of load are not failures of the bulk itself: they are reported for each bulked work.
+	private static final ElasticsearchRequestSuccessAssessor RESULT_ASSESSOR =
+			ElasticsearchRequestSuccessAssessor.builder()
+					.ignoreErrorStatuses( TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+					.build();
 
 	protected BulkWork(Builder builder) {
 		super( builder );
@@ -26,18 +38,33 @@ protected BulkWork(Builder builder) {
 
 	@Override
 	protected BulkResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		if ( response.statusCode() == TOO_MANY_REQUESTS_HTTP_STATUS_CODE ) {
+			SearchException cause = ElasticsearchClientLog.INSTANCE.elasticsearchResponseIndicatesFailure();
+			return new RejectedBulkResult( ElasticsearchClientLog.INSTANCE.elasticsearchRequestFailed(
+					request, response, cause.getMessage(), cause ) );
+		}
 		JsonObject parsedResponseBody = response.body();
 		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
 		return new BulkResultImpl( resultItems );
 	}
 
+	/**
+	 * @param gson The Gson instance used to serialize requests.
+	 * @param work A bulkable work.
+	 * @return The number of bytes this work will add to the body of a bulk request.
+	 * The work is serialized in the process, and the bulk request will reuse that serialized form.
+	 */
+	public static long itemContentLength(Gson gson, BulkableWork<?> work) {
+		return work.serializeBulkItem( gson ).contentLength();
+	}
+
 	public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Builder> {
 		private final List<? extends BulkableWork<?>> bulkableWorks;
 
 		private DocumentRefreshStrategy refreshStrategy = DocumentRefreshStrategy.NONE;
 
 		public Builder(List<? extends BulkableWork<?>> bulkableWorks) {
-			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE );
+			super( RESULT_ASSESSOR );
 			this.bulkableWorks = bulkableWorks;
 		}
 
@@ -60,10 +87,12 @@ protected ElasticsearchRequest buildRequest() {
 			}
 
 			for ( BulkableWork<?> work : bulkableWorks ) {
-				builder.body( work.getBulkableActionMetadata() );
+				// Reuse the serialized form if it was already computed to limit the size of bulks
+				SerializedBulkItem serialized = work.getSerializedBulkItem();
+				builder.body( work.getBulkableActionMetadata(), serialized == null ? null : serialized.actionMetadata() );
 				JsonObject actionBody = work.getBulkableActionBody();
 				if ( actionBody != null ) {
-					builder.body( actionBody );
+					builder.body( actionBody, serialized == null ? null : serialized.actionBody() );
 				}
 			}
 
@@ -89,6 +118,34 @@ public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T>
 			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
+
+		@Override
+		public boolean isRejected(int index) {
+			// Result items have the following format: { "actionName" : { "status" : 429, ... } }
+			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
+			JsonObject actionResponse = bulkItemResponse.entrySet().iterator().next().getValue().getAsJsonObject();
+			return BULK_ITEM_STATUS_CODE.get( actionResponse )
+					.map( status -> status == TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+					.orElse( false );
+		}
+	}
+
+	private static class RejectedBulkResult implements BulkResult {
+		private final SearchException failure;
+
+		public RejectedBulkResult(SearchException failure) {
+			this.failure = failure;
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			throw ElasticsearchClientLog.INSTANCE.elasticsearchFailedBecauseOfBulkFailure( failure.getMessage(), failure );
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			return true;
+		}
 	}
 
 }
@@ -6,6 +6,7 @@
 
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 
 public interface BulkableWork<T> extends ElasticsearchWork {
@@ -16,6 +17,20 @@
 
 	JsonObject getBulkableActionBody();
 
+	/**
+	 * @param gson The Gson instance used to serialize requests.
+	 * @return The action metadata and body of this work, serialized to JSON.
+	 * Serialization only happens on the first call: the result is retained
+	 * so that the bulk request including this work can reuse it.
+	 */
+	SerializedBulkItem serializeBulkItem(Gson gson);
+
+	/**
+	 * @return The result of the first call to {@link #serializeBulkItem(Gson)},
+	 * or {@code null} if it was never called.
+	 */
+	SerializedBulkItem getSerializedBulkItem();
+
 	/**
 	 * @param context The execution context
 	 * @param resultItem A future eventually returning the part of the bulk JSON result relevant to this work
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchResponseBodyParser;
 import org.hibernate.search.engine.common.timing.Deadline;
 
 import com.google.gson.JsonObject;
@@ -12,4 +13,21 @@
 
 	R extract(JsonObject responseBody, Deadline deadline);
 
+	/**
+	 * @return A new extractor for a single execution, which extracts hits while the response body is being parsed,
+	 * or {@code null} if results must be extracted from the fully parsed response body.
+	 */
+	default Streaming<R> createStreamingExtractor() {
+		return null;
+	}
+
+	/**
+	 * An extractor that must be set as the {@link ElasticsearchResponseBodyParser} of the request,
+	 * then used to extract results from the body it returned.
+	 *
+	 * @param <R> The type of results.
+	 */
+	interface Streaming<R> extends ElasticsearchSearchResultExtractor<R>, ElasticsearchResponseBodyParser {
+	}
+
 }
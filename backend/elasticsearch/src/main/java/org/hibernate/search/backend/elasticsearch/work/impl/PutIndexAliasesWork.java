@@ -38,6 +38,23 @@ public Builder(GsonProvider gsonProvider, URLEncodedString indexName,
 			this.payload = createPayload( gsonProvider, indexName.original, aliases );
 		}
 
+		/**
+		 * Removes an alias from another index as part of the same, atomic request.
+		 *
+		 * @param indexName The name of the index to remove the alias from.
+		 * @param alias The name of the alias to remove.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder remove(URLEncodedString indexName, String alias) {
+			JsonObject aliasDefinition = new JsonObject();
+			aliasDefinition.addProperty( "index", indexName.original );
+			aliasDefinition.addProperty( "alias", alias );
+			JsonObject action = new JsonObject();
+			action.add( "remove", aliasDefinition );
+			payload.getAsJsonArray( "actions" ).add( action );
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
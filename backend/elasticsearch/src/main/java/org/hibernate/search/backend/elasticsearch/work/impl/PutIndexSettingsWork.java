@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Map;
+
 import org.hibernate.search.backend.elasticsearch.client.common.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchResponse;
@@ -12,6 +14,8 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 
 public class PutIndexSettingsWork extends AbstractNonBulkableWork<Void> {
@@ -41,6 +45,14 @@ public Builder(
 			 */
 			Gson gson = gsonProvider.getGsonNoSerializeNulls();
 			this.payload = gson.toJsonTree( settings ).getAsJsonObject();
+			// ... except for explicit nulls in extra attributes, which reset settings to their default.
+			if ( settings.getExtraAttributes() != null ) {
+				for ( Map.Entry<String, JsonElement> entry : settings.getExtraAttributes().entrySet() ) {
+					if ( entry.getValue().isJsonNull() ) {
+						payload.add( entry.getKey(), JsonNull.INSTANCE );
+					}
+				}
+			}
 		}
 
 		@Override
@@ -19,7 +19,7 @@
 
 	protected ScrollWork(Builder<R> builder) {
 		super( builder );
-		this.resultExtractor = builder.resultExtractor;
+		this.resultExtractor = builder.resultExtractorForRequest();
 		this.deadline = builder.deadline;
 		this.failOnDeadline = builder.failOnDeadline;
 	}
@@ -35,6 +35,8 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 		private final String scrollId;
 		private final String scrollTimeout;
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
+		// Created in build(), before the request, since the request uses it as its response body parser.
+		private ElasticsearchSearchResultExtractor.Streaming<R> streamingResultExtractor;
 		private Deadline deadline;
 		private boolean failOnDeadline;
 
@@ -63,12 +65,27 @@ protected ElasticsearchRequest buildRequest() {
 							.pathComponent( Paths.SCROLL )
 							.body( body );
 
+			if ( streamingResultExtractor != null ) {
+				builder.responseBodyParser( streamingResultExtractor );
+			}
+
 			return builder.build();
 		}
 
 		@Override
 		public ScrollWork<R> build() {
+			// Streaming extractors hold state for a single execution: create one for each work.
+			streamingResultExtractor = resultExtractor.createStreamingExtractor();
 			return new ScrollWork<>( this );
 		}
+
+		/**
+		 * @return The extractor to apply to the response to the request built by this builder:
+		 * the streaming extractor if the request uses it as its response body parser,
+		 * the default extractor otherwise.
+		 */
+		private ElasticsearchSearchResultExtractor<R> resultExtractorForRequest() {
+			return streamingResultExtractor != null ? streamingResultExtractor : resultExtractor;
+		}
 	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -15,6 +16,8 @@
 import org.hibernate.search.backend.elasticsearch.logging.impl.QueryLog;
 import org.hibernate.search.engine.common.timing.Deadline;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
@@ -25,7 +28,7 @@
 
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
-		this.resultExtractor = builder.resultExtractor;
+		this.resultExtractor = builder.resultExtractorForRequest();
 		this.deadline = builder.deadline;
 		this.failOnDeadline = builder.failOnDeadline;
 	}
@@ -56,6 +59,8 @@ public static <T> Builder<T> create(JsonObject payload, ElasticsearchSearchResul
 
 		private final JsonObject payload;
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
+		// Created in build(), before the request, since the request uses it as its response body parser.
+		private ElasticsearchSearchResultExtractor.Streaming<R> streamingResultExtractor;
 		private final boolean allowPartialSearchResultsSupported;
 		private final Set<URLEncodedString> indexes = new HashSet<>();
 
@@ -63,6 +68,7 @@ public static <T> Builder<T> create(JsonObject payload, ElasticsearchSearchResul
 		private Long totalHitCountThreshold;
 		private Integer from;
 		private Integer size;
+		private JsonArray searchAfter;
 		private Integer scrollSize;
 		private String scrollTimeout;
 		private Set<String> routingKeys;
@@ -89,6 +95,17 @@ public Builder<R> paging(Integer limit, Integer offset) {
 			return this;
 		}
 
+		/**
+		 * @param searchAfter The sort values of the last hit of the previous page,
+		 * or {@code null} to start from the first hit.
+		 * Only meaningful if the payload specifies a sort.
+		 * @return {@code this}, for method chaining.
+		 */
+		public Builder<R> searchAfter(JsonArray searchAfter) {
+			this.searchAfter = searchAfter;
+			return this;
+		}
+
 		public Builder<R> scrolling(int scrollSize, String scrollTimeout) {
 			this.scrollSize = scrollSize;
 			this.scrollTimeout = scrollTimeout;
@@ -135,7 +152,7 @@ protected ElasticsearchRequest buildRequest() {
 					ElasticsearchRequest.post()
 							.multiValuedPathComponent( indexes )
 							.pathComponent( Paths._SEARCH )
-							.body( payload );
+							.body( searchAfter == null ? payload : withSearchAfter( payload ) );
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -166,14 +183,39 @@ protected ElasticsearchRequest buildRequest() {
 
 			handleDeadline( builder );
 
+			if ( streamingResultExtractor != null ) {
+				builder.responseBodyParser( streamingResultExtractor );
+			}
+
 			return builder.build();
 		}
 
 		@Override
 		public SearchWork<R> build() {
+			// Streaming extractors hold state for a single execution: create one for each work.
+			streamingResultExtractor = resultExtractor.createStreamingExtractor();
 			return new SearchWork<>( this );
 		}
 
+		/**
+		 * @return The extractor to apply to the response to the request built by this builder:
+		 * the streaming extractor if the request uses it as its response body parser,
+		 * the default extractor otherwise.
+		 */
+		private ElasticsearchSearchResultExtractor<R> resultExtractorForRequest() {
+			return streamingResultExtractor != null ? streamingResultExtractor : resultExtractor;
+		}
+
+		private JsonObject withSearchAfter(JsonObject payload) {
+			// Shallow copy: the payload is shared by all executions of the query.
+			JsonObject result = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				result.add( entry.getKey(), entry.getValue() );
+			}
+			result.add( "search_after", searchAfter );
+			return result;
+		}
+
 		private void handleDeadline(ElasticsearchRequest.Builder builder) {
 			if ( deadline == null ) {
 				return;
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * The action metadata and body of a {@link BulkableWork}, serialized to JSON.
+ */
+public final class SerializedBulkItem {
+
+	static SerializedBulkItem of(Gson gson, BulkableWork<?> work) {
+		String actionMetadata = gson.toJson( work.getBulkableActionMetadata() );
+		JsonObject actionBody = work.getBulkableActionBody();
+		return new SerializedBulkItem( actionMetadata, actionBody == null ? null : gson.toJson( actionBody ) );
+	}
+
+	private final String actionMetadata;
+	private final String actionBody;
+	private final long contentLength;
+
+	private SerializedBulkItem(String actionMetadata, String actionBody) {
+		this.actionMetadata = actionMetadata;
+		this.actionBody = actionBody;
+		// Each body part is followed by a line feed in the body of a bulk request
+		long length = utf8Length( actionMetadata ) + 1;
+		if ( actionBody != null ) {
+			length += utf8Length( actionBody ) + 1;
+		}
+		this.contentLength = length;
+	}
+
+	public String actionMetadata() {
+		return actionMetadata;
+	}
+
+	/**
+	 * @return The serialized action body, or {@code null} if the work doesn't have one.
+	 */
+	public String actionBody() {
+		return actionBody;
+	}
+
+	/**
+	 * @return The number of bytes this item adds to the body of a bulk request.
+	 */
+	public long contentLength() {
+		return contentLength;
+	}
+
+	private static long utf8Length(String string) {
+		long length = 0;
+		for ( int i = 0; i < string.length(); i++ ) {
+			char c = string.charAt( i );
+			if ( c < 0x80 ) {
+				length += 1;
+			}
+			else if ( c < 0x800 ) {
+				length += 2;
+			}
+			else if ( Character.isHighSurrogate( c ) && i + 1 < string.length()
+					&& Character.isLowSurrogate( string.charAt( i + 1 ) ) ) {
+				// A surrogate pair encodes a supplementary code point, i.e. 4 bytes
+				length += 4;
+				i++;
+			}
+			else if ( Character.isSurrogate( c ) ) {
+				// A lone surrogate cannot be encoded and gets replaced with '?'
+				length += 1;
+			}
+			else {
+				length += 3;
+			}
+		}
+		return length;
+	}
+
+}
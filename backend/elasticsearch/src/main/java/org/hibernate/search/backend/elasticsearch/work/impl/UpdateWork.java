@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A partial update of an existing document:
+ * fields present in the partial document replace the corresponding fields in the indexed document,
+ * while other fields are left untouched.
+ */
+public class UpdateWork extends AbstractSingleDocumentIndexingWork
+		implements SingleDocumentIndexingWork {
+
+	private UpdateWork(Builder builder) {
+		super( builder );
+	}
+
+	public static class Builder
+			extends AbstractSingleDocumentIndexingWork.AbstractBuilder<Builder> {
+		private final URLEncodedString indexName;
+		private final String routingKey;
+		private final JsonObject partialDocument;
+
+		public static Builder create(String entityTypeName, Object entityIdentifier,
+				URLEncodedString elasticsearchIndexName, String documentIdentifier, String routingKey,
+				JsonObject partialDocument) {
+			return new Builder( entityTypeName, entityIdentifier,
+					elasticsearchIndexName, documentIdentifier, routingKey, partialDocument );
+		}
+
+		private Builder(String entityTypeName, Object entityIdentifier, URLEncodedString elasticsearchIndexName,
+				String documentIdentifier, String routingKey, JsonObject partialDocument) {
+			super( ElasticsearchRequestSuccessAssessor.DEFAULT_INSTANCE, entityTypeName, entityIdentifier,
+					documentIdentifier );
+			this.indexName = elasticsearchIndexName;
+			this.routingKey = routingKey;
+			this.partialDocument = partialDocument;
+		}
+
+		@Override
+		protected JsonObject buildBulkableActionMetadata() {
+			JsonObject update = new JsonObject();
+			update.addProperty( "_index", indexName.original );
+			update.addProperty( "_id", documentIdentifier );
+
+			if ( routingKey != null ) {
+				update.addProperty( "routing", routingKey );
+			}
+
+			JsonObject result = new JsonObject();
+			result.add( "update", update );
+
+			return result;
+		}
+
+		@Override
+		protected JsonObject buildBulkableActionBody() {
+			JsonObject body = new JsonObject();
+			body.add( "doc", partialDocument );
+			return body;
+		}
+
+		@Override
+		public UpdateWork build() {
+			return new UpdateWork( this );
+		}
+	}
+}
@@ -11,4 +11,11 @@ public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @param index The index of a bulked work in the bulk.
+	 * @return {@code true} if Elasticsearch rejected the bulked work because of load
+	 * (HTTP status {@code 429 Too Many Requests}), meaning it may succeed if retried later.
+	 */
+	boolean isRejected(int index);
+
 }
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
+import org.hibernate.search.engine.metrics.impl.NoOpMetricsRecorder;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.gson.JsonObject;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class MetricsRecordingElasticsearchClientTest {
+
+	@Mock
+	private ElasticsearchClientImplementor delegateMock;
+	@Mock
+	private MetricsRecorder metricsRecorderMock;
+
+	public static List<? extends Arguments> params() {
+		return Arrays.asList(
+				Arguments.of( "/", "/" ),
+				Arguments.of( "/myindex", "/" ),
+				Arguments.of( "/_bulk", "_bulk" ),
+				Arguments.of( "/myindex/_bulk", "_bulk" ),
+				Arguments.of( "/myindex/_doc/1", "_doc" ),
+				Arguments.of( "/myindex,myotherindex/_search", "_search" ),
+				Arguments.of( "/_search/scroll", "_search" ),
+				Arguments.of( "/myindex/_refresh", "_refresh" )
+		);
+	}
+
+	@ParameterizedTest(name = "{0} => {1}")
+	@MethodSource("params")
+	void endpoint(String path, String expectedEndpoint) {
+		assertThat( MetricsRecordingElasticsearchClient.endpoint( path ) ).isEqualTo( expectedEndpoint );
+	}
+
+	@Test
+	void wrap_disabled() {
+		assertThat( MetricsRecordingElasticsearchClient.wrap( delegateMock, NoOpMetricsRecorder.INSTANCE ) )
+				.isSameAs( delegateMock );
+	}
+
+	@Test
+	void submit() {
+		when( metricsRecorderMock.isEnabled() ).thenReturn( true );
+		ElasticsearchClientImplementor client = MetricsRecordingElasticsearchClient.wrap( delegateMock,
+				metricsRecorderMock );
+		assertThat( client ).isInstanceOf( MetricsRecordingElasticsearchClient.class );
+
+		ElasticsearchRequest request = ElasticsearchRequest.post()
+				.pathComponent( URLEncodedString.fromString( "myindex" ) )
+				.pathComponent( URLEncodedString.fromString( "_search" ) )
+				.build();
+		ElasticsearchResponse response = new ElasticsearchResponse( "mockHost:9200", 200, "OK", new JsonObject() );
+		CompletableFuture<ElasticsearchResponse> delegateFuture = new CompletableFuture<>();
+		when( delegateMock.submit( request ) ).thenReturn( delegateFuture );
+
+		CompletableFuture<ElasticsearchResponse> future = client.submit( request );
+		// Requests are recorded once they complete
+		verify( metricsRecorderMock ).isEnabled();
+		verifyNoMoreInteractions( metricsRecorderMock );
+
+		delegateFuture.complete( response );
+		assertThat( future ).isCompletedWithValue( response );
+		verify( metricsRecorderMock ).requestExecuted( eq( "POST" ), eq( "_search" ), eq( 200 ), anyLong() );
+		verifyNoMoreInteractions( metricsRecorderMock );
+	}
+
+	@Test
+	void submit_failure() {
+		when( metricsRecorderMock.isEnabled() ).thenReturn( true );
+		ElasticsearchClientImplementor client = MetricsRecordingElasticsearchClient.wrap( delegateMock,
+				metricsRecorderMock );
+
+		ElasticsearchRequest request = ElasticsearchRequest.get()
+				.pathComponent( URLEncodedString.fromString( "myindex" ) )
+				.build();
+		RuntimeException failure = new RuntimeException( "Connection refused" );
+		when( delegateMock.submit( request ) ).thenReturn( CompletableFuture.failedFuture( failure ) );
+
+		CompletableFuture<ElasticsearchResponse> future = client.submit( request );
+		assertThatThrownBy( future::join ).hasCause( failure );
+		// No response: no status code
+		verify( metricsRecorderMock ).requestExecuted( eq( "GET" ), eq( "/" ), eq( -1 ), anyLong() );
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
+
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
+class ElasticsearchRetryingBulkWorkTest {
+
+	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
+
+	@Mock
+	private BiFunction<List<? extends BulkableWork<?>>,
+			DocumentRefreshStrategy,
+			NonBulkableWork<BulkResult>> bulkWorkFactoryMock;
+	@Mock
+	private SimpleScheduledExecutor schedulerMock;
+	@Mock
+	private ElasticsearchWorkExecutionContext contextMock;
+
+	private final ElasticsearchAdaptiveBulkSize adaptiveBulkSize = new ElasticsearchAdaptiveBulkSize( 8 );
+
+	@Test
+	void noRejection() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 1 );
+		BulkResult bulkResult = mock( BulkResult.class );
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork );
+		ElasticsearchRetryingBulkWork work = retryingWork( 3, work1, work2 );
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		CompletableFuture<BulkResult> future = work.execute( contextMock );
+		assertThatFuture( future ).isSuccessful();
+		verifyNoMoreInteractions( bulkWorkFactoryMock, schedulerMock );
+
+		when( bulkResult.extract( contextMock, work2, 1 ) ).thenReturn( null );
+		future.join().extract( contextMock, work2, 1 );
+		verify( bulkResult ).extract( contextMock, work2, 1 );
+		assertThat( adaptiveBulkSize.get() ).isEqualTo( 8 );
+	}
+
+	@Test
+	void rejection_retrySucceeds() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 1 );
+		NonBulkableWork<BulkResult> retryBulkWork = workMock( 2 );
+		BulkResult bulkResult = mock( BulkResult.class );
+		BulkResult retryBulkResult = mock( BulkResult.class );
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2, work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork );
+		ElasticsearchRetryingBulkWork work = retryingWork( 3, work1, work2, work3 );
+
+		// work2 and work3 are rejected
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult.isRejected( 1 ) ).thenReturn( true );
+		when( bulkResult.isRejected( 2 ) ).thenReturn( true );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work2, work3 ), DEFAULT_REFRESH ) ).thenReturn( retryBulkWork );
+		ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass( Runnable.class );
+		when( schedulerMock.schedule( retryCaptor.capture(), anyLong(), eq( TimeUnit.MILLISECONDS ) ) ).thenReturn( null );
+		CompletableFuture<BulkResult> future = work.execute( contextMock );
+		assertThatFuture( future ).isPending();
+		assertThat( adaptiveBulkSize.get() ).isEqualTo( 4 );
+
+		// The retry succeeds
+		when( retryBulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( retryBulkResult ) );
+		retryCaptor.getValue().run();
+		assertThatFuture( future ).isSuccessful();
+		assertThat( adaptiveBulkSize.get() ).isEqualTo( 5 );
+
+		// Results are extracted from the bulk where each work was last executed
+		BulkResult mergedResult = future.join();
+		assertThat( mergedResult.isRejected( 0 ) ).isFalse();
+		assertThat( mergedResult.isRejected( 1 ) ).isFalse();
+		assertThat( mergedResult.isRejected( 2 ) ).isFalse();
+		when( bulkResult.extract( contextMock, work1, 0 ) ).thenReturn( null );
+		when( retryBulkResult.extract( contextMock, work3, 1 ) ).thenReturn( null );
+		mergedResult.extract( contextMock, work1, 0 );
+		mergedResult.extract( contextMock, work3, 2 );
+		verify( bulkResult ).extract( contextMock, work1, 0 );
+		verify( retryBulkResult ).extract( contextMock, work3, 1 );
+	}
+
+	@Test
+	void rejection_retriesExhausted() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 1 );
+		NonBulkableWork<BulkResult> retryBulkWork = workMock( 2 );
+		BulkResult bulkResult = mock( BulkResult.class );
+		BulkResult retryBulkResult = mock( BulkResult.class );
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1 ), DEFAULT_REFRESH ) )
+				.thenReturn( bulkWork )
+				.thenReturn( retryBulkWork );
+		ElasticsearchRetryingBulkWork work = retryingWork( 1, work1 );
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenReturn( true );
+		ArgumentCaptor<Runnable> retryCaptor = ArgumentCaptor.forClass( Runnable.class );
+		when( schedulerMock.schedule( retryCaptor.capture(), anyLong(), any() ) ).thenReturn( null );
+		CompletableFuture<BulkResult> future = work.execute( contextMock );
+		assertThatFuture( future ).isPending();
+
+		// The retry is rejected too: no more retries, the rejection will be reported upon extraction
+		when( retryBulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( retryBulkResult ) );
+		when( retryBulkResult.isRejected( 0 ) ).thenReturn( true );
+		retryCaptor.getValue().run();
+		assertThatFuture( future ).isSuccessful();
+		verify( schedulerMock ).schedule( any(), anyLong(), any() );
+		assertThat( future.join().isRejected( 0 ) ).isTrue();
+		assertThat( adaptiveBulkSize.get() ).isEqualTo( 2 );
+	}
+
+	@Test
+	void bulkFailure() {
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 1 );
+		RuntimeException exception = new RuntimeException( "Some message" );
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork );
+		ElasticsearchRetryingBulkWork work = retryingWork( 3, work1 );
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.failedFuture( exception ) );
+		assertThatFuture( work.execute( contextMock ) ).isFailed( exception );
+		verifyNoMoreInteractions( schedulerMock );
+	}
+
+	@Test
+	void retryPolicy_delays() {
+		ElasticsearchBulkRetryPolicy policy = new ElasticsearchBulkRetryPolicy( 3, 100L, 1_000L );
+		assertThat( policy.canRetry( 2 ) ).isTrue();
+		assertThat( policy.canRetry( 3 ) ).isFalse();
+		assertThat( policy.delayMillis( 0 ) ).isBetween( 50L, 100L );
+		assertThat( policy.delayMillis( 2 ) ).isBetween( 200L, 400L );
+		assertThat( policy.delayMillis( 10 ) ).isBetween( 500L, 1_000L );
+		assertThat( policy.delayMillis( Integer.MAX_VALUE ) ).isBetween( 500L, 1_000L );
+	}
+
+	private ElasticsearchRetryingBulkWork retryingWork(int maxRetries, BulkableWork<?>... works) {
+		return new ElasticsearchRetryingBulkWork( Arrays.asList( works ), DEFAULT_REFRESH, bulkWorkFactoryMock,
+				new ElasticsearchBulkRetryPolicy( maxRetries, 100L, 1_000L ), adaptiveBulkSize, schedulerMock );
+	}
+
+	private <T> NonBulkableWork<T> workMock(int index) {
+		return mock( NonBulkableWork.class, "work" + index );
+	}
+
+	private <T> BulkableWork<T> bulkableWorkMock(int index) {
+		return mock( BulkableWork.class, "bulkableWork" + index );
+	}
+}
@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.schema.management.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class ElasticsearchSchemaRebuilderTest {
+
+	private static final OperationSubmitter SUBMITTER = OperationSubmitter.blocking();
+
+	private static final URLEncodedString WRITE_ALIAS = URLEncodedString.fromString( "index-write" );
+	private static final URLEncodedString READ_ALIAS = URLEncodedString.fromString( "index-read" );
+	private static final URLEncodedString CURRENT = URLEncodedString.fromString( "index-000001" );
+	private static final URLEncodedString NEXT = URLEncodedString.fromString( "index-000002" );
+
+	private final IndexNames indexNames = new IndexNames( "index", WRITE_ALIAS, true, READ_ALIAS, true );
+
+	@Mock
+	private ElasticsearchSchemaAccessor schemaAccessorMock;
+
+	private ElasticsearchSchemaRebuilder rebuilder;
+
+	@BeforeEach
+	void setup() {
+		rebuilder = new ElasticsearchSchemaRebuilder( schemaAccessorMock );
+	}
+
+	@Test
+	void startRebuild() {
+		JsonObject expectedIndexSettings = new JsonObject();
+		expectedIndexSettings.addProperty( "refresh_interval", "5s" );
+		expectedIndexSettings.addProperty( "number_of_shards", "3" );
+		IndexMetadata expectedMetadata = metadata( settings( Map.of( "index", expectedIndexSettings ) ),
+				WRITE_ALIAS, READ_ALIAS );
+		when( schemaAccessorMock.getCurrentIndexMetadata( indexNames, SUBMITTER ) )
+				.thenReturn( CompletableFuture.completedFuture(
+						new ExistingIndexMetadata( CURRENT.original, metadata( new IndexSettings(), WRITE_ALIAS,
+								READ_ALIAS ) ) ) );
+		ArgumentCaptor<IndexSettings> settingsCaptor = ArgumentCaptor.forClass( IndexSettings.class );
+		when( schemaAccessorMock.createIndexAssumeNonExisting( eq( NEXT ), eq( Collections.emptyMap() ),
+				settingsCaptor.capture(), any(), eq( SUBMITTER ) ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+		when( schemaAccessorMock.moveAliases( eq( CURRENT ), eq( NEXT ), any(), eq( SUBMITTER ) ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+
+		assertThatFuture( rebuilder.startRebuild( indexNames, expectedMetadata, SUBMITTER ) )
+				.isSuccessful();
+
+		// The new generation is filled without refreshes or replicas, other settings are preserved
+		JsonObject rebuildIndexSettings = new JsonObject();
+		rebuildIndexSettings.addProperty( "number_of_shards", "3" );
+		assertThat( settingsCaptor.getValue().getExtraAttributes() ).containsOnly(
+				Map.entry( "index", rebuildIndexSettings ),
+				Map.entry( "refresh_interval", new JsonPrimitive( "-1" ) ),
+				Map.entry( "number_of_replicas", new JsonPrimitive( "0" ) ) );
+		// Only the write alias is moved
+		verify( schemaAccessorMock ).moveAliases( CURRENT, NEXT,
+				Collections.singletonMap( WRITE_ALIAS.original, expectedMetadata.getAliases().get( WRITE_ALIAS.original ) ),
+				SUBMITTER );
+	}
+
+	@Test
+	void startRebuild_noAliases() {
+		IndexNames noAliasIndexNames = new IndexNames( "index", CURRENT, false, CURRENT, false );
+
+		assertThatThrownBy( () -> rebuilder.startRebuild( noAliasIndexNames, metadata( new IndexSettings() ),
+				SUBMITTER ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to rebuild index 'index' into a new generation",
+						"the index layout strategy must define both a write alias and a read alias" );
+		verifyNoMoreInteractions( schemaAccessorMock );
+	}
+
+	@Test
+	void startRebuild_unexpectedPrimaryIndexName() {
+		when( schemaAccessorMock.getCurrentIndexMetadata( indexNames, SUBMITTER ) )
+				.thenReturn( CompletableFuture.completedFuture(
+						new ExistingIndexMetadata( "index-custom", metadata( new IndexSettings(), WRITE_ALIAS,
+								READ_ALIAS ) ) ) );
+
+		assertThatFuture( rebuilder.startRebuild( indexNames,
+				metadata( new IndexSettings(), WRITE_ALIAS, READ_ALIAS ), SUBMITTER ) )
+				.getFailure()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to rebuild index 'index' into a new generation",
+						"primary index name 'index-custom' does not end with a generation number" );
+		verifyNoMoreInteractions( schemaAccessorMock );
+	}
+
+	@Test
+	void finishRebuild_noRebuildInProgress() {
+		when( schemaAccessorMock.getAllCurrentIndexMetadata( indexNames, SUBMITTER ) )
+				.thenReturn( CompletableFuture.completedFuture( Collections.singletonList(
+						new ExistingIndexMetadata( CURRENT.original, metadata( new IndexSettings(), WRITE_ALIAS,
+								READ_ALIAS ) ) ) ) );
+
+		assertThatFuture( rebuilder.finishRebuild( indexNames,
+				metadata( new IndexSettings(), WRITE_ALIAS, READ_ALIAS ), null, SUBMITTER ) )
+				.getFailure()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to finish rebuilding index 'index': no rebuild is in progress" );
+		verifyNoMoreInteractions( schemaAccessorMock );
+	}
+
+	@Test
+	void finishRebuild_failure() {
+		RuntimeException failure = new RuntimeException( "Some failure" );
+		when( schemaAccessorMock.getAllCurrentIndexMetadata( indexNames, SUBMITTER ) )
+				.thenReturn( CompletableFuture.completedFuture( Arrays.asList(
+						new ExistingIndexMetadata( CURRENT.original, metadata( new IndexSettings(), READ_ALIAS ) ),
+						new ExistingIndexMetadata( NEXT.original, metadata( new IndexSettings(), WRITE_ALIAS ) )
+				) ) );
+		when( schemaAccessorMock.updateSettings( eq( NEXT ), any(), eq( SUBMITTER ) ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+		when( schemaAccessorMock.refresh( NEXT, SUBMITTER ) )
+				.thenAnswer( ignored -> CompletableFuture.failedFuture( failure ) );
+
+		assertThatFuture( rebuilder.finishRebuild( indexNames,
+				metadata( new IndexSettings(), WRITE_ALIAS, READ_ALIAS ), null, SUBMITTER ) )
+				.isFailed( failure );
+		// The read alias must not be moved to an index that may be incomplete, nor the previous generation dropped
+		verifyNoMoreInteractions( schemaAccessorMock );
+	}
+
+	@Test
+	void abortRebuild() {
+		IndexMetadata expectedMetadata = metadata( new IndexSettings(), WRITE_ALIAS, READ_ALIAS );
+		when( schemaAccessorMock.getAllCurrentIndexMetadata( indexNames, SUBMITTER ) )
+				.thenReturn( CompletableFuture.completedFuture( Arrays.asList(
+						new ExistingIndexMetadata( CURRENT.original, metadata( new IndexSettings(), READ_ALIAS ) ),
+						new ExistingIndexMetadata( NEXT.original, metadata( new IndexSettings(), WRITE_ALIAS ) )
+				) ) );
+		when( schemaAccessorMock.moveAliases( eq( NEXT ), eq( CURRENT ), any(), eq( SUBMITTER ) ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+		when( schemaAccessorMock.dropIndexIfExisting( NEXT, SUBMITTER ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+
+		assertThatFuture( rebuilder.abortRebuild( indexNames, expectedMetadata, SUBMITTER ) )
+				.isSuccessful();
+
+		verify( schemaAccessorMock ).moveAliases( NEXT, CURRENT,
+				Collections.singletonMap( WRITE_ALIAS.original, expectedMetadata.getAliases().get( WRITE_ALIAS.original ) ),
+				SUBMITTER );
+		verify( schemaAccessorMock ).dropIndexIfExisting( NEXT, SUBMITTER );
+	}
+
+	@Test
+	void abortRebuild_noRebuildInProgress() {
+		when( schemaAccessorMock.getAllCurrentIndexMetadata( indexNames, SUBMITTER ) )
+				.thenReturn( CompletableFuture.completedFuture( Collections.singletonList(
+						new ExistingIndexMetadata( CURRENT.original, metadata( new IndexSettings(), WRITE_ALIAS,
+								READ_ALIAS ) ) ) ) );
+
+		assertThatFuture( rebuilder.abortRebuild( indexNames,
+				metadata( new IndexSettings(), WRITE_ALIAS, READ_ALIAS ), SUBMITTER ) )
+				.isSuccessful();
+
+		// Nothing to abort: in particular, the only generation must not be dropped
+		verifyNoMoreInteractions( schemaAccessorMock );
+	}
+
+	@Test
+	void finishRebuild_restoreSettingsFromPreviousGeneration() {
+		IndexSettings previousSettings = settings( Map.of( "refresh_interval", new JsonPrimitive( "30s" ),
+				"number_of_replicas", new JsonPrimitive( "2" ) ) );
+
+		Map<String, JsonElement> restored = finishRebuild( new IndexSettings(), previousSettings );
+
+		assertThat( restored ).containsOnly(
+				Map.entry( "refresh_interval", new JsonPrimitive( "30s" ) ),
+				Map.entry( "number_of_replicas", new JsonPrimitive( "2" ) ) );
+	}
+
+	@Test
+	void finishRebuild_restoreSettingsFromExpectedSettings() {
+		JsonObject expectedIndexSettings = new JsonObject();
+		expectedIndexSettings.addProperty( "refresh_interval", "5s" );
+		IndexSettings expectedSettings = settings( Map.of( "index", expectedIndexSettings,
+				"index.number_of_replicas", new JsonPrimitive( "3" ) ) );
+		IndexSettings previousSettings = settings( Map.of( "refresh_interval", new JsonPrimitive( "30s" ),
+				"number_of_replicas", new JsonPrimitive( "2" ) ) );
+
+		Map<String, JsonElement> restored = finishRebuild( expectedSettings, previousSettings );
+
+		// Expected settings take precedence, as the new generation was created from them
+		assertThat( restored ).containsOnly(
+				Map.entry( "refresh_interval", new JsonPrimitive( "5s" ) ),
+				Map.entry( "number_of_replicas", new JsonPrimitive( "3" ) ) );
+	}
+
+	@Test
+	void finishRebuild_resetUndefinedSettingsToDefault() {
+		IndexSettings previousSettings = settings( Map.of( "number_of_replicas", new JsonPrimitive( "0" ) ) );
+
+		Map<String, JsonElement> restored = finishRebuild( new IndexSettings(), previousSettings );
+
+		// The previous generation relied on the Elasticsearch default: reset the setting instead of guessing it
+		assertThat( restored ).containsOnly(
+				Map.entry( "refresh_interval", JsonNull.INSTANCE ),
+				Map.entry( "number_of_replicas", new JsonPrimitive( "0" ) ) );
+	}
+
+	private Map<String, JsonElement> finishRebuild(IndexSettings expectedSettings, IndexSettings previousSettings) {
+		IndexMetadata expectedMetadata = metadata( expectedSettings, WRITE_ALIAS, READ_ALIAS );
+		when( schemaAccessorMock.getAllCurrentIndexMetadata( indexNames, SUBMITTER ) )
+				.thenReturn( CompletableFuture.completedFuture( Arrays.asList(
+						new ExistingIndexMetadata( CURRENT.original, metadata( previousSettings, READ_ALIAS ) ),
+						new ExistingIndexMetadata( NEXT.original, metadata( new IndexSettings(), WRITE_ALIAS ) )
+				) ) );
+		ArgumentCaptor<IndexSettings> settingsCaptor = ArgumentCaptor.forClass( IndexSettings.class );
+		when( schemaAccessorMock.updateSettings( eq( NEXT ), settingsCaptor.capture(), eq( SUBMITTER ) ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+		when( schemaAccessorMock.refresh( NEXT, SUBMITTER ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+		when( schemaAccessorMock.waitForIndexStatus( indexNames, null, SUBMITTER ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+		when( schemaAccessorMock.moveAliases( eq( CURRENT ), eq( NEXT ), any(), eq( SUBMITTER ) ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+		when( schemaAccessorMock.dropIndexIfExisting( CURRENT, SUBMITTER ) )
+				.thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+
+		assertThatFuture( rebuilder.finishRebuild( indexNames, expectedMetadata, null, SUBMITTER ) )
+				.isSuccessful();
+
+		return settingsCaptor.getValue().getExtraAttributes();
+	}
+
+	private static IndexSettings settings(Map<String, JsonElement> extraAttributes) {
+		IndexSettings settings = new IndexSettings();
+		settings.setExtraAttributes( new LinkedHashMap<>( extraAttributes ) );
+		return settings;
+	}
+
+	private static IndexMetadata metadata(IndexSettings settings, URLEncodedString... aliases) {
+		IndexMetadata metadata = new IndexMetadata();
+		metadata.setSettings( settings );
+		Map<String, IndexAliasDefinition> aliasMap = new LinkedHashMap<>();
+		for ( URLEncodedString alias : aliases ) {
+			aliasMap.put( alias.original, new IndexAliasDefinition() );
+		}
+		metadata.setAliases( aliasMap );
+		return metadata;
+	}
+
+}
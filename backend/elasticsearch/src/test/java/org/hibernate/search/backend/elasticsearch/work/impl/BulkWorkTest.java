@@ -13,14 +13,18 @@
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.client.common.gson.entity.spi.GsonHttpEntityContentProvider;
 import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
@@ -28,6 +32,7 @@
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
@@ -40,6 +45,8 @@
 @SuppressWarnings({ "unchecked", "rawtypes" }) // Raw types are the only way to mock parameterized types
 class BulkWorkTest {
 
+	private final Gson gson = new Gson();
+
 	@Mock
 	private ElasticsearchClient clientMock;
 	@Mock(strictness = Mock.Strictness.LENIENT)
@@ -134,6 +141,60 @@ void execute_http500() {
 				) );
 	}
 
+	@Test
+	void itemContentLength() throws IOException {
+		JsonObject document = new JsonObject();
+		// Characters encoded with 1, 2, 3 and 4 bytes in UTF-8
+		document.addProperty( "text", "a\u00e9\u65e5\ud83d\ude00" );
+		IndexWork indexWork = IndexWork.Builder.create( "SomeEntity", 1, URLEncodedString.fromString( "index-write" ),
+				"1", null, document )
+				.build();
+		DeleteWork deleteWork = DeleteWork.Builder.create( "SomeEntity", 2, URLEncodedString.fromString( "index-write" ),
+				"2", "someRoutingKey" )
+				.build();
+
+		long indexWorkLength = BulkWork.itemContentLength( gson, indexWork );
+		long deleteWorkLength = BulkWork.itemContentLength( gson, deleteWork );
+
+		// Serialization happens only once
+		SerializedBulkItem serializedIndexWork = indexWork.getSerializedBulkItem();
+		assertThat( serializedIndexWork ).isNotNull();
+		assertThat( indexWork.serializeBulkItem( gson ) ).isSameAs( serializedIndexWork );
+		SerializedBulkItem serializedDeleteWork = deleteWork.getSerializedBulkItem();
+		assertThat( serializedDeleteWork ).isNotNull();
+		assertThat( serializedDeleteWork.actionBody() ).isNull();
+
+		// The bulk request reuses the serialized form
+		ElasticsearchRequest request = new BulkWork.Builder( List.of( indexWork, deleteWork ) ).build().request();
+		assertThat( request.bodyParts() ).containsExactly( indexWork.getBulkableActionMetadata(),
+				indexWork.getBulkableActionBody(), deleteWork.getBulkableActionMetadata() );
+		assertThat( request.serializedBodyParts() ).containsExactly( serializedIndexWork.actionMetadata(),
+				serializedIndexWork.actionBody(), serializedDeleteWork.actionMetadata() );
+
+		// The computed lengths match the actual content, which is the same as without pre-serialization
+		byte[] content = content( request.bodyParts(), request.serializedBodyParts() );
+		assertThat( content ).hasSize( (int) ( indexWorkLength + deleteWorkLength ) );
+		assertThat( content ).isEqualTo( content( request.bodyParts(), null ) );
+	}
+
+	@Test
+	void itemContentLength_partial() throws IOException {
+		DeleteWork deleteWork0 = DeleteWork.Builder.create( "SomeEntity", 0, URLEncodedString.fromString( "index-write" ),
+				"0", null )
+				.build();
+		DeleteWork deleteWork1 = DeleteWork.Builder.create( "SomeEntity", 1, URLEncodedString.fromString( "index-write" ),
+				"1", null )
+				.build();
+		BulkWork.itemContentLength( gson, deleteWork1 );
+
+		// Works whose length was never computed get serialized along with the request, as usual
+		ElasticsearchRequest request = new BulkWork.Builder( List.of( deleteWork0, deleteWork1 ) ).build().request();
+		assertThat( request.serializedBodyParts() )
+				.containsExactly( null, deleteWork1.getSerializedBulkItem().actionMetadata() );
+		assertThat( content( request.bodyParts(), request.serializedBodyParts() ) )
+				.isEqualTo( content( request.bodyParts(), null ) );
+	}
+
 	private void assertBulkRequest(ElasticsearchRequest request, int... bulkableIndices) {
 		assertThat( request ).isNotNull();
 		assertSoftly( softly -> {
@@ -145,6 +206,7 @@ private void assertBulkRequest(ElasticsearchRequest request, int... bulkableIndi
 				expectedBodyParts.add( bulkableWorkBody( bulkableIndex ) );
 			}
 			softly.assertThat( request.bodyParts() ).containsExactlyElementsOf( expectedBodyParts );
+			softly.assertThat( request.serializedBodyParts() ).isNull();
 		} );
 	}
 
@@ -153,6 +215,12 @@ private void verifyNoOtherClientInteractionsAndReset() {
 		reset( clientMock );
 	}
 
+	private byte[] content(List<JsonObject> bodyParts, List<String> serializedBodyParts) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		new GsonHttpEntityContentProvider( gson, bodyParts, serializedBodyParts ).writeTo( out );
+		return out.toByteArray();
+	}
+
 	private <T> BulkableWork<T> bulkableWork(int index) {
 		return mock( BulkableWork.class, "bulkableWork" + index );
 	}
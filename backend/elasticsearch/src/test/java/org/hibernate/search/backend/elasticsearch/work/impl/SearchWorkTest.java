@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class SearchWorkTest {
+
+	@Mock
+	private ElasticsearchSearchResultExtractor<Object> extractorMock;
+	@Mock
+	private ElasticsearchSearchResultExtractor.Streaming<Object> streamingExtractorMock;
+	@Mock
+	private ElasticsearchWorkExecutionContext contextMock;
+
+	@Test
+	void search() {
+		when( extractorMock.createStreamingExtractor() ).thenReturn( null );
+		SearchWork<Object> work = SearchWork.Builder.create( new JsonObject(), extractorMock )
+				.index( URLEncodedString.fromString( "index" ) )
+				.build();
+
+		assertThat( work.request().responseBodyParser() ).isNull();
+
+		ElasticsearchResponse response = response();
+		Object result = new Object();
+		when( extractorMock.extract( response.body(), null ) ).thenReturn( result );
+		assertThat( work.generateResult( contextMock, response ) ).isSameAs( result );
+	}
+
+	@Test
+	void search_streaming() {
+		when( extractorMock.createStreamingExtractor() ).thenReturn( streamingExtractorMock );
+		SearchWork<Object> work = SearchWork.Builder.create( new JsonObject(), extractorMock )
+				.index( URLEncodedString.fromString( "index" ) )
+				.build();
+
+		// The streaming extractor parses the response body, so it must also be the one extracting results
+		assertThat( work.request().responseBodyParser() ).isSameAs( streamingExtractorMock );
+
+		ElasticsearchResponse response = response();
+		Object result = new Object();
+		when( streamingExtractorMock.extract( response.body(), null ) ).thenReturn( result );
+		assertThat( work.generateResult( contextMock, response ) ).isSameAs( result );
+	}
+
+	@Test
+	void scroll_streaming() {
+		when( extractorMock.createStreamingExtractor() ).thenReturn( streamingExtractorMock );
+		ScrollWork<Object> work = new ScrollWork.Builder<>( "someScrollId", "1m", extractorMock ).build();
+
+		assertThat( work.request().responseBodyParser() ).isSameAs( streamingExtractorMock );
+
+		ElasticsearchResponse response = response();
+		Object result = new Object();
+		when( streamingExtractorMock.extract( response.body(), null ) ).thenReturn( result );
+		assertThat( work.generateResult( contextMock, response ) ).isSameAs( result );
+	}
+
+	private static ElasticsearchResponse response() {
+		return new ElasticsearchResponse( "mockHost:9200", 200, "OK", new JsonObject() );
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.common.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class UpdateWorkTest {
+
+	private final Gson gson = new Gson();
+
+	@Mock
+	private ElasticsearchClient clientMock;
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	private ElasticsearchWorkExecutionContext contextMock;
+
+	@BeforeEach
+	void setup() {
+		when( contextMock.getClient() ).thenReturn( clientMock );
+	}
+
+	@Test
+	void bulkItem() {
+		JsonObject partialDocument = new JsonObject();
+		partialDocument.addProperty( "string", "text2" );
+		partialDocument.add( "integer", JsonNull.INSTANCE );
+		UpdateWork work = UpdateWork.Builder.create( "SomeEntity", 1, URLEncodedString.fromString( "index-write" ),
+				"1", "someRoutingKey", partialDocument )
+				.build();
+
+		ElasticsearchRequest request = executeInBulk( work );
+
+		assertThat( request.method() ).isEqualTo( "POST" );
+		assertThat( request.path() ).isEqualTo( "/_bulk" );
+		assertThat( request.bodyParts() ).containsExactly(
+				gson.fromJson( "{'update':{'_index':'index-write','_id':'1','routing':'someRoutingKey'}}",
+						JsonObject.class ),
+				// Null values are sent explicitly, to clear the previous value
+				gson.fromJson( "{'doc':{'string':'text2','integer':null}}", JsonObject.class )
+		);
+	}
+
+	@Test
+	void bulkItem_noRouting() {
+		JsonObject partialDocument = new JsonObject();
+		partialDocument.addProperty( "string", "text2" );
+		UpdateWork work = UpdateWork.Builder.create( "SomeEntity", 1, URLEncodedString.fromString( "index-write" ),
+				"1", null, partialDocument )
+				.build();
+
+		ElasticsearchRequest request = executeInBulk( work );
+
+		assertThat( request.bodyParts() ).containsExactly(
+				gson.fromJson( "{'update':{'_index':'index-write','_id':'1'}}", JsonObject.class ),
+				gson.fromJson( "{'doc':{'string':'text2'}}", JsonObject.class )
+		);
+	}
+
+	@Test
+	void handleBulkResult() {
+		UpdateWork work = UpdateWork.Builder.create( "SomeEntity", 1, URLEncodedString.fromString( "index-write" ),
+				"1", null, new JsonObject() )
+				.build();
+
+		assertThat( work.handleBulkResult( contextMock,
+				gson.fromJson( "{'update':{'_id':'1','status':200,'result':'updated'}}", JsonObject.class ) ) )
+				.isNull();
+
+		// Partial updates fail if the document does not exist in the index yet
+		assertThatThrownBy( () -> work.handleBulkResult( contextMock,
+				gson.fromJson( "{'update':{'_id':'1','status':404,"
+						+ "'error':{'type':'document_missing_exception'}}}", JsonObject.class ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "update", "document_missing_exception" );
+	}
+
+	private ElasticsearchRequest executeInBulk(UpdateWork work) {
+		BulkWork bulkWork = new BulkWork.Builder( List.of( work ) ).build();
+
+		ArgumentCaptor<ElasticsearchRequest> requestCaptor = ArgumentCaptor.forClass( ElasticsearchRequest.class );
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		when( clientMock.submit( requestCaptor.capture() ) ).thenReturn( futureFromClient );
+		CompletableFuture<BulkResult> returnedFuture = bulkWork.execute( contextMock );
+
+		JsonObject responseBody = new JsonObject();
+		JsonArray items = new JsonArray();
+		responseBody.add( "items", items );
+		items.add( new JsonObject() );
+		futureFromClient.complete( new ElasticsearchResponse( "mockHost:9200", 200, "OK", responseBody ) );
+		assertThatFuture( returnedFuture ).isSuccessful();
+
+		return requestCaptor.getValue();
+	}
+
+}
@@ -0,0 +1,229 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReaderBoundLruCache;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+
+/**
+ * A cache for the results of search queries, shared by all indexes of a backend:
+ * top docs, total hit count and aggregation results.
+ * <p>
+ * Entries are bound to the index readers they were computed from:
+ * they can only be retrieved by queries targeting the very same readers,
+ * and they are evicted as soon as one of these readers is closed,
+ * e.g. after a refresh made recent changes visible to searches.
+ * When the cache is full, the least recently used entries are evicted first.
+ */
+public final class LuceneQueryResultCache {
+
+	private final MetricsRecorder metricsRecorder;
+
+	private final ReaderBoundLruCache<Key, Entry> entries;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+
+	public LuceneQueryResultCache(int maxEntries, MetricsRecorder metricsRecorder) {
+		this.metricsRecorder = metricsRecorder;
+		this.entries = new ReaderBoundLruCache<>( maxEntries );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxEntries=" + entries.maxEntries()
+				+ ", hitCount=" + hitCount
+				+ ", missCount=" + missCount
+				+ "]";
+	}
+
+	/**
+	 * @param reader The index reader the query is executed against.
+	 * @param rewrittenQuery The rewritten Lucene query.
+	 * @param sort The Lucene sort, or {@code null}.
+	 * @param offset The offset of the first collected hit.
+	 * @param maxDocs The maximum number of collected hits.
+	 * @param totalHitCountThreshold The threshold of the total hit count.
+	 * @param requireScore Whether collected hits must have a score.
+	 * @param aggregations The aggregations requested by the query, by key.
+	 * Aggregations are compared using {@link Object#equals(Object)}, i.e. usually by identity.
+	 * @return A key for the results of the query, or {@code null} if these results cannot be cached.
+	 */
+	public Key createKeyOrNull(IndexReader reader, Query rewrittenQuery, Sort sort, int offset, int maxDocs,
+			int totalHitCountThreshold, boolean requireScore, Map<AggregationKey<?>, ?> aggregations) {
+		List<IndexReader.CacheHelper> cacheHelpers = cacheHelpersOrNull( reader );
+		if ( cacheHelpers == null ) {
+			return null;
+		}
+		return new Key( cacheHelpers, rewrittenQuery, sort, offset, maxDocs, totalHitCountThreshold, requireScore,
+				aggregations );
+	}
+
+	/**
+	 * @param key The key of the query results.
+	 * @param indexNames The names of the indexes targeted by the query, for statistics.
+	 * @return The cached entry, or {@code null} if there is none.
+	 */
+	public Entry get(Key key, Set<String> indexNames) {
+		Entry entry = entries.get( key );
+		boolean hit = entry != null;
+		( hit ? hitCount : missCount ).increment();
+		metricsRecorder.queryResultCacheAccessed( indexNames, hit );
+		return entry;
+	}
+
+	public void put(Key key, SearchResultTotal resultTotal, TopDocs topDocs, Map<AggregationKey<?>, ?> aggregations) {
+		// Readers are still open at this point, since the query that produced the entry holds a reference to them.
+		entries.putIfAbsent( key, new Entry( resultTotal, copy( topDocs ), aggregations ), key.cacheHelpers );
+	}
+
+	public long hitCount() {
+		return hitCount.sum();
+	}
+
+	public long missCount() {
+		return missCount.sum();
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private static List<IndexReader.CacheHelper> cacheHelpersOrNull(IndexReader reader) {
+		List<IndexReaderContext> children = reader.getContext().children();
+		if ( children == null ) {
+			// Leaf reader
+			IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+			return cacheHelper == null ? null : Collections.singletonList( cacheHelper );
+		}
+		// Composite reader, e.g. a multi-reader over one directory reader per targeted index/shard:
+		// the multi-reader itself is created for each query, but directory readers are shared until refreshed.
+		List<IndexReader.CacheHelper> cacheHelpers = new ArrayList<>( children.size() );
+		for ( IndexReaderContext child : children ) {
+			IndexReader.CacheHelper cacheHelper = child.reader().getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				return null;
+			}
+			cacheHelpers.add( cacheHelper );
+		}
+		return cacheHelpers;
+	}
+
+	private static TopDocs copy(TopDocs topDocs) {
+		// Callers may alter the top docs (e.g. their total hits), so we never share them.
+		if ( topDocs == null ) {
+			return null;
+		}
+		else if ( topDocs instanceof TopFieldDocs ) {
+			return new TopFieldDocs( topDocs.totalHits, topDocs.scoreDocs.clone(), ( (TopFieldDocs) topDocs ).fields );
+		}
+		else {
+			return new TopDocs( topDocs.totalHits, topDocs.scoreDocs.clone() );
+		}
+	}
+
+	public static final class Key {
+		private final List<IndexReader.CacheKey> readerKeys;
+		private final Query rewrittenQuery;
+		private final Sort sort;
+		private final int offset;
+		private final int maxDocs;
+		private final int totalHitCountThreshold;
+		private final boolean requireScore;
+		private final Map<AggregationKey<?>, ?> aggregations;
+		private final int hashCode;
+
+		// Only used to register listeners when the key is added to the cache; not part of equals/hashCode.
+		private final List<IndexReader.CacheHelper> cacheHelpers;
+
+		private Key(List<IndexReader.CacheHelper> cacheHelpers, Query rewrittenQuery, Sort sort, int offset, int maxDocs,
+				int totalHitCountThreshold, boolean requireScore, Map<AggregationKey<?>, ?> aggregations) {
+			this.readerKeys = new ArrayList<>( cacheHelpers.size() );
+			for ( IndexReader.CacheHelper cacheHelper : cacheHelpers ) {
+				readerKeys.add( cacheHelper.getKey() );
+			}
+			this.rewrittenQuery = rewrittenQuery;
+			this.sort = sort;
+			this.offset = offset;
+			this.maxDocs = maxDocs;
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			this.requireScore = requireScore;
+			this.aggregations = aggregations;
+			this.cacheHelpers = cacheHelpers;
+			this.hashCode = Objects.hash( readerKeys, rewrittenQuery, sort, offset, maxDocs, totalHitCountThreshold,
+					requireScore, aggregations );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || getClass() != obj.getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return hashCode == other.hashCode
+					&& offset == other.offset
+					&& maxDocs == other.maxDocs
+					&& totalHitCountThreshold == other.totalHitCountThreshold
+					&& requireScore == other.requireScore
+					&& readerKeys.equals( other.readerKeys )
+					&& rewrittenQuery.equals( other.rewrittenQuery )
+					&& Objects.equals( sort, other.sort )
+					&& aggregations.equals( other.aggregations );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+
+	public static final class Entry {
+		private final SearchResultTotal resultTotal;
+		private final TopDocs topDocs;
+		private final Map<AggregationKey<?>, ?> aggregations;
+
+		private Entry(SearchResultTotal resultTotal, TopDocs topDocs, Map<AggregationKey<?>, ?> aggregations) {
+			this.resultTotal = resultTotal;
+			this.topDocs = topDocs;
+			// Every cache hit returns the same map: make sure callers cannot alter it.
+			this.aggregations = Collections.unmodifiableMap( new LinkedHashMap<>( aggregations ) );
+		}
+
+		public SearchResultTotal resultTotal() {
+			return resultTotal;
+		}
+
+		public TopDocs topDocs() {
+			return copy( topDocs );
+		}
+
+		public Map<AggregationKey<?>, ?> aggregations() {
+			return aggregations;
+		}
+	}
+
+}
@@ -44,6 +44,7 @@ public class LuceneIndexRootBuilder extends AbstractLuceneIndexCompositeNodeBuil
 	private final BackendMapperContext backendMapperContext;
 	private final String mappedTypeName;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
+	private final boolean docValuesUpdates;
 
 	private DslConverter<?, String> idDslConverter;
 	private DslConverter<?, String> idParser;
@@ -51,12 +52,13 @@ public class LuceneIndexRootBuilder extends AbstractLuceneIndexCompositeNodeBuil
 
 	public LuceneIndexRootBuilder(EventContext indexEventContext,
 			BackendMapperContext backendMapperContext, String mappedTypeName,
-			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry) {
+			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry, boolean docValuesUpdates) {
 		super( new LuceneIndexCompositeNodeType.Builder( ObjectStructure.FLATTENED ) );
 		this.indexEventContext = indexEventContext;
 		this.backendMapperContext = backendMapperContext;
 		this.mappedTypeName = mappedTypeName;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
+		this.docValuesUpdates = docValuesUpdates;
 
 		this.typeBuilder.queryElementFactory( AggregationTypeKeys.COUNT_DOCUMENTS, LuceneCountDocumentAggregation.factory() );
 	}
@@ -139,7 +141,7 @@ public void collect(LuceneIndexValueFieldTemplate template) {
 		contributeChildren( rootNode, collector, staticChildrenByName );
 
 		return new LuceneIndexModel( analysisDefinitionRegistry, indexName, mappedTypeName, identifier,
-				rootNode, staticFields, fieldTemplates, hasNestedDocument[0] );
+				rootNode, staticFields, fieldTemplates, hasNestedDocument[0], docValuesUpdates );
 	}
 
 	@Override
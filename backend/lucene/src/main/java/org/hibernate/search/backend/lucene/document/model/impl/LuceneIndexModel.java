@@ -9,6 +9,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.codec.impl.HibernateSearchLuceneCodec;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.engine.backend.analysis.spi.AnalysisDescriptorRegistry;
 import org.hibernate.search.engine.backend.document.model.spi.AbstractIndexModel;
 import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
@@ -23,6 +24,7 @@ public class LuceneIndexModel extends AbstractIndexModel<LuceneIndexModel, Lucen
 		implements AutoCloseable, IndexDescriptor {
 
 	private final boolean hasNestedDocuments;
+	private final boolean docValuesUpdates;
 
 	private final IndexingScopedAnalyzer indexingAnalyzer;
 	private final SearchScopedAnalyzer searchAnalyzer;
@@ -33,12 +35,13 @@ public LuceneIndexModel(AnalysisDescriptorRegistry analysisDescriptorRegistry, S
 			IndexIdentifier identifier,
 			LuceneIndexRoot rootNode, Map<String, LuceneIndexField> staticFields,
 			List<? extends AbstractLuceneIndexFieldTemplate<?>> fieldTemplates,
-			boolean hasNestedDocuments) {
+			boolean hasNestedDocuments, boolean docValuesUpdates) {
 		super( analysisDescriptorRegistry, hibernateSearchName, mappedTypeName, identifier, rootNode, staticFields,
 				fieldTemplates );
 		this.indexingAnalyzer = new IndexingScopedAnalyzer();
 		this.searchAnalyzer = new SearchScopedAnalyzer();
 		this.hasNestedDocuments = hasNestedDocuments;
+		this.docValuesUpdates = docValuesUpdates;
 		this.codec = new HibernateSearchLuceneCodec( this );
 	}
 
@@ -56,6 +59,20 @@ public boolean hasNestedDocuments() {
 		return hasNestedDocuments;
 	}
 
+	/**
+	 * @param field A value field of this index.
+	 * @return {@code true} if values of this field are indexed so that they can be updated in place,
+	 * without reindexing the whole document.
+	 */
+	public boolean isDocValuesUpdatable(LuceneIndexValueField<?> field) {
+		// Nested documents share the identifier of their root document,
+		// so updates by identifier would affect nested documents too.
+		return docValuesUpdates && !hasNestedDocuments
+				&& field.parent().isRoot() && !field.multiValued() && !field.dynamic()
+				&& field.type().codec() instanceof AbstractLuceneNumericFieldCodec
+				&& ( (AbstractLuceneNumericFieldCodec<?, ?>) field.type().codec() ).isDocValuesOnly();
+	}
+
 	public Analyzer getIndexingAnalyzer() {
 		return indexingAnalyzer;
 	}
@@ -17,9 +17,11 @@
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurationContext;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurer;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.logging.impl.AnalysisLog;
 import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
@@ -67,6 +69,30 @@ public class LuceneBackendFactory implements BackendFactory {
 							.multivalued()
 							.build();
 
+	private static final ConfigurationProperty<Integer> QUERY_CONCURRENCY_SLICE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CONCURRENCY_SLICE_MAX_DOCS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CONCURRENCY_SLICE_MAX_DOCS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_RESULT_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_RESULT_CACHE_MAX_ENTRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES )
+					.asIntegerPositiveOrZero()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -87,6 +113,13 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 
 			configureQueryCache( buildContext, propertySource, cachingContext );
 
+			int queryResultCacheMaxEntries = QUERY_RESULT_CACHE_MAX_ENTRIES.get( propertySource );
+			LuceneQueryResultCache queryResultCache = queryResultCacheMaxEntries > 0
+					? new LuceneQueryResultCache( queryResultCacheMaxEntries, buildContext.metricsRecorder() )
+					: null;
+			GlobalOrdinalsCache globalOrdinalsCache =
+					new GlobalOrdinalsCache( QUERY_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES.get( propertySource ) );
+
 			return new LuceneBackendImpl(
 					buildContext.backendName(),
 					eventContext,
@@ -94,9 +127,14 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					new LuceneWorkFactory( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					cachingContext,
+					queryResultCache,
+					globalOrdinalsCache,
+					QUERY_CONCURRENCY_SLICE_MAX_DOCS.get( propertySource ),
+					QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS.get( propertySource ),
 					multiTenancyStrategy,
 					buildContext.timingSource(),
-					buildContext.failureHandler()
+					buildContext.failureHandler(),
+					buildContext.metricsRecorder()
 			);
 		}
 		catch (RuntimeException e) {
@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalHeapDirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.ReplicatedFileSystemDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.resources.impl.DefaultLuceneWorkExecutorProvider;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
@@ -34,6 +35,10 @@ public void configure(BeanConfigurationContext context) {
 				DirectoryProvider.class, LocalHeapDirectoryProvider.NAME,
 				beanResolver -> BeanHolder.of( new LocalHeapDirectoryProvider() )
 		);
+		context.define(
+				DirectoryProvider.class, ReplicatedFileSystemDirectoryProvider.NAME,
+				beanResolver -> BeanHolder.of( new ReplicatedFileSystemDirectoryProvider() )
+		);
 		context.define(
 				ShardingStrategy.class, NoShardingStrategy.NAME,
 				beanResolver -> BeanHolder.of( new NoShardingStrategy() )
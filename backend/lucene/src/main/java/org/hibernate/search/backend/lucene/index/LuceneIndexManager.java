@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.index;
 
+import java.nio.file.Path;
 import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
@@ -49,4 +50,39 @@ public interface LuceneIndexManager extends IndexManager {
 	@Incubating
 	CompletionStage<Long> computeSizeInBytesAsync(OperationSubmitter operationSubmitter);
 
+	/**
+	 * Copies the last commit of this index to a directory on the filesystem,
+	 * without blocking indexing or searching.
+	 * <p>
+	 * Changes that have not been committed yet are committed first.
+	 * Files are hard-linked when possible, and files already present in the target directory,
+	 * e.g. from a previous snapshot, are not copied again.
+	 * <p>
+	 * The files of the index are stored in directory {@code <target>/<index-name>},
+	 * or {@code <target>/<index-name>/<shard-id>} if sharding is enabled,
+	 * so that the index can be restored on startup by setting
+	 * {@link org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#DIRECTORY_RESTORE_FROM} to {@code target}.
+	 *
+	 * @param target The root directory to copy the index to.
+	 */
+	@Incubating
+	void snapshot(Path target);
+
+	/**
+	 * @param target The root directory to copy the index to.
+	 * @return A future that will complete when the snapshot is complete.
+	 * @see #snapshot(Path)
+	 */
+	@Incubating
+	CompletionStage<?> snapshotAsync(Path target);
+
+	/**
+	 * @param target The root directory to copy the index to.
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future that will complete when the snapshot is complete.
+	 * @see #snapshot(Path)
+	 */
+	@Incubating
+	CompletionStage<?> snapshotAsync(Path target, OperationSubmitter operationSubmitter);
+
 }
@@ -8,9 +8,11 @@
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
@@ -48,6 +50,8 @@
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -72,7 +76,10 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final TimingSource timingSource;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
 	private final LuceneSyncWorkOrchestrator readOrchestrator;
+	private final LuceneQueryResultCache queryResultCacheOrNull;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
 
 	public IndexManagerBackendContext(LuceneBackend backendAPI,
 			EventContext eventContext,
@@ -83,7 +90,10 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 			TimingSource timingSource,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			FailureHandler failureHandler,
-			LuceneSyncWorkOrchestrator readOrchestrator) {
+			MetricsRecorder metricsRecorder,
+			LuceneSyncWorkOrchestrator readOrchestrator,
+			LuceneQueryResultCache queryResultCacheOrNull,
+			GlobalOrdinalsCache globalOrdinalsCache) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -93,7 +103,10 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.workFactory = workFactory;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
 		this.readOrchestrator = readOrchestrator;
+		this.queryResultCacheOrNull = queryResultCacheOrNull;
+		this.globalOrdinalsCache = globalOrdinalsCache;
 	}
 
 	@Override
@@ -145,7 +158,7 @@ public IndexWorkspace createWorkspace(WorkExecutionIndexManagerContext indexMana
 	public <SR> LuceneSearchQueryIndexScope<SR, ?> createSearchContext(BackendMappingContext mappingContext,
 			Class<SR> scopeRootType, Set<? extends LuceneScopeIndexManagerContext> indexManagerContexts) {
 		return new LuceneSearchIndexScopeImpl<>( mappingContext, scopeRootType, this, analysisDefinitionRegistry,
-				multiTenancyStrategy, timingSource, indexManagerContexts );
+				globalOrdinalsCache, multiTenancyStrategy, timingSource, indexManagerContexts );
 	}
 
 	@Override
@@ -162,7 +175,9 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 				scope,
 				sessionContext,
 				loadingContextBuilder,
-				rootProjection
+				rootProjection,
+				metricsRecorder,
+				queryResultCacheOrNull
 		);
 	}
 
@@ -174,6 +189,14 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
+	ThreadPoolProvider getThreadPoolProvider() {
+		return threads.getThreadPoolProvider();
+	}
+
+	MetricsRecorder getMetricsRecorder() {
+		return metricsRecorder;
+	}
+
 	LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 		return new LuceneIndexEntryFactory( model, multiTenancyStrategy );
 	}
@@ -181,10 +204,11 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( threads, failureHandler );
+				return DebugIOStrategy.create( threads, failureHandler, metricsRecorder );
 			case NEAR_REAL_TIME:
 			default:
-				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler );
+				return NearRealTimeIOStrategy.create( propertySource, timingSource, threads, failureHandler,
+						metricsRecorder );
 		}
 	}
 
@@ -222,7 +246,8 @@ LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext eventCo
 						eventContext, indexAccessor
 				),
 				threads,
-				failureHandler
+				failureHandler,
+				metricsRecorder
 		);
 	}
 }
@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.index.impl;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -237,6 +238,21 @@ public CompletableFuture<Long> computeSizeInBytesAsync(OperationSubmitter operat
 		return schemaManager.computeSizeInBytes( operationSubmitter );
 	}
 
+	@Override
+	public void snapshot(Path target) {
+		Futures.unwrappedExceptionJoin( snapshotAsync( target ) );
+	}
+
+	@Override
+	public CompletableFuture<?> snapshotAsync(Path target) {
+		return snapshotAsync( target, OperationSubmitter.rejecting() );
+	}
+
+	@Override
+	public CompletableFuture<?> snapshotAsync(Path target, OperationSubmitter operationSubmitter) {
+		return schemaManager.snapshot( target, operationSubmitter );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
@@ -84,7 +84,8 @@ void preStart(ConfigurationPropertySource propertySource, BeanResolver beanResol
 					EventContext indexAndShardEventContext = EventContexts.fromIndexNameAndShardId( indexName, shardId );
 					DirectoryCreationContext context = new DirectoryCreationContextImpl( indexAndShardEventContext,
 							indexName, shardId, beanResolver,
-							propertySource.withMask( "directory" ) );
+							propertySource.withMask( "directory" ), backendContext.getThreadPoolProvider(),
+							backendContext.getMetricsRecorder() );
 					directoryHolder = directoryProviderHolder.get().createDirectoryHolder( context );
 				}
 				directoryHolder.start();
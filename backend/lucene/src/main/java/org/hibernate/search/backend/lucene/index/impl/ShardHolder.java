@@ -45,6 +45,7 @@
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	private final Map<String, LuceneParallelWorkOrchestrator> managementOrchestratorsByShardId = new LinkedHashMap<>();
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -105,6 +106,7 @@ void start(IndexManagerStartContext startContext) {
 			try {
 				shard.start( shardPropertySource );
 				managementOrchestrators.add( shard.managementOrchestrator() );
+				managementOrchestratorsByShardId.put( shardId, shard.managementOrchestrator() );
 			}
 			catch (RuntimeException e) {
 				startContext.failureCollector()
@@ -129,6 +131,7 @@ void stop() {
 			closer.pushAll( Shard::stop, shards.values() );
 			shards.clear();
 			managementOrchestrators.clear();
+			managementOrchestratorsByShardId.clear();
 		}
 	}
 
@@ -166,6 +169,11 @@ public List<LuceneParallelWorkOrchestrator> allManagementOrchestrators() {
 		return managementOrchestrators;
 	}
 
+	@Override
+	public Map<String, LuceneParallelWorkOrchestrator> managementOrchestratorsByShardId() {
+		return managementOrchestratorsByShardId;
+	}
+
 	@Override
 	public Optional<String> backendName() {
 		return backendContext.toAPI().name();
@@ -186,4 +186,83 @@ SearchException uncommittedOperationsBecauseOfFailure(String causeMessage,
 	@LogMessage(level = DEBUG)
 	@Message(id = ID_OFFSET + 193, value = "Set index writer parameter %s to value : %s. %s")
 	void indexWriterSetParameter(String settingName, Object value, String context);
+
+	@Message(id = ID_OFFSET + 197,
+			value = "Unable to start rebuilding the index: %1$s")
+	SearchException unableToStartRebuild(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 198,
+			value = "Unable to finish rebuilding the index: %1$s")
+	SearchException unableToFinishRebuild(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 199,
+			value = "Unable to abort rebuilding the index: %1$s")
+	SearchException unableToAbortRebuild(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 200,
+			value = "Unable to tune the index for bulk loading: %1$s")
+	SearchException unableToStartBulkLoading(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 201,
+			value = "Unable to revert the index tuning for bulk loading: %1$s")
+	SearchException unableToStopBulkLoading(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 202,
+			value = "Unable to write to the index: this node holds a read-only replica of the index."
+					+ " Index writes must be performed on the node whose replication role is 'primary'.")
+	SearchException cannotWriteToIndexReplica(@Param EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 203,
+			value = "Unable to publish the index commit for replicas: %1$s"
+					+ " Publication will be attempted again on the next commit.")
+	void unableToPublishIndexCommit(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 204,
+			value = "Unable to replicate the last published index commit: %1$s"
+					+ " Replication will be attempted again later.")
+	void unableToReplicateIndexCommit(String causeMessage, @Param EventContext context, @Cause Exception cause);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 205, value = "Published index commit '%1$s' for replicas, copied %2$d files.")
+	void publishedIndexCommit(String segmentsFileName, int copiedFileCount, @Param EventContext context);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 206, value = "Replicated index commit '%1$s', copied %2$d files.")
+	void replicatedIndexCommit(String segmentsFileName, int copiedFileCount, @Param EventContext context);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 209, value = "NRT cache statistics: %1$d index files opened from the cache,"
+			+ " %2$d index files opened from the filesystem.")
+	void nrtCacheStatistics(long hitCount, long missCount, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 210,
+			value = "Unable to create a snapshot of the index in '%1$s': %2$s")
+	SearchException unableToSnapshotIndex(Path target, String causeMessage, @Param EventContext context,
+			@Cause Exception cause);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 211, value = "Created a snapshot of index commit '%1$s' in '%2$s', copied %3$d files.")
+	void createdIndexSnapshot(String segmentsFileName, Path target, int copiedFileCount, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 212,
+			value = "Unable to restore the index from '%1$s': this directory does not contain any index snapshot.")
+	SearchException missingIndexSnapshot(Path snapshotPath, @Param EventContext context);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET + 213, value = "Restored the index from snapshot '%1$s'.")
+	void restoredIndexFromSnapshot(Path snapshotPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 214,
+			value = "The index writer was closed while the index was being rebuilt,"
+					+ " which discarded the documents indexed since the rebuild started."
+					+ " The rebuild must be aborted.")
+	SearchException indexWriterLostDuringRebuild(@Param EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 215,
+			value = "Snapshot root '%1$s' does not contain any snapshot of this index in '%2$s'."
+					+ " Starting with an empty index.")
+	void missingIndexSnapshotStartingEmpty(Path restoreRoot, Path snapshotPath, @Param EventContext context);
 }
@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
 
 import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongIntHashMap;
 import com.carrotsearch.hppc.LongObjectHashMap;
 import com.carrotsearch.hppc.cursors.LongObjectCursor;
 
@@ -29,14 +30,20 @@ public class NumericTermsCollector extends SimpleCollector implements BaseTermsC
 	private final CollectorKey<?, ?>[] keys;
 	private final CollectorManager<Collector, ?>[] managers;
 
+	// Fast path when only document counts are needed: plain counts, no per-term objects.
+	private final boolean countsOnly;
+	private final LongIntHashMap counts;
+
 	private LongMultiValues values;
 	private LeafReaderContext leafReaderContext;
 
 	public NumericTermsCollector(LongMultiValuesSource valuesSource, CollectorKey<?, ?>[] keys,
-			CollectorManager<Collector, ?>[] managers) {
+			CollectorManager<Collector, ?>[] managers, boolean countsOnly) {
 		this.valuesSource = valuesSource;
 		this.keys = keys;
 		this.managers = managers;
+		this.countsOnly = countsOnly;
+		this.counts = countsOnly ? new LongIntHashMap() : null;
 	}
 
 	@Override
@@ -49,6 +56,10 @@ public void collect(int doc) throws IOException {
 				// Each document must be counted only once per range.
 				long value = values.nextValue();
 				if ( uniqueLeafIndicesForDocument.add( value ) ) {
+					if ( countsOnly ) {
+						counts.addTo( value, 1 );
+						continue;
+					}
 					TermCollectorSegmentValue segmentValue = segmentValues.get( value );
 					if ( segmentValue == null ) {
 						segmentValue = new TermCollectorSegmentValue( managers, leafReaderContext );
@@ -93,4 +104,8 @@ LongObjectHashMap<TermCollectorSegmentValue> segmentValues() {
 		return segmentValues;
 	}
 
+	LongIntHashMap counts() {
+		return counts;
+	}
+
 }
@@ -16,8 +16,8 @@
 import com.carrotsearch.hppc.IntObjectMap;
 
 import org.apache.lucene.document.Document;
-import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Weight;
@@ -59,7 +59,8 @@ public StoredFieldsValuesDelegate create(CollectorExecutionContext context) thro
 	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
 
 	private ChildDocIds currentLeafChildDocs;
-	private LeafReader currentLeafReader;
+	// Retrieving stored fields may allocate or involve a thread-local lookup: do it once per leaf.
+	private StoredFields currentLeafStoredFields;
 
 	private int currentRootDoc;
 	private Document currentRootDocValue;
@@ -83,7 +84,7 @@ public String toString() {
 	}
 
 	void context(LeafReaderContext context) throws IOException {
-		this.currentLeafReader = context.reader();
+		this.currentLeafStoredFields = context.reader().storedFields();
 		this.currentLeafChildDocs = nestedDocsProvider == null
 				? null
 				: nestedDocsProvider.childDocs( childrenWeight, context, null );
@@ -102,13 +103,13 @@ void collect(int parentDoc) throws IOException {
 		if ( currentLeafChildDocs != null && currentLeafChildDocs.advanceExactParent( parentDoc ) ) {
 			for ( int childDoc = currentLeafChildDocs.nextChild(); childDoc != DocIdSetIterator.NO_MORE_DOCS;
 					childDoc = currentLeafChildDocs.nextChild() ) {
-				currentLeafReader.storedFields().document( childDoc, storedFieldVisitor );
+				currentLeafStoredFields.document( childDoc, storedFieldVisitor );
 				currentChildDocValues.put( childDoc, storedFieldVisitor.getDocumentAndReset() );
 			}
 		}
 
 		// collect root document
-		currentLeafReader.storedFields().document( parentDoc, storedFieldVisitor );
+		currentLeafStoredFields.document( parentDoc, storedFieldVisitor );
 		this.currentRootDocValue = storedFieldVisitor.getDocumentAndReset();
 	}
 
@@ -8,9 +8,11 @@
 import java.util.LinkedList;
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.lowlevel.aggregation.collector.impl.CountDocuemntsCollectorFactory;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.BucketOrder;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LongBucket;
 
+import com.carrotsearch.hppc.LongIntHashMap;
 import com.carrotsearch.hppc.LongObjectHashMap;
 import com.carrotsearch.hppc.procedures.LongObjectProcedure;
 
@@ -21,16 +23,32 @@
 public class TermResults {
 
 	@SuppressWarnings("unchecked")
-	static final TermResults EMPTY = new TermResults( new CollectorKey[0], new CollectorManager[0] );
+	static final TermResults EMPTY = new TermResults( new CollectorKey[0], new CollectorManager[0], false );
+
+	@SuppressWarnings("unchecked")
+	private static final List<Collector>[] NO_COLLECTORS = new List[0];
 
 	private final CollectorKey<?, ?>[] collectorKeys;
 	private final CollectorManager<Collector, ?>[] managers;
+	private final boolean countsOnly;
 
 	private final LongObjectHashMap<LongBucket> buckets = new LongObjectHashMap<>();
 
-	TermResults(CollectorKey<?, ?>[] collectorKeys, CollectorManager<Collector, ?>[] managers) {
+	TermResults(CollectorKey<?, ?>[] collectorKeys, CollectorManager<Collector, ?>[] managers, boolean countsOnly) {
 		this.collectorKeys = collectorKeys;
 		this.managers = managers;
+		this.countsOnly = countsOnly;
+	}
+
+	/**
+	 * @param collectorFactories The factories of collectors to execute for each term.
+	 * @return {@code true} if the only thing to collect for each term is the document count,
+	 * i.e. the bucket count, in which case terms collectors can count documents directly
+	 * instead of creating collectors for each term.
+	 */
+	static boolean isCountsOnly(List<CollectorFactory<?, ?, ?>> collectorFactories) {
+		return collectorFactories.size() == 1
+				&& collectorFactories.get( 0 ) instanceof CountDocuemntsCollectorFactory;
 	}
 
 	public List<LongBucket> counts(BucketOrder order, int topN, int minDocCount) {
@@ -65,6 +83,19 @@ void add(LongObjectHashMap<TermCollectorSegmentValue> segmentValues) {
 		}
 	}
 
+	void addCounts(LongIntHashMap counts) {
+		for ( var count : counts ) {
+			LongBucket bucket = buckets.get( count.key );
+			if ( bucket == null ) {
+				bucket = new LongBucket( count.key, NO_COLLECTORS, count.value );
+				buckets.put( count.key, bucket );
+			}
+			else {
+				bucket.count += count.value;
+			}
+		}
+	}
+
 	public void merge(LongObjectHashMap<LongBucket> values) {
 		for ( var toadd : values ) {
 			LongBucket bucket = buckets.get( toadd.key );
@@ -86,6 +117,14 @@ public void merge(LongObjectHashMap<LongBucket> values) {
 		return managers;
 	}
 
+	/**
+	 * @return {@code true} if buckets do not hold any collector,
+	 * because the only collector key is that of a document count, equal to the bucket count.
+	 */
+	public boolean countsOnly() {
+		return countsOnly;
+	}
+
 	private static class HibernateSearchBucketOrderQueue extends PriorityQueue<LongBucket> {
 		private final Comparator<LongBucket> comparator;
 
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+
+/**
+ * Copies the files of an index commit from one directory to another, similarly to Lucene's replicator module.
+ * <p>
+ * Files already present in the target directory are only copied again if their length or checksum differ,
+ * which can only happen if the index was dropped and re-created, or if a previous copy was interrupted.
+ * The segments file is copied last, under a temporary name that is then atomically renamed,
+ * so that readers of the target directory never see an incomplete commit.
+ * <p>
+ * Files can optionally be hard-linked instead of copied,
+ * which is safe since Lucene never modifies a file once it has been written.
+ */
+public final class IndexCommitCopier {
+
+	private IndexCommitCopier() {
+	}
+
+	/**
+	 * @param source The directory to copy the commit from.
+	 * @param target The directory to copy the commit to.
+	 * @param segmentsFileName The name of the segments file of the commit.
+	 * @param fileNames The names of the files of the commit, with or without the segments file.
+	 * @return The number of files that were actually copied.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	static int copyCommit(Directory source, Directory target, String segmentsFileName, Collection<String> fileNames)
+			throws IOException {
+		return copyCommit( source, target, segmentsFileName, fileNames, false );
+	}
+
+	/**
+	 * @param source The directory to copy the commit from.
+	 * @param target The directory to copy the commit to.
+	 * @param segmentsFileName The name of the segments file of the commit.
+	 * @param fileNames The names of the files of the commit, with or without the segments file.
+	 * @param link Whether to hard-link files instead of copying them, when both directories are on the filesystem.
+	 * Files are copied if hard-linking fails, e.g. because the directories are on different filesystems.
+	 * @return The number of files that were actually copied.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public static int copyCommit(Directory source, Directory target, String segmentsFileName,
+			Collection<String> fileNames, boolean link)
+			throws IOException {
+		Set<String> targetFileNames = Set.of( target.listAll() );
+		List<String> copied = new ArrayList<>();
+		for ( String fileName : fileNames ) {
+			if ( fileName.equals( segmentsFileName ) ) {
+				continue;
+			}
+			if ( copyIfDifferent( source, target, targetFileNames, fileName, fileName, link ) ) {
+				copied.add( fileName );
+			}
+		}
+		target.sync( copied );
+
+		if ( targetFileNames.contains( segmentsFileName ) && isSameFile( source, target, segmentsFileName ) ) {
+			return copied.size();
+		}
+		String pendingSegmentsFileName = "pending_" + segmentsFileName;
+		copyIfDifferent( source, target, targetFileNames, segmentsFileName, pendingSegmentsFileName, link );
+		target.sync( List.of( pendingSegmentsFileName ) );
+		if ( targetFileNames.contains( segmentsFileName ) ) {
+			target.deleteFile( segmentsFileName );
+		}
+		target.rename( pendingSegmentsFileName, segmentsFileName );
+		target.syncMetaData();
+		return copied.size() + 1;
+	}
+
+	/**
+	 * Deletes files from a directory, ignoring failures:
+	 * files that are still open may not be deletable on some platforms,
+	 * in which case deletion will be attempted again after the next copy.
+	 *
+	 * @param directory The directory to delete files from.
+	 * @param fileNamesToKeep The names of files that must not be deleted.
+	 * @throws IOException If listing the files of the directory fails.
+	 */
+	public static void deleteFilesExcept(Directory directory, Set<String> fileNamesToKeep) throws IOException {
+		for ( String fileName : directory.listAll() ) {
+			if ( fileNamesToKeep.contains( fileName ) ) {
+				continue;
+			}
+			try {
+				directory.deleteFile( fileName );
+			}
+			catch (IOException ignored) {
+				// Will be attempted again after the next copy.
+			}
+		}
+	}
+
+	static boolean isSameFile(Directory source, Directory target, String fileName) throws IOException {
+		if ( source.fileLength( fileName ) != target.fileLength( fileName ) ) {
+			return false;
+		}
+		try {
+			return checksum( source, fileName ) == checksum( target, fileName );
+		}
+		catch (CorruptIndexException e) {
+			// Most likely a file whose copy was interrupted.
+			return false;
+		}
+	}
+
+	private static boolean copyIfDifferent(Directory source, Directory target, Set<String> targetFileNames,
+			String sourceFileName, String targetFileName, boolean link)
+			throws IOException {
+		if ( targetFileNames.contains( targetFileName ) ) {
+			if ( sourceFileName.equals( targetFileName ) && isSameFile( source, target, sourceFileName ) ) {
+				return false;
+			}
+			target.deleteFile( targetFileName );
+		}
+		if ( !link || !tryLink( source, target, sourceFileName, targetFileName ) ) {
+			target.copyFrom( source, sourceFileName, targetFileName, IOContext.READONCE );
+		}
+		return true;
+	}
+
+	private static boolean tryLink(Directory source, Directory target, String sourceFileName, String targetFileName) {
+		Directory unwrappedSource = FilterDirectory.unwrap( source );
+		Directory unwrappedTarget = FilterDirectory.unwrap( target );
+		if ( !( unwrappedSource instanceof FSDirectory ) || !( unwrappedTarget instanceof FSDirectory ) ) {
+			return false;
+		}
+		try {
+			Files.createLink( ( (FSDirectory) unwrappedTarget ).getDirectory().resolve( targetFileName ),
+					( (FSDirectory) unwrappedSource ).getDirectory().resolve( sourceFileName ) );
+			return true;
+		}
+		catch (IOException | UnsupportedOperationException e) {
+			// Most likely directories on different filesystems, or a file that is only cached in memory.
+			return false;
+		}
+	}
+
+	private static long checksum(Directory directory, String fileName) throws IOException {
+		try ( IndexInput input = directory.openInput( fileName, IOContext.READONCE ) ) {
+			return CodecUtil.retrieveChecksum( input );
+		}
+	}
+}
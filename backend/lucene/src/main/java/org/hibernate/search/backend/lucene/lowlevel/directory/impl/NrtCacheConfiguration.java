@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+
+import org.apache.lucene.store.Directory;
+
+/**
+ * The configuration of the in-memory cache for small, newly flushed segments,
+ * see {@link LuceneIndexSettings#DIRECTORY_NRT_CACHE_ENABLED}.
+ */
+final class NrtCacheConfiguration {
+
+	private static final ConfigurationProperty<Boolean> NRT_CACHE_ENABLED =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHE_MAX_MERGE_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_MAX_MERGE_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> NRT_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.NRT_CACHE_MAX_SIZE )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_NRT_CACHE_MAX_SIZE )
+					.build();
+
+	/**
+	 * @param context The directory creation context.
+	 * @return The configuration of the cache, or {@code null} if the cache is disabled.
+	 */
+	static NrtCacheConfiguration createOrNull(DirectoryCreationContext context) {
+		ConfigurationPropertySource propertySource = context.configurationPropertySource();
+		if ( !NRT_CACHE_ENABLED.get( propertySource ) ) {
+			return null;
+		}
+		return new NrtCacheConfiguration( context.indexName(), NRT_CACHE_MAX_MERGE_SIZE.get( propertySource ),
+				NRT_CACHE_MAX_SIZE.get( propertySource ), context.metricsRecorder() );
+	}
+
+	private final String indexName;
+	private final int maxMergeSizeMB;
+	private final int maxCachedMB;
+	private final MetricsRecorder metricsRecorder;
+
+	NrtCacheConfiguration(String indexName, int maxMergeSizeMB, int maxCachedMB, MetricsRecorder metricsRecorder) {
+		this.indexName = indexName;
+		this.maxMergeSizeMB = maxMergeSizeMB;
+		this.maxCachedMB = maxCachedMB;
+		this.metricsRecorder = metricsRecorder;
+	}
+
+	MonitoredNRTCachingDirectory wrap(Directory directory) {
+		return new MonitoredNRTCachingDirectory( directory, maxMergeSizeMB, maxCachedMB, indexName, metricsRecorder );
+	}
+
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexDeletionPolicy;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.Lock;
+import org.apache.lucene.store.LockFactory;
+
+/**
+ * A directory holder for the primary node of a replicated index.
+ * <p>
+ * Index writers use a local directory, and each index commit is then published
+ * to a directory shared with replica nodes, in a background thread.
+ * Commits are snapshotted using a {@link SnapshotDeletionPolicy} until they are published,
+ * so that index writers do not delete their files while they are being copied.
+ * When commits happen faster than they can be published, only the last one is published.
+ * <p>
+ * The previously published commit is kept in the shared directory along with the last one,
+ * so that replicas copying the previous commit are not disrupted by the publication of the next one.
+ */
+final class PrimaryReplicatedDirectoryHolder implements DirectoryHolder {
+
+	private final DirectoryHolder localDirectoryHolder;
+	private final Path sharedDirectoryPath;
+	private final Supplier<LockFactory> lockFactorySupplier;
+	private final ThreadPoolProvider threadPoolProvider;
+	private final String threadNamePrefix;
+	private final EventContext eventContext;
+
+	private final AtomicReference<PendingCommit> pendingCommit = new AtomicReference<>();
+
+	private Directory sharedDirectory;
+	private Lock sharedDirectoryLock;
+	private ScheduledExecutorService publishingExecutor;
+	// Only accessed from the publishing thread
+	private Set<String> previouslyPublishedFileNames = Set.of();
+
+	PrimaryReplicatedDirectoryHolder(DirectoryHolder localDirectoryHolder, Path sharedDirectoryPath,
+			Supplier<LockFactory> lockFactorySupplier, ThreadPoolProvider threadPoolProvider,
+			String threadNamePrefix, EventContext eventContext) {
+		this.localDirectoryHolder = localDirectoryHolder;
+		this.sharedDirectoryPath = sharedDirectoryPath;
+		this.lockFactorySupplier = lockFactorySupplier;
+		this.threadPoolProvider = threadPoolProvider;
+		this.threadNamePrefix = threadNamePrefix;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public void start() throws IOException {
+		localDirectoryHolder.start();
+		try {
+			FileSystemUtils.initializeWriteableDirectory( sharedDirectoryPath );
+			sharedDirectory = FSDirectory.open( sharedDirectoryPath, lockFactorySupplier.get() );
+			// Fails if another primary node is publishing to the same shared directory.
+			sharedDirectoryLock = sharedDirectory.obtainLock( IndexWriter.WRITE_LOCK_NAME );
+		}
+		catch (Exception e) {
+			throw LuceneMiscLog.INSTANCE.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
+		}
+		publishingExecutor = threadPoolProvider.newScheduledExecutor( 1, threadNamePrefix );
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			// Index writers are closed at this point:
+			// let the last commit get published, so that replicas do not miss the last changes.
+			closer.push( PrimaryReplicatedDirectoryHolder::awaitPublishingTermination, this );
+			closer.push( PendingCommit::release, pendingCommit.getAndSet( null ) );
+			closer.push( Lock::close, sharedDirectoryLock );
+			closer.push( Directory::close, sharedDirectory );
+			closer.push( DirectoryHolder::close, localDirectoryHolder );
+		}
+		sharedDirectoryLock = null;
+		sharedDirectory = null;
+		publishingExecutor = null;
+	}
+
+	@Override
+	public Directory get() {
+		return localDirectoryHolder.get();
+	}
+
+	@Override
+	public IndexDeletionPolicy createIndexDeletionPolicy(IndexDeletionPolicy defaultPolicy) {
+		return new PublishingDeletionPolicy( defaultPolicy );
+	}
+
+	private void awaitPublishingTermination() throws IOException {
+		if ( publishingExecutor == null ) {
+			return;
+		}
+		publishingExecutor.shutdown();
+		try {
+			publishingExecutor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			publishingExecutor.shutdownNow();
+		}
+	}
+
+	private void schedulePublication(SnapshotDeletionPolicy policy) throws IOException {
+		PendingCommit previous = pendingCommit.getAndSet( new PendingCommit( policy, policy.snapshot() ) );
+		if ( previous != null ) {
+			// The previous commit was not published yet, and it never will be:
+			// the task scheduled for it will publish the new commit instead.
+			previous.release();
+		}
+		else {
+			publishingExecutor.execute( this::publishPendingCommit );
+		}
+	}
+
+	private void publishPendingCommit() {
+		PendingCommit pending = pendingCommit.getAndSet( null );
+		if ( pending == null ) {
+			return;
+		}
+		try {
+			publish( pending.commit );
+		}
+		catch (IOException | RuntimeException e) {
+			LuceneMiscLog.INSTANCE.unableToPublishIndexCommit( e.getMessage(), eventContext, e );
+		}
+		finally {
+			try {
+				pending.release();
+			}
+			catch (IOException | RuntimeException e) {
+				LuceneMiscLog.INSTANCE.unableToPublishIndexCommit( e.getMessage(), eventContext, e );
+			}
+		}
+	}
+
+	private void publish(IndexCommit commit) throws IOException {
+		String segmentsFileName = commit.getSegmentsFileName();
+		Collection<String> fileNames = commit.getFileNames();
+		int copiedFileCount = IndexCommitCopier.copyCommit( localDirectoryHolder.get(), sharedDirectory,
+				segmentsFileName, fileNames );
+
+		Set<String> fileNamesToKeep = new HashSet<>( fileNames );
+		fileNamesToKeep.addAll( previouslyPublishedFileNames );
+		fileNamesToKeep.add( IndexWriter.WRITE_LOCK_NAME );
+		IndexCommitCopier.deleteFilesExcept( sharedDirectory, fileNamesToKeep );
+		previouslyPublishedFileNames = Set.copyOf( fileNames );
+
+		LuceneMiscLog.INSTANCE.publishedIndexCommit( segmentsFileName, copiedFileCount, eventContext );
+	}
+
+	private final class PublishingDeletionPolicy extends SnapshotDeletionPolicy {
+
+		private PublishingDeletionPolicy(IndexDeletionPolicy primary) {
+			super( primary );
+		}
+
+		@Override
+		public synchronized void onInit(List<? extends IndexCommit> commits) throws IOException {
+			super.onInit( commits );
+			if ( !commits.isEmpty() ) {
+				// Make sure the last commit gets published, even if it was created before this node started.
+				schedulePublication( this );
+			}
+		}
+
+		@Override
+		public synchronized void onCommit(List<? extends IndexCommit> commits) throws IOException {
+			super.onCommit( commits );
+			schedulePublication( this );
+		}
+	}
+
+	private static final class PendingCommit {
+		private final SnapshotDeletionPolicy policy;
+		private final IndexCommit commit;
+
+		private PendingCommit(SnapshotDeletionPolicy policy, IndexCommit commit) {
+			this.policy = policy;
+			this.commit = commit;
+		}
+
+		void release() throws IOException {
+			policy.release( commit );
+		}
+	}
+}
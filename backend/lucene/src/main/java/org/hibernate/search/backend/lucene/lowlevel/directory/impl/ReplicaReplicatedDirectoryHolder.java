@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.Lock;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.apache.lucene.store.NoLockFactory;
+
+/**
+ * A directory holder for a replica node of a replicated index.
+ * <p>
+ * The local directory is never written to by index writers:
+ * instead, the last commit published by the primary node to the shared directory
+ * is periodically copied to the local directory, from which index readers are opened.
+ * Copies hold the write lock of the local directory,
+ * so that they never run concurrently with the initialization of an empty index.
+ */
+final class ReplicaReplicatedDirectoryHolder implements DirectoryHolder {
+
+	private final DirectoryHolder localDirectoryHolder;
+	private final Path sharedDirectoryPath;
+	private final int replicationInterval;
+	private final ThreadPoolProvider threadPoolProvider;
+	private final String threadNamePrefix;
+	private final EventContext eventContext;
+
+	private Directory sharedDirectory;
+	private ScheduledExecutorService replicationExecutor;
+
+	ReplicaReplicatedDirectoryHolder(DirectoryHolder localDirectoryHolder, Path sharedDirectoryPath,
+			int replicationInterval, ThreadPoolProvider threadPoolProvider,
+			String threadNamePrefix, EventContext eventContext) {
+		this.localDirectoryHolder = localDirectoryHolder;
+		this.sharedDirectoryPath = sharedDirectoryPath;
+		this.replicationInterval = replicationInterval;
+		this.threadPoolProvider = threadPoolProvider;
+		this.threadNamePrefix = threadNamePrefix;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public void start() throws IOException {
+		localDirectoryHolder.start();
+		// Replicas never write to the shared directory, so they don't need to lock it.
+		sharedDirectory = FSDirectory.open( sharedDirectoryPath, NoLockFactory.INSTANCE );
+		// Replicate once before starting, so that searches see the last published commit right away.
+		replicate();
+		replicationExecutor = threadPoolProvider.newScheduledExecutor( 1, threadNamePrefix );
+		replicationExecutor.scheduleWithFixedDelay( this::replicate, replicationInterval, replicationInterval,
+				TimeUnit.MILLISECONDS );
+	}
+
+	@Override
+	public void close() throws IOException {
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( ReplicaReplicatedDirectoryHolder::stopReplication, this );
+			closer.push( Directory::close, sharedDirectory );
+			closer.push( DirectoryHolder::close, localDirectoryHolder );
+		}
+		sharedDirectory = null;
+		replicationExecutor = null;
+	}
+
+	@Override
+	public Directory get() {
+		return localDirectoryHolder.get();
+	}
+
+	@Override
+	public boolean isReadOnly() {
+		return true;
+	}
+
+	private void stopReplication() throws IOException {
+		if ( replicationExecutor == null ) {
+			return;
+		}
+		// Cancels the next replications, but lets the current one finish.
+		replicationExecutor.shutdown();
+		try {
+			replicationExecutor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			// An interrupted copy leaves an incomplete file behind at worst,
+			// which will be detected and copied again on the next start.
+			replicationExecutor.shutdownNow();
+		}
+	}
+
+	private void replicate() {
+		Directory localDirectory = localDirectoryHolder.get();
+		try ( Lock ignored = localDirectory.obtainLock( IndexWriter.WRITE_LOCK_NAME ) ) {
+			String[] sharedFileNames;
+			try {
+				sharedFileNames = sharedDirectory.listAll();
+			}
+			catch (NoSuchFileException e) {
+				// The primary node never published anything yet.
+				return;
+			}
+			if ( SegmentInfos.getLastCommitGeneration( sharedFileNames ) < 0 ) {
+				// The primary node never published anything yet.
+				return;
+			}
+			String segmentsFileName = SegmentInfos.getLastCommitSegmentsFileName( sharedFileNames );
+			if ( Set.of( localDirectory.listAll() ).contains( segmentsFileName )
+					&& IndexCommitCopier.isSameFile( sharedDirectory, localDirectory, segmentsFileName ) ) {
+				// Already up-to-date.
+				return;
+			}
+
+			SegmentInfos segmentInfos = SegmentInfos.readCommit( sharedDirectory, segmentsFileName );
+			Set<String> fileNames = new HashSet<>( segmentInfos.files( true ) );
+			int copiedFileCount = IndexCommitCopier.copyCommit( sharedDirectory, localDirectory,
+					segmentsFileName, fileNames );
+
+			// Index readers opened on previous commits keep the files they need open,
+			// so deleting them is safe, at least on platforms that allow it.
+			fileNames.add( IndexWriter.WRITE_LOCK_NAME );
+			IndexCommitCopier.deleteFilesExcept( localDirectory, fileNames );
+
+			LuceneMiscLog.INSTANCE.replicatedIndexCommit( segmentsFileName, copiedFileCount, eventContext );
+		}
+		catch (LockObtainFailedException e) {
+			// The empty index is being initialized: we'll try again later.
+		}
+		catch (IOException | RuntimeException e) {
+			LuceneMiscLog.INSTANCE.unableToReplicateIndexCommit( e.getMessage(), eventContext, e );
+		}
+	}
+}
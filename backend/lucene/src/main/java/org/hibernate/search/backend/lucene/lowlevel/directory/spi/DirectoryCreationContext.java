@@ -9,6 +9,9 @@
 
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+import org.hibernate.search.util.common.annotation.Incubating;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.store.LockFactory;
@@ -45,4 +48,16 @@ public interface DirectoryCreationContext {
 
 	Optional<Supplier<LockFactory>> createConfiguredLockFactorySupplier();
 
+	/**
+	 * @return A provider of thread pools, for directories that need to perform work in the background.
+	 */
+	@Incubating
+	ThreadPoolProvider threadPoolProvider();
+
+	/**
+	 * @return A recorder of runtime metrics, for directories that collect statistics, e.g. about caching.
+	 */
+	@Incubating
+	MetricsRecorder metricsRecorder();
+
 }
@@ -7,6 +7,9 @@
 import java.io.Closeable;
 import java.io.IOException;
 
+import org.hibernate.search.util.common.annotation.Incubating;
+
+import org.apache.lucene.index.IndexDeletionPolicy;
 import org.apache.lucene.store.Directory;
 
 public interface DirectoryHolder extends Closeable {
@@ -39,4 +42,26 @@ public interface DirectoryHolder extends Closeable {
 	 */
 	Directory get();
 
+	/**
+	 * @param defaultPolicy The deletion policy that index writers would use by default.
+	 * @return The deletion policy that index writers must use for this directory.
+	 * Implementations may wrap the default policy, for example to be notified of commits
+	 * or to prevent the deletion of files while they are being copied.
+	 */
+	@Incubating
+	default IndexDeletionPolicy createIndexDeletionPolicy(IndexDeletionPolicy defaultPolicy) {
+		return defaultPolicy;
+	}
+
+	/**
+	 * @return {@code true} if the directory is a read-only copy of an index written to by another node,
+	 * in which case index writers must never be opened on it,
+	 * and index readers must be opened from the directory directly.
+	 * {@code false} otherwise.
+	 */
+	@Incubating
+	default boolean isReadOnly() {
+		return false;
+	}
+
 }
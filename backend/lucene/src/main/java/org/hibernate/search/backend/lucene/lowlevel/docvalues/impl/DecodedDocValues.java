@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+
+/**
+ * Doc values decoded to field values, e.g. to project on a field without loading stored fields.
+ *
+ * @param <T> The type of decoded values.
+ */
+public abstract class DecodedDocValues<T> extends DocIdSetIterator {
+
+	public static <T> Factory<T> numeric(LongFunction<? extends T> decoder) {
+		return (reader, absoluteFieldPath) -> new Numeric<>(
+				DocValues.getSortedNumeric( reader, absoluteFieldPath ), decoder );
+	}
+
+	public static <T> Factory<T> text(Function<? super String, ? extends T> decoder) {
+		return (reader, absoluteFieldPath) -> new Text<>(
+				DocValues.getSortedSet( reader, absoluteFieldPath ), decoder );
+	}
+
+	/**
+	 * @param doc The document ID.
+	 * @return {@code true} if the document has values for this field.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public abstract boolean advanceExact(int doc) throws IOException;
+
+	/**
+	 * @return The number of values of the current document.
+	 * Only valid after {@link #advanceExact(int)} returned {@code true}.
+	 */
+	public abstract int docValueCount();
+
+	/**
+	 * @return The next value of the current document, in the order of doc values (ascending).
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public abstract T nextValue() throws IOException;
+
+	public interface Factory<T> {
+		DecodedDocValues<T> create(LeafReader reader, String absoluteFieldPath) throws IOException;
+	}
+
+	private abstract static class Delegating<T> extends DecodedDocValues<T> {
+		private final DocIdSetIterator delegate;
+
+		Delegating(DocIdSetIterator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int docID() {
+			return delegate.docID();
+		}
+
+		@Override
+		public int nextDoc() throws IOException {
+			return delegate.nextDoc();
+		}
+
+		@Override
+		public int advance(int target) throws IOException {
+			return delegate.advance( target );
+		}
+
+		@Override
+		public long cost() {
+			return delegate.cost();
+		}
+	}
+
+	private static final class Numeric<T> extends Delegating<T> {
+		private final SortedNumericDocValues values;
+		private final LongFunction<? extends T> decoder;
+
+		Numeric(SortedNumericDocValues values, LongFunction<? extends T> decoder) {
+			super( values );
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			return values.advanceExact( doc );
+		}
+
+		@Override
+		public int docValueCount() {
+			return values.docValueCount();
+		}
+
+		@Override
+		public T nextValue() throws IOException {
+			return decoder.apply( values.nextValue() );
+		}
+	}
+
+	private static final class Text<T> extends Delegating<T> {
+		private final SortedSetDocValues values;
+		private final Function<? super String, ? extends T> decoder;
+
+		Text(SortedSetDocValues values, Function<? super String, ? extends T> decoder) {
+			super( values );
+			this.values = values;
+			this.decoder = decoder;
+		}
+
+		@Override
+		public boolean advanceExact(int doc) throws IOException {
+			return values.advanceExact( doc );
+		}
+
+		@Override
+		public int docValueCount() {
+			return values.docValueCount();
+		}
+
+		@Override
+		public T nextValue() throws IOException {
+			return decoder.apply( values.lookupOrd( values.nextOrd() ).utf8ToString() );
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LongValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A mapping from per-segment ordinals of a {@link SortedSetDocValues} field
+ * to ordinals that are global to a (composite) index reader.
+ * <p>
+ * Global ordinals are attributed in term order, like segment ordinals,
+ * and are consistent with those returned by {@link org.apache.lucene.index.MultiDocValues#getSortedSetValues(IndexReader, String)}.
+ * <p>
+ * Building the mapping requires iterating over all terms of all segments,
+ * which is expensive for high-cardinality fields:
+ * retrieve mappings through a {@link GlobalOrdinalsCache} to reuse them across queries.
+ */
+public final class GlobalOrdinals {
+
+	static GlobalOrdinals build(List<LeafReaderContext> leaves, String field) throws IOException {
+		if ( leaves.size() <= 1 ) {
+			// Segment ordinals are global ordinals: nothing to build.
+			return new GlobalOrdinals( field, null );
+		}
+		SortedSetDocValues[] values = new SortedSetDocValues[leaves.size()];
+		for ( int i = 0; i < values.length; i++ ) {
+			SortedSetDocValues leafValues = leaves.get( i ).reader().getSortedSetDocValues( field );
+			values[i] = leafValues == null ? DocValues.emptySortedSet() : leafValues;
+		}
+		return new GlobalOrdinals( field, OrdinalMap.build( null, values, PackedInts.DEFAULT ) );
+	}
+
+	private final String field;
+	private final OrdinalMap ordinalMap;
+
+	private GlobalOrdinals(String field, OrdinalMap ordinalMap) {
+		this.field = field;
+		this.ordinalMap = ordinalMap;
+	}
+
+	/**
+	 * @param leafOrd The {@link LeafReaderContext#ord ordinal} of a leaf in the top-level reader.
+	 * @return The mapping from the ordinals of that leaf to global ordinals.
+	 */
+	public LongValues segmentToGlobalOrds(int leafOrd) {
+		return ordinalMap == null ? LongValues.IDENTITY : ordinalMap.getGlobalOrds( leafOrd );
+	}
+
+	/**
+	 * @param reader The top-level reader this mapping was retrieved for.
+	 * @param globalOrd A global ordinal.
+	 * @return The term corresponding to the given global ordinal.
+	 * @throws IOException If reading doc values fails.
+	 */
+	public BytesRef lookupOrd(IndexReader reader, long globalOrd) throws IOException {
+		int leafOrd = ordinalMap == null ? 0 : ordinalMap.getFirstSegmentNumber( globalOrd );
+		long segmentOrd = ordinalMap == null ? globalOrd : ordinalMap.getFirstSegmentOrd( globalOrd );
+		return DocValues.getSortedSet( reader.leaves().get( leafOrd ).reader(), field ).lookupOrd( segmentOrd );
+	}
+}
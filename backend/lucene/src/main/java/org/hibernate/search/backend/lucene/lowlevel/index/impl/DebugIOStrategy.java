@@ -10,17 +10,19 @@
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class DebugIOStrategy extends IOStrategy {
 
-	public static DebugIOStrategy create(BackendThreads threads, FailureHandler failureHandler) {
-		return new DebugIOStrategy( threads, failureHandler );
+	public static DebugIOStrategy create(BackendThreads threads, FailureHandler failureHandler,
+			MetricsRecorder metricsRecorder) {
+		return new DebugIOStrategy( threads, failureHandler, metricsRecorder );
 	}
 
-	private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler) {
-		super( threads, failureHandler );
+	private DebugIOStrategy(BackendThreads threads, FailureHandler failureHandler, MetricsRecorder metricsRecorder) {
+		super( threads, failureHandler, metricsRecorder );
 	}
 
 	@Override
@@ -31,12 +33,13 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				directoryHolder, configSource,
 				null, 0,
 				threads,
-				failureHandler
+				failureHandler,
+				metricsRecorder
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(String indexName, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
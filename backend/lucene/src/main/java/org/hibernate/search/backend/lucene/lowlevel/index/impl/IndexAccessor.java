@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 
@@ -49,6 +50,35 @@ public interface IndexAccessor {
 	 */
 	void refresh();
 
+	/**
+	 * Starts rebuilding the index from scratch:
+	 * deletes all documents, but keeps exposing the last commit to readers
+	 * and suspends commits until the rebuild is finished or aborted.
+	 */
+	void startRebuild();
+
+	/**
+	 * Commits the rebuilt index and exposes it to readers.
+	 */
+	void finishRebuild();
+
+	/**
+	 * Rolls back all changes since the rebuild started.
+	 */
+	void abortRebuild();
+
+	/**
+	 * Tunes the index for throughput until {@link #stopBulkLoading()} is called:
+	 * applies the bulk loading RAM buffer size, if configured, disables merge throttling, suspends commits
+	 * and keeps exposing the last commit to readers instead of reopening near-real-time readers.
+	 */
+	void startBulkLoading();
+
+	/**
+	 * Reverts the tuning applied by {@link #startBulkLoading()}, commits and exposes the changes to readers.
+	 */
+	void stopBulkLoading();
+
 	/**
 	 * Merge segments files.
 	 */
@@ -79,4 +109,15 @@ public interface IndexAccessor {
 	 * @return The size of the index on its storage support, in bytes.
 	 */
 	long computeSizeInBytes();
+
+	/**
+	 * Copies the files of the last commit to the given filesystem directory,
+	 * hard-linking them when possible and skipping files that are already present,
+	 * then removes files that are not part of that commit from the given directory.
+	 * <p>
+	 * Indexing and searching can proceed while files are being copied.
+	 *
+	 * @param target The directory to copy the index to.
+	 */
+	void snapshot(Path target);
 }
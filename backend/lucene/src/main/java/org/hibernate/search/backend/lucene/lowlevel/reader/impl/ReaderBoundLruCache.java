@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * A cache whose entries are bound to index readers, or segment cores,
+ * through their {@link IndexReader.CacheHelper cache helpers}.
+ * <p>
+ * Entries are evicted as soon as one of the readers they are bound to is closed,
+ * and the least recently used entries are evicted first when the cache is full.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ */
+public final class ReaderBoundLruCache<K, V> {
+
+	private final int maxEntries;
+
+	// Guarded by "this"
+	private final Map<K, Entry<V>> entries;
+	// Guarded by "this"
+	private final Set<IndexReader.CacheKey> readerKeysWithListener = new HashSet<>();
+
+	/**
+	 * @param maxEntries The maximum number of entries.
+	 */
+	public ReaderBoundLruCache(int maxEntries) {
+		this.maxEntries = maxEntries;
+		this.entries = new LinkedHashMap<>( 16, 0.75f, true ) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > ReaderBoundLruCache.this.maxEntries;
+			}
+		};
+	}
+
+	public int maxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * @param key The key.
+	 * @return The cached value, or {@code null} if there is none.
+	 */
+	public synchronized V get(K key) {
+		Entry<V> entry = entries.get( key );
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * @param key The key.
+	 * @param value The value.
+	 * @param cacheHelpers The cache helpers of the readers the value is bound to.
+	 * These readers must be open, i.e. the caller must hold a reference to them.
+	 * @return The value already cached for this key, or {@code null} if the given value was added.
+	 */
+	public V putIfAbsent(K key, V value, List<IndexReader.CacheHelper> cacheHelpers) {
+		List<IndexReader.CacheKey> readerKeys = new ArrayList<>( cacheHelpers.size() );
+		for ( IndexReader.CacheHelper cacheHelper : cacheHelpers ) {
+			readerKeys.add( cacheHelper.getKey() );
+		}
+		List<IndexReader.CacheHelper> cacheHelpersToListen = new ArrayList<>();
+		synchronized (this) {
+			Entry<V> previous = entries.putIfAbsent( key, new Entry<>( value, readerKeys ) );
+			if ( previous != null ) {
+				return previous.value;
+			}
+			for ( IndexReader.CacheHelper cacheHelper : cacheHelpers ) {
+				if ( readerKeysWithListener.add( cacheHelper.getKey() ) ) {
+					cacheHelpersToListen.add( cacheHelper );
+				}
+			}
+		}
+		// Register listeners outside of the lock, to avoid holding it while Lucene acquires its own locks.
+		for ( IndexReader.CacheHelper cacheHelper : cacheHelpersToListen ) {
+			cacheHelper.addClosedListener( this::evict );
+		}
+		return null;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private synchronized void evict(IndexReader.CacheKey readerKey) {
+		readerKeysWithListener.remove( readerKey );
+		Iterator<Entry<V>> iterator = entries.values().iterator();
+		while ( iterator.hasNext() ) {
+			if ( iterator.next().readerKeys.contains( readerKey ) ) {
+				iterator.remove();
+			}
+		}
+	}
+
+	private record Entry<V>(V value, List<IndexReader.CacheKey> readerKeys) {
+	}
+
+}
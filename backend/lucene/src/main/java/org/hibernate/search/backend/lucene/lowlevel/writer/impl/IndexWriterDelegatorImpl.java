@@ -15,14 +15,20 @@
 import org.hibernate.search.engine.backend.orchestration.spi.SingletonTask;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
 
@@ -32,26 +38,42 @@
 public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 
 	private final IndexWriter delegate;
+	private final SnapshotDeletionPolicy snapshotDeletionPolicy;
+	private final String indexName;
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final Integer bulkLoadingRamBufferSizeMB;
 	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
 
 	private final SingletonTask delayedCommitTask;
 	private final ReentrantLock commitLock = new ReentrantLock();
 
 	private long commitExpiration;
 
-	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
+	// While rebuilding, changes must not become visible to other readers of the directory until the rebuild ends.
+	private volatile boolean rebuilding;
+	// While bulk loading, intermediate commits are skipped and the writer is tuned for throughput.
+	private volatile boolean bulkLoading;
+	private double ramBufferSizeMBBeforeBulkLoading;
+	private boolean autoIOThrottleBeforeBulkLoading;
+
+	public IndexWriterDelegatorImpl(IndexWriter delegate, SnapshotDeletionPolicy snapshotDeletionPolicy,
+			String indexName, EventContext eventContext,
 			SimpleScheduledExecutor delayedCommitExecutor,
-			TimingSource timingSource, int commitInterval,
-			FailureHandler failureHandler,
+			TimingSource timingSource, int commitInterval, Integer bulkLoadingRamBufferSizeMB,
+			FailureHandler failureHandler, MetricsRecorder metricsRecorder,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
+		this.snapshotDeletionPolicy = snapshotDeletionPolicy;
+		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.bulkLoadingRamBufferSizeMB = bulkLoadingRamBufferSizeMB;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
 
 		if ( commitInterval == 0L ) {
 			delayedCommitTask = null;
@@ -78,6 +100,11 @@ public long updateDocuments(Term term, Iterable<? extends Iterable<? extends Ind
 		return delegate.updateDocuments( term, docs );
 	}
 
+	@Override
+	public long updateDocValues(Term term, Field... updates) throws IOException {
+		return delegate.updateDocValues( term, updates );
+	}
+
 	@Override
 	public long deleteDocuments(Term term) throws IOException {
 		return delegate.deleteDocuments( term );
@@ -96,7 +123,37 @@ public void commit() {
 		doCommit();
 	}
 
+	/**
+	 * Commits pending changes, unless commits are suspended, and prevents the deletion of the files of the last commit
+	 * until {@link #releaseSnapshot(IndexCommit)} is called.
+	 * <p>
+	 * While commits are suspended (rebuild, bulk loading), the snapshot is the last commit before the suspension.
+	 *
+	 * @return The snapshot commit.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public IndexCommit snapshot() throws IOException {
+		doCommit();
+		return snapshotDeletionPolicy.snapshot();
+	}
+
+	/**
+	 * Allows the deletion of the files of a commit returned by {@link #snapshot()},
+	 * and deletes them immediately if they are no longer used.
+	 *
+	 * @param snapshot The snapshot commit.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public void releaseSnapshot(IndexCommit snapshot) throws IOException {
+		snapshotDeletionPolicy.release( snapshot );
+		delegate.deleteUnusedFiles();
+	}
+
 	public void commitOrDelay() {
+		if ( commitsSuspended() ) {
+			return;
+		}
+
 		if ( !delegate.hasUncommittedChanges() ) {
 			// No need to either commit or plan a delayed commit: there's nothing to commit.
 			return;
@@ -125,6 +182,53 @@ public void commitOrDelay() {
 		}
 	}
 
+	/**
+	 * Deletes all documents and suspends commits, including delayed commits, until {@link #finishRebuild()} is called.
+	 * <p>
+	 * If the writer gets closed in the meantime, uncommitted changes are rolled back.
+	 */
+	void startRebuild() throws IOException {
+		rebuilding = true;
+		delegate.deleteAll();
+	}
+
+	void finishRebuild() {
+		rebuilding = false;
+	}
+
+	/**
+	 * Suspends commits, including delayed commits, applies the bulk loading RAM buffer size (if configured)
+	 * and disables merge throttling until {@link #stopBulkLoading()} is called.
+	 */
+	void startBulkLoading() {
+		if ( bulkLoading ) {
+			return;
+		}
+		bulkLoading = true;
+		LiveIndexWriterConfig config = delegate.getConfig();
+		ramBufferSizeMBBeforeBulkLoading = config.getRAMBufferSizeMB();
+		if ( bulkLoadingRamBufferSizeMB != null ) {
+			config.setRAMBufferSizeMB( bulkLoadingRamBufferSizeMB );
+		}
+		if ( config.getMergeScheduler() instanceof ConcurrentMergeScheduler mergeScheduler ) {
+			autoIOThrottleBeforeBulkLoading = mergeScheduler.getAutoIOThrottle();
+			mergeScheduler.disableAutoIOThrottle();
+		}
+	}
+
+	void stopBulkLoading() {
+		if ( !bulkLoading ) {
+			return;
+		}
+		LiveIndexWriterConfig config = delegate.getConfig();
+		config.setRAMBufferSizeMB( ramBufferSizeMBBeforeBulkLoading );
+		if ( autoIOThrottleBeforeBulkLoading
+				&& config.getMergeScheduler() instanceof ConcurrentMergeScheduler mergeScheduler ) {
+			mergeScheduler.enableAutoIOThrottle();
+		}
+		bulkLoading = false;
+	}
+
 	public DirectoryReader openReader() throws IOException {
 		return DirectoryReader.open( delegate );
 	}
@@ -144,7 +248,12 @@ void close() throws IOException {
 			// Lucene throws an exception in that case.
 			commitLock.lock();
 			try {
-				closer.push( IndexWriter::close, delegate );
+				if ( rebuilding ) {
+					closer.push( IndexWriter::rollback, delegate );
+				}
+				else {
+					closer.push( IndexWriter::close, delegate );
+				}
 			}
 			finally {
 				commitLock.unlock();
@@ -179,12 +288,17 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 	}
 
 	private void doCommit() {
+		if ( commitsSuspended() ) {
+			return;
+		}
 		commitLock.lock();
 		try {
 			// NOTE: underlying Lucene code is using this pattern to sync on object block,
 			// which could be a problem with Loom:
 			// synchronized(commitLock)
+			long startNanos = System.nanoTime();
 			delegate.commit();
+			metricsRecorder.indexCommitted( indexName, System.nanoTime() - startNanos );
 			updateCommitExpiration();
 		}
 		catch (RuntimeException | IOException e) {
@@ -195,6 +309,10 @@ private void doCommit() {
 		}
 	}
 
+	private boolean commitsSuspended() {
+		return rebuilding || bulkLoading;
+	}
+
 	/**
 	 * @return {@code true} if the commit was delayed, {@code false} if it wasn't and must happen now.
 	 */
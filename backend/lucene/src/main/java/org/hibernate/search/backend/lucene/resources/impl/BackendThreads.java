@@ -4,6 +4,9 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.cfg.spi.LuceneBackendSpiSettings;
 import org.hibernate.search.backend.lucene.work.spi.LuceneWorkExecutorProvider;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
@@ -25,10 +28,18 @@ public class BackendThreads {
 							.asBeanReference( LuceneWorkExecutorProvider.class )
 							.withDefault( LuceneBackendSpiSettings.Defaults.BACKEND_WORK_EXECUTOR_PROVIDER )
 							.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CONCURRENCY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CONCURRENCY )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CONCURRENCY )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private SimpleScheduledExecutor writeExecutor;
+	private ExecutorService searchExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -62,14 +73,25 @@ public String recommendedThreadNamePrefix() {
 				}
 			} );
 		}
+
+		int queryConcurrency = QUERY_CONCURRENCY.get( propertySource );
+		if ( queryConcurrency > 1 ) {
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool( queryConcurrency, prefix + " - Search thread" );
+		}
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( SimpleScheduledExecutor::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
 		}
 	}
 
+	public ThreadPoolProvider getThreadPoolProvider() {
+		checkStarted();
+		return threadPoolProvider;
+	}
+
 	public ThreadProvider getThreadProvider() {
 		checkStarted();
 		return threadPoolProvider.threadProvider();
@@ -80,6 +102,15 @@ public SimpleScheduledExecutor getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use for intra-query concurrency,
+	 * or {@code null} if queries must be executed in the calling thread only.
+	 */
+	public ExecutorService getSearchExecutor() {
+		checkStarted();
+		return searchExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.schema.management.impl;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
@@ -13,5 +14,11 @@ public interface SchemaManagementIndexManagerContext {
 
 	Collection<LuceneParallelWorkOrchestrator> allManagementOrchestrators();
 
+	/**
+	 * @return The management orchestrators of all shards, by shard identifier,
+	 * or a single orchestrator with a {@code null} key if sharding is disabled.
+	 */
+	Map<String, LuceneParallelWorkOrchestrator> managementOrchestratorsByShardId();
+
 	Optional<String> backendName();
 }
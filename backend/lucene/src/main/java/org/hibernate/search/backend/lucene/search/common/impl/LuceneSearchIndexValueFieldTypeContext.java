@@ -18,4 +18,10 @@
 
 	boolean hasTermVectorsConfigured();
 
+	/**
+	 * @return {@code true} if values of this field can be projected from doc values instead of stored fields,
+	 * see {@link LuceneFieldCodec#projectableDocValuesOrNull(java.util.function.Function)}.
+	 */
+	boolean projectableFromDocValues();
+
 }
@@ -51,8 +51,8 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, int offset, TimeoutManager timeoutManager,
-			int requestedTotalHitCountThreshold)
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, int offset, ScoreDoc after,
+			TimeoutManager timeoutManager, int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
 		// we have optimizations in place when there is a single query and this query is a MatchAllDocsQuery.
@@ -81,7 +81,7 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 
 		if ( maxDocs > 0 ) {
 			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollectorManager = new HibernateSearchTopScoreDocCollectorManager( offset, maxDocs, null,
+				topDocsCollectorManager = new HibernateSearchTopScoreDocCollectorManager( offset, maxDocs, after,
 						totalHitCountThreshold, true );
 			}
 			else {
@@ -93,8 +93,9 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollectorManager = new HibernateSearchTopFieldCollectorManager( offset, sort, maxDocs, null,
-						totalHitCountThreshold, true );
+				// The sort is the same for all pages, so if there is a previous hit it was collected as a FieldDoc.
+				topDocsCollectorManager = new HibernateSearchTopFieldCollectorManager( offset, sort, maxDocs,
+						(FieldDoc) after, totalHitCountThreshold, true );
 			}
 			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollectorManager );
 		}
@@ -122,12 +123,16 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 		);
 	}
 
-	private boolean isDescendingScoreSort(Sort sort) {
+	public boolean isScoreRequired() {
+		return requireScore;
+	}
+
+	public static boolean isDescendingScoreSort(Sort sort) {
 		SortField[] fields = sort.getSort();
 		return fields.length == 1 && isDescendingScoreSort( fields[0] );
 	}
 
-	private boolean isDescendingScoreSort(SortField sortField) {
+	private static boolean isDescendingScoreSort(SortField sortField) {
 		return SortField.Type.SCORE == sortField.getType() && !sortField.getReverse();
 	}
 
@@ -216,7 +221,9 @@ public TopDocs reduce(Collection<TopScoreDocCollector> collectors) {
 			for ( TopScoreDocCollector collector : collectors ) {
 				topDocs[i++] = collector.topDocs();
 			}
-			return TopDocs.merge( offset, numHits, topDocs );
+			// numHits includes the offset, which merge() expects to be excluded from the number of returned hits:
+			// this matters when several slices collected hits, since each collected up to numHits hits.
+			return TopDocs.merge( offset, Math.max( 0, numHits - offset ), topDocs );
 		}
 	}
 
@@ -240,7 +247,8 @@ public TopFieldDocs reduce(Collection<TopFieldCollector> collectors) {
 			for ( TopFieldCollector collector : collectors ) {
 				topDocs[i++] = collector.topDocs();
 			}
-			return TopDocs.merge( sort, offset, numHits, topDocs );
+			// See HibernateSearchTopScoreDocCollectorManager#reduce
+			return TopDocs.merge( sort, offset, Math.max( 0, numHits - offset ), topDocs );
 		}
 	}
 }
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
+import java.util.Arrays;
 import java.util.Set;
 
 import org.apache.lucene.document.Document;
@@ -19,6 +20,12 @@
  * to reuse the same FieldVisitor to load multiple Document instances.
  * Also the accepted fields are kept in a linked-list like structure, to optimize
  * for small amounts of accepted fields.
+ * <p>
+ * Since this visitor is called for every stored field of every loaded document,
+ * the result of field name matching and the field types of string fields
+ * are cached by field number, so that they are computed once per field instead of once per value.
+ * Field numbers are not guaranteed to be consistent across segments,
+ * so cached entries are checked against the visited {@link FieldInfo} before being used.
  *
  * A ReusableDocumentStoredFieldVisitor is NOT threadsafe: in case you need one
  * for multiple threads make a clone for each thread.
@@ -32,6 +39,13 @@ public final class ReusableDocumentStoredFieldVisitor extends StoredFieldVisitor
 
 	private final FieldAcceptor rootAcceptor;
 
+	// Field names and statuses returned by needsField(), indexed by field number.
+	private String[] acceptedFieldNames = new String[0];
+	private Status[] acceptedFieldStatuses = new Status[0];
+
+	// Frozen field types for string fields, indexed by field number.
+	private FieldType[] stringFieldTypes = new FieldType[0];
+
 	//The Lucene Document which will be returned. Lazily initialized.
 	private Document doc = null;
 
@@ -60,11 +74,7 @@ public void binaryField(FieldInfo fieldInfo, byte[] value) {
 
 	@Override
 	public void stringField(FieldInfo fieldInfo, String value) {
-		final FieldType ft = new FieldType( TextField.TYPE_STORED );
-		ft.setStoreTermVectors( fieldInfo.hasVectors() );
-		ft.setOmitNorms( fieldInfo.omitsNorms() );
-		ft.setIndexOptions( fieldInfo.getIndexOptions() );
-		getDocument().add( new Field( fieldInfo.name, value, ft ) );
+		getDocument().add( new Field( fieldInfo.name, value, stringFieldType( fieldInfo ) ) );
 	}
 
 	@Override
@@ -93,7 +103,19 @@ public Status needsField(FieldInfo fieldInfo) {
 			// We need all fields
 			return Status.YES;
 		}
-		return rootAcceptor.acceptField( fieldInfo.name );
+		int number = fieldInfo.number;
+		if ( number >= acceptedFieldNames.length ) {
+			int newLength = Math.max( number + 1, acceptedFieldNames.length * 2 );
+			acceptedFieldNames = Arrays.copyOf( acceptedFieldNames, newLength );
+			acceptedFieldStatuses = Arrays.copyOf( acceptedFieldStatuses, newLength );
+		}
+		else if ( fieldInfo.name.equals( acceptedFieldNames[number] ) ) {
+			return acceptedFieldStatuses[number];
+		}
+		Status status = rootAcceptor.acceptField( fieldInfo.name );
+		acceptedFieldNames[number] = fieldInfo.name;
+		acceptedFieldStatuses[number] = status;
+		return status;
 	}
 
 	/**
@@ -113,6 +135,26 @@ public Document getDocumentAndReset() {
 		}
 	}
 
+	private FieldType stringFieldType(FieldInfo fieldInfo) {
+		int number = fieldInfo.number;
+		if ( number >= stringFieldTypes.length ) {
+			stringFieldTypes = Arrays.copyOf( stringFieldTypes, Math.max( number + 1, stringFieldTypes.length * 2 ) );
+		}
+		FieldType ft = stringFieldTypes[number];
+		if ( ft == null || ft.storeTermVectors() != fieldInfo.hasVectors()
+				|| ft.omitNorms() != fieldInfo.omitsNorms()
+				|| ft.indexOptions() != fieldInfo.getIndexOptions() ) {
+			ft = new FieldType( TextField.TYPE_STORED );
+			ft.setStoreTermVectors( fieldInfo.hasVectors() );
+			ft.setOmitNorms( fieldInfo.omitsNorms() );
+			ft.setIndexOptions( fieldInfo.getIndexOptions() );
+			// Shared between all values of this field: must not be altered.
+			ft.freeze();
+			stringFieldTypes[number] = ft;
+		}
+		return ft;
+	}
+
 	private Document getDocument() {
 		Document localDoc = this.doc;
 		if ( localDoc == null ) {
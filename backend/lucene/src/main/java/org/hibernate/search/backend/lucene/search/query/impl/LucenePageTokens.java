@@ -0,0 +1,220 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+
+import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
+import org.hibernate.search.backend.lucene.search.extraction.impl.ExtractionRequirements;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
+
+import org.apache.lucene.search.FieldComparatorSource;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * Converts the last hit of a page of results to an opaque page token, and back.
+ * <p>
+ * The token holds the score, the document ID and the sort values of the hit,
+ * i.e. everything Lucene needs to collect the hits that come after it ("search after").
+ */
+final class LucenePageTokens {
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final byte KIND_SCORE_DOC = 0;
+	private static final byte KIND_FIELD_DOC = 1;
+
+	private static final byte TYPE_NULL = 0;
+	private static final byte TYPE_INT = 1;
+	private static final byte TYPE_LONG = 2;
+	private static final byte TYPE_FLOAT = 3;
+	private static final byte TYPE_DOUBLE = 4;
+	private static final byte TYPE_BYTES = 5;
+
+	private LucenePageTokens() {
+	}
+
+	static String encode(ScoreDoc scoreDoc) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream( 32 );
+		try ( DataOutputStream out = new DataOutputStream( bytes ) ) {
+			out.writeByte( FORMAT_VERSION );
+			boolean isFieldDoc = scoreDoc instanceof FieldDoc;
+			out.writeByte( isFieldDoc ? KIND_FIELD_DOC : KIND_SCORE_DOC );
+			out.writeFloat( scoreDoc.score );
+			out.writeInt( scoreDoc.doc );
+			if ( isFieldDoc ) {
+				Object[] fields = ( (FieldDoc) scoreDoc ).fields;
+				out.writeInt( fields.length );
+				for ( Object field : fields ) {
+					if ( !writeValue( out, field ) ) {
+						// Custom sort with values we cannot serialize.
+						return null;
+					}
+				}
+			}
+		}
+		catch (IOException e) {
+			// Cannot happen with an in-memory stream
+			throw new IllegalStateException( e );
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString( bytes.toByteArray() );
+	}
+
+	static ScoreDoc decode(String token, Sort sort) {
+		byte[] bytes;
+		try {
+			bytes = Base64.getUrlDecoder().decode( token );
+		}
+		catch (IllegalArgumentException e) {
+			throw QueryLog.INSTANCE.invalidPageToken( token, e.getMessage(), e );
+		}
+		boolean expectFieldDoc = sort != null && !ExtractionRequirements.isDescendingScoreSort( sort );
+		try ( DataInputStream in = new DataInputStream( new ByteArrayInputStream( bytes ) ) ) {
+			byte version = in.readByte();
+			if ( version != FORMAT_VERSION ) {
+				throw QueryLog.INSTANCE.invalidPageToken( token, "unknown format version " + version, null );
+			}
+			byte kind = in.readByte();
+			if ( kind != ( expectFieldDoc ? KIND_FIELD_DOC : KIND_SCORE_DOC ) ) {
+				throw QueryLog.INSTANCE.invalidPageToken( token, "the token was created for a query with a different sort",
+						null );
+			}
+			float score = in.readFloat();
+			int doc = in.readInt();
+			if ( !expectFieldDoc ) {
+				return new ScoreDoc( doc, score );
+			}
+			SortField[] sortFields = sort.getSort();
+			int fieldCount = in.readInt();
+			if ( fieldCount != sortFields.length ) {
+				throw QueryLog.INSTANCE.invalidPageToken( token, "the token was created for a query with a different sort",
+						null );
+			}
+			Object[] fields = new Object[fieldCount];
+			for ( int i = 0; i < fieldCount; i++ ) {
+				Object value = readValue( in );
+				if ( !isValidSortValue( sortFields[i], value ) ) {
+					// Lucene would fail with a ClassCastException when collecting hits.
+					throw QueryLog.INSTANCE.invalidPageToken( token,
+							"the token was created for a query with a different sort", null );
+				}
+				fields[i] = value;
+			}
+			return new FieldDoc( doc, score, fields );
+		}
+		catch (IOException | IllegalArgumentException e) {
+			throw QueryLog.INSTANCE.invalidPageToken( token, e.getMessage(), e );
+		}
+	}
+
+	private static boolean isValidSortValue(SortField sortField, Object value) {
+		Class<?> expectedType = sortValueTypeOrNull( sortField );
+		if ( expectedType == null ) {
+			// Sort from a native Lucene SortField, whose values we know nothing about.
+			return true;
+		}
+		if ( value == null ) {
+			// Only text sorts have null values, for documents without a value.
+			return BytesRef.class.equals( expectedType );
+		}
+		return expectedType.isInstance( value );
+	}
+
+	/**
+	 * @return The type of values in {@link FieldDoc#fields} for the given sort field, regardless of its order,
+	 * or {@code null} if unknown.
+	 */
+	private static Class<?> sortValueTypeOrNull(SortField sortField) {
+		switch ( sortField.getType() ) {
+			case SCORE:
+			case FLOAT:
+				return Float.class;
+			case DOC:
+			case INT:
+				return Integer.class;
+			case LONG:
+				return Long.class;
+			case DOUBLE:
+				return Double.class;
+			case STRING:
+			case STRING_VAL:
+				return BytesRef.class;
+			case CUSTOM:
+				FieldComparatorSource comparatorSource = sortField.getComparatorSource();
+				return comparatorSource instanceof LuceneFieldComparatorSource
+						? ( (LuceneFieldComparatorSource) comparatorSource ).getSortValueType()
+						: null;
+			default:
+				return null;
+		}
+	}
+
+	private static boolean writeValue(DataOutputStream out, Object value) throws IOException {
+		if ( value == null ) {
+			out.writeByte( TYPE_NULL );
+		}
+		else if ( value instanceof Integer ) {
+			out.writeByte( TYPE_INT );
+			out.writeInt( (Integer) value );
+		}
+		else if ( value instanceof Long ) {
+			out.writeByte( TYPE_LONG );
+			out.writeLong( (Long) value );
+		}
+		else if ( value instanceof Float ) {
+			out.writeByte( TYPE_FLOAT );
+			out.writeFloat( (Float) value );
+		}
+		else if ( value instanceof Double ) {
+			out.writeByte( TYPE_DOUBLE );
+			out.writeDouble( (Double) value );
+		}
+		else if ( value instanceof BytesRef ) {
+			BytesRef bytesRef = (BytesRef) value;
+			out.writeByte( TYPE_BYTES );
+			out.writeInt( bytesRef.length );
+			out.write( bytesRef.bytes, bytesRef.offset, bytesRef.length );
+		}
+		else {
+			return false;
+		}
+		return true;
+	}
+
+	private static Object readValue(DataInputStream in) throws IOException {
+		byte type = in.readByte();
+		switch ( type ) {
+			case TYPE_NULL:
+				return null;
+			case TYPE_INT:
+				return in.readInt();
+			case TYPE_LONG:
+				return in.readLong();
+			case TYPE_FLOAT:
+				return in.readFloat();
+			case TYPE_DOUBLE:
+				return in.readDouble();
+			case TYPE_BYTES:
+				int length = in.readInt();
+				if ( length < 0 ) {
+					throw new IllegalArgumentException( "invalid value length " + length );
+				}
+				byte[] bytes = new byte[length];
+				in.readFully( bytes );
+				return new BytesRef( bytes );
+			default:
+				throw new IllegalArgumentException( "unknown value type " + type );
+		}
+	}
+}
@@ -14,6 +14,7 @@
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
@@ -32,6 +33,7 @@
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.aggregation.SearchAggregation;
 import org.hibernate.search.engine.search.highlighter.SearchHighlighter;
@@ -61,6 +63,8 @@
 
 	private final SearchLoadingContextBuilder<?, ?> loadingContextBuilder;
 	private final LuceneSearchProjection<H> rootProjection;
+	private final MetricsRecorder metricsRecorder;
+	private final LuceneQueryResultCache resultCacheOrNull;
 
 	private LuceneSearchPredicate lucenePredicate;
 	private List<SortField> sortFields;
@@ -73,6 +77,7 @@
 	private LuceneAbstractSearchHighlighter globalHighlighter;
 	private final Map<String, LuceneAbstractSearchHighlighter> namedHighlighters = new HashMap<>();
 	private final QueryParameters parameters = new QueryParameters();
+	private boolean hasParameters;
 
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
@@ -80,7 +85,9 @@ public LuceneSearchQueryBuilder(
 			LuceneSearchQueryIndexScope<?, ?> scope,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?> loadingContextBuilder,
-			LuceneSearchProjection<H> rootProjection) {
+			LuceneSearchProjection<H> rootProjection,
+			MetricsRecorder metricsRecorder,
+			LuceneQueryResultCache resultCacheOrNull) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 
@@ -90,6 +97,8 @@ public LuceneSearchQueryBuilder(
 
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
+		this.metricsRecorder = metricsRecorder;
+		this.resultCacheOrNull = resultCacheOrNull;
 	}
 
 	@Override
@@ -167,6 +176,7 @@ public void highlighter(String highlighterName, SearchHighlighter highlighter) {
 	@Override
 	public void param(String parameterName, Object value) {
 		parameters.add( parameterName, value );
+		hasParameters = true;
 	}
 
 	@Override
@@ -280,12 +290,21 @@ public LuceneSearchQuery<H> build() {
 
 		TimeoutManager timeoutManager = scope.createTimeoutManager( timeout, timeUnit, exceptionOnTimeout );
 
+		LuceneQueryResultCache resultCache = resultCacheOrNull;
+		if ( aggregations != null && hasParameters ) {
+			// Aggregations may rely on query parameters to extract their results,
+			// and query parameters are not part of result cache keys.
+			resultCache = null;
+		}
+
 		LuceneSearcherImpl<H> searcher = new LuceneSearcherImpl<>(
 				requestContext,
 				rootExtractor,
 				aggregationExtractors,
 				extractionRequirements,
-				timeoutManager
+				timeoutManager,
+				resultCache,
+				aggregations == null ? Collections.emptyMap() : aggregations
 		);
 
 		return new LuceneSearchQueryImpl<>(
@@ -297,7 +316,8 @@ public LuceneSearchQuery<H> build() {
 				timeoutManager,
 				definitiveLuceneQuery,
 				luceneSort,
-				searcher, totalHitCountThreshold
+				searcher, totalHitCountThreshold,
+				metricsRecorder
 		);
 	}
 }
@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.util.Map;
 
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
@@ -23,6 +24,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> {
 
@@ -34,6 +36,8 @@
 	private final LuceneSearchProjection.Extractor<?, H> rootExtractor;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final LuceneQueryResultCache resultCacheOrNull;
+	private final Map<AggregationKey<?>, ?> resultCacheAggregations;
 
 	private TimeoutManager timeoutManager;
 
@@ -41,12 +45,16 @@
 			LuceneSearchProjection.Extractor<?, H> rootExtractor,
 			Map<AggregationKey<?>, LuceneSearchAggregation.Extractor<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
-			TimeoutManager timeoutManager) {
+			TimeoutManager timeoutManager,
+			LuceneQueryResultCache resultCacheOrNull,
+			Map<AggregationKey<?>, ?> resultCacheAggregations) {
 		this.requestContext = requestContext;
 		this.rootExtractor = rootExtractor;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
 		this.timeoutManager = timeoutManager;
+		this.resultCacheOrNull = resultCacheOrNull;
+		this.resultCacheAggregations = resultCacheAggregations;
 	}
 
 	@Override
@@ -62,35 +70,84 @@ public String toString() {
 	@Override
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold)
+			int offset, ScoreDoc after, Integer limit, int totalHitCountThreshold)
 			throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold ).extract();
+		if ( resultCacheOrNull != null && after == null && limit != null ) {
+			// Only bounded results are cached: unbounded results could be arbitrarily large.
+			return searchWithResultCache( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold );
+		}
+		return doSearch( indexSearcher, metadataResolver, offset, after, limit, totalHitCountThreshold ).extract();
 	}
 
 	@Override
 	public LuceneExtractableSearchResult<H> scroll(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold)
+			ScoreDoc after, int limit, int totalHitCountThreshold)
 			throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold );
+		return doSearch( indexSearcher, metadataResolver, 0, after, limit, totalHitCountThreshold );
 	}
 
 	private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold)
+			int offset, ScoreDoc after, Integer limit, int totalHitCountThreshold)
+			throws IOException {
+		int maxDocs = startSearch( indexSearcher, offset, limit );
+		LuceneCollectors luceneCollectors = ( limit != null || maxDocs <= PREFETCH_HITS_SIZE )
+				? collectMatchingDocs( indexSearcher, metadataResolver, offset, after, maxDocs, totalHitCountThreshold )
+				: collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, after, maxDocs,
+						totalHitCountThreshold );
+
+		return createExtractableResult( indexSearcher, luceneCollectors );
+	}
+
+	private LuceneLoadableSearchResult<H> searchWithResultCache(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			int offset, int limit, int totalHitCountThreshold)
 			throws IOException {
+		int maxDocs = startSearch( indexSearcher, offset, limit );
+		// Collectors are built before collecting, because the cache key relies on the rewritten query.
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
+				maxDocs, offset, null, totalHitCountThreshold );
+		LuceneExtractableSearchResult<H> extractableResult = createExtractableResult( indexSearcher, luceneCollectors );
+
+		LuceneQueryResultCache.Key key = resultCacheOrNull.createKeyOrNull( indexSearcher.getIndexReader(),
+				luceneCollectors.getRewrittenLuceneQuery(), requestContext.getLuceneSort(), offset, maxDocs,
+				totalHitCountThreshold, extractionRequirements.isScoreRequired(), resultCacheAggregations );
+		LuceneQueryResultCache.Entry cached = key == null
+				? null
+				: resultCacheOrNull.get( key, requestContext.getQueryIndexScope().hibernateSearchIndexNames() );
+		if ( cached != null ) {
+			luceneCollectors.restoreMatchingDocs( cached.resultTotal(), cached.topDocs() );
+			return extractableResult.extract( cached.aggregations() );
+		}
+
+		luceneCollectors.collectMatchingDocs();
+		LuceneLoadableSearchResult<H> result = extractableResult.extract();
+		if ( key != null && !timeoutManager.isTimedOut() ) {
+			// Partial results must not be reused.
+			resultCacheOrNull.put( key, luceneCollectors.getResultTotal(), luceneCollectors.getTopDocs(),
+					result.aggregations() );
+		}
+		return result;
+	}
+
+	/**
+	 * Validates the offset and limit and logs the query, before any search.
+	 *
+	 * @return The maximum number of documents to collect.
+	 */
+	private int startSearch(IndexSearcher indexSearcher, int offset, Integer limit) throws IOException {
 		if ( limit != null && (long) offset + limit > Integer.MAX_VALUE ) {
 			throw QueryLog.INSTANCE.offsetLimitExceedsMaxValue( offset, limit );
 		}
 
 		QueryLog.INSTANCE.executingLuceneQuery( requestContext.getLuceneQuery() );
 
-		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
-		LuceneCollectors luceneCollectors = ( limit != null || maxDocs <= PREFETCH_HITS_SIZE )
-				? collectMatchingDocs( indexSearcher, metadataResolver, offset, maxDocs, totalHitCountThreshold )
-				: collectMatchingDocsWithPrefetch( indexSearcher, metadataResolver, offset, maxDocs,
-						totalHitCountThreshold );
+		return getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
+	}
 
+	private LuceneExtractableSearchResult<H> createExtractableResult(IndexSearcher indexSearcher,
+			LuceneCollectors luceneCollectors) {
 		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
 				rootExtractor, aggregations, timeoutManager );
 	}
@@ -126,29 +183,29 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 	}
 
 	private LuceneCollectors collectMatchingDocs(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset,
+			IndexReaderMetadataResolver metadataResolver, int offset, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold)
 			throws IOException {
 		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
-				maxDocs, offset, totalHitCountThreshold
+				maxDocs, offset, after, totalHitCountThreshold
 		);
 		luceneCollectors.collectMatchingDocs();
 		return luceneCollectors;
 	}
 
 	private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSearcher,
-			IndexReaderMetadataResolver metadataResolver, int offset,
+			IndexReaderMetadataResolver metadataResolver, int offset, ScoreDoc after,
 			int maxDocs, int totalHitCountThreshold)
 			throws IOException {
 
 		// prefetch:
-		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset,
+		LuceneCollectors luceneCollectors = collectMatchingDocs( indexSearcher, metadataResolver, offset, after,
 				PREFETCH_HITS_SIZE, Math.max( totalHitCountThreshold, PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) );
 
 		SearchResultTotal resultTotal = luceneCollectors.getResultTotal();
 		if ( resultTotal.isHitCountLowerBound() || resultTotal.hitCount() > PREFETCH_TOTAL_HIT_COUNT_THRESHOLD ) {
 			// if the total hit count is unbounded, we need to execute the unbounded query
-			return collectMatchingDocs( indexSearcher, metadataResolver, offset, maxDocs, maxDocs );
+			return collectMatchingDocs( indexSearcher, metadataResolver, offset, after, maxDocs, maxDocs );
 		}
 
 		if ( resultTotal.hitCount() < PREFETCH_HITS_SIZE ) {
@@ -158,15 +215,15 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 
 		// if the total hit count is in the middle between the two cases above, we can execute a bounded query
 		int exactHitCount = Math.toIntExact( resultTotal.hitCount() );
-		return collectMatchingDocs( indexSearcher, metadataResolver, offset, exactHitCount, exactHitCount );
+		return collectMatchingDocs( indexSearcher, metadataResolver, offset, after, exactHitCount, exactHitCount );
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int maxDocs, int offset, int totalHitCountThreshold)
+			int maxDocs, int offset, ScoreDoc after, int totalHitCountThreshold)
 			throws IOException {
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, offset, timeoutManager, totalHitCountThreshold
+				metadataResolver, maxDocs, offset, after, timeoutManager, totalHitCountThreshold
 		);
 	}
 
@@ -16,6 +16,8 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TermResults;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TextTermsCollector;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TextTermsCollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinals;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
@@ -32,7 +34,6 @@
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
-import org.apache.lucene.index.MultiDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
 
 /**
@@ -44,10 +45,13 @@
 
 	private static final Comparator<String> STRING_COMPARATOR = Comparator.naturalOrder();
 
+	private final GlobalOrdinalsCache globalOrdinalsCache;
+
 	private CollectorKey<TextTermsCollector, TermResults> collectorKey;
 
 	private LuceneTextTermsAggregation(Builder<K, R> builder) {
 		super( builder );
+		this.globalOrdinalsCache = builder.scope.globalOrdinalsCache();
 	}
 
 	@Override
@@ -60,7 +64,7 @@ public Extractor<Map<K, R>> request(AggregationRequestContext context) {
 		LocalAggregationRequestContext localAggregationContext = new LocalAggregationRequestContext( context );
 		Extractor<R> extractor = aggregation.request( localAggregationContext );
 
-		var termsCollectorFactory = TextTermsCollectorFactory.instance( absoluteFieldPath, source,
+		var termsCollectorFactory = TextTermsCollectorFactory.instance( absoluteFieldPath, source, globalOrdinalsCache,
 				localAggregationContext.localCollectorFactories() );
 		context.requireCollector( termsCollectorFactory );
 		collectorKey = termsCollectorFactory.getCollectorKey();
@@ -125,13 +129,14 @@ List<Bucket<String, R>> getTopBuckets(AggregationExtractContext context) throws
 
 			List<LongBucket> results = termResults.counts( order, maxTermCount, minDocCount );
 
-			var dv = MultiDocValues.getSortedSetValues( context.getIndexReader(), absoluteFieldPath );
+			IndexReader reader = context.getIndexReader();
+			GlobalOrdinals globalOrdinals = globalOrdinalsCache.get( reader, absoluteFieldPath );
 			List<Bucket<String, R>> buckets = new ArrayList<>();
 			for ( LongBucket bucket : results ) {
 				localContext.setResults( prepareResults( bucket, termResults ) );
 				buckets.add(
 						new Bucket<>(
-								dv.lookupOrd( bucket.termOrd() ).utf8ToString(),
+								globalOrdinals.lookupOrd( reader, bucket.termOrd() ).utf8ToString(),
 								bucket.count(),
 								extractor.extract( localContext )
 						)
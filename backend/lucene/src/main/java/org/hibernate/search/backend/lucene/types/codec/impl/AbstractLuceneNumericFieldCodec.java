@@ -4,8 +4,13 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodedDocValues;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
+import org.apache.lucene.document.Field;
+
 public abstract class AbstractLuceneNumericFieldCodec<F, E extends Number> implements LuceneFieldCodec<F, E> {
 
 	private final Indexing indexing;
@@ -51,6 +56,42 @@ public final void addToDocument(LuceneDocumentContent documentBuilder, String ab
 		}
 	}
 
+	/**
+	 * @return {@code true} if values are only indexed as doc values, i.e. are neither searchable nor projectable,
+	 * and can thus be updated in place provided they were indexed with
+	 * {@link #addUpdatableDocValuesToDocument(LuceneDocumentContent, String, Object)}.
+	 */
+	public boolean isDocValuesOnly() {
+		return Indexing.DISABLED == indexing && DocValues.ENABLED == docValues && Storage.DISABLED == storage;
+	}
+
+	/**
+	 * Alternative to {@link #addToDocument(LuceneDocumentContent, String, Object)} for {@link #isDocValuesOnly() doc-values-only}
+	 * single-valued fields, indexing the value as doc values that can later be
+	 * {@link #createDocValuesUpdate(String, Object) updated in place}.
+	 */
+	public final void addUpdatableDocValuesToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
+			F value) {
+		if ( value == null && indexNullAsValue != null ) {
+			value = indexNullAsValue;
+		}
+
+		if ( value == null ) {
+			return;
+		}
+
+		documentBuilder.addField( getDomain().createUpdatableDocValuesField( absoluteFieldPath, encode( value ) ) );
+	}
+
+	public final Field createDocValuesUpdate(String absoluteFieldPath, F value) {
+		if ( value == null && indexNullAsValue != null ) {
+			value = indexNullAsValue;
+		}
+
+		// A null value resets the doc value
+		return getDomain().createUpdatableDocValuesField( absoluteFieldPath, value == null ? null : encode( value ) );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?, ?> obj) {
 		if ( this == obj ) {
@@ -59,6 +100,23 @@ public boolean isCompatibleWith(LuceneFieldCodec<?, ?> obj) {
 		return getClass() == obj.getClass();
 	}
 
+	@Override
+	public <T> DecodedDocValues.Factory<T> projectableDocValuesOrNull(Function<? super E, ? extends T> decoder) {
+		if ( DocValues.ENABLED != docValues || Storage.ENABLED != storage || !isDocValueEncodingLossless() ) {
+			return null;
+		}
+		LuceneNumericDomain<E> domain = getDomain();
+		return DecodedDocValues.numeric( value -> decoder.apply( domain.sortedDocValueToTerm( value ) ) );
+	}
+
+	/**
+	 * @return {@code true} if the encoded value can be decoded to the exact same value as the stored field,
+	 * {@code false} if encoding loses information (precision, time zone, ...).
+	 */
+	boolean isDocValueEncodingLossless() {
+		return false;
+	}
+
 	public abstract LuceneNumericDomain<E> getDomain();
 
 	abstract void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
@@ -14,6 +14,8 @@
 import org.hibernate.search.util.common.data.Range;
 
 import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
@@ -28,6 +30,11 @@ public static LuceneNumericDomain<Double> get() {
 		return INSTANCE;
 	}
 
+	@Override
+	public Class<Double> getValueType() {
+		return Double.class;
+	}
+
 	@Override
 	public Double getMinValue() {
 		return -Double.MAX_VALUE;
@@ -101,6 +108,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Doubl
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.doubleToSortableLong( numericValue ) );
 	}
 
+	@Override
+	public Field createUpdatableDocValuesField(String absoluteFieldPath, Double numericValue) {
+		return new NumericDocValuesField( absoluteFieldPath, numericValue == null ? null : NumericUtils.doubleToSortableLong( numericValue ) );
+	}
+
 	@Override
 	public FieldComparator<Double> createFieldComparator(String fieldName, int numHits,
 			Double missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +18,7 @@
 import org.hibernate.search.backend.lucene.work.impl.SingleDocumentIndexingWork;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -25,6 +27,8 @@
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 
+import org.apache.lucene.document.Field;
+
 public class LuceneIndexIndexingPlan implements IndexIndexingPlan {
 
 	private final LuceneWorkFactory factory;
@@ -79,6 +83,25 @@ public void addOrUpdate(DocumentReferenceProvider referenceProvider,
 		) );
 	}
 
+	@Override
+	public boolean supportsPartialUpdate(Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		return indexEntryFactory.supportsDocValuesUpdate( tenantId, fieldReferences );
+	}
+
+	@Override
+	public void updatePartially(DocumentReferenceProvider referenceProvider,
+			Collection<? extends IndexFieldReference<?>> fieldReferences, DocumentContributor documentContributor) {
+		String id = referenceProvider.identifier();
+		String routingKey = referenceProvider.routingKey();
+
+		List<Field> updates = indexEntryFactory.createDocValuesUpdate( fieldReferences, documentContributor );
+
+		collect( id, routingKey, factory.updateDocValues(
+				tenantId, indexManagerContext.mappedTypeName(), referenceProvider.entityIdentifier(),
+				id, updates
+		) );
+	}
+
 	@Override
 	public void delete(DocumentReferenceProvider referenceProvider) {
 		String id = referenceProvider.identifier();
@@ -60,6 +60,18 @@ public CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.refresh(), false, operationSubmitter );
 	}
 
+	@Override
+	public CompletableFuture<?> startBulkLoading(OperationSubmitter operationSubmitter) {
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.startBulkLoading(), false,
+				operationSubmitter );
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoading(OperationSubmitter operationSubmitter) {
+		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.stopBulkLoading(), false,
+				operationSubmitter );
+	}
+
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
 			IndexManagementWork<T> work, boolean commit, OperationSubmitter operationSubmitter) {
 		CompletableFuture<?>[] writeFutures = new CompletableFuture[orchestrators.size()];
@@ -12,15 +12,29 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R, ER> {
 
+	/**
+	 * Collects and extracts the top {@code limit} hits, skipping {@code offset} hits.
+	 *
+	 * @param after The last hit of a previous page, or {@code null} to start from the first hit.
+	 * Unlike in {@link #scroll(IndexSearcher, IndexReaderMetadataResolver, ScoreDoc, int, int)},
+	 * it may have been returned by a call using a different index reader.
+	 */
 	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit, int totalHitCountThreshold)
+			int offset, ScoreDoc after, Integer limit, int totalHitCountThreshold)
 			throws IOException;
 
+	/**
+	 * Collects the top {@code limit} hits following the given hit, without extracting them.
+	 *
+	 * @param after The last hit returned by a previous call, or {@code null} to start from the first hit.
+	 * Must have been returned by a previous call using the same index reader.
+	 */
 	ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold)
+			ScoreDoc after, int limit, int totalHitCountThreshold)
 			throws IOException;
 
 	int count(IndexSearcher indexSearcher) throws IOException;
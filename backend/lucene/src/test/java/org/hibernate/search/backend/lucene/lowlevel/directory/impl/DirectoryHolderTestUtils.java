@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSLockFactory;
+
+final class DirectoryHolderTestUtils {
+
+	private DirectoryHolderTestUtils() {
+	}
+
+	static LocalFileSystemDirectoryHolder localHolder(Path path,
+			SnapshotRestoreConfiguration snapshotRestoreConfiguration, EventContext eventContext) {
+		return new LocalFileSystemDirectoryHolder( path,
+				FileSystemAccessStrategy.get( FileSystemAccessStrategyName.AUTO ), FSLockFactory::getDefault,
+				null, snapshotRestoreConfiguration, eventContext );
+	}
+
+	static void addDocuments(IndexWriter writer, int count) throws IOException {
+		for ( int i = 0; i < count; i++ ) {
+			Document document = new Document();
+			document.add( new StringField( "id", String.valueOf( i ), Field.Store.NO ) );
+			writer.addDocument( document );
+		}
+	}
+
+	static int docCount(Directory directory) throws IOException {
+		if ( !DirectoryReader.indexExists( directory ) ) {
+			return 0;
+		}
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+}
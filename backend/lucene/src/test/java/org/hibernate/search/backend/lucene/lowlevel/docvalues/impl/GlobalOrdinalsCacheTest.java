@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+
+class GlobalOrdinalsCacheTest {
+
+	private static final String FIELD = "field";
+	private static final String OTHER_FIELD = "otherField";
+
+	@Test
+	void cachedUntilSegmentClosed() throws IOException {
+		GlobalOrdinalsCache cache = new GlobalOrdinalsCache( 10 );
+		try ( Directory directory = new ByteBuffersDirectory() ) {
+			try ( IndexWriter writer = createWriter( directory ) ) {
+				addSegment( writer, "a", "b" );
+				addSegment( writer, "b", "c" );
+			}
+			GlobalOrdinals first;
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				first = cache.get( reader, FIELD );
+				assertThat( cache.get( reader, FIELD ) ).isSameAs( first );
+				// Same segments through a different top-level reader, as for each query in Hibernate Search:
+				// same mapping.
+				try ( MultiReader multiReader = new MultiReader( new IndexReader[] { reader }, false ) ) {
+					assertThat( cache.get( multiReader, FIELD ) ).isSameAs( first );
+				}
+				assertThat( cache.size() ).isEqualTo( 1 );
+			}
+			// Segments were closed: the mapping was evicted.
+			assertThat( cache.size() ).isZero();
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				assertThat( cache.get( reader, FIELD ) ).isNotSameAs( first );
+			}
+		}
+	}
+
+	@Test
+	void cachedAcrossDeletes() throws IOException {
+		GlobalOrdinalsCache cache = new GlobalOrdinalsCache( 10 );
+		try ( Directory directory = new ByteBuffersDirectory();
+				IndexWriter writer = createWriter( directory ) ) {
+			addSegment( writer, "a", "b" );
+			addSegment( writer, "b", "c" );
+			try ( DirectoryReader reader = DirectoryReader.open( writer ) ) {
+				GlobalOrdinals first = cache.get( reader, FIELD );
+
+				writer.deleteDocuments( new Term( "id", "a" ) );
+				try ( DirectoryReader readerWithDeletes = DirectoryReader.openIfChanged( reader, writer ) ) {
+					assertThat( readerWithDeletes ).isNotNull();
+					assertThat( readerWithDeletes.numDocs() ).isEqualTo( 3 );
+					// Deletes don't change doc values: segment cores are the same, and so is the mapping.
+					assertThat( cache.get( readerWithDeletes, FIELD ) ).isSameAs( first );
+					assertThat( first.lookupOrd( readerWithDeletes, 0 ).utf8ToString() ).isEqualTo( "a" );
+				}
+				// The cores are still used by the first reader.
+				assertThat( cache.size() ).isEqualTo( 1 );
+			}
+		}
+	}
+
+	@Test
+	void leastRecentlyUsedEvictedWhenFull() throws IOException {
+		GlobalOrdinalsCache cache = new GlobalOrdinalsCache( 2 );
+		try ( Directory directory = new ByteBuffersDirectory() ) {
+			try ( IndexWriter writer = createWriter( directory ) ) {
+				addSegment( writer, "a", "b" );
+				addSegment( writer, "b", "c" );
+			}
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				GlobalOrdinals first = cache.get( reader, FIELD );
+				GlobalOrdinals other = cache.get( reader, OTHER_FIELD );
+				// Use the first mapping again, so that the other one is the least recently used.
+				assertThat( cache.get( reader, FIELD ) ).isSameAs( first );
+
+				cache.get( reader, "yetAnotherField" );
+				assertThat( cache.size() ).isEqualTo( 2 );
+				assertThat( cache.get( reader, FIELD ) ).isSameAs( first );
+				assertThat( cache.get( reader, OTHER_FIELD ) ).isNotSameAs( other );
+			}
+			assertThat( cache.size() ).isZero();
+		}
+	}
+
+	@Test
+	void disabled() throws IOException {
+		GlobalOrdinalsCache cache = new GlobalOrdinalsCache( 0 );
+		try ( Directory directory = new ByteBuffersDirectory() ) {
+			try ( IndexWriter writer = createWriter( directory ) ) {
+				addSegment( writer, "a", "b" );
+				addSegment( writer, "b", "c" );
+			}
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				GlobalOrdinals first = cache.get( reader, FIELD );
+				assertThat( cache.get( reader, FIELD ) ).isNotSameAs( first );
+				assertThat( cache.size() ).isZero();
+			}
+		}
+	}
+
+	private static IndexWriter createWriter(Directory directory) throws IOException {
+		return new IndexWriter( directory, new IndexWriterConfig().setMergePolicy( NoMergePolicy.INSTANCE ) );
+	}
+
+	private static void addSegment(IndexWriter writer, String... terms) throws IOException {
+		for ( String term : terms ) {
+			Document document = new Document();
+			document.add( new StringField( "id", term, Field.Store.NO ) );
+			document.add( new SortedSetDocValuesField( FIELD, new BytesRef( term ) ) );
+			document.add( new SortedSetDocValuesField( OTHER_FIELD, new BytesRef( term ) ) );
+			writer.addDocument( document );
+		}
+		writer.commit();
+	}
+}
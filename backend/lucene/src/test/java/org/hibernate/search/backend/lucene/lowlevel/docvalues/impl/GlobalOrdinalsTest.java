@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LongValues;
+
+class GlobalOrdinalsTest {
+
+	private static final String FIELD = "field";
+
+	@Test
+	void consistentWithMultiDocValues() throws IOException {
+		try ( Directory directory = new ByteBuffersDirectory() ) {
+			try ( IndexWriter writer = createWriter( directory ) ) {
+				addSegment( writer, "b", "d", "f" );
+				addSegment( writer, "a", "d" );
+				addSegment( writer, "c", "f", "g" );
+			}
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				assertThat( reader.leaves() ).hasSize( 3 );
+				GlobalOrdinals globalOrdinals = GlobalOrdinals.build( reader.leaves(), FIELD );
+				SortedSetDocValues multiValues = MultiDocValues.getSortedSetValues( reader, FIELD );
+
+				for ( LeafReaderContext leaf : reader.leaves() ) {
+					SortedSetDocValues leafValues = leaf.reader().getSortedSetDocValues( FIELD );
+					LongValues segmentToGlobalOrds = globalOrdinals.segmentToGlobalOrds( leaf.ord );
+					for ( long segmentOrd = 0; segmentOrd < leafValues.getValueCount(); segmentOrd++ ) {
+						BytesRef term = BytesRef.deepCopyOf( leafValues.lookupOrd( segmentOrd ) );
+						long globalOrd = segmentToGlobalOrds.get( segmentOrd );
+						assertThat( globalOrd ).isEqualTo( multiValues.lookupTerm( term ) );
+						assertThat( globalOrdinals.lookupOrd( reader, globalOrd ) ).isEqualTo( term );
+					}
+				}
+			}
+		}
+	}
+
+	private static IndexWriter createWriter(Directory directory) throws IOException {
+		return new IndexWriter( directory, new IndexWriterConfig().setMergePolicy( NoMergePolicy.INSTANCE ) );
+	}
+
+	private static void addSegment(IndexWriter writer, String... terms) throws IOException {
+		for ( String term : terms ) {
+			Document document = new Document();
+			document.add( new SortedSetDocValuesField( FIELD, new BytesRef( term ) ) );
+			writer.addDocument( document );
+		}
+		writer.commit();
+	}
+}
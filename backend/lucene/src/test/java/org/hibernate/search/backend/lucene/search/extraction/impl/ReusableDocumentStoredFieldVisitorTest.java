@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+class ReusableDocumentStoredFieldVisitorTest {
+
+	@Test
+	void fieldNumbersDifferAcrossIndexes() throws IOException {
+		try ( Directory directory1 = new ByteBuffersDirectory();
+				Directory directory2 = new ByteBuffersDirectory() ) {
+			// Same fields, added in a different order: field numbers differ between the two indexes.
+			try ( IndexWriter writer = new IndexWriter( directory1, new IndexWriterConfig() ) ) {
+				Document document = new Document();
+				document.add( new StringField( "a", "a1", Field.Store.YES ) );
+				document.add( new TextField( "b", "b1", Field.Store.YES ) );
+				document.add( new StoredField( "c", 1 ) );
+				writer.addDocument( document );
+			}
+			try ( IndexWriter writer = new IndexWriter( directory2, new IndexWriterConfig() ) ) {
+				Document document = new Document();
+				document.add( new TextField( "b", "b2", Field.Store.YES ) );
+				document.add( new StoredField( "c", 2 ) );
+				document.add( new StringField( "a", "a2", Field.Store.YES ) );
+				writer.addDocument( document );
+			}
+
+			try ( MultiReader reader = new MultiReader( DirectoryReader.open( directory1 ),
+					DirectoryReader.open( directory2 ) ) ) {
+				ReusableDocumentStoredFieldVisitor visitor = new ReusableDocumentStoredFieldVisitor( Set.of( "a", "c" ) );
+				StoredFields storedFields = reader.storedFields();
+				// Visit documents multiple times, to exercise cached entries.
+				for ( int i = 0; i < 2; i++ ) {
+					storedFields.document( 0, visitor );
+					assertFields( visitor.getDocumentAndReset(), "a1", 1 );
+					storedFields.document( 1, visitor );
+					assertFields( visitor.getDocumentAndReset(), "a2", 2 );
+				}
+			}
+		}
+	}
+
+	private static void assertFields(Document document, String expectedA, int expectedC) {
+		assertThat( document.getField( "b" ) ).isNull();
+		IndexableField a = document.getField( "a" );
+		assertThat( a.stringValue() ).isEqualTo( expectedA );
+		assertThat( a.fieldType().indexOptions() ).isEqualTo( IndexOptions.DOCS );
+		assertThat( document.getField( "c" ).numericValue() ).isEqualTo( expectedC );
+	}
+
+}
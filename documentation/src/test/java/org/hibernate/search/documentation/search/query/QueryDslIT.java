@@ -254,6 +254,27 @@ void pagination() {
 		} );
 	}
 
+	@Test
+	void pagination_pageToken() {
+		with( entityManagerFactory ).runInTransaction( entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetching-pagination-pageToken[]
+			SearchQuery<Book> query = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.sort( f -> f.field( "title_sort" ) ) // <1>
+					.toQuery();
+			SearchResult<Book> firstPage = query.fetchAfter( null, 2 ); // <2>
+			String pageToken = firstPage.nextPageToken(); // <3>
+			SearchResult<Book> secondPage = query.fetchAfter( pageToken, 2 ); // <4>
+			// end::fetching-pagination-pageToken[]
+
+			assertThat( firstPage.hits() ).hasSize( 2 );
+			assertThat( secondPage.hits() ).hasSize( 2 )
+					.doesNotContainAnyElementsOf( firstPage.hits() );
+			assertThat( query.fetchAfter( secondPage.nextPageToken(), 2 ).hits() ).isEmpty();
+		} );
+	}
+
 	@Test
 	void scrolling() {
 		with( entityManagerFactory ).runInTransaction( entityManager -> {
@@ -16,6 +16,8 @@
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.common.execution.spi.SimpleScheduledExecutor;
 import org.hibernate.search.engine.logging.impl.ExecutorLog;
+import org.hibernate.search.engine.metrics.impl.NoOpMetricsRecorder;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
 
@@ -54,11 +56,31 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer) {
+		this( name, processor, maxTasksPerBatch, fair, failureHandler, blockingRetryProducer,
+				NoOpMetricsRecorder.INSTANCE );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 * @param blockingRetryProducer A retry work producer that would be called in case of offloading operation submitter and full queue.
+	 * @param metricsRecorder A recorder notified of the size and duration of each processed batch.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			FailureHandler failureHandler, Consumer<? super W> blockingRetryProducer,
+			MetricsRecorder metricsRecorder) {
 		this.name = name;
 		this.failureHandler = failureHandler;
 		this.blockingRetryProducer = blockingRetryProducer;
 		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch, metricsRecorder );
 	}
 
 	@Override
@@ -152,14 +174,16 @@ public CompletableFuture<?> completion() {
 		private final BlockingQueue<W> workQueue;
 		private final int maxTasksPerBatch;
 		private final List<W> workBuffer;
+		private final MetricsRecorder metricsRecorder;
 
 		private BatchWorker(String name, P processor, BlockingQueue<W> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, MetricsRecorder metricsRecorder) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.metricsRecorder = metricsRecorder;
 		}
 
 		@Override
@@ -172,7 +196,10 @@ public CompletableFuture<?> work() {
 				return completedFuture;
 			}
 
+			long startNanos = System.nanoTime();
 			int workCount = workBuffer.size();
+			// Works that were left in the queue: a consistently high value means the processor can't keep up.
+			int remainingQueueSize = workQueue.size();
 			boolean traceEnabled = ExecutorLog.INSTANCE.isTraceEnabled();
 			if ( traceEnabled ) {
 				ExecutorLog.INSTANCE.numberOfWorksInExecutor( workCount, name );
@@ -195,6 +222,10 @@ public CompletableFuture<?> work() {
 					ExecutorLog.INSTANCE.numberOfProcessedWorksInExecutor( workCount, name );
 				} );
 			}
+			if ( metricsRecorder.isEnabled() ) {
+				future.whenComplete( (result, throwable) -> metricsRecorder.batchProcessed( name, workCount,
+						remainingQueueSize, System.nanoTime() - startNanos ) );
+			}
 
 			return future;
 		}
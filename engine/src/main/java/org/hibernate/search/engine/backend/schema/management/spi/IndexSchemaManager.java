@@ -96,6 +96,46 @@ CompletableFuture<?> createOrValidate(ContextualFailureCollector failureCollecto
 	 */
 	CompletableFuture<?> validate(ContextualFailureCollector failureCollector, OperationSubmitter operationSubmitter);
 
+	/**
+	 * Starts rebuilding the index into a new, empty generation.
+	 * <p>
+	 * Once the returned future completes, all writes target the new generation,
+	 * while searches keep targeting the current generation
+	 * until {@link #finishRebuild(OperationSubmitter)} is called.
+	 * <p>
+	 * The schema must exist.
+	 *
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future.
+	 */
+	@Incubating
+	CompletableFuture<?> startRebuild(OperationSubmitter operationSubmitter);
+
+	/**
+	 * Finishes a rebuild started with {@link #startRebuild(OperationSubmitter)}:
+	 * atomically switches searches to the new generation,
+	 * then drops the previous generation.
+	 *
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future.
+	 */
+	@Incubating
+	CompletableFuture<?> finishRebuild(OperationSubmitter operationSubmitter);
+
+	/**
+	 * Aborts a rebuild started with {@link #startRebuild(OperationSubmitter)}:
+	 * drops the new generation and switches writes back to the current generation.
+	 * <p>
+	 * Writes that happened since the rebuild started are lost.
+	 * <p>
+	 * Does nothing if no rebuild is in progress.
+	 *
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future.
+	 */
+	@Incubating
+	CompletableFuture<?> abortRebuild(OperationSubmitter operationSubmitter);
+
 	/**
 	 * Accepts a collector that will receive the schema export represented by this index schema manager.
 	 */
@@ -11,6 +11,7 @@
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 
 /**
@@ -30,6 +31,8 @@ public interface BackendBuildContext {
 
 	TimingSource timingSource();
 
+	MetricsRecorder metricsRecorder();
+
 	boolean multiTenancyEnabled();
 
 	Optional<String> backendName();
@@ -4,10 +4,14 @@
  */
 package org.hibernate.search.engine.backend.work.execution.spi;
 
+import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.annotation.Incubating;
 import org.hibernate.search.util.common.impl.Throwables;
 
 /**
@@ -39,6 +43,32 @@ public interface IndexIndexingPlan {
 	 */
 	void addOrUpdate(DocumentReferenceProvider documentReferenceProvider, DocumentContributor documentContributor);
 
+	/**
+	 * @param fieldReferences References to fields of the index.
+	 * @return {@code true} if this plan can {@link #updatePartially(DocumentReferenceProvider, Collection, DocumentContributor)
+	 * update only the given fields} of a document, leaving other fields untouched; {@code false} otherwise.
+	 */
+	@Incubating
+	default boolean supportsPartialUpdate(Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		return false;
+	}
+
+	/**
+	 * Update some fields of a document in the index, leaving other fields untouched.
+	 * <p>
+	 * Must only be called if {@link #supportsPartialUpdate(Collection)} returned {@code true} for the same fields.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to update.
+	 * @param fieldReferences References to the fields to update.
+	 * Fields the contributor does not add any value to will be cleared.
+	 * @param documentContributor A contributor to the document, adding values to the given fields only.
+	 */
+	@Incubating
+	default void updatePartially(DocumentReferenceProvider documentReferenceProvider,
+			Collection<? extends IndexFieldReference<?>> fieldReferences, DocumentContributor documentContributor) {
+		throw new AssertionFailure( "This indexing plan does not support partial updates: " + this );
+	}
+
 	/**
 	 * Delete a document from the index.
 	 *
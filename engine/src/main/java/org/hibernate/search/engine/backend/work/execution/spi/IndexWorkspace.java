@@ -8,6 +8,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * The entry point for explicit index operations on a single index.
@@ -59,4 +60,30 @@ CompletableFuture<?> flush(OperationSubmitter operationSubmitter,
 	CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 			UnsupportedOperationBehavior unsupportedOperationBehavior);
 
+	/**
+	 * Tune the index for bulk loading, e.g. during mass indexing,
+	 * until {@link #stopBulkLoading(OperationSubmitter)} is called.
+	 * <p>
+	 * While bulk loading, changes may not be committed nor visible in search queries
+	 * until bulk loading stops.
+	 * Backends that do not need specific tuning ignore this operation.
+	 * @param operationSubmitter The behavior to adopt when submitting the operation to a full queue/executor.
+	 * @return A completion stage for the executed operation.
+	 */
+	@Incubating
+	default CompletableFuture<?> startBulkLoading(OperationSubmitter operationSubmitter) {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	/**
+	 * Revert the tuning applied by {@link #startBulkLoading(OperationSubmitter)},
+	 * committing changes and making them visible in search queries.
+	 * @param operationSubmitter The behavior to adopt when submitting the operation to a full queue/executor.
+	 * @return A completion stage for the executed operation.
+	 */
+	@Incubating
+	default CompletableFuture<?> stopBulkLoading(OperationSubmitter operationSubmitter) {
+		return CompletableFuture.completedFuture( null );
+	}
+
 }
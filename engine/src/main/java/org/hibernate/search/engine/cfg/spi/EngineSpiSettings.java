@@ -12,6 +12,9 @@
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
 import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
+import org.hibernate.search.engine.metrics.impl.JfrMetricsRecorder;
+import org.hibernate.search.engine.metrics.impl.NoOpMetricsRecorder;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 
 /**
  * Configuration properties for the Hibernate Search engine that are considered SPI (and not API).
@@ -47,6 +50,19 @@ private EngineSpiSettings() {
 	 */
 	public static final String THREAD_PROVIDER = PREFIX + Radicals.THREAD_PROVIDER;
 
+	/**
+	 * The {@link MetricsRecorder} used to record runtime metrics
+	 * of indexing queues, indexes, clients, search queries and mass indexing.
+	 * <p>
+	 * Expects a reference to a bean of type {@link MetricsRecorder}.
+	 * Built-in implementations can be referenced by name:
+	 * {@value NoOpMetricsRecorder#NAME} to disable metrics,
+	 * or {@value JfrMetricsRecorder#NAME} to emit Java Flight Recorder events.
+	 * <p>
+	 * Defaults to {@link Defaults#METRICS_RECORDER}, which does not record anything.
+	 */
+	public static final String METRICS_RECORDER = PREFIX + Radicals.METRICS_RECORDER;
+
 	/**
 	 * Configuration property keys without the {@link #PREFIX prefix}.
 	 */
@@ -57,6 +73,7 @@ private Radicals() {
 
 		public static final String BEAN_CONFIGURERS = "bean_configurers";
 		public static final String THREAD_PROVIDER = "thread_provider";
+		public static final String METRICS_RECORDER = "metrics_recorder";
 	}
 
 	/**
@@ -70,5 +87,7 @@ private Defaults() {
 		public static final List<BeanReference<? extends BeanConfigurer>> BEAN_CONFIGURERS = Collections.emptyList();
 		public static final BeanReference<? extends ThreadProvider> THREAD_PROVIDER =
 				BeanReference.of( ThreadProvider.class, EmbeddedThreadProvider.NAME );
+		public static final BeanReference<? extends MetricsRecorder> METRICS_RECORDER =
+				BeanReference.of( MetricsRecorder.class, NoOpMetricsRecorder.NAME );
 	}
 }
@@ -11,6 +11,7 @@
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 
 class DelegatingBuildContext {
@@ -52,4 +53,8 @@ public EngineThreads engineThreads() {
 	public TimingSource timingSource() {
 		return delegate.getTimingSource();
 	}
+
+	public MetricsRecorder metricsRecorder() {
+		return delegate.getMetricsRecorder();
+	}
 }
@@ -11,6 +11,7 @@
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.FailureCollector;
 
@@ -28,13 +29,15 @@ class RootBuildContext {
 
 	private final EngineThreads engineThreads;
 	private final TimingSource timingSource;
+	private final MetricsRecorder metricsRecorder;
 
 	RootBuildContext(ConfigurationPropertySource propertySource,
 			ClassResolver classResolver, ResourceResolver resourceResolver,
 			BeanResolver beanResolver,
 			FailureCollector failureCollector,
 			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler,
-			EngineThreads engineThreads, TimingSource timingSource) {
+			EngineThreads engineThreads, TimingSource timingSource,
+			MetricsRecorder metricsRecorder) {
 		this.propertySource = propertySource;
 		this.classResolver = classResolver;
 		this.resourceResolver = resourceResolver;
@@ -44,6 +47,7 @@ class RootBuildContext {
 		this.failureHandler = failureHandler;
 		this.engineThreads = engineThreads;
 		this.timingSource = timingSource;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	ConfigurationPropertySource getConfigurationPropertySource() {
@@ -81,4 +85,8 @@ EngineThreads getEngineThreads() {
 	TimingSource getTimingSource() {
 		return timingSource;
 	}
+
+	MetricsRecorder getMetricsRecorder() {
+		return metricsRecorder;
+	}
 }
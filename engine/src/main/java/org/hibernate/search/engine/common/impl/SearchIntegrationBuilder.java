@@ -38,6 +38,7 @@
 import org.hibernate.search.engine.mapper.model.spi.MappableTypeModel;
 import org.hibernate.search.engine.mapper.model.spi.TypeMetadataContributorProvider;
 import org.hibernate.search.engine.mapper.model.spi.TypeMetadataDiscoverer;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.impl.EngineEventContextMessages;
 import org.hibernate.search.engine.reporting.impl.FailSafeFailureHandlerWrapper;
@@ -60,6 +61,12 @@ public class SearchIntegrationBuilder implements SearchIntegration.Builder {
 					.withDefault( EngineSpiSettings.Defaults.THREAD_PROVIDER )
 					.build();
 
+	private static final ConfigurationProperty<BeanReference<? extends MetricsRecorder>> METRICS_RECORDER =
+			ConfigurationProperty.forKey( EngineSpiSettings.Radicals.METRICS_RECORDER )
+					.asBeanReference( MetricsRecorder.class )
+					.withDefault( EngineSpiSettings.Defaults.METRICS_RECORDER )
+					.build();
+
 	private final SearchIntegrationEnvironment environment;
 	private final Optional<SearchIntegrationImpl> previousIntegration;
 	private final Map<MappingKey<?, ?>, MappingInitiator<?, ?>> mappingInitiators = new LinkedHashMap<>();
@@ -100,6 +107,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 		BeanResolver beanResolver = environment.beanResolver();
 		BeanHolder<? extends FailureHandler> failureHandlerHolder = null;
 		BeanHolder<? extends ThreadProvider> threadProviderHolder = null;
+		BeanHolder<? extends MetricsRecorder> metricsRecorderHolder = null;
 		IndexManagerBuildingStateHolder indexManagerBuildingStateHolder = null;
 		// Use a LinkedHashMap for deterministic iteration
 		List<MappingBuildingState<?, ?>> mappingBuildingStates = new ArrayList<>();
@@ -122,12 +130,13 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			ThreadPoolProviderImpl threadPoolProvider = new ThreadPoolProviderImpl( threadProviderHolder );
 			engineThreads = new EngineThreads( threadPoolProvider );
 			timingSource = new DefaultTimingSource( engineThreads );
+			metricsRecorderHolder = METRICS_RECORDER.getAndTransform( propertySource, beanResolver::resolve );
 
 			RootBuildContext rootBuildContext = new RootBuildContext(
 					propertySource,
 					environment.classResolver(), environment.resourceResolver(), beanResolver,
 					failureCollector, threadPoolProvider, failureHandler,
-					engineThreads, timingSource
+					engineThreads, timingSource, metricsRecorderHolder.get()
 			);
 
 			indexManagerBuildingStateHolder =
@@ -197,7 +206,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 					indexManagerBuildingStateHolder.getBackendNonStartedStates(),
 					indexManagerBuildingStateHolder.getIndexManagersNonStartedStates(),
 					environment.propertyChecker(),
-					engineThreads, timingSource, previousIntegration
+					engineThreads, timingSource, metricsRecorderHolder, previousIntegration
 			);
 		}
 		catch (RuntimeException e) {
@@ -237,6 +246,7 @@ public SearchIntegrationPartialBuildState prepareBuild() {
 			closer.pushAll( holder -> holder.closeOnFailure( closer ), indexManagerBuildingStateHolder );
 			// Close environment resources before aborting
 			closer.pushAll( BeanHolder::close, threadProviderHolder );
+			closer.pushAll( BeanHolder::close, metricsRecorderHolder );
 			closer.pushAll( SearchIntegrationEnvironment::close, environment );
 			closer.push( EngineThreads::onStop, engineThreads );
 			closer.push( TimingSource::stop, timingSource );
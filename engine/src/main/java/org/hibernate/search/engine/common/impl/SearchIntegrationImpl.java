@@ -28,6 +28,7 @@
 import org.hibernate.search.engine.logging.impl.ConfigurationLog;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingKey;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.impl.EngineEventContextMessages;
 import org.hibernate.search.engine.reporting.impl.EngineHints;
@@ -53,6 +54,7 @@ public class SearchIntegrationImpl implements SearchIntegration {
 
 	private final EngineThreads engineThreads;
 	private final TimingSource timingSource;
+	private final BeanHolder<? extends MetricsRecorder> metricsRecorderHolder;
 
 	SearchIntegrationImpl(BeanProvider beanProvider,
 			BeanHolder<? extends FailureHandler> failureHandlerHolder,
@@ -60,7 +62,8 @@ public class SearchIntegrationImpl implements SearchIntegration {
 			Map<MappingKey<?, ?>, MappingImplementor<?>> mappings,
 			Map<String, BackendImplementor> backends,
 			Map<String, IndexManagerImplementor> indexManagers,
-			EngineThreads engineThreads, TimingSource timingSource) {
+			EngineThreads engineThreads, TimingSource timingSource,
+			BeanHolder<? extends MetricsRecorder> metricsRecorderHolder) {
 		this.beanProvider = beanProvider;
 		this.failureHandlerHolder = failureHandlerHolder;
 		this.threadPoolProvider = threadPoolProvider;
@@ -69,6 +72,7 @@ public class SearchIntegrationImpl implements SearchIntegration {
 		this.indexManagers = indexManagers;
 		this.engineThreads = engineThreads;
 		this.timingSource = timingSource;
+		this.metricsRecorderHolder = metricsRecorderHolder;
 	}
 
 	@Override
@@ -159,6 +163,7 @@ public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.pushAll( ThreadPoolProviderImpl::close, threadPoolProvider );
 			closer.pushAll( BeanHolder::close, failureHandlerHolder );
+			closer.pushAll( BeanHolder::close, metricsRecorderHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 			closer.pushAll( EngineThreads::onStop, engineThreads );
 			closer.pushAll( TimingSource::stop, timingSource );
@@ -33,6 +33,7 @@
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingKey;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingPartialBuildState;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.impl.EngineEventContextMessages;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
@@ -62,6 +63,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 
 	private final EngineThreads engineThreads;
 	private final TimingSource timingSource;
+	private final BeanHolder<? extends MetricsRecorder> metricsRecorderHolder;
 	private final Optional<SearchIntegrationImpl> previousIntegration;
 
 	SearchIntegrationPartialBuildStateImpl(
@@ -73,6 +75,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 			Map<String, IndexManagerNonStartedState> nonStartedIndexManagers,
 			ConfigurationPropertyChecker partialConfigurationPropertyChecker,
 			EngineThreads engineThreads, TimingSource timingSource,
+			BeanHolder<? extends MetricsRecorder> metricsRecorderHolder,
 			Optional<SearchIntegrationImpl> previousIntegration) {
 		this.beanProvider = beanProvider;
 		this.beanResolver = beanResolver;
@@ -84,6 +87,7 @@ class SearchIntegrationPartialBuildStateImpl implements SearchIntegrationPartial
 		this.partialConfigurationPropertyChecker = partialConfigurationPropertyChecker;
 		this.engineThreads = engineThreads;
 		this.timingSource = timingSource;
+		this.metricsRecorderHolder = metricsRecorderHolder;
 		this.previousIntegration = previousIntegration;
 	}
 
@@ -99,6 +103,7 @@ public void closeOnFailure() {
 			closer.pushAll( BackendImplementor::stop, startedBackends.values() );
 			closer.pushAll( ThreadPoolProviderImpl::close, threadPoolProvider );
 			closer.pushAll( BeanHolder::close, failureHandlerHolder );
+			closer.pushAll( BeanHolder::close, metricsRecorderHolder );
 			closer.pushAll( BeanProvider::close, beanProvider );
 			closer.pushAll( EngineThreads::onStop, engineThreads );
 			closer.pushAll( TimingSource::stop, timingSource );
@@ -246,7 +251,7 @@ public SearchIntegration finalizeIntegration() {
 					fullyBuiltStartedMappings,
 					startedBackends,
 					startedIndexManagers,
-					engineThreads, timingSource
+					engineThreads, timingSource, metricsRecorderHolder
 			);
 			integrationHandle.initialize( integration );
 
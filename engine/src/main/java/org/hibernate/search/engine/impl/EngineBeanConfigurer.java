@@ -9,6 +9,9 @@
 import org.hibernate.search.engine.environment.bean.spi.BeanConfigurer;
 import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
 import org.hibernate.search.engine.environment.thread.spi.ThreadProvider;
+import org.hibernate.search.engine.metrics.impl.JfrMetricsRecorder;
+import org.hibernate.search.engine.metrics.impl.NoOpMetricsRecorder;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.impl.LogFailureHandler;
 
@@ -23,5 +26,13 @@ public void configure(BeanConfigurationContext context) {
 				FailureHandler.class, LogFailureHandler.NAME,
 				beanResolver -> BeanHolder.of( new LogFailureHandler() )
 		);
+		context.define(
+				MetricsRecorder.class, NoOpMetricsRecorder.NAME,
+				beanResolver -> BeanHolder.of( NoOpMetricsRecorder.INSTANCE )
+		);
+		context.define(
+				MetricsRecorder.class, JfrMetricsRecorder.NAME,
+				beanResolver -> BeanHolder.of( new JfrMetricsRecorder() )
+		);
 	}
 }
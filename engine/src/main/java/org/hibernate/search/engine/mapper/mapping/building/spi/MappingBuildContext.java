@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.util.common.SearchException;
@@ -44,6 +45,8 @@ public interface MappingBuildContext {
 
 	ThreadPoolProvider threadPoolProvider();
 
+	MetricsRecorder metricsRecorder();
+
 	ConfigurationPropertySource configurationPropertySource();
 
 }
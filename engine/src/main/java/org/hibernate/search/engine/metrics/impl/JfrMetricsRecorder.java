@@ -0,0 +1,245 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.metrics.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A {@link MetricsRecorder} that emits Java Flight Recorder (JFR) events.
+ * <p>
+ * Events are only created when the corresponding JFR event type is enabled,
+ * so this recorder is cheap when no recording is in progress.
+ */
+public final class JfrMetricsRecorder implements MetricsRecorder {
+
+	public static final String NAME = "jfr";
+
+	private static final String CATEGORY = "Hibernate Search";
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public void batchProcessed(String executorName, int batchSize, int queueSize, long durationNanos) {
+		BatchProcessedEvent event = new BatchProcessedEvent();
+		if ( event.isEnabled() ) {
+			event.executorName = executorName;
+			event.batchSize = batchSize;
+			event.queueSize = queueSize;
+			event.processingDuration = durationNanos;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void indexCommitted(String indexName, long durationNanos) {
+		IndexCommitEvent event = new IndexCommitEvent();
+		if ( event.isEnabled() ) {
+			event.indexName = indexName;
+			event.commitDuration = durationNanos;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void indexReaderRefreshed(String indexName, long durationNanos) {
+		IndexReaderRefreshEvent event = new IndexReaderRefreshEvent();
+		if ( event.isEnabled() ) {
+			event.indexName = indexName;
+			event.refreshDuration = durationNanos;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void requestExecuted(String method, String endpoint, int statusCode, long durationNanos) {
+		RequestEvent event = new RequestEvent();
+		if ( event.isEnabled() ) {
+			event.method = method;
+			event.endpoint = endpoint;
+			event.statusCode = statusCode;
+			event.requestDuration = durationNanos;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void queryExecuted(Set<String> indexNames, int hitCount, long tookNanos) {
+		QueryEvent event = new QueryEvent();
+		if ( event.isEnabled() ) {
+			event.indexNames = String.join( ",", indexNames );
+			event.hitCount = hitCount;
+			event.took = tookNanos;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void queryResultCacheAccessed(Set<String> indexNames, boolean hit) {
+		QueryResultCacheAccessEvent event = new QueryResultCacheAccessEvent();
+		if ( event.isEnabled() ) {
+			event.indexNames = String.join( ",", indexNames );
+			event.hit = hit;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void directoryCacheAccessed(String indexName, long hitCount, long missCount, long cachedBytes) {
+		DirectoryCacheAccessEvent event = new DirectoryCacheAccessEvent();
+		if ( event.isEnabled() ) {
+			event.indexName = indexName;
+			event.hitCount = hitCount;
+			event.missCount = missCount;
+			event.cachedBytes = cachedBytes;
+			event.commit();
+		}
+	}
+
+	@Override
+	public void massIndexingBatchProcessed(String typeGroupName, int entityCount, long durationNanos) {
+		MassIndexingBatchEvent event = new MassIndexingBatchEvent();
+		if ( event.isEnabled() ) {
+			event.typeGroupName = typeGroupName;
+			event.entityCount = entityCount;
+			event.batchDuration = durationNanos;
+			event.commit();
+		}
+	}
+
+	// Durations are measured by the caller, so events are not timed by JFR itself: they are instant events.
+
+	@Name("org.hibernate.search.BatchProcessed")
+	@Label("Batch Processed")
+	@Description("A batch of works was processed by an indexing queue")
+	@Category({ CATEGORY, "Indexing" })
+	@StackTrace(false)
+	static final class BatchProcessedEvent extends Event {
+		@Label("Executor Name")
+		String executorName;
+		@Label("Batch Size")
+		int batchSize;
+		@Label("Queue Size")
+		int queueSize;
+		@Label("Processing Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long processingDuration;
+	}
+
+	@Name("org.hibernate.search.IndexCommit")
+	@Label("Index Commit")
+	@Description("Changes to an index were committed")
+	@Category({ CATEGORY, "Indexing" })
+	@StackTrace(false)
+	static final class IndexCommitEvent extends Event {
+		@Label("Index Name")
+		String indexName;
+		@Label("Commit Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long commitDuration;
+	}
+
+	@Name("org.hibernate.search.IndexReaderRefresh")
+	@Label("Index Reader Refresh")
+	@Description("An index reader was refreshed to make recent changes visible")
+	@Category({ CATEGORY, "Search" })
+	@StackTrace(false)
+	static final class IndexReaderRefreshEvent extends Event {
+		@Label("Index Name")
+		String indexName;
+		@Label("Refresh Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long refreshDuration;
+	}
+
+	@Name("org.hibernate.search.Request")
+	@Label("Request")
+	@Description("A request was sent to a remote cluster")
+	@Category({ CATEGORY, "Client" })
+	@StackTrace(false)
+	static final class RequestEvent extends Event {
+		@Label("Method")
+		String method;
+		@Label("Endpoint")
+		String endpoint;
+		@Label("Status Code")
+		int statusCode;
+		@Label("Request Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long requestDuration;
+	}
+
+	@Name("org.hibernate.search.Query")
+	@Label("Query")
+	@Description("A search query was executed")
+	@Category({ CATEGORY, "Search" })
+	@StackTrace(false)
+	static final class QueryEvent extends Event {
+		@Label("Index Names")
+		String indexNames;
+		@Label("Hit Count")
+		int hitCount;
+		@Label("Took")
+		@Timespan(Timespan.NANOSECONDS)
+		long took;
+	}
+
+	@Name("org.hibernate.search.QueryResultCacheAccess")
+	@Label("Query Result Cache Access")
+	@Description("The results of a search query were looked up in the query result cache")
+	@Category({ CATEGORY, "Search" })
+	@StackTrace(false)
+	static final class QueryResultCacheAccessEvent extends Event {
+		@Label("Index Names")
+		String indexNames;
+		@Label("Hit")
+		boolean hit;
+	}
+
+	@Name("org.hibernate.search.DirectoryCacheAccess")
+	@Label("Directory Cache Access")
+	@Description("Index files were opened from a directory caching newly flushed segments in memory")
+	@Category({ CATEGORY, "Indexing" })
+	@StackTrace(false)
+	static final class DirectoryCacheAccessEvent extends Event {
+		@Label("Index Name")
+		String indexName;
+		@Label("Hit Count")
+		long hitCount;
+		@Label("Miss Count")
+		long missCount;
+		@Label("Cached Bytes")
+		@DataAmount
+		long cachedBytes;
+	}
+
+	@Name("org.hibernate.search.MassIndexingBatch")
+	@Label("Mass Indexing Batch")
+	@Description("A batch of entities was loaded and indexed by a mass indexer")
+	@Category({ CATEGORY, "Mass Indexing" })
+	@StackTrace(false)
+	static final class MassIndexingBatchEvent extends Event {
+		@Label("Type Group Name")
+		String typeGroupName;
+		@Label("Entity Count")
+		int entityCount;
+		@Label("Batch Duration")
+		@Timespan(Timespan.NANOSECONDS)
+		long batchDuration;
+	}
+}
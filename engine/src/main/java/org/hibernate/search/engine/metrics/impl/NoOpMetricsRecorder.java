@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.metrics.impl;
+
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+
+public final class NoOpMetricsRecorder implements MetricsRecorder {
+
+	public static final String NAME = "no-op";
+
+	public static final NoOpMetricsRecorder INSTANCE = new NoOpMetricsRecorder();
+
+	private NoOpMetricsRecorder() {
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName();
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.engine.metrics.spi;
+
+import java.util.Set;
+
+/**
+ * A recorder of runtime metrics: indexing queues, index commits and refreshes,
+ * requests to remote clusters, search queries and mass indexing.
+ * <p>
+ * Implementations may forward these metrics to any metrics library,
+ * e.g. by recording JFR events or updating Micrometer meters.
+ * <p>
+ * All methods are called synchronously, from the thread that performed the recorded operation
+ * (in some cases, a background thread), so implementations must be thread-safe and return quickly.
+ * All methods do nothing by default, so that implementations only need to override methods they are interested in.
+ */
+public interface MetricsRecorder {
+
+	/**
+	 * @return {@code true} if this recorder records metrics, {@code false} if it ignores all calls.
+	 * When {@code false}, callers may skip the work needed to collect metrics altogether,
+	 * e.g. measuring durations or decorating components.
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Records the processing of a batch of works by a batching executor.
+	 *
+	 * @param executorName The name of the executor, e.g. the name of an indexing queue.
+	 * @param batchSize The number of works in the batch.
+	 * @param queueSize The number of works left in the queue of the executor when the batch was taken from the queue.
+	 * @param durationNanos The time it took to process the batch, in nanoseconds.
+	 */
+	default void batchProcessed(String executorName, int batchSize, int queueSize, long durationNanos) {
+	}
+
+	/**
+	 * Records a commit of changes to an index.
+	 *
+	 * @param indexName The name of the index.
+	 * @param durationNanos The time it took to commit, in nanoseconds.
+	 */
+	default void indexCommitted(String indexName, long durationNanos) {
+	}
+
+	/**
+	 * Records a refresh of an index reader, making recent changes visible to search queries.
+	 *
+	 * @param indexName The name of the index.
+	 * @param durationNanos The time it took to refresh, in nanoseconds.
+	 */
+	default void indexReaderRefreshed(String indexName, long durationNanos) {
+	}
+
+	/**
+	 * Records the execution of a request to a remote cluster.
+	 *
+	 * @param method The method of the request, e.g. {@code POST}.
+	 * @param endpoint The endpoint of the request, e.g. {@code _bulk} or {@code _search}.
+	 * @param statusCode The status code of the response, or {@code -1} if no response was received.
+	 * @param durationNanos The time it took to get a response, in nanoseconds.
+	 */
+	default void requestExecuted(String method, String endpoint, int statusCode, long durationNanos) {
+	}
+
+	/**
+	 * Records the execution of a search query.
+	 *
+	 * @param indexNames The names of the targeted indexes.
+	 * @param hitCount The number of hits returned by the query, i.e. the size of the fetched page.
+	 * @param tookNanos The time it took to execute the query, in nanoseconds,
+	 * as reported by the backend (which may exclude network latency).
+	 */
+	default void queryExecuted(Set<String> indexNames, int hitCount, long tookNanos) {
+	}
+
+	/**
+	 * Records an access to a cache of search query results.
+	 *
+	 * @param indexNames The names of the indexes targeted by the query.
+	 * @param hit {@code true} if the results were found in the cache,
+	 * {@code false} if the query had to be executed.
+	 */
+	default void queryResultCacheAccessed(Set<String> indexNames, boolean hit) {
+	}
+
+	/**
+	 * Records the opening of index files from a directory that caches some files in memory,
+	 * since the previous call for the same index.
+	 * <p>
+	 * Called when changes to the index are committed, and when the index is closed,
+	 * rather than on each file opening.
+	 *
+	 * @param indexName The name of the index.
+	 * @param hitCount The number of files read from the cache.
+	 * @param missCount The number of files read from the underlying storage.
+	 * @param cachedBytes The total size of the files held in the cache, in bytes.
+	 */
+	default void directoryCacheAccessed(String indexName, long hitCount, long missCount, long cachedBytes) {
+	}
+
+	/**
+	 * Records the loading and indexing of a batch of entities by a mass indexer.
+	 *
+	 * @param typeGroupName The name of the group of entity types being mass indexed.
+	 * @param entityCount The number of entities in the batch.
+	 * @param durationNanos The time it took to index the batch, in nanoseconds.
+	 */
+	default void massIndexingBatchProcessed(String typeGroupName, int entityCount, long durationNanos) {
+	}
+
+}
@@ -4,6 +4,9 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 /**
  * A base interface for subtypes of {@link SearchFetchable} allowing to
  * easily override the result type for all relevant methods.
@@ -21,9 +24,18 @@
 	@Override
 	R fetch(Integer offset, Integer limit);
 
+	@Override
+	R fetchAfter(String pageToken, Integer limit);
+
 	@Override
 	R fetchAll();
 
+	@Override
+	CompletionStage<R> fetchAsync(Integer limit, Executor executor);
+
+	@Override
+	CompletionStage<R> fetchAsync(Integer offset, Integer limit, Executor executor);
+
 	@Override
 	SC scroll(int chunkSize);
 
@@ -4,6 +4,9 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 /**
  * A base interface for subtypes of {@link SearchScroll} allowing to
  * easily override the result type for all relevant methods.
@@ -17,4 +20,7 @@
 	@Override
 	R next();
 
+	@Override
+	CompletionStage<R> nextAsync(Executor executor);
+
 }
@@ -6,10 +6,13 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A component allowing to fetch search results.
@@ -49,6 +52,35 @@
 	 */
 	SearchResult<H> fetch(Integer offset, Integer limit);
 
+	/**
+	 * Execute the query and return the {@link SearchResult},
+	 * starting right after the last hit of a previous result and limiting to {@code limit} hits.
+	 * <p>
+	 * Unlike {@link #fetch(Integer, Integer) offset-based pagination},
+	 * the cost of fetching a page with this method does not grow with the number of hits on previous pages,
+	 * which makes it suitable for deep pagination.
+	 * <p>
+	 * Hits are only guaranteed to be returned exactly once over successive pages
+	 * if the sort defines a total order on hits, e.g. if the last sort is on a field with unique values.
+	 * Changes to the index between two calls may also cause hits to be skipped or returned twice.
+	 *
+	 * @param pageToken A token returned by {@link SearchResult#nextPageToken()}
+	 * on the result of a previous execution of the same query, or {@code null} to fetch the first page.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return The {@link SearchResult}.
+	 * @throws SearchException If something goes wrong while executing the query,
+	 * if the given token is invalid for this query,
+	 * or if the backend cannot guarantee a stable order of hits for this query
+	 * (e.g. the Elasticsearch backend requires the last sort to be a field sort).
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	@Incubating
+	SearchResult<H> fetchAfter(String pageToken, Integer limit);
+
 	/**
 	 * Execute the query and return the hits as a {@link List},
 	 * limiting to {@code limit} hits.
@@ -138,6 +170,89 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the {@link SearchResult}, limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer, Executor)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param executor The executor to run blocking operations with, in particular entity loading.
+	 * @return A {@link CompletionStage} that will hold the {@link SearchResult}.
+	 */
+	@Incubating
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit, Executor executor);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the {@link SearchResult}, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * Backends that execute queries remotely (e.g. Elasticsearch) will not block any thread
+	 * while waiting for the response,
+	 * then will process the response and load entities in the given {@code executor}.
+	 * Backends that execute queries in-process (e.g. Lucene) will execute the whole query in the given {@code executor}.
+	 * <p>
+	 * Entity loading generally blocks the thread it runs in,
+	 * so the given {@code executor} should be able to run blocking operations.
+	 * The loading context (e.g. the Hibernate ORM session) must not be used until the returned stage completes.
+	 * <p>
+	 * The returned stage will complete exceptionally with a {@link SearchException} if something goes wrong
+	 * while executing the query,
+	 * with a {@link SearchTimeoutException} if a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query,
+	 * or with a mapper-specific exception if something goes wrong while loading entities.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param executor The executor to run blocking operations with, in particular entity loading.
+	 * @return A {@link CompletionStage} that will hold the {@link SearchResult}.
+	 */
+	@Incubating
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor executor);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the hits as a {@link List}, limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer, Executor)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @param executor The executor to run blocking operations with, in particular entity loading.
+	 * @return A {@link CompletionStage} that will hold the query hits.
+	 */
+	@Incubating
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit, Executor executor);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the hits as a {@link List}, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer, Executor)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @param executor The executor to run blocking operations with, in particular entity loading.
+	 * @return A {@link CompletionStage} that will hold the query hits.
+	 */
+	@Incubating
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor executor);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the total hit count.
+	 * <p>
+	 * Backends that execute queries remotely (e.g. Elasticsearch) will not block any thread
+	 * while waiting for the response.
+	 * Backends that execute queries in-process (e.g. Lucene) may execute the query in the calling thread
+	 * and return an already completed stage.
+	 *
+	 * @return A {@link CompletionStage} that will hold the total number of matching entities,
+	 * ignoring pagination settings.
+	 */
+	@Incubating
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 	/**
 	 * Execute the query continuously to deliver results in small chunks through a {@link SearchScroll}.
 	 * <p>
@@ -8,6 +8,7 @@
 import java.util.List;
 
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * @param <H> The type of hits.
@@ -34,6 +35,16 @@
 	 */
 	<A> A aggregation(AggregationKey<A> key);
 
+	/**
+	 * @return An opaque token pointing right after the last hit of this result,
+	 * to be passed to {@link SearchFetchable#fetchAfter(String, Integer)} in order to fetch the next page of hits,
+	 * or {@code null} if there are no hits in this result or the backend cannot resume a search from this result.
+	 */
+	@Incubating
+	default String nextPageToken() {
+		return null;
+	}
+
 	/**
 	 * @return the time taken to process the request, as a {@link Duration}
 	 */
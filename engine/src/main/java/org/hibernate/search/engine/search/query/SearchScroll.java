@@ -4,6 +4,11 @@
  */
 package org.hibernate.search.engine.search.query;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.hibernate.search.util.common.annotation.Incubating;
+
 /**
  * An ongoing query execution delivering hits continuously from a single snapshot of the index.
  * <p>
@@ -34,4 +39,18 @@
 	 */
 	SearchScrollResult<H> next();
 
+	/**
+	 * Asynchronously retrieves the next chunk, with at most {@code chunkSize} hits.
+	 * <p>
+	 * The next call to {@link #next()} or {@link #nextAsync(Executor)} must not happen
+	 * before the returned stage completes.
+	 * See {@link SearchFetchable#fetchAsync(Integer, Integer, Executor)} for details about asynchronous execution.
+	 *
+	 * @param executor The executor to run blocking operations with, in particular entity loading.
+	 * @return A {@link CompletionStage} that will hold the next {@link SearchScrollResult}.
+	 * @see #next()
+	 */
+	@Incubating
+	CompletionStage<? extends SearchScrollResult<H>> nextAsync(Executor executor);
+
 }
@@ -4,6 +4,9 @@
  */
 package org.hibernate.search.engine.search.query.dsl.spi;
 
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
 import org.hibernate.search.engine.search.aggregation.dsl.TypedSearchAggregationFactory;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.engine.search.predicate.dsl.TypedSearchPredicateFactory;
@@ -52,6 +55,21 @@ public R fetch(Integer offset, Integer limit) {
 		return toQuery().fetch( offset, limit );
 	}
 
+	@Override
+	public R fetchAfter(String pageToken, Integer limit) {
+		return toQuery().fetchAfter( pageToken, limit );
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit, Executor executor) {
+		return toQuery().fetchAsync( limit, executor );
+	}
+
+	@Override
+	public CompletionStage<R> fetchAsync(Integer offset, Integer limit, Executor executor) {
+		return toQuery().fetchAsync( offset, limit, executor );
+	}
+
 	@Override
 	public SCR scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
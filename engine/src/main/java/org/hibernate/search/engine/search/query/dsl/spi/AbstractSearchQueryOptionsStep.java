@@ -7,6 +7,8 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -208,6 +210,11 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		return toQuery().fetch( offset, limit );
 	}
 
+	@Override
+	public SearchResult<H> fetchAfter(String pageToken, Integer limit) {
+		return toQuery().fetchAfter( pageToken, limit );
+	}
+
 	@Override
 	public List<H> fetchAllHits() {
 		return toQuery().fetchAllHits();
@@ -233,6 +240,31 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit, Executor executor) {
+		return toQuery().fetchAsync( limit, executor );
+	}
+
+	@Override
+	public CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor executor) {
+		return toQuery().fetchAsync( offset, limit, executor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit, Executor executor) {
+		return toQuery().fetchHitsAsync( limit, executor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor executor) {
+		return toQuery().fetchHitsAsync( offset, limit, executor );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
 	@Override
 	public SearchScroll<H> scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
@@ -6,10 +6,14 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.engine.logging.impl.QueryLog;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.impl.Futures;
 
 /**
  * An abstract base for implementations of {@link SearchQuery}.
@@ -37,6 +41,9 @@ public R fetch(Integer limit) {
 	@Override
 	public abstract R fetch(Integer offset, Integer limit);
 
+	@Override
+	public abstract R fetchAfter(String pageToken, Integer limit);
+
 	@Override
 	public List<H> fetchAllHits() {
 		return fetchHits( null, null );
@@ -47,6 +54,43 @@ public List<H> fetchHits(Integer limit) {
 		return fetchHits( null, limit );
 	}
 
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit, Executor executor) {
+		return fetchAsync( null, limit, executor );
+	}
+
+	/**
+	 * Executes the query in the given executor by default;
+	 * implementations able to execute the query without blocking should override this method.
+	 */
+	@Override
+	public CompletionStage<R> fetchAsync(Integer offset, Integer limit, Executor executor) {
+		return CompletableFuture.supplyAsync( () -> fetch( offset, limit ), executor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit, Executor executor) {
+		return fetchHitsAsync( null, limit, executor );
+	}
+
+	/**
+	 * Executes the query in the given executor by default;
+	 * implementations able to execute the query without blocking should override this method.
+	 */
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor executor) {
+		return CompletableFuture.supplyAsync( () -> fetchHits( offset, limit ), executor );
+	}
+
+	/**
+	 * Executes the query in the calling thread by default;
+	 * implementations able to execute the query without blocking should override this method.
+	 */
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
 	@Override
 	public Optional<H> fetchSingleHit() {
 		// We don't need to fetch more than two elements to detect a problem
@@ -21,14 +21,21 @@
 	private final Map<AggregationKey<?>, ?> aggregationResults;
 	private final Duration took;
 	private final boolean timedOut;
+	private final String nextPageToken;
 
 	public SimpleSearchResult(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
 			Duration took, Boolean timedOut) {
+		this( resultTotal, hits, aggregationResults, took, timedOut, null );
+	}
+
+	public SimpleSearchResult(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Duration took, Boolean timedOut, String nextPageToken) {
 		this.resultTotal = resultTotal;
 		this.hits = hits;
 		this.aggregationResults = aggregationResults;
 		this.took = took;
 		this.timedOut = ( timedOut != null ) && timedOut;
+		this.nextPageToken = nextPageToken;
 	}
 
 	@Override
@@ -61,6 +68,11 @@ public boolean timedOut() {
 		return timedOut;
 	}
 
+	@Override
+	public String nextPageToken() {
+		return nextPageToken;
+	}
+
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", SimpleSearchResult.class.getSimpleName() + "[", "]" )
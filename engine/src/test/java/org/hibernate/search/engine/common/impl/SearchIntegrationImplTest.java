@@ -23,6 +23,7 @@
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingKey;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.SearchException;
 
@@ -71,6 +72,9 @@ class SearchIntegrationImplTest {
 	@Mock
 	private TimingSource timingSourceMock;
 
+	@Mock
+	private BeanHolder<? extends MetricsRecorder> metricsRecorderHolderMock;
+
 	private SearchIntegrationImpl searchIntegration;
 
 	@BeforeEach
@@ -88,7 +92,8 @@ void setup() {
 		indexManagers.put( "index2", indexManager2Mock );
 
 		searchIntegration = new SearchIntegrationImpl( beanProviderMock, failureHandlerHolderMock,
-				threadPoolProviderMock, mappings, backends, indexManagers, engineThreadsMock, timingSourceMock );
+				threadPoolProviderMock, mappings, backends, indexManagers, engineThreadsMock, timingSourceMock,
+				metricsRecorderHolderMock );
 	}
 
 	@Test
@@ -111,6 +116,7 @@ void close_success() {
 				backend2Mock,
 				threadPoolProviderMock,
 				failureHandlerHolderMock,
+				metricsRecorderHolderMock,
 				beanProviderMock,
 				engineThreadsMock,
 				timingSourceMock
@@ -139,6 +145,7 @@ void close_success() {
 		// Then engine resources
 		inOrder.verify( threadPoolProviderMock ).close();
 		inOrder.verify( failureHandlerHolderMock ).close();
+		inOrder.verify( metricsRecorderHolderMock ).close();
 		inOrder.verify( beanProviderMock ).close();
 		inOrder.verify( engineThreadsMock ).onStop();
 		inOrder.verify( timingSourceMock ).stop();
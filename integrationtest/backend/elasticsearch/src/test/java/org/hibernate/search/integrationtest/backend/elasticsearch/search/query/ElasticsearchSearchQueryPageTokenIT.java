@@ -0,0 +1,122 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test the restrictions of page tokens specific to Elasticsearch,
+ * where ties on the score or on index order are broken differently by each shard.
+ */
+class ElasticsearchSearchQueryPageTokenIT {
+
+	private static final int DOCUMENT_COUNT = 50;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> document.addValue( index.binding().string, value( i ) )
+				) )
+				.join();
+	}
+
+	@Test
+	void noSort() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		assertThatThrownBy( () -> query.fetchAfter( null, 10 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot use page tokens with query",
+						"this query does not sort on a field last",
+						"Sort the query on a field with unique values" );
+	}
+
+	@Test
+	void scoreSortLast() {
+		assertUnsupported( f -> f.field( "string" ).then().score() );
+	}
+
+	@Test
+	void indexOrderSortLast() {
+		assertUnsupported( f -> f.indexOrder() );
+	}
+
+	@Test
+	void fieldSortLast() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.score().then().field( "string" ) )
+				.toQuery();
+
+		List<DocumentReference> hits = new ArrayList<>();
+		SearchResult<DocumentReference> page = query.fetchAfter( null, 20 );
+		while ( !page.hits().isEmpty() ) {
+			hits.addAll( page.hits() );
+			page = query.fetchAfter( page.nextPageToken(), 20 );
+		}
+
+		assertThat( hits ).containsExactlyElementsOf( query.fetchAllHits() );
+		assertThat( hits ).hasSize( DOCUMENT_COUNT );
+	}
+
+	private void assertUnsupported(Function<? super SearchSortFactory, ? extends SortFinalStep> sort) {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( sort )
+				.toQuery();
+
+		assertThatThrownBy( () -> query.fetchAfter( null, 10 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Cannot use page tokens with query",
+						"this query does not sort on a field last" );
+	}
+
+	private static String value(int i) {
+		return String.format( Locale.ROOT, "value%03d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test extraction of hits while the response is being parsed.
+ */
+class ElasticsearchSearchQueryStreamingHitExtractionIT {
+
+	private static final int DOCUMENT_COUNT = 50;
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> document.addValue( index.binding().string, value( i ) )
+				) )
+				.join();
+	}
+
+	@Test
+	void fetch() {
+		ElasticsearchSearchResult<String> result = query( true ).fetchAll();
+
+		assertThat( result.hits() ).containsExactlyElementsOf( query( false ).fetchAllHits() );
+		assertThat( result.hits() ).hasSize( DOCUMENT_COUNT );
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		// Only the last hit is kept in the response body
+		assertThat( result.responseBody().getAsJsonObject( "hits" ).getAsJsonArray( "hits" ) ).hasSize( 1 );
+	}
+
+	@Test
+	void fetch_noHit() {
+		ElasticsearchSearchResult<String> result = index.createScope().query()
+				.extension( ElasticsearchExtension.get() )
+				.select( f -> f.field( "string", String.class ) )
+				.where( f -> f.match().field( "string" ).matching( "nonexistent" ) )
+				.streamingHitExtraction( true )
+				.fetchAll();
+
+		assertThat( result.hits() ).isEmpty();
+		assertThat( result.total().hitCount() ).isZero();
+	}
+
+	@Test
+	void fetchAfter() {
+		ElasticsearchSearchQuery<String> query = query( true );
+		List<String> hits = new ArrayList<>();
+		SearchResult<String> page = query.fetch( 20 );
+		hits.addAll( page.hits() );
+		while ( page.nextPageToken() != null && !page.hits().isEmpty() ) {
+			page = query.fetchAfter( page.nextPageToken(), 20 );
+			hits.addAll( page.hits() );
+		}
+
+		assertThat( hits ).containsExactlyElementsOf( query( false ).fetchAllHits() );
+	}
+
+	@Test
+	void scroll() {
+		List<String> hits = new ArrayList<>();
+		try ( SearchScroll<String> scroll = query( true ).scroll( 20 ) ) {
+			for ( SearchScrollResult<String> chunk = scroll.next(); chunk.hasHits(); chunk = scroll.next() ) {
+				hits.addAll( chunk.hits() );
+			}
+		}
+
+		assertThat( hits ).containsExactlyElementsOf( query( false ).fetchAllHits() );
+	}
+
+	private ElasticsearchSearchQuery<String> query(boolean streamingHitExtraction) {
+		return index.createScope().query()
+				.extension( ElasticsearchExtension.get() )
+				.select( f -> f.field( "string", String.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "string" ) )
+				.streamingHitExtraction( streamingHitExtraction )
+				.toQuery();
+	}
+
+	private static String value(int i) {
+		return String.format( Locale.ROOT, "value%03d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultWriteAlias;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.client.common.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+/**
+ * Test partial updates of documents,
+ * enabled through {@link ElasticsearchIndexSettings#INDEXING_PARTIAL_UPDATES}.
+ */
+class ElasticsearchPartialUpdateIT {
+
+	private final Gson gson = new Gson();
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@RegisterExtension
+	public ElasticsearchClientSpy clientSpy = ElasticsearchClientSpy.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	void supportsPartialUpdate() {
+		init( true );
+
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		assertThat( plan.supportsPartialUpdate( List.of( index.binding().string ) ) ).isTrue();
+		assertThat( plan.supportsPartialUpdate( List.of( index.binding().string, index.binding().integer ) ) )
+				.isTrue();
+		// Fields of objects fall back to full updates, since objects are replaced as a whole
+		assertThat( plan.supportsPartialUpdate( List.of( index.binding().flattened.string ) ) ).isFalse();
+		assertThat( plan.supportsPartialUpdate( List.of( index.binding().nested.string ) ) ).isFalse();
+		assertThat( plan.supportsPartialUpdate( List.of( index.binding().string, index.binding().nested.string ) ) )
+				.isFalse();
+	}
+
+	@Test
+	void supportsPartialUpdate_disabled() {
+		init( false );
+
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		assertThat( plan.supportsPartialUpdate( List.of( index.binding().string ) ) ).isFalse();
+	}
+
+	@Test
+	void updatePartially() {
+		init( true );
+		addInitialDocument();
+
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.updatePartially( referenceProvider( "1" ), List.of( index.binding().string ),
+				document -> document.addValue( index.binding().string, "text2" ) );
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._BULK )
+						.body( gson.fromJson( "{'update':{'_index': '" + defaultWriteAlias( index.name() )
+								+ "','_id': '1'}}", JsonObject.class ) )
+						.body( gson.fromJson( "{'doc':{'string': 'text2'}}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		plan.execute( OperationSubmitter.blocking() ).join();
+		clientSpy.verifyExpectationsMet();
+
+		assertThatQuery( index.query().where( f -> f.match().field( "string" ).matching( "text2" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		// Other fields are left untouched
+		assertThatQuery( index.query().where( f -> f.match().field( "integer" ).matching( 1 ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+		assertThatQuery( index.query().where( f -> f.match().field( "nested.string" ).matching( "nested1" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+	}
+
+	@Test
+	void updatePartially_null() {
+		init( true );
+		addInitialDocument();
+
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.updatePartially( referenceProvider( "1" ), List.of( index.binding().string, index.binding().integer ),
+				document -> document.addValue( index.binding().string, "text2" ) );
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._BULK )
+						.body( gson.fromJson( "{'update':{'_index': '" + defaultWriteAlias( index.name() )
+								+ "','_id': '1'}}", JsonObject.class ) )
+						// Fields without a value are explicitly cleared
+						.body( gson.fromJson( "{'doc':{'string': 'text2', 'integer': null}}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		plan.execute( OperationSubmitter.blocking() ).join();
+		clientSpy.verifyExpectationsMet();
+
+		assertThatQuery( index.query().where( f -> f.exists().field( "integer" ) ) ).hasNoHits();
+		assertThatQuery( index.query().where( f -> f.match().field( "string" ).matching( "text2" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+	}
+
+	private void init(boolean partialUpdates) {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchBackendSettings.CLIENT_FACTORY, clientSpy.factoryReference() )
+				.withIndexProperty( index.name(), ElasticsearchIndexSettings.INDEXING_PARTIAL_UPDATES, partialUpdates )
+				.withIndex( index )
+				.setup();
+	}
+
+	private void addInitialDocument() {
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().string, "text1" );
+			document.addValue( index.binding().integer, 1 );
+			DocumentElement nested = document.addObject( index.binding().nested.self );
+			nested.addValue( index.binding().nested.string, "nested1" );
+		} );
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._BULK )
+						.body( gson.fromJson( "{'index':{'_index': '" + defaultWriteAlias( index.name() )
+								+ "','_id': '1'}}", JsonObject.class ) )
+						.body( new JsonObject() ) // We don't care about the document
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+		plan.execute( OperationSubmitter.blocking() ).join();
+		clientSpy.verifyExpectationsMet();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> integer;
+		final ObjectMapping flattened;
+		final ObjectMapping nested;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+			flattened = new ObjectMapping( root.objectField( "flattened", ObjectStructure.FLATTENED ) );
+			nested = new ObjectMapping( root.objectField( "nested", ObjectStructure.NESTED ) );
+		}
+	}
+
+	private static class ObjectMapping {
+		final IndexObjectFieldReference self;
+		final IndexFieldReference<String> string;
+
+		ObjectMapping(IndexSchemaObjectField objectField) {
+			self = objectField.toReference();
+			string = objectField.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
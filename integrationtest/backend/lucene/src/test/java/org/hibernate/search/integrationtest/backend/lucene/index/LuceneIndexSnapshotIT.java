@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingSchemaManagementStrategy;
+
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * Test snapshots taken through {@link LuceneIndexManager#snapshot(Path)},
+ * and restoring indexes from such snapshots on startup.
+ */
+class LuceneIndexSnapshotIT {
+
+	private static final String INDEX_NAME = "indexName";
+
+	public static List<? extends Arguments> params() {
+		return Arrays.asList( Arguments.of( "local-filesystem" ), Arguments.of( "replicated-filesystem" ) );
+	}
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	@TempDir
+	Path temporaryFolder;
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+	private final SimpleMappedIndex<IndexBinding> restoredIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( INDEX_NAME );
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("params")
+	void snapshotAndRestore(String directoryType) throws IOException {
+		Path sharedRoot = temporaryFolder.resolve( "shared" );
+		Path snapshotRoot = temporaryFolder.resolve( "snapshot" );
+		SearchSetupHelper.SetupContext setupContext = setupHelper.start()
+				.withIndex( index )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, directoryType )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.resolve( "live" ) );
+		if ( "replicated-filesystem".equals( directoryType ) ) {
+			setupContext.withBackendProperty( LuceneIndexSettings.DIRECTORY_REPLICATION_ROLE, "primary" )
+					.withBackendProperty( LuceneIndexSettings.DIRECTORY_REPLICATION_SHARED_ROOT, sharedRoot );
+		}
+		setupContext.setup();
+		LuceneIndexManager indexApi = index.toApi().unwrap( LuceneIndexManager.class );
+
+		// The bulk indexer does not commit: the snapshot must commit pending changes first
+		addDocuments( 0, 10 );
+		indexApi.snapshot( snapshotRoot );
+		try ( Directory directory = FSDirectory.open( snapshotRoot.resolve( INDEX_NAME ) ) ) {
+			assertThat( docCount( directory ) ).isEqualTo( 10 );
+		}
+
+		// Taking another snapshot in the same place replaces the previous one
+		addDocuments( 10, 5 );
+		indexApi.snapshot( snapshotRoot );
+		try ( Directory directory = FSDirectory.open( snapshotRoot.resolve( INDEX_NAME ) ) ) {
+			assertThat( docCount( directory ) ).isEqualTo( 15 );
+			// Files of the previous snapshot that are no longer needed were removed
+			assertThat( directory.listAll() )
+					.containsExactlyInAnyOrderElementsOf( SegmentInfos.readLatestCommit( directory ).files( true ) );
+		}
+
+		if ( "replicated-filesystem".equals( directoryType ) ) {
+			// Snapshots do not prevent the publication of commits to replicas
+			try ( Directory directory = FSDirectory.open( sharedRoot.resolve( INDEX_NAME ) ) ) {
+				await().untilAsserted( () -> assertThat( docCount( directory ) ).isEqualTo( 15 ) );
+			}
+		}
+
+		setupHelper.start()
+				// Do not drop the restored index on startup
+				.withSchemaManagement( StubMappingSchemaManagementStrategy.DROP_ON_SHUTDOWN_ONLY )
+				.withIndex( restoredIndex )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_TYPE, "local-filesystem" )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_ROOT, temporaryFolder.resolve( "restored" ) )
+				.withBackendProperty( LuceneIndexSettings.DIRECTORY_RESTORE_FROM, snapshotRoot )
+				.setup();
+
+		assertThat( restoredIndex.query().where( f -> f.matchAll() ).fetchTotalHitCount() ).isEqualTo( 15L );
+	}
+
+	private void addDocuments(int firstId, int count) {
+		index.bulkIndexer()
+				.add( count, i -> documentProvider(
+						String.valueOf( firstId + i ),
+						document -> document.addValue( index.binding().string, "value" + ( firstId + i ) )
+				) )
+				.join();
+	}
+
+	private static int docCount(Directory directory) throws IOException {
+		if ( !DirectoryReader.indexExists( directory ) ) {
+			return 0;
+		}
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", c -> c.asString() ).toReference();
+		}
+	}
+}
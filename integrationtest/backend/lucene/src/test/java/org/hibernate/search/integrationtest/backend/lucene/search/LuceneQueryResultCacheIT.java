@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.cfg.spi.EngineSpiSettings;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.engine.spatial.GeoPoint;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that executing the same query twice hits the query result cache,
+ * in particular for sorted queries, whose Lucene sort must be equal from one execution to the next.
+ */
+class LuceneQueryResultCacheIT {
+
+	private static final int INDEX_SIZE = 20;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private static final CountingMetricsRecorder metricsRecorder = new CountingMetricsRecorder();
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withProperty( EngineSpiSettings.METRICS_RECORDER, metricsRecorder )
+				.withBackendProperty( LuceneBackendSettings.QUERY_RESULT_CACHE_MAX_ENTRIES, 10 )
+				.withIndex( index )
+				.setup();
+		initData();
+	}
+
+	@BeforeEach
+	void resetCounts() {
+		metricsRecorder.reset();
+	}
+
+	@Test
+	void noSort() {
+		assertCacheHitOnSecondExecution( f -> f.score() );
+	}
+
+	@Test
+	void numericFieldSort() {
+		assertCacheHitOnSecondExecution( f -> f.field( "number" ).desc().missing().last() );
+	}
+
+	@Test
+	void textFieldSort() {
+		assertCacheHitOnSecondExecution( f -> f.field( "text" ).asc() );
+	}
+
+	@Test
+	void distanceSort() {
+		assertCacheHitOnSecondExecution( f -> f.distance( "location", GeoPoint.of( 45.0, 4.0 ) ) );
+	}
+
+	@Test
+	void nestedFieldSort() {
+		assertCacheHitOnSecondExecution( f -> f.field( "nested.number" ).desc()
+				.filter( pf -> pf.range().field( "nested.number" ).atLeast( 5 ) ) );
+	}
+
+	@Test
+	void differentSort() {
+		// Sorts that are not used in other tests, since they share the cache
+		SearchResult<Integer> south = query( f -> f.distance( "location", GeoPoint.of( 40.0, 4.0 ) ) );
+		SearchResult<Integer> north = query( f -> f.distance( "location", GeoPoint.of( 70.0, 4.0 ) ) );
+
+		assertThat( metricsRecorder.missCount ).hasValue( 2 );
+		assertThat( metricsRecorder.hitCount ).hasValue( 0 );
+		assertThatResult( south ).hasHitsExactOrder( 0, 1, 2, 3, 4 );
+		assertThatResult( north ).hasHitsExactOrder( 19, 18, 17, 16, 15 );
+	}
+
+	private void assertCacheHitOnSecondExecution(Function<? super SearchSortFactory, ? extends SortFinalStep> sort) {
+		SearchResult<Integer> first = query( sort );
+		assertThat( metricsRecorder.missCount ).hasValue( 1 );
+		assertThat( metricsRecorder.hitCount ).hasValue( 0 );
+
+		SearchResult<Integer> second = query( sort );
+		assertThat( metricsRecorder.missCount ).hasValue( 1 );
+		assertThat( metricsRecorder.hitCount ).hasValue( 1 );
+
+		assertThat( second.hits() ).isEqualTo( first.hits() );
+		assertThat( second.total().hitCount() ).isEqualTo( first.total().hitCount() );
+	}
+
+	private SearchResult<Integer> query(Function<? super SearchSortFactory, ? extends SortFinalStep> sort) {
+		return index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( sort )
+				.fetch( 5 );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( INDEX_SIZE, i -> documentProvider(
+						String.valueOf( i ),
+						document -> {
+							IndexBinding binding = index.binding();
+							document.addValue( binding.number, i );
+							document.addValue( binding.text, "text" + ( i < 10 ? "0" : "" ) + i );
+							document.addValue( binding.location, GeoPoint.of( 45.0 + i, 4.0 ) );
+							DocumentElement nested = document.addObject( binding.nested );
+							nested.addValue( binding.nestedNumber, i % 10 );
+						}
+				) )
+				.join();
+		// Commit now rather than in the background, between two executions of a test:
+		// the commit would lead to a new index reader, and thus to a cache miss.
+		IndexWorkspace workspace = index.createWorkspace();
+		workspace.flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		workspace.refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<GeoPoint> location;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedNumber;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			text = root.field( "text", c -> c.asString().sortable( Sortable.YES ) )
+					.toReference();
+			location = root.field( "location", c -> c.asGeoPoint().sortable( Sortable.YES ) )
+					.toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED );
+			nested = nestedObject.toReference();
+			nestedNumber = nestedObject.field( "number", c -> c.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+
+	private static class CountingMetricsRecorder implements MetricsRecorder {
+		private final AtomicInteger hitCount = new AtomicInteger();
+		private final AtomicInteger missCount = new AtomicInteger();
+
+		@Override
+		public void queryResultCacheAccessed(Set<String> indexNames, boolean hit) {
+			( hit ? hitCount : missCount ).incrementAndGet();
+		}
+
+		void reset() {
+			hitCount.set( 0 );
+			missCount.set( 0 );
+		}
+	}
+}
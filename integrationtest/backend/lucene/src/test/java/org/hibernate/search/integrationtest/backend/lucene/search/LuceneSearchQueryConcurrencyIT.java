@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Weight;
+
+/**
+ * Test that queries return the same results when intra-query concurrency is enabled,
+ * with slices small enough that every segment gets searched in its own slice.
+ */
+class LuceneSearchQueryConcurrencyIT {
+
+	private static final int SEGMENT_COUNT = 10;
+	private static final int SEGMENT_SIZE = 1_000;
+	private static final int INDEX_SIZE = SEGMENT_COUNT * SEGMENT_SIZE;
+	private static final int CATEGORY_COUNT = 10;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.QUERY_CONCURRENCY, 4 )
+				.withBackendProperty( LuceneBackendSettings.QUERY_CONCURRENCY_SLICE_MAX_DOCS, 100 )
+				.withBackendProperty( LuceneBackendSettings.QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS, 1 )
+				// Never merge segments, so that the index keeps one segment per committed batch
+				.withBackendProperty( LuceneIndexSettings.IO_MERGE_FACTOR, Integer.MAX_VALUE )
+				.withIndex( index )
+				.setup();
+		initData();
+
+		// Otherwise, tests below would pass even if queries were not executed concurrently
+		assertThat( sliceCount() ).isGreaterThan( 1 );
+	}
+
+	@Test
+	void totalHitCount() {
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.range().field( "number" ).between( 1_000, 2_999 ) )
+				.fetch( 10 );
+
+		assertThatResult( result ).hasTotalHitCount( 2_000L );
+	}
+
+	@Test
+	void sortAndProjection() {
+		SearchResult<Integer> result = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetch( 5 );
+
+		assertThatResult( result )
+				.hasTotalHitCount( INDEX_SIZE )
+				.hasHitsExactOrder( 9_999, 9_998, 9_997, 9_996, 9_995 );
+	}
+
+	@Test
+	void offset() {
+		SearchResult<Integer> result = index.createScope().query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).asc() )
+				.fetch( 5_000, 3 );
+
+		assertThatResult( result ).hasHitsExactOrder( 5_000, 5_001, 5_002 );
+	}
+
+	@Test
+	void offset_scoreSort() {
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetch( 5_000, 3 );
+
+		assertThatResult( result ).hasTotalHitCount( INDEX_SIZE );
+		assertThat( result.hits() ).hasSize( 3 );
+	}
+
+	@Test
+	void aggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "categories" );
+
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.range().field( "number" ).lessThan( 5_000 ) )
+				.aggregation( aggregationKey, f -> f.terms().field( "category", String.class ) )
+				.fetch( 0 );
+
+		Map<String, Long> categories = result.aggregation( aggregationKey );
+		assertThat( categories ).hasSize( CATEGORY_COUNT );
+		for ( int i = 0; i < CATEGORY_COUNT; i++ ) {
+			assertThat( categories ).contains( entry( "category" + i, 500L ) );
+		}
+	}
+
+	private static void initData() {
+		IndexWorkspace workspace = index.createWorkspace();
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			int first = segment * SEGMENT_SIZE;
+			index.bulkIndexer()
+					.add( SEGMENT_SIZE, i -> documentProvider(
+							String.valueOf( first + i ),
+							document -> {
+								document.addValue( index.binding().number, first + i );
+								document.addValue( index.binding().category, "category" + ( ( first + i ) % CATEGORY_COUNT ) );
+							}
+					) )
+					.join();
+			// Commit each batch to a segment of its own
+			workspace.flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		}
+		workspace.refresh( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+	}
+
+	private static int sliceCount() {
+		SliceCountingQuery query = new SliceCountingQuery();
+		index.createScope().query()
+				.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( query ) )
+				.fetchTotalHitCount();
+		return query.sliceCount;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", c -> c.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			category = root.field( "category", c -> c.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+
+	/**
+	 * A query matching all documents, which records the number of slices of the searcher executing it.
+	 */
+	private static class SliceCountingQuery extends Query {
+		private volatile int sliceCount;
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+			sliceCount = searcher.getSlices().length;
+			return new MatchAllDocsQuery().createWeight( searcher, scoreMode, boost );
+		}
+
+		@Override
+		public String toString(String field) {
+			return "SliceCountingQuery";
+		}
+
+		@Override
+		public void visit(QueryVisitor visitor) {
+			visitor.visitLeaf( this );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+}
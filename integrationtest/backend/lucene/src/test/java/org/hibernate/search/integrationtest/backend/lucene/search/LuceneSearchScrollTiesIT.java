@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that scrolling returns every hit exactly once,
+ * even when many hits have the same sort values or score
+ * and thus straddle the boundaries between the pages of top docs fetched internally.
+ */
+class LuceneSearchScrollTiesIT {
+
+	private static final int DOCUMENT_COUNT = 1000;
+	private static final int DISTINCT_VALUE_COUNT = 7;
+	private static final int CHUNK_SIZE = 13;
+
+	@RegisterExtension
+	public static final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeAll
+	static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+		initData();
+	}
+
+	@Test
+	void fieldSort() {
+		List<DocumentReference> hits = scrollAll( index.query()
+				.where( f -> f.exists().field( "value" ) )
+				.sort( f -> f.field( "value" ).desc() ) );
+
+		assertThat( hits ).extracting( DocumentReference::id )
+				.hasSize( DOCUMENT_COUNT )
+				.doesNotHaveDuplicates();
+	}
+
+	@Test
+	void scoreSort() {
+		// All documents have the same score.
+		List<DocumentReference> hits = scrollAll( index.query()
+				.where( f -> f.exists().field( "value" ) ) );
+
+		assertThat( hits ).extracting( DocumentReference::id )
+				.hasSize( DOCUMENT_COUNT )
+				.doesNotHaveDuplicates();
+	}
+
+	private List<DocumentReference> scrollAll(SearchQueryOptionsStep<?, ?, DocumentReference, ?, ?, ?> query) {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+				hits.addAll( chunk.hits() );
+			}
+		}
+		return hits;
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						String.valueOf( i ),
+						document -> document.addValue( index.binding().value, i % DISTINCT_VALUE_COUNT )
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> value;
+
+		IndexBinding(IndexSchemaElement root) {
+			value = root.field( "value", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.search.FieldExistsQuery;
+
+/**
+ * Test in-place updates of doc values,
+ * enabled through {@link LuceneIndexSettings#INDEXING_DOC_VALUES_UPDATES}.
+ */
+class LuceneDocValuesUpdatesIT {
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start()
+				.withIndexProperty( index.name(), LuceneIndexSettings.INDEXING_DOC_VALUES_UPDATES, true )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( documentProvider( "1", document -> {
+					document.addValue( index.binding().text, "text1" );
+					document.addValue( index.binding().integer, 1 );
+				} ) )
+				.add( documentProvider( "2", document -> {
+					document.addValue( index.binding().text, "text2" );
+					document.addValue( index.binding().integer, 2 );
+				} ) )
+				.add( documentProvider( "3", document -> {
+					document.addValue( index.binding().text, "text3" );
+					document.addValue( index.binding().integer, 2 );
+				} ) )
+				.add( documentProvider( "4", document -> document.addValue( index.binding().text, "text4" ) ) )
+				.join();
+	}
+
+	@Test
+	void supportsPartialUpdate() {
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		assertThat( plan.supportsPartialUpdate( List.of( index.binding().integer ) ) ).isTrue();
+		// Searchable fields cannot be updated in place
+		assertThat( plan.supportsPartialUpdate( List.of( index.binding().text ) ) ).isFalse();
+		assertThat( plan.supportsPartialUpdate( List.of( index.binding().integer, index.binding().text ) ) ).isFalse();
+	}
+
+	@Test
+	void sortAggregationsExists() throws IOException {
+		// Updatable doc values are indexed differently: check that reading them still works
+		index.createWorkspace().flush( OperationSubmitter.blocking(), UnsupportedOperationBehavior.FAIL ).join();
+		DocValuesType docValuesType = LuceneIndexContentUtils.readIndex( setupHelper, index.name(),
+				reader -> FieldInfos.getMergedFieldInfos( reader ).fieldInfo( "integer" ).getDocValuesType() );
+		assertThat( docValuesType ).isEqualTo( DocValuesType.NUMERIC );
+		assertSortedIds( "1", "2", "3", "4" );
+		assertTermsAggregation( Map.of( 1, 1L, 2, 2L ) );
+		assertRangeAggregation( 1L, 2L );
+		assertExists( "1", "2", "3" );
+	}
+
+	@Test
+	void update() {
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.updatePartially( referenceProvider( "1" ), List.of( index.binding().integer ),
+				document -> document.addValue( index.binding().integer, 10 ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertSortedIds( "2", "3", "1", "4" );
+		assertTermsAggregation( Map.of( 2, 2L, 10, 1L ) );
+		assertRangeAggregation( 0L, 3L );
+		assertExists( "1", "2", "3" );
+		// The rest of the document is left untouched
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "text1" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1" );
+	}
+
+	@Test
+	void update_missingValue() {
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.updatePartially( referenceProvider( "4" ), List.of( index.binding().integer ),
+				document -> document.addValue( index.binding().integer, 0 ) );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertSortedIds( "4", "1", "2", "3" );
+		assertTermsAggregation( Map.of( 0, 1L, 1, 1L, 2, 2L ) );
+		assertExists( "1", "2", "3", "4" );
+	}
+
+	@Test
+	void update_null() {
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		// The contributor does not add any value: the doc value is reset
+		plan.updatePartially( referenceProvider( "2" ), List.of( index.binding().integer ), document -> { } );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertSortedIds( "1", "3", "2", "4" );
+		assertTermsAggregation( Map.of( 1, 1L, 2, 1L ) );
+		assertRangeAggregation( 1L, 1L );
+		assertExists( "1", "3" );
+		assertThatQuery( index.query().where( f -> f.match().field( "text" ).matching( "text2" ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), "2" );
+	}
+
+	@Test
+	void update_thenFullUpdate() {
+		IndexIndexingPlan plan = index.createIndexingPlan();
+		plan.updatePartially( referenceProvider( "1" ), List.of( index.binding().integer ),
+				document -> document.addValue( index.binding().integer, 10 ) );
+		plan.addOrUpdate( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().text, "text1" );
+			document.addValue( index.binding().integer, 5 );
+		} );
+		plan.execute( OperationSubmitter.blocking() ).join();
+
+		assertSortedIds( "2", "3", "1", "4" );
+		assertTermsAggregation( Map.of( 2, 2L, 5, 1L ) );
+		assertExists( "1", "2", "3" );
+	}
+
+	private void assertSortedIds(String firstId, String... otherIds) {
+		assertThatQuery( index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc().missing().last().then().field( "text" ) ) )
+				.hasDocRefHitsExactOrder( index.typeName(), firstId, otherIds );
+	}
+
+	private void assertTermsAggregation(Map<Integer, Long> expected) {
+		AggregationKey<Map<Integer, Long>> key = AggregationKey.of( "terms" );
+		assertThatQuery( index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( key, f -> f.terms().field( "integer", Integer.class ) ) )
+				.aggregation( key, result -> assertThat( result ).containsExactlyInAnyOrderEntriesOf( expected ) );
+	}
+
+	private void assertRangeAggregation(long belowTwo, long twoOrMore) {
+		AggregationKey<Map<Range<Integer>, Long>> key = AggregationKey.of( "range" );
+		assertThatQuery( index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( key, f -> f.range().field( "integer", Integer.class )
+						.range( Range.canonical( null, 2 ) )
+						.range( Range.canonical( 2, null ) ) ) )
+				.aggregation( key, result -> assertThat( result ).containsExactly(
+						Map.entry( Range.canonical( null, 2 ), belowTwo ),
+						Map.entry( Range.canonical( 2, null ), twoOrMore ) ) );
+	}
+
+	private void assertExists(String firstId, String... otherIds) {
+		// The exists predicate is not available on non-searchable fields: use the query it would build
+		assertThatQuery( index.query().where( f -> f.extension( LuceneExtension.get() )
+				.fromLuceneQuery( new FieldExistsQuery( "integer" ) ) ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), firstId, otherIds );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			integer = root.field( "integer", f -> f.asInteger()
+					.searchable( Searchable.NO ).projectable( Projectable.NO )
+					.sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.backend.tck.index;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
+import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test rebuilding an index into a new generation through
+ * {@link IndexSchemaManager#startRebuild(OperationSubmitter)},
+ * {@link IndexSchemaManager#finishRebuild(OperationSubmitter)}
+ * and {@link IndexSchemaManager#abortRebuild(OperationSubmitter)}.
+ */
+class IndexSchemaManagerRebuildIT {
+
+	@RegisterExtension
+	public final SearchSetupHelper setupHelper = SearchSetupHelper.create();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeEach
+	void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		index.bulkIndexer()
+				.add( "previous1", document -> document.addValue( index.binding().string, "text1" ) )
+				.add( "previous2", document -> document.addValue( index.binding().string, "text2" ) )
+				.join();
+		assertIndexContains( "previous1", "previous2" );
+	}
+
+	@Test
+	void finish() {
+		startRebuild();
+
+		index.bulkIndexer()
+				.add( "rebuilt1", document -> document.addValue( index.binding().string, "text1" ) )
+				.join();
+		// Searches keep targeting the previous generation until the rebuild finishes
+		assertIndexContains( "previous1", "previous2" );
+
+		index.schemaManager().finishRebuild( OperationSubmitter.blocking() ).join();
+		assertIndexContains( "rebuilt1" );
+
+		// Writes target the new generation
+		index.bulkIndexer()
+				.add( "added1", document -> document.addValue( index.binding().string, "text1" ) )
+				.join();
+		assertIndexContains( "rebuilt1", "added1" );
+	}
+
+	@Test
+	void finish_empty() {
+		startRebuild();
+
+		index.schemaManager().finishRebuild( OperationSubmitter.blocking() ).join();
+		assertThatQuery( index.query().where( f -> f.matchAll() ) ).hasNoHits();
+	}
+
+	@Test
+	void abort() {
+		startRebuild();
+
+		index.bulkIndexer()
+				.add( "rebuilt1", document -> document.addValue( index.binding().string, "text1" ) )
+				.join();
+		assertIndexContains( "previous1", "previous2" );
+
+		index.schemaManager().abortRebuild( OperationSubmitter.blocking() ).join();
+		// Writes since the rebuild started are lost
+		assertIndexContains( "previous1", "previous2" );
+
+		// Writes target the previous generation again
+		index.bulkIndexer()
+				.add( "added1", document -> document.addValue( index.binding().string, "text1" ) )
+				.join();
+		assertIndexContains( "previous1", "previous2", "added1" );
+	}
+
+	@Test
+	void abort_noRebuildInProgress() {
+		index.schemaManager().abortRebuild( OperationSubmitter.blocking() ).join();
+		assertIndexContains( "previous1", "previous2" );
+	}
+
+	@Test
+	void restartAfterAbort() {
+		startRebuild();
+		index.bulkIndexer()
+				.add( "rebuilt1", document -> document.addValue( index.binding().string, "text1" ) )
+				.join();
+		index.schemaManager().abortRebuild( OperationSubmitter.blocking() ).join();
+
+		startRebuild();
+		index.bulkIndexer()
+				.add( "rebuilt2", document -> document.addValue( index.binding().string, "text1" ) )
+				.join();
+		index.schemaManager().finishRebuild( OperationSubmitter.blocking() ).join();
+		assertIndexContains( "rebuilt2" );
+	}
+
+	private void startRebuild() {
+		index.schemaManager().startRebuild( OperationSubmitter.blocking() ).join();
+	}
+
+	private void assertIndexContains(String firstId, String... otherIds) {
+		assertThatQuery( index.query().where( f -> f.matchAll() ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), firstId, otherIds );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
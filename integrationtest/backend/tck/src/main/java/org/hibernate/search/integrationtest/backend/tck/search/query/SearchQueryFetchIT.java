@@ -14,6 +14,8 @@
 
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -21,6 +23,7 @@
 import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.extension.SearchSetupHelper;
@@ -42,6 +45,12 @@ class SearchQueryFetchIT {
 
 	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
 
+	private final AtomicInteger executedTaskCount = new AtomicInteger();
+	private final Executor executor = command -> {
+		executedTaskCount.incrementAndGet();
+		command.run();
+	};
+
 	@BeforeEach
 	void setup() {
 		setupHelper.start().withIndex( index ).setup();
@@ -366,6 +375,85 @@ void maxResults_zero() {
 				.hasNoHits();
 	}
 
+	@Test
+	void fetchAfter() {
+		SearchQuery<DocumentReference> query = matchAllQuerySortByField().toQuery();
+		int pageSize = 30;
+
+		SearchResult<DocumentReference> result = query.fetchAfter( null, pageSize );
+		int fetched = 0;
+		while ( fetched < DOCUMENT_COUNT ) {
+			int expectedPageStart = fetched;
+			int expectedPageEnd = Math.min( fetched + pageSize, DOCUMENT_COUNT );
+			assertThatResult( result )
+					.hasTotalHitCount( DOCUMENT_COUNT )
+					.hasDocRefHitsExactOrder( builder -> {
+						for ( int i = expectedPageStart; i < expectedPageEnd; i++ ) {
+							builder.doc( index.typeName(), docId( i ) );
+						}
+					} );
+			fetched = expectedPageEnd;
+			assertThat( result.nextPageToken() ).isNotNull();
+			result = query.fetchAfter( result.nextPageToken(), pageSize );
+		}
+
+		// Fetch beyond the last hit
+		assertThatResult( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasNoHits();
+		assertThat( result.nextPageToken() ).isNull();
+	}
+
+	@Test
+	void fetchAfter_tokenFromFetch() {
+		SearchQuery<DocumentReference> query = matchAllQuerySortByField().toQuery();
+
+		SearchResult<DocumentReference> firstPage = query.fetch( 5, 10 );
+		assertThatResult( query.fetchAfter( firstPage.nextPageToken(), 2 ) )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 15 ), docId( 16 ) );
+	}
+
+	@Test
+	void fetchAfter_invalidToken() {
+		assertThatThrownBy( () -> matchAllQuerySortByField().fetchAfter( "not a valid token!", 10 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid page token 'not a valid token!'" );
+	}
+
+	@Test
+	void fetchAsync() {
+		assertThatResult( matchAllQuerySortByField().fetchAsync( 1, 2, executor ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ), docId( 2 ) );
+
+		assertThatResult( matchAllQuerySortByField().toQuery().fetchAsync( 2, executor ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+
+		// Results are processed in the given executor
+		assertThat( executedTaskCount ).hasValue( 2 );
+	}
+
+	@Test
+	void fetchHitsAsync() {
+		assertThatHits( matchAllQuerySortByField().fetchHitsAsync( 1, 2, executor ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ), docId( 2 ) );
+
+		assertThatHits( matchAllQuerySortByField().toQuery().fetchHitsAsync( 2, executor ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+
+		// Results are processed in the given executor
+		assertThat( executedTaskCount ).hasValue( 2 );
+	}
+
+	@Test
+	void fetchTotalHitCountAsync() {
+		assertThat( matchAllQuerySortByField().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+		assertThat( matchFirstHalfQuery().toQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
 	private SearchQueryOptionsStep<?, ?, DocumentReference, ?, ?, ?> matchAllQuerySortByField() {
 		StubMappingScope scope = index.createScope();
 		return scope.query()
@@ -12,7 +12,12 @@
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -51,6 +56,10 @@ class SearchQueryScrollResultLoadingIT {
 
 	private static final IndexItem[] references = new IndexItem[37];
 
+	private static final String ASYNC_THREAD_NAME = "async-loading";
+
+	private final List<String> loadingThreadNames = new CopyOnWriteArrayList<>();
+
 	@BeforeAll
 	static void setup() {
 		setupHelper.start().withIndex( index ).setup();
@@ -136,8 +145,47 @@ void resultLoadingOnScrolling_softTimeout() {
 				} );
 	}
 
+	@Test
+	void resultLoadingOnScrolling_async() {
+		@SuppressWarnings("unchecked")
+		SearchLoadingContext<StubEntity> loadingContextMock =
+				mock( SearchLoadingContext.class );
+
+		when( typeContextMock.loadingAvailable() ).thenReturn( true );
+
+		ExecutorService executor = Executors.newSingleThreadExecutor( r -> new Thread( r, ASYNC_THREAD_NAME ) );
+		try {
+			index.mapping().with()
+					.typeContext( index.typeName(), typeContextMock )
+					.run( () -> {
+						GenericStubMappingScope<?, EntityReference, StubEntity> scope =
+								index.createGenericScope( loadingContextMock );
+						SearchQuery<StubEntity> query = scope.query()
+								.where( f -> f.matchAll() )
+								.sort( f -> f.field( "integer" ) )
+								.toQuery();
+						SearchScroll<StubEntity> scroll = query.scroll( 5 );
+
+						verifyLoading( loadingContextMock, scroll,
+								s -> s.nextAsync( executor ).toCompletableFuture().join() );
+					} );
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		// Loading may block: it must happen in the given executor, never in backend threads.
+		assertThat( loadingThreadNames ).hasSize( 8 ).containsOnly( ASYNC_THREAD_NAME );
+	}
+
 	private void verifyLoading(SearchLoadingContext<StubEntity> loadingContextMock,
 			SearchScroll<StubEntity> scroll) {
+		verifyLoading( loadingContextMock, scroll, SearchScroll::next );
+	}
+
+	private void verifyLoading(SearchLoadingContext<StubEntity> loadingContextMock,
+			SearchScroll<StubEntity> scroll,
+			Function<SearchScroll<StubEntity>, SearchScrollResult<StubEntity>> next) {
 		// 7 full size pages
 		for ( int j = 0; j < 7; j++ ) {
 			int base = j * 5;
@@ -148,9 +196,10 @@ private void verifyLoading(SearchLoadingContext<StubEntity> loadingContextMock,
 						for ( int i = 0; i < 5; i++ ) {
 							c.load( references[base + i].reference, references[base + i].loadedEntity );
 						}
+						c.onLoading( this::recordLoadingThread );
 					}
 			);
-			SearchScrollResult<StubEntity> chunk = scroll.next();
+			SearchScrollResult<StubEntity> chunk = next.apply( scroll );
 			assertThatHits( chunk.hits() ).hasHitsAnyOrder(
 					references[base + 0].loadedEntity, references[base + 1].loadedEntity, references[base + 2].loadedEntity,
 					references[base + 3].loadedEntity, references[base + 4].loadedEntity
@@ -169,9 +218,10 @@ private void verifyLoading(SearchLoadingContext<StubEntity> loadingContextMock,
 					for ( int i = 35; i <= 36; i++ ) {
 						c.load( references[i].reference, references[i].loadedEntity );
 					}
+					c.onLoading( this::recordLoadingThread );
 				}
 		);
-		SearchScrollResult<StubEntity> chunk = scroll.next();
+		SearchScrollResult<StubEntity> chunk = next.apply( scroll );
 		assertThatHits( chunk.hits() ).hasHitsAnyOrder(
 				references[35].loadedEntity, references[36].loadedEntity
 		);
@@ -179,6 +229,10 @@ private void verifyLoading(SearchLoadingContext<StubEntity> loadingContextMock,
 		assertThat( chunk.total().hitCount() ).isEqualTo( 37 );
 	}
 
+	private void recordLoadingThread() {
+		loadingThreadNames.add( Thread.currentThread().getName() );
+	}
+
 	private static class IndexItem {
 		final String id;
 		final int value;
@@ -69,7 +69,12 @@ public static <R, E> void expectHitMapping(
 		}
 
 		when( projectionHitMapperMock.loadBlocking( any() ) )
-				.thenReturn( loadingResultMock );
+				.thenAnswer( ignored -> {
+					for ( Runnable listener : context.loadingListeners ) {
+						listener.run();
+					}
+					return loadingResultMock;
+				} );
 
 		for ( int i = 0; i < context.loadedObjects.size(); i++ ) {
 			when( loadingResultMock.get( loadingKeys.get( i ) ) )
@@ -88,6 +93,7 @@ public static <R, E> void expectHitMapping(
 		private final Map<DocumentReference, Set<EntityReference>> referenceMap = new HashMap<>();
 		private final List<DocumentReference> referencesToLoad = new ArrayList<>();
 		private final List<E> loadedObjects = new ArrayList<>();
+		private final List<Runnable> loadingListeners = new ArrayList<>();
 
 		@SuppressWarnings("unused") // For EJC and lambda arg
 		public HitMappingDefinitionContext<E> entityReference(DocumentReference documentReference,
@@ -102,6 +108,11 @@ public HitMappingDefinitionContext<E> load(DocumentReference documentReference,
 			loadedObjects.add( loadedObject );
 			return this;
 		}
+
+		public HitMappingDefinitionContext<E> onLoading(Runnable listener) {
+			loadingListeners.add( listener );
+			return this;
+		}
 	}
 
 	private static class StubLoadingKey {
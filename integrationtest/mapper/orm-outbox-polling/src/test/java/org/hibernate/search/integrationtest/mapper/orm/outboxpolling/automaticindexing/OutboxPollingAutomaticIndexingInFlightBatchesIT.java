@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.outboxpolling.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.persistence.Basic;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.common.EntityReference;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.OutboxEventFilter;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.TestFailureHandler;
+import org.hibernate.search.integrationtest.mapper.orm.outboxpolling.testsupport.util.TestingOutboxPollingInternalConfigurer;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.CoordinationStrategyExpectations;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Tests of automatic indexing with outbox-polling
+ * when multiple batches of events are allowed to be in flight at the same time,
+ * i.e. indexed while the processor polls for the next batch.
+ */
+class OutboxPollingAutomaticIndexingInFlightBatchesIT {
+
+	@RegisterExtension
+	public BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public OrmSetupHelper ormSetupHelper =
+			OrmSetupHelper.withCoordinationStrategy( CoordinationStrategyExpectations.outboxPolling() )
+					.withBackendMock( backendMock );
+
+	// Hide all events until the test creates all of them,
+	// so that we know exactly what the first batch will contain.
+	private final OutboxEventFilter eventFilter = new OutboxEventFilter().hideAllEvents();
+
+	private SessionFactory sessionFactory;
+	private TestFailureHandler failureHandler;
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b.field( "indexedField", String.class ) );
+		failureHandler = new TestFailureHandler();
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( "hibernate.search.background_failure_handler", failureHandler )
+				.withProperty( HibernateOrmMapperOutboxPollingImplSettings.COORDINATION_INTERNAL_CONFIGURER,
+						new TestingOutboxPollingInternalConfigurer().outboxEventFilter( eventFilter ) )
+				.withProperty( "hibernate.search.coordination.event_processor.batch_size", 2 )
+				.withProperty( "hibernate.search.coordination.event_processor.max_in_flight_batches", 2 )
+				.withProperty( "hibernate.search.coordination.event_processor.retry_delay", 0 )
+				// Make sure events are processed in the order they were created
+				.withProperty( "hibernate.search.coordination.entity.mapping.outboxevent.uuid_gen_strategy", "time" )
+				.withProperty( "hibernate.search.coordination.event_processor.order", "id" )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void sameEntityNeverInFlightTwice() {
+		createEvents();
+
+		CompletableFuture<?> firstBatchFuture = new CompletableFuture<>();
+		// First batch: the two oldest events, both for entity 1; indexing will remain in progress.
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.createAndExecuteFollowingWorks( firstBatchFuture )
+				.add( "1", b -> b
+						.field( "indexedField", "updatedValue2" )
+				);
+		// Second batch, while the first one is in flight:
+		// the event for entity 1 is skipped, only the event for entity 2 is processed.
+		// If the event for entity 1 was processed, the backend mock would report an unexpected work.
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.createAndExecuteFollowingWorks()
+				.add( "2", b -> b
+						.field( "indexedField", "initialValue" )
+				);
+		eventFilter.showAllEvents();
+		backendMock.verifyExpectationsMet();
+
+		// Once the first batch is complete, the skipped event for entity 1 gets processed.
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.createAndExecuteFollowingWorks()
+				.addOrUpdate( "1", b -> b
+						.field( "indexedField", "updatedValue2" )
+				);
+		firstBatchFuture.complete( null );
+		backendMock.verifyExpectationsMet();
+
+		awaitUntilNoMoreEvents();
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		assertThat( failureHandler.entityFailures ).isEmpty();
+	}
+
+	@Test
+	void failedBatch() {
+		createEvents();
+
+		CompletableFuture<?> firstBatchFuture = new CompletableFuture<>();
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.createAndExecuteFollowingWorks( firstBatchFuture )
+				.add( "1", b -> b
+						.field( "indexedField", "updatedValue2" )
+				);
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.createAndExecuteFollowingWorks()
+				.add( "2", b -> b
+						.field( "indexedField", "initialValue" )
+				);
+		eventFilter.showAllEvents();
+		backendMock.verifyExpectationsMet();
+
+		// The first batch fails while the second one is in flight (and already indexed).
+		// The failed event for entity 1 is retried along with the more recent event for entity 1
+		// that was skipped in the meantime: they are coalesced and processed in a single batch.
+		backendMock.expectWorks( IndexedEntity.INDEX )
+				.createAndExecuteFollowingWorks()
+				.addOrUpdate( "1", b -> b
+						.field( "indexedField", "updatedValue2" )
+				);
+		firstBatchFuture.completeExceptionally( new SimulatedFailure( "Indexing work for entity 1 failed!" ) );
+		backendMock.verifyExpectationsMet();
+
+		awaitUntilNoMoreEvents();
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		// The failure only affects entity 1
+		assertThat( failureHandler.entityFailures ).containsOnlyKeys( 1 );
+		List<EntityIndexingFailureContext> entityFailures = failureHandler.entityFailures.get( 1 );
+		assertThat( entityFailures ).hasSize( 1 );
+		EntityIndexingFailureContext entityFailure = entityFailures.get( 0 );
+		assertThat( entityFailure.failingOperation() ).isEqualTo( "Processing an outbox event." );
+		assertThat( entityFailure.throwable() )
+				.isInstanceOf( SimulatedFailure.class )
+				.hasMessageContaining( "Indexing work for entity 1 failed!" );
+		List<EntityReference> entityReferences = entityFailure.failingEntityReferences();
+		assertThat( entityReferences ).hasSize( 1 );
+		assertThat( entityReferences.get( 0 ).name() ).isEqualTo( "indexed" );
+		assertThat( entityReferences.get( 0 ).id() ).isEqualTo( 1 );
+	}
+
+	/**
+	 * Creates four events, in that order: two for entity 1, then one for entity 1 and one for entity 2.
+	 * With a batch size of 2, the first batch only contains events for entity 1,
+	 * and the next one contains an event for entity 1 that must wait for the first batch to complete.
+	 */
+	private void createEvents() {
+		with( sessionFactory ).runInTransaction( session -> {
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+		} );
+		with( sessionFactory ).runInTransaction( session -> {
+			session.find( IndexedEntity.class, 1 ).setIndexedField( "updatedValue1" );
+		} );
+		with( sessionFactory ).runInTransaction( session -> {
+			session.find( IndexedEntity.class, 1 ).setIndexedField( "updatedValue2" );
+			session.persist( new IndexedEntity( 2, "initialValue" ) );
+		} );
+		with( sessionFactory ).runInTransaction( session -> {
+			assertThat( eventFilter.countOutboxEventsNoFilter( session ) ).isEqualTo( 4L );
+		} );
+	}
+
+	private void awaitUntilNoMoreEvents() {
+		await().untilAsserted( () -> with( sessionFactory ).runInTransaction( session -> {
+			assertThat( eventFilter.countOutboxEventsNoFilter( session ) ).isZero();
+		} ) );
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String indexedField;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id, String indexedField) {
+			this.id = id;
+			this.indexedField = indexedField;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getIndexedField() {
+			return indexedField;
+		}
+
+		public void setIndexedField(String indexedField) {
+			this.indexedField = indexedField;
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+
+}
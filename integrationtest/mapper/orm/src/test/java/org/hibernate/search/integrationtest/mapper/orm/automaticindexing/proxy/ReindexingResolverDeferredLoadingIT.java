@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing.proxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test that containing entities found by reindexing resolution,
+ * when they are uninitialized proxies, get loaded all at once instead of one by one.
+ */
+class ReindexingResolverDeferredLoadingIT {
+
+	private static final int ENTITY_COUNT = 5;
+
+	@RegisterExtension
+	public BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private final StatementSpy statementSpy = new StatementSpy();
+
+	private SessionFactory sessionFactory;
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectAnySchema( IndexedEntity.NAME );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( "hibernate.session_factory.statement_inspector", statementSpy )
+				.withAnnotatedTypes( IndexedEntity.class, ContainedEntity.class )
+				.setup();
+
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				IndexedEntity indexed = new IndexedEntity( i );
+				ContainedEntity contained = new ContainedEntity( 100 + i, "initialValue" );
+				indexed.getContained().add( contained );
+				contained.setContaining( indexed );
+				session.persist( indexed );
+				session.persist( contained );
+
+				backendMock.expectWorks( IndexedEntity.NAME )
+						.add( String.valueOf( i ), b -> b
+								.objectField( "contained", b2 -> b2
+										.field( "text", "initialValue" )
+								)
+						);
+			}
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void uninitializedProxies() {
+		with( sessionFactory ).runInTransaction( session -> {
+			List<ContainedEntity> containedEntities = session.createQuery(
+					"select c from " + ContainedEntity.NAME + " c", ContainedEntity.class )
+					.getResultList();
+			assertThat( containedEntities ).hasSize( ENTITY_COUNT );
+			for ( ContainedEntity contained : containedEntities ) {
+				// The containing entity should be an uninitialized proxy, otherwise the test doesn't make sense
+				assertThat( Hibernate.isInitialized( contained.getContaining() ) ).isFalse();
+				contained.setText( "updatedValue" );
+			}
+
+			for ( int i = 1; i <= ENTITY_COUNT; i++ ) {
+				backendMock.expectWorks( IndexedEntity.NAME )
+						.addOrUpdate( String.valueOf( i ), b -> b
+								.objectField( "contained", b2 -> b2
+										.field( "text", "updatedValue" )
+								)
+						);
+			}
+			statementSpy.reset();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// All containing entities were loaded with a single query
+		assertThat( statementSpy.selectsFrom( IndexedEntity.NAME ) ).hasSize( 1 );
+	}
+
+	@Entity(name = IndexedEntity.NAME)
+	@Indexed(index = IndexedEntity.NAME)
+	public static class IndexedEntity {
+		public static final String NAME = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "containing")
+		@IndexedEmbedded
+		private List<ContainedEntity> contained = new ArrayList<>();
+
+		protected IndexedEntity() {
+			// For ORM
+		}
+
+		public IndexedEntity(int id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public List<ContainedEntity> getContained() {
+			return contained;
+		}
+
+		public void setContained(List<ContainedEntity> contained) {
+			this.contained = contained;
+		}
+	}
+
+	@Entity(name = ContainedEntity.NAME)
+	public static class ContainedEntity {
+		public static final String NAME = "ContainedEntity";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String text;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private IndexedEntity containing;
+
+		protected ContainedEntity() {
+			// For ORM
+		}
+
+		public ContainedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+
+		public IndexedEntity getContaining() {
+			return containing;
+		}
+
+		public void setContaining(IndexedEntity containing) {
+			this.containing = containing;
+		}
+	}
+
+	public static class StatementSpy implements StatementInspector {
+		private final List<String> statements = Collections.synchronizedList( new ArrayList<>() );
+
+		@Override
+		public String inspect(String sql) {
+			statements.add( sql );
+			return sql;
+		}
+
+		void reset() {
+			statements.clear();
+		}
+
+		List<String> selectsFrom(String table) {
+			String fromClause = "from " + table.toLowerCase( Locale.ROOT ) + " ";
+			synchronized (statements) {
+				return statements.stream()
+						.map( sql -> sql.toLowerCase( Locale.ROOT ) )
+						.filter( sql -> sql.startsWith( "select" ) && sql.contains( fromClause ) )
+						.toList();
+			}
+		}
+	}
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Fail.fail;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.with;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.extension.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Test mass indexing when identifiers are loaded in parallel, one range of identifiers per thread:
+ * every entity must be indexed exactly once, in particular entities whose identifier is on a range boundary.
+ */
+class MassIndexingParallelIdentifierLoadingIT {
+
+	@RegisterExtension
+	public BackendMock backendMock = BackendMock.create();
+
+	@RegisterExtension
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private final StatementSpy statementSpy = new StatementSpy();
+
+	private SessionFactory sessionFactory;
+
+	@BeforeEach
+	void setup() {
+		backendMock.expectAnySchema( IndexedEntity.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.INDEXING_LISTENERS_ENABLED, false )
+				.withProperty( "hibernate.session_factory.statement_inspector", statementSpy )
+				.setup( IndexedEntity.class );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	void contiguousIdentifiers() {
+		// Identifiers 1 to 12 split in 3 ranges: [, 5), [5, 9), [9, )
+		int[] ids = IntStream.rangeClosed( 1, 12 ).toArray();
+		initData( ids );
+
+		massIndex( 3, ids );
+
+		// Each range but the first has a lower bound
+		assertThat( statementSpy.selectsWithLowerBound() ).hasSize( 2 );
+	}
+
+	@Test
+	void sparseIdentifiers() {
+		// Identifiers 1 to 100 split in 4 ranges: [, 26), [26, 51), [51, 76), [76, )
+		// Some identifiers are right before or on boundaries.
+		int[] ids = { 1, 2, 25, 50, 51, 75, 76, 99, 100 };
+		initData( ids );
+
+		massIndex( 4, ids );
+
+		assertThat( statementSpy.selectsWithLowerBound() ).hasSize( 3 );
+	}
+
+	private void massIndex(int threadsToLoadIdentifiers, int[] expectedIds) {
+		with( sessionFactory ).runNoTransaction( session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.threadsToLoadIdentifiers( threadsToLoadIdentifiers )
+					// Small batches, so that ranges are loaded in multiple steps
+					.batchSizeToLoadObjects( 2 );
+
+			// Add operations can follow any order, since they are executed by different threads.
+			// The backend mock would report any document indexed twice or not indexed at all.
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks(
+					IndexedEntity.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			);
+			for ( int id : expectedIds ) {
+				expectations.add( String.valueOf( id ), b -> {} );
+			}
+
+			backendMock.expectIndexScaleWorks( IndexedEntity.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			statementSpy.reset();
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void initData(int... ids) {
+		with( sessionFactory ).runInTransaction( session -> {
+			for ( int id : ids ) {
+				session.persist( new IndexedEntity( id ) );
+			}
+		} );
+	}
+
+	@Entity
+	@Table(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		public static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		public IndexedEntity() {
+		}
+
+		public IndexedEntity(Integer id) {
+			this.id = id;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+	}
+
+	public static class StatementSpy implements StatementInspector {
+		private final List<String> statements = Collections.synchronizedList( new ArrayList<>() );
+
+		@Override
+		public String inspect(String sql) {
+			statements.add( sql );
+			return sql;
+		}
+
+		void reset() {
+			statements.clear();
+		}
+
+		List<String> selectsWithLowerBound() {
+			synchronized (statements) {
+				return statements.stream()
+						.map( sql -> sql.toLowerCase( Locale.ROOT ) )
+						.filter( sql -> sql.startsWith( "select" ) && sql.contains( "from indexed " )
+								&& sql.matches( ".*\\.id\\s*>=.*" ) )
+						.toList();
+			}
+		}
+	}
+}
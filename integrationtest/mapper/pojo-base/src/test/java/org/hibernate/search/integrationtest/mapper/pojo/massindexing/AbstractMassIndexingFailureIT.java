@@ -213,6 +213,35 @@ void failFast() {
 		);
 	}
 
+	@Test
+	void failFast_swapIndexesOnFinish() {
+		String exceptionMessage = "Entity loading error";
+
+		SearchMapping mapping = setupWithThrowingEntityLoading( exceptionMessage );
+
+		MassIndexer massIndexer = mapping.scope( Object.class ).massIndexer()
+				.threadsToLoadObjects( 1 ) // Just to simplify the assertions
+				.batchSizeToLoadObjects( 1 )
+				.failFast( true )
+				.swapIndexesOnFinish( true );
+		doMassIndexingWithFailure(
+				massIndexer,
+				ThreadExpectation.CREATED_AND_TERMINATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SearchException.class )
+						.hasMessageContainingAll(
+								"failure(s) occurred during mass indexing",
+								"See the logs for details.",
+								"First failure: ",
+								exceptionMessage
+						)
+						.hasCauseInstanceOf( SimulatedFailure.class ),
+				expectSchemaManagementWork( StubSchemaManagementWork.Type.START_REBUILD ),
+				// we do not expect flush or refresh since the indexing was stopped,
+				// and the new generation of the index must be discarded:
+				expectSchemaManagementWork( StubSchemaManagementWork.Type.ABORT_REBUILD )
+		);
+	}
+
 	@Test
 	void indexing() {
 		SearchMapping mapping = setup();
@@ -356,6 +385,35 @@ void dropAndCreateSchema_exception() {
 		assertMassIndexerOperationFailureHandling( SearchException.class, exceptionMessage, failingOperationAsString );
 	}
 
+	@Test
+	void finishRebuild_exception() {
+		SearchMapping mapping = setup();
+
+		String exceptionMessage = "FINISH_REBUILD failure";
+		String failingOperationAsString = "MassIndexer operation";
+
+		expectMassIndexerOperationFailureHandling( SearchException.class, exceptionMessage, failingOperationAsString );
+
+		doMassIndexingWithFailure(
+				mapping.scope( Object.class ).massIndexer()
+						.swapIndexesOnFinish( true ),
+				ThreadExpectation.CREATED_AND_TERMINATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SearchException.class )
+						.satisfies( FailureReportUtils.hasFailureReport()
+								.typeContext( Book.class.getName() )
+								.failure( exceptionMessage ) ),
+				expectSchemaManagementWork( StubSchemaManagementWork.Type.START_REBUILD ),
+				expectIndexingWorks( ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.FLUSH, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.REFRESH, ExecutionExpectation.SUCCEED ),
+				expectSchemaManagementWorkException( StubSchemaManagementWork.Type.FINISH_REBUILD ),
+				// The new generation of the index must be discarded
+				expectSchemaManagementWork( StubSchemaManagementWork.Type.ABORT_REBUILD )
+		);
+
+		assertMassIndexerOperationFailureHandling( SearchException.class, exceptionMessage, failingOperationAsString );
+	}
+
 	@Test
 	void purge() {
 		SearchMapping mapping = setup();
@@ -727,6 +785,11 @@ private void doMassIndexingWithFailure(MassIndexer massIndexer,
 		}
 	}
 
+	private Runnable expectSchemaManagementWork(StubSchemaManagementWork.Type type) {
+		return () -> backendMock.expectSchemaManagementWorks( Book.NAME )
+				.work( type );
+	}
+
 	private Runnable expectSchemaManagementWorkException(StubSchemaManagementWork.Type type) {
 		return () -> {
 			CompletableFuture<?> failingFuture = new CompletableFuture<>();
@@ -302,6 +302,56 @@ void dropAndCreateSchemaOnStartAndPurgeBothEnabled() {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	void swapIndexesOnFinish() {
+		try ( SearchSession searchSession = mapping.createSession() ) {
+			MassIndexer indexer = searchSession.massIndexer()
+					// Simulate passing information to connect to a DB, ...
+					.context( StubLoadingContext.class, loadingContext )
+					.swapIndexesOnFinish( true );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorks(
+					Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					);
+
+			// the index is rebuilt into a new generation before indexing starts,
+			// and swapped with the current generation once everything is indexed:
+			backendMock.expectSchemaManagementWorks( Book.NAME )
+					.work( StubSchemaManagementWork.Type.START_REBUILD )
+					.work( StubSchemaManagementWork.Type.FINISH_REBUILD );
+
+			// because we set swapIndexesOnFinish = true, the current generation must not be purged,
+			// hence only flush and refresh are expected:
+			backendMock.expectIndexScaleWorks( Book.NAME, searchSession.tenantIdentifierValue() )
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+
+		}
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	void fromMappingWithoutSession() {
 		MassIndexer indexer = mapping.scope( Object.class ).massIndexer()
@@ -7,6 +7,7 @@
 import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
 import org.hibernate.search.backend.lucene.cache.QueryCachingConfigurer;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.util.Version;
 
@@ -91,6 +92,88 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The number of threads used to execute a single search query concurrently over multiple index segments.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * When set to a value higher than {@code 1},
+	 * the backend starts a dedicated thread pool of that size,
+	 * distinct from the thread pool configured through {@link #THREAD_POOL_SIZE},
+	 * and uses it to collect matching documents (hits, total hit count, aggregations)
+	 * on multiple slices of the index segments in parallel.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Searching - Intra-query concurrency",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CONCURRENCY}, i.e. queries are executed in the calling thread only.
+	 */
+	public static final String QUERY_CONCURRENCY = "query.concurrency";
+
+	/**
+	 * The maximum number of documents in a single slice of index segments
+	 * when {@link #QUERY_CONCURRENCY intra-query concurrency} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Lower values lead to more, smaller slices, i.e. more parallelism but also more overhead.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CONCURRENCY_SLICE_MAX_DOCS}.
+	 */
+	public static final String QUERY_CONCURRENCY_SLICE_MAX_DOCS = "query.concurrency.slice.max_docs";
+
+	/**
+	 * The maximum number of index segments in a single slice
+	 * when {@link #QUERY_CONCURRENCY intra-query concurrency} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * Lower values lead to more, smaller slices, i.e. more parallelism but also more overhead.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS}.
+	 */
+	public static final String QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS = "query.concurrency.slice.max_segments";
+
+	/**
+	 * The maximum number of entries in the query result cache.
+	 * <p>
+	 * The query result cache stores the top hits, total hit count and aggregation results of search queries,
+	 * and reuses them for identical queries executed against the same, unchanged index readers.
+	 * Entries are evicted when the cache is full (least recently used entries first)
+	 * and whenever index readers are refreshed.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Searching - Query result cache",
+	 * for more information about this setting and its implications.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_ENTRIES}, i.e. the query result cache is disabled.
+	 */
+	@Incubating
+	public static final String QUERY_RESULT_CACHE_MAX_ENTRIES = "query.result_cache.max_entries";
+
+	/**
+	 * The maximum number of entries in the global ordinals cache.
+	 * <p>
+	 * Terms aggregations on text fields map the ordinals of each segment to ordinals global to the targeted indexes,
+	 * which requires iterating over all terms of the field in all segments.
+	 * This cache stores these mappings and reuses them for queries executed against the same segments.
+	 * Entries are evicted when the cache is full (least recently used entries first)
+	 * and whenever one of the segments they were built from is closed, e.g. after a merge.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed into an integer value.
+	 * {@code 0} disables the cache.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES}.
+	 */
+	@Incubating
+	public static final String QUERY_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES = "query.global_ordinals_cache.max_entries";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -108,5 +191,11 @@ private Defaults() {
 		 */
 		@Deprecated(since = "6.1")
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int QUERY_CONCURRENCY = 1;
+		public static final int QUERY_CONCURRENCY_SLICE_MAX_DOCS = 250_000;
+		public static final int QUERY_CONCURRENCY_SLICE_MAX_SEGMENTS = 5;
+		public static final int QUERY_RESULT_CACHE_MAX_ENTRIES = 0;
+		public static final int QUERY_GLOBAL_ORDINALS_CACHE_MAX_ENTRIES = 100;
 	}
 }
@@ -9,9 +9,11 @@
 import org.hibernate.search.backend.lucene.logging.impl.LuceneInfoStreamLog;
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.directory.ReplicationRoleName;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.engine.cfg.BackendSettings;
 import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
@@ -46,7 +48,7 @@ private LuceneIndexSettings() {
 	/**
 	 * The filesystem root for the directory.
 	 * <p>
-	 * Only available for the "local-filesystem" directory type.
+	 * Only available for the "local-filesystem" and "replicated-filesystem" directory types.
 	 * <p>
 	 * Expects a String representing a path to an existing directory accessible in read and write mode, such as "local-filesystem".
 	 * <p>
@@ -68,7 +70,7 @@ private LuceneIndexSettings() {
 	/**
 	 * How to access the filesystem in the directory.
 	 * <p>
-	 * Only available for the "local-filesystem" directory type.
+	 * Only available for the "local-filesystem" and "replicated-filesystem" directory types.
 	 * <p>
 	 * Expects a {@link FileSystemAccessStrategyName} value, or a String representation of such value.
 	 * <p>
@@ -77,6 +79,116 @@ private LuceneIndexSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * Whether to cache small, newly flushed segments in memory until they are committed or merged.
+	 * <p>
+	 * Only available for the "local-filesystem" and "replicated-filesystem" directory types.
+	 * <p>
+	 * Mostly useful with frequent changes and a low {@link #IO_REFRESH_INTERVAL refresh interval},
+	 * where near-real-time readers would otherwise read back tiny segments from the filesystem
+	 * right after they are flushed.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_ENABLED}.
+	 *
+	 * @see org.apache.lucene.store.NRTCachingDirectory
+	 */
+	@Incubating
+	public static final String DIRECTORY_NRT_CACHE_ENABLED = DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_ENABLED;
+
+	/**
+	 * The maximum estimated size of a newly flushed or merged segment for it to be cached in memory.
+	 * <p>
+	 * Only available when {@link #DIRECTORY_NRT_CACHE_ENABLED the NRT cache} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE}.
+	 */
+	@Incubating
+	public static final String DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE =
+			DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_MAX_MERGE_SIZE;
+
+	/**
+	 * The maximum total size of segments cached in memory;
+	 * segments are written to the filesystem directly when the cache is full.
+	 * <p>
+	 * Only available when {@link #DIRECTORY_NRT_CACHE_ENABLED the NRT cache} is enabled.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_NRT_CACHE_MAX_SIZE}.
+	 */
+	@Incubating
+	public static final String DIRECTORY_NRT_CACHE_MAX_SIZE = DIRECTORY_PREFIX + DirectoryRadicals.NRT_CACHE_MAX_SIZE;
+
+	/**
+	 * The role of this node in the replication of the index.
+	 * <p>
+	 * Only available for the "replicated-filesystem" directory type.
+	 * <p>
+	 * Expects a {@link ReplicationRoleName} value, or a String representation of such value.
+	 * <p>
+	 * No default: this property must be set when using the "replicated-filesystem" directory type.
+	 */
+	@Incubating
+	public static final String DIRECTORY_REPLICATION_ROLE = DIRECTORY_PREFIX + DirectoryRadicals.REPLICATION_ROLE;
+
+	/**
+	 * The filesystem root where the primary node publishes index commits for replica nodes.
+	 * <p>
+	 * Only available for the "replicated-filesystem" directory type.
+	 * <p>
+	 * Expects a String representing a path to a directory shared by all nodes,
+	 * accessible in read and write mode from the primary node and in read mode from replica nodes.
+	 * <p>
+	 * Published index files will be stored in directory {@code <shared_root>/<index-name>}.
+	 * <p>
+	 * No default: this property must be set when using the "replicated-filesystem" directory type.
+	 */
+	@Incubating
+	public static final String DIRECTORY_REPLICATION_SHARED_ROOT =
+			DIRECTORY_PREFIX + DirectoryRadicals.REPLICATION_SHARED_ROOT;
+
+	/**
+	 * The time in milliseconds between two checks for new index commits on replica nodes.
+	 * <p>
+	 * Only available for the "replicated-filesystem" directory type.
+	 * <p>
+	 * Expects a strictly positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_REPLICATION_INTERVAL}.
+	 */
+	@Incubating
+	public static final String DIRECTORY_REPLICATION_INTERVAL = DIRECTORY_PREFIX + DirectoryRadicals.REPLICATION_INTERVAL;
+
+	/**
+	 * The filesystem root of a snapshot to restore indexes from on startup,
+	 * as created by {@link org.hibernate.search.backend.lucene.index.LuceneIndexManager#snapshot(java.nio.file.Path)}.
+	 * <p>
+	 * Only available for the "local-filesystem" and "replicated-filesystem" directory types.
+	 * <p>
+	 * Expects a String representing a path to an existing directory.
+	 * <p>
+	 * On startup, an index that does not exist yet will be restored from directory
+	 * {@code <restore_from>/<index-name>}, or {@code <restore_from>/<index-name>/<shard-id>} with sharding.
+	 * Existing indexes are left untouched.
+	 * <p>
+	 * Startup fails if the snapshot root does not exist,
+	 * or if the snapshot directory of an index exists but does not contain any index commit.
+	 * An index without a snapshot directory, e.g. an index (or shard) added after the snapshot was taken,
+	 * starts empty and a warning is logged.
+	 * <p>
+	 * No default: indexes are not restored unless this property is set.
+	 */
+	@Incubating
+	public static final String DIRECTORY_RESTORE_FROM = DIRECTORY_PREFIX + DirectoryRadicals.RESTORE_FROM;
+
 	/**
 	 * The prefix for I/O-related property keys.
 	 */
@@ -173,6 +285,24 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_WRITER_RAM_BUFFER_SIZE = IO_WRITER_PREFIX + WriterRadicals.RAM_BUFFER_SIZE;
 
+	/**
+	 * The value to pass to {@link IndexWriterConfig#setRAMBufferSizeMB(double)}
+	 * while the index is tuned for bulk loading,
+	 * e.g. when the mass indexer is configured to tune indexes for bulk loading.
+	 * <p>
+	 * The regular RAM buffer size is restored when bulk loading ends.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the regular RAM buffer size, see {@link #IO_WRITER_RAM_BUFFER_SIZE}.
+	 *
+	 * @see IndexWriterConfig#setRAMBufferSizeMB(double)
+	 */
+	@Incubating
+	public static final String IO_WRITER_BULK_LOADING_RAM_BUFFER_SIZE =
+			IO_WRITER_PREFIX + WriterRadicals.BULK_LOADING_RAM_BUFFER_SIZE;
+
 	/**
 	 * Whether to log the {@link IndexWriterConfig#setInfoStream(InfoStream)} (at the trace level) or not.
 	 * <p>
@@ -342,6 +472,27 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * Whether updates of entities where only some numeric, sortable or aggregable properties changed
+	 * should be applied as in-place updates of doc values,
+	 * instead of a full replacement of the document.
+	 * <p>
+	 * In-place updates are only used for single-valued numeric fields at the root of the document
+	 * that are neither searchable nor projectable, in indexes without nested documents
+	 * and without discriminator-based multi-tenancy;
+	 * other changes always trigger a full replacement of the document.
+	 * <p>
+	 * Enabling this setting changes the type of doc values used for eligible fields,
+	 * so the index must be dropped and reindexed whenever the value of this setting changes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_DOC_VALUES_UPDATES}.
+	 */
+	@Incubating
+	public static final String INDEXING_DOC_VALUES_UPDATES = INDEXING_PREFIX + IndexingRadicals.DOC_VALUES_UPDATES;
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -418,6 +569,20 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		@Incubating
+		public static final String NRT_CACHE_ENABLED = "nrt_cache.enabled";
+		@Incubating
+		public static final String NRT_CACHE_MAX_MERGE_SIZE = "nrt_cache.max_merge_size";
+		@Incubating
+		public static final String NRT_CACHE_MAX_SIZE = "nrt_cache.max_size";
+		@Incubating
+		public static final String REPLICATION_ROLE = "replication.role";
+		@Incubating
+		public static final String REPLICATION_SHARED_ROOT = "replication.shared_root";
+		@Incubating
+		public static final String REPLICATION_INTERVAL = "replication.interval";
+		@Incubating
+		public static final String RESTORE_FROM = "restore_from";
 	}
 
 	/**
@@ -443,6 +608,7 @@ private WriterRadicals() {
 
 		public static final String MAX_BUFFERED_DOCS = "max_buffered_docs";
 		public static final String RAM_BUFFER_SIZE = "ram_buffer_size";
+		public static final String BULK_LOADING_RAM_BUFFER_SIZE = "bulk_loading_ram_buffer_size";
 		public static final String INFOSTREAM = "infostream";
 
 	}
@@ -487,6 +653,7 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String DOC_VALUES_UPDATES = "doc_values_updates";
 	}
 
 	/**
@@ -501,11 +668,20 @@ private Defaults() {
 		public static final String DIRECTORY_ROOT = ".";
 		public static final FileSystemAccessStrategyName DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 				FileSystemAccessStrategyName.AUTO;
+		@Incubating
+		public static final boolean DIRECTORY_NRT_CACHE_ENABLED = false;
+		@Incubating
+		public static final int DIRECTORY_NRT_CACHE_MAX_MERGE_SIZE = 5;
+		@Incubating
+		public static final int DIRECTORY_NRT_CACHE_MAX_SIZE = 60;
+		@Incubating
+		public static final int DIRECTORY_REPLICATION_INTERVAL = 1000;
 		public static final String SHARDING_STRATEGY = "none";
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_DOC_VALUES_UPDATES = false;
 	}
 }
@@ -15,6 +15,7 @@
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexValueField;
 import org.hibernate.search.backend.lucene.logging.impl.IndexingLog;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.impl.LuceneIndexValueFieldType;
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
@@ -173,7 +174,13 @@ private <F> void addValue(LuceneIndexValueField<F> node, F value) {
 			checkNoValueYetForSingleValued( absolutePath );
 		}
 
-		type.codec().addToDocument( documentContent, absolutePath, value );
+		if ( model.isDocValuesUpdatable( node ) ) {
+			( (AbstractLuceneNumericFieldCodec<F, ?>) type.codec() )
+					.addUpdatableDocValuesToDocument( documentContent, absolutePath, value );
+		}
+		else {
+			type.codec().addToDocument( documentContent, absolutePath, value );
+		}
 		if ( value != null && node.dynamic() ) {
 			ensureDynamicValueDetectedByExistsPredicateOnObjectField();
 		}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.document.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexValueField;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.document.Field;
+
+/**
+ * A document element collecting values of fields that are
+ * {@link org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel#isDocValuesUpdatable(LuceneIndexValueField)
+ * updatable in place},
+ * to turn them into doc values updates.
+ */
+class LuceneDocValuesUpdateBuilder implements DocumentElement {
+
+	private final Map<LuceneIndexValueField<?>, Object> values = new LinkedHashMap<>();
+
+	LuceneDocValuesUpdateBuilder(Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		for ( IndexFieldReference<?> fieldReference : fieldReferences ) {
+			// Fields that don't get any value will be reset.
+			values.put( ( (LuceneIndexFieldReference<?>) fieldReference ).getSchemaNode(), null );
+		}
+	}
+
+	@Override
+	public <F> void addValue(IndexFieldReference<F> fieldReference, F value) {
+		LuceneIndexValueField<F> node = ( (LuceneIndexFieldReference<F>) fieldReference ).getSchemaNode();
+		if ( !values.containsKey( node ) ) {
+			throw new AssertionFailure( "Unexpected value for field '" + node.absolutePath()
+					+ "' in doc values update; expected values for " + values.keySet() + " only" );
+		}
+		values.put( node, value );
+	}
+
+	@Override
+	public DocumentElement addObject(IndexObjectFieldReference fieldReference) {
+		throw unexpectedObject();
+	}
+
+	@Override
+	public void addNullObject(IndexObjectFieldReference fieldReference) {
+		throw unexpectedObject();
+	}
+
+	@Override
+	public void addValue(String relativeFieldName, Object value) {
+		throw new AssertionFailure( "Unexpected dynamic field '" + relativeFieldName + "' in doc values update" );
+	}
+
+	@Override
+	public DocumentElement addObject(String relativeFieldName) {
+		throw unexpectedObject();
+	}
+
+	@Override
+	public void addNullObject(String relativeFieldName) {
+		throw unexpectedObject();
+	}
+
+	List<Field> build() {
+		List<Field> fields = new ArrayList<>( values.size() );
+		for ( Map.Entry<LuceneIndexValueField<?>, Object> entry : values.entrySet() ) {
+			fields.add( createDocValuesUpdate( entry.getKey(), entry.getValue() ) );
+		}
+		return fields;
+	}
+
+	@SuppressWarnings("unchecked") // Values were added through a reference to the same field, thus have the right type
+	private static <F> Field createDocValuesUpdate(LuceneIndexValueField<F> node, Object value) {
+		AbstractLuceneNumericFieldCodec<F, ?> codec = (AbstractLuceneNumericFieldCodec<F, ?>) node.type().codec();
+		return codec.createDocValuesUpdate( node.absolutePath(), (F) value );
+	}
+
+	private static AssertionFailure unexpectedObject() {
+		return new AssertionFailure( "Unexpected object field in doc values update" );
+	}
+
+}
@@ -4,10 +4,16 @@
  */
 package org.hibernate.search.backend.lucene.document.impl;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
+import org.apache.lucene.document.Field;
+
 public class LuceneIndexEntryFactory {
 
 	private final LuceneIndexModel model;
@@ -27,4 +33,30 @@ public LuceneIndexEntry create(String tenantId, String id, String routingKey,
 		return builder.build( tenantId, id, routingKey );
 	}
 
+	/**
+	 * @param tenantId The tenant identifier.
+	 * @param fieldReferences References to value fields of the index.
+	 * @return {@code true} if all the given fields can be updated in place in documents of the given tenant.
+	 */
+	public boolean supportsDocValuesUpdate(String tenantId, Collection<? extends IndexFieldReference<?>> fieldReferences) {
+		if ( multiTenancyStrategy.filterOrNull( tenantId ) != null ) {
+			// Document identifiers are not unique across tenants: we cannot update by identifier.
+			return false;
+		}
+		for ( IndexFieldReference<?> fieldReference : fieldReferences ) {
+			if ( !( fieldReference instanceof LuceneIndexFieldReference )
+					|| !model.isDocValuesUpdatable( ( (LuceneIndexFieldReference<?>) fieldReference ).getSchemaNode() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public List<Field> createDocValuesUpdate(Collection<? extends IndexFieldReference<?>> fieldReferences,
+			DocumentContributor documentContributor) {
+		LuceneDocValuesUpdateBuilder builder = new LuceneDocValuesUpdateBuilder( fieldReferences );
+		documentContributor.contribute( builder );
+		return builder.build();
+	}
+
 }
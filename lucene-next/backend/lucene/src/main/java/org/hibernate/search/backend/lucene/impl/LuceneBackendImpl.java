@@ -9,11 +9,14 @@
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryResultCache;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexRootBuilder;
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerBuilder;
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -25,7 +28,9 @@
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendStartContext;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
@@ -36,6 +41,12 @@
 
 public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
+	private static final ConfigurationProperty<Boolean> DOC_VALUES_UPDATES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_DOC_VALUES_UPDATES )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_DOC_VALUES_UPDATES )
+					.build();
+
 	private final Optional<String> backendName;
 
 	private final EventContext eventContext;
@@ -54,9 +65,14 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			LuceneQueryCachingContext cachingContext,
+			LuceneQueryResultCache queryResultCacheOrNull,
+			GlobalOrdinalsCache globalOrdinalsCache,
+			int querySliceMaxDocs,
+			int querySliceMaxSegments,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRecorder metricsRecorder) {
 		this.backendName = backendName;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -65,7 +81,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, cachingContext,
+				threads, querySliceMaxDocs, querySliceMaxSegments
 		);
 
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
@@ -73,7 +90,10 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 				workFactory, multiTenancyStrategy,
 				timingSource, analysisDefinitionRegistry,
 				failureHandler,
-				readOrchestrator
+				metricsRecorder,
+				readOrchestrator,
+				queryResultCacheOrNull,
+				globalOrdinalsCache
 		);
 	}
 
@@ -138,7 +158,8 @@ public IndexManagerBuilder createIndexManagerBuilder(
 			ConfigurationPropertySource propertySource) {
 
 		LuceneIndexRootBuilder indexRootBuilder = new LuceneIndexRootBuilder(
-				EventContexts.fromIndexName( indexName ), backendMapperContext, mappedTypeName, analysisDefinitionRegistry
+				EventContexts.fromIndexName( indexName ), backendMapperContext, mappedTypeName, analysisDefinitionRegistry,
+				DOC_VALUES_UPDATES.get( propertySource )
 		);
 
 		/*
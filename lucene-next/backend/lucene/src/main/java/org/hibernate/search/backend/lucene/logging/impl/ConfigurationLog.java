@@ -128,4 +128,12 @@ void recommendConfiguringLuceneVersion(String key, Version latest,
 	@LogMessage(level = Logger.Level.DEBUG)
 	@Message(id = ID_OFFSET + 188, value = "Setting Lucene compatibility to Version %s")
 	void luceneCompatibilityVersion(Version luceneVersion);
+
+	@Message(id = ID_OFFSET + 207,
+			value = "Invalid replication role name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidReplicationRoleName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 208,
+			value = "When using directory type '%1$s', this configuration property must be set.")
+	SearchException missingPropertyValueForDirectoryType(String directoryType);
 }
@@ -334,4 +334,8 @@ SearchException incompatibleScopeRootType(@FormatWith(ClassFormatter.class) Clas
 	@Message(id = ID_OFFSET + 195, value = "Configured query cache policy is ineffective as query cache is not enabled. "
 			+ "Set the cache explicitly through the QueryCachingConfigurer.")
 	void ineffectiveQueryCachingPolicy();
+
+	@Message(id = ID_OFFSET + 196, value = "Invalid page token '%1$s': %2$s."
+			+ " Page tokens must be obtained from the result of a previous execution of the same query.")
+	SearchException invalidPageToken(String token, String causeMessage, @Cause Exception cause);
 }
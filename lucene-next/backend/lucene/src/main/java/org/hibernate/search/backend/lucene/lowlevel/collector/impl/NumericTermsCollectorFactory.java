@@ -41,7 +41,8 @@ public NumericTermsCollectorManager createCollectorManager(CollectorExecutionCon
 			managers[index] = collectorManager;
 			index++;
 		}
-		return new NumericTermsCollectorManager( valuesSource, keys, managers );
+		return new NumericTermsCollectorManager( valuesSource, keys, managers,
+				TermResults.isCountsOnly( collectorFactories ) );
 	}
 
 	@Override
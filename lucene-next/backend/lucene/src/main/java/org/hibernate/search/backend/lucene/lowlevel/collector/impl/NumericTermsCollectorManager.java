@@ -17,17 +17,20 @@
 	private final LongMultiValuesSource valuesSource;
 	private final CollectorKey<?, ?>[] keys;
 	private final CollectorManager<Collector, ?>[] managers;
+	private final boolean countsOnly;
 
 	public NumericTermsCollectorManager(LongMultiValuesSource valuesSource,
-			CollectorKey<?, ?>[] keys, CollectorManager<Collector, ?>[] managers) {
+			CollectorKey<?, ?>[] keys, CollectorManager<Collector, ?>[] managers,
+			boolean countsOnly) {
 		this.valuesSource = valuesSource;
 		this.keys = keys;
 		this.managers = managers;
+		this.countsOnly = countsOnly;
 	}
 
 	@Override
 	public NumericTermsCollector newCollector() {
-		return new NumericTermsCollector( valuesSource, keys, managers );
+		return new NumericTermsCollector( valuesSource, keys, managers, countsOnly );
 	}
 
 	@Override
@@ -35,9 +38,14 @@ public TermResults reduce(Collection<NumericTermsCollector> collection) {
 		if ( collection.isEmpty() ) {
 			return TermResults.EMPTY;
 		}
-		TermResults results = new TermResults( keys, managers );
+		TermResults results = new TermResults( keys, managers, countsOnly );
 		for ( NumericTermsCollector collector : collection ) {
-			results.add( collector.segmentValues() );
+			if ( countsOnly ) {
+				results.addCounts( collector.counts() );
+			}
+			else {
+				results.add( collector.segmentValues() );
+			}
 		}
 		return results;
 	}
@@ -6,22 +6,25 @@
 
 import java.io.IOException;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinals;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LongBucket;
 
 import com.carrotsearch.hppc.LongHashSet;
+import com.carrotsearch.hppc.LongIntHashMap;
 import com.carrotsearch.hppc.LongObjectHashMap;
 import com.carrotsearch.hppc.cursors.LongObjectCursor;
 
-import org.apache.lucene.index.IndexReaderContext;
 import org.apache.lucene.index.LeafReaderContext;
-import org.apache.lucene.index.MultiDocValues;
-import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.ReaderUtil;
 import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.LongValues;
 
 public class TextTermsCollector extends SimpleCollector implements BaseTermsCollector {
 
@@ -31,20 +34,29 @@ public class TextTermsCollector extends SimpleCollector implements BaseTermsColl
 	private final LongObjectHashMap<LongBucket> hashValues = new LongObjectHashMap<>();
 	private final LongObjectHashMap<TermCollectorSegmentValue> segmentValues = new LongObjectHashMap<>();
 	private final String field;
-	private SortedSetDocValues sortedSetValues;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
+	private GlobalOrdinals globalOrdinals;
 
 	private final CollectorKey<?, ?>[] keys;
 	private final CollectorManager<Collector, ?>[] managers;
 
+	// Fast path when only document counts are needed: plain counts, no per-term objects.
+	private final boolean countsOnly;
+	private final LongIntHashMap globalCounts;
+	private int[] segmentCounts;
+
 	private TextMultiValues values;
 	private LeafReaderContext leafReaderContext;
 
-	public TextTermsCollector(String field, TextMultiValuesSource valuesSource,
-			CollectorKey<?, ?>[] keys, CollectorManager<Collector, ?>[] managers) {
+	public TextTermsCollector(String field, TextMultiValuesSource valuesSource, GlobalOrdinalsCache globalOrdinalsCache,
+			CollectorKey<?, ?>[] keys, CollectorManager<Collector, ?>[] managers, boolean countsOnly) {
 		this.field = field;
+		this.globalOrdinalsCache = globalOrdinalsCache;
 		this.valuesSource = valuesSource;
 		this.keys = keys;
 		this.managers = managers;
+		this.countsOnly = countsOnly;
+		this.globalCounts = countsOnly ? new LongIntHashMap() : null;
 	}
 
 	@Override
@@ -57,6 +69,10 @@ public void collect(int doc) throws IOException {
 				// Each document must be counted only once per range.
 				long value = values.nextOrd();
 				if ( uniqueLeafIndicesForDocument.add( value ) ) {
+					if ( countsOnly ) {
+						segmentCounts[(int) value]++;
+						continue;
+					}
 					TermCollectorSegmentValue segmentValue = segmentValues.get( value );
 					if ( segmentValue == null ) {
 						segmentValue = new TermCollectorSegmentValue( managers, leafReaderContext );
@@ -82,6 +98,10 @@ LongObjectHashMap<LongBucket> segmentValues() {
 		return hashValues;
 	}
 
+	LongIntHashMap globalCounts() {
+		return globalCounts;
+	}
+
 	@Override
 	public ScoreMode scoreMode() {
 		return ScoreMode.COMPLETE_NO_SCORES;
@@ -89,15 +109,37 @@ public ScoreMode scoreMode() {
 
 	@Override
 	protected void doSetNextReader(LeafReaderContext context) throws IOException {
-		initRootSortedSetDocValues( context );
+		if ( globalOrdinals == null ) {
+			globalOrdinals = globalOrdinalsCache.get( ReaderUtil.getTopLevelContext( context ).reader(), field );
+		}
 		this.values = valuesSource.getValues( context );
 		leafReaderContext = context;
+		if ( countsOnly ) {
+			int valueCount = (int) values.getValueCount();
+			if ( segmentCounts == null || segmentCounts.length < valueCount ) {
+				// Counts are reset in finish(), so the array can be reused for the next segment.
+				segmentCounts = new int[ArrayUtil.oversize( valueCount, Integer.BYTES )];
+			}
+		}
 	}
 
 	@Override
 	public void finish() throws IOException {
+		LongValues segmentToGlobalOrds = globalOrdinals.segmentToGlobalOrds( leafReaderContext.ord );
+		if ( countsOnly ) {
+			int valueCount = (int) values.getValueCount();
+			for ( int ord = 0; ord < valueCount; ord++ ) {
+				int count = segmentCounts[ord];
+				if ( count != 0 ) {
+					globalCounts.addTo( segmentToGlobalOrds.get( ord ), count );
+					segmentCounts[ord] = 0;
+				}
+			}
+			this.values = null;
+			return;
+		}
 		for ( LongObjectCursor<TermCollectorSegmentValue> value : segmentValues ) {
-			long globalOrd = sortedSetValues.lookupTerm( values.lookupOrd( value.key ) );
+			long globalOrd = segmentToGlobalOrds.get( value.key );
 			LongBucket bucket = hashValues.get( globalOrd );
 			if ( bucket == null ) {
 				bucket = new LongBucket( globalOrd, value.value.collectors, value.value.count );
@@ -113,14 +155,4 @@ public void finish() throws IOException {
 		this.values = null;
 		this.segmentValues.clear();
 	}
-
-	private void initRootSortedSetDocValues(IndexReaderContext ctx) throws IOException {
-		if ( sortedSetValues != null || ctx == null ) {
-			return;
-		}
-		if ( ctx.isTopLevel ) {
-			this.sortedSetValues = MultiDocValues.getSortedSetValues( ctx.reader(), field );
-		}
-		initRootSortedSetDocValues( ctx.parent );
-	}
 }
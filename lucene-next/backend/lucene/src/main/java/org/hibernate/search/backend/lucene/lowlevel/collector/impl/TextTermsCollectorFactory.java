@@ -7,6 +7,7 @@
 import java.io.IOException;
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
 
 import org.apache.lucene.search.CollectorManager;
@@ -15,19 +16,22 @@
 		implements CollectorFactory<TextTermsCollector, TermResults, TextTermsCollectorManager> {
 
 	public static CollectorFactory<TextTermsCollector, TermResults, TextTermsCollectorManager> instance(
-			String field, TextMultiValuesSource valuesSource, List<CollectorFactory<?, ?, ?>> collectorFactories) {
-		return new TextTermsCollectorFactory( field, valuesSource, collectorFactories );
+			String field, TextMultiValuesSource valuesSource, GlobalOrdinalsCache globalOrdinalsCache,
+			List<CollectorFactory<?, ?, ?>> collectorFactories) {
+		return new TextTermsCollectorFactory( field, valuesSource, globalOrdinalsCache, collectorFactories );
 	}
 
 	public final CollectorKey<TextTermsCollector, TermResults> key = CollectorKey.create();
 	private final TextMultiValuesSource valuesSource;
 	private final String field;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
 	private final List<CollectorFactory<?, ?, ?>> collectorFactories;
 
 	public TextTermsCollectorFactory(String field, TextMultiValuesSource valuesSource,
-			List<CollectorFactory<?, ?, ?>> collectorFactories) {
+			GlobalOrdinalsCache globalOrdinalsCache, List<CollectorFactory<?, ?, ?>> collectorFactories) {
 		this.field = field;
 		this.valuesSource = valuesSource;
+		this.globalOrdinalsCache = globalOrdinalsCache;
 		this.collectorFactories = collectorFactories;
 	}
 
@@ -43,7 +47,8 @@ public TextTermsCollectorManager createCollectorManager(CollectorExecutionContex
 			managers[index] = collectorManager;
 			index++;
 		}
-		return new TextTermsCollectorManager( field, valuesSource, keys, managers );
+		return new TextTermsCollectorManager( field, valuesSource, globalOrdinalsCache, keys, managers,
+				TermResults.isCountsOnly( collectorFactories ) );
 	}
 
 	@Override
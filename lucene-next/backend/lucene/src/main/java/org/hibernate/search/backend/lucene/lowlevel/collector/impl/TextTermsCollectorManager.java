@@ -6,6 +6,7 @@
 
 import java.util.Collection;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
 
 import org.apache.lucene.search.Collector;
@@ -16,20 +17,25 @@
 
 	private final TextMultiValuesSource valuesSource;
 	private final String field;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
 	private final CollectorKey<?, ?>[] keys;
 	private final CollectorManager<Collector, ?>[] managers;
+	private final boolean countsOnly;
 
 	public TextTermsCollectorManager(String field, TextMultiValuesSource valuesSource,
-			CollectorKey<?, ?>[] keys, CollectorManager<Collector, ?>[] managers) {
+			GlobalOrdinalsCache globalOrdinalsCache, CollectorKey<?, ?>[] keys, CollectorManager<Collector, ?>[] managers,
+			boolean countsOnly) {
 		this.field = field;
 		this.valuesSource = valuesSource;
+		this.globalOrdinalsCache = globalOrdinalsCache;
 		this.keys = keys;
 		this.managers = managers;
+		this.countsOnly = countsOnly;
 	}
 
 	@Override
 	public TextTermsCollector newCollector() {
-		return new TextTermsCollector( field, valuesSource, keys, managers );
+		return new TextTermsCollector( field, valuesSource, globalOrdinalsCache, keys, managers, countsOnly );
 	}
 
 	@Override
@@ -37,9 +43,14 @@ public TermResults reduce(Collection<TextTermsCollector> collection) {
 		if ( collection.isEmpty() ) {
 			return TermResults.EMPTY;
 		}
-		TermResults results = new TermResults( keys, managers );
+		TermResults results = new TermResults( keys, managers, countsOnly );
 		for ( TextTermsCollector collector : collection ) {
-			results.merge( collector.segmentValues() );
+			if ( countsOnly ) {
+				results.addCounts( collector.globalCounts() );
+			}
+			else {
+				results.merge( collector.segmentValues() );
+			}
 		}
 		return results;
 	}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory;
+
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+@Incubating
+public enum ReplicationRoleName {
+
+	/**
+	 * The node owns the index writer and publishes each index commit to the shared location.
+	 */
+	PRIMARY( "primary" ),
+	/**
+	 * The node never writes to the index,
+	 * and periodically copies the last index commit published by the primary node to its local directory.
+	 */
+	REPLICA( "replica" );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ReplicationRoleName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				ReplicationRoleName.values(),
+				ReplicationRoleName::externalRepresentation,
+				ConfigurationLog.INSTANCE::invalidReplicationRoleName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ReplicationRoleName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -14,6 +14,8 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -43,14 +45,19 @@ public class DirectoryCreationContextImpl implements DirectoryCreationContext {
 	private final Optional<String> shardId;
 	private final BeanResolver beanResolver;
 	private final ConfigurationPropertySource configurationPropertySource;
+	private final ThreadPoolProvider threadPoolProvider;
+	private final MetricsRecorder metricsRecorder;
 
 	public DirectoryCreationContextImpl(EventContext eventContext, String indexName, Optional<String> shardId,
-			BeanResolver beanResolver, ConfigurationPropertySource configurationPropertySource) {
+			BeanResolver beanResolver, ConfigurationPropertySource configurationPropertySource,
+			ThreadPoolProvider threadPoolProvider, MetricsRecorder metricsRecorder) {
 		this.eventContext = eventContext;
 		this.indexName = indexName;
 		this.shardId = shardId;
 		this.beanResolver = beanResolver;
 		this.configurationPropertySource = configurationPropertySource;
+		this.threadPoolProvider = threadPoolProvider;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	@Override
@@ -85,6 +92,16 @@ public Optional<Supplier<LockFactory>> createConfiguredLockFactorySupplier() {
 				.map( DirectoryCreationContextImpl::createLockFactorySupplier );
 	}
 
+	@Override
+	public ThreadPoolProvider threadPoolProvider() {
+		return threadPoolProvider;
+	}
+
+	@Override
+	public MetricsRecorder metricsRecorder() {
+		return metricsRecorder;
+	}
+
 	private static Supplier<LockFactory> createLockFactorySupplier(LockingStrategyName name) {
 		switch ( name ) {
 			case SIMPLE_FILESYSTEM:
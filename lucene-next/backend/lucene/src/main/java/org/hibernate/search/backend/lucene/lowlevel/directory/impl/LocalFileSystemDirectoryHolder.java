@@ -20,15 +20,20 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 	private final Path directoryPath;
 	private final FileSystemAccessStrategy accessStrategy;
 	private final Supplier<LockFactory> lockFactorySupplier;
+	private final NrtCacheConfiguration nrtCacheConfigurationOrNull;
+	private final SnapshotRestoreConfiguration snapshotRestoreConfigurationOrNull;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
 	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
-			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
+			Supplier<LockFactory> lockFactorySupplier, NrtCacheConfiguration nrtCacheConfigurationOrNull,
+			SnapshotRestoreConfiguration snapshotRestoreConfigurationOrNull, EventContext eventContext) {
 		this.directoryPath = directoryPath;
 		this.accessStrategy = accessStrategy;
 		this.lockFactorySupplier = lockFactorySupplier;
+		this.nrtCacheConfigurationOrNull = nrtCacheConfigurationOrNull;
+		this.snapshotRestoreConfigurationOrNull = snapshotRestoreConfigurationOrNull;
 		this.eventContext = eventContext;
 	}
 
@@ -41,12 +46,30 @@ public void start() throws IOException {
 			throw LuceneMiscLog.INSTANCE.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		Directory fsDirectory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		if ( snapshotRestoreConfigurationOrNull != null ) {
+			try {
+				snapshotRestoreConfigurationOrNull.restoreIfMissing( fsDirectory, eventContext );
+			}
+			catch (IOException | RuntimeException e) {
+				fsDirectory.close();
+				throw e;
+			}
+		}
+		this.directory = nrtCacheConfigurationOrNull == null
+				? fsDirectory
+				: nrtCacheConfigurationOrNull.wrap( fsDirectory );
 	}
 
 	@Override
 	public void close() throws IOException {
+		if ( directory instanceof MonitoredNRTCachingDirectory ) {
+			MonitoredNRTCachingDirectory cachingDirectory = (MonitoredNRTCachingDirectory) directory;
+			LuceneMiscLog.INSTANCE.nrtCacheStatistics( cachingDirectory.hitCount(), cachingDirectory.missCount(),
+					eventContext );
+		}
 		if ( directory != null ) {
+			// Also writes cached files to the filesystem, if any.
 			directory.close();
 		}
 		directory = null;
@@ -52,7 +52,8 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 		}
 
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessStrategy, lockFactorySupplier, NrtCacheConfiguration.createOrNull( context ),
+				SnapshotRestoreConfiguration.createOrNull( context ), context.eventContext()
 		);
 	}
 
@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.NRTCachingDirectory;
+
+/**
+ * A {@link NRTCachingDirectory} that keeps track of how many index files are read from the cache,
+ * and reports these statistics to the {@link MetricsRecorder} on each commit.
+ * <p>
+ * Small segments are written to memory when they are flushed or merged,
+ * and only written to the underlying directory when they are committed
+ * (or deleted before that, e.g. after being merged).
+ */
+final class MonitoredNRTCachingDirectory extends NRTCachingDirectory {
+
+	private final String indexName;
+	private final MetricsRecorder metricsRecorder;
+
+	// Mirrors the content of the cache, which is not exposed by NRTCachingDirectory,
+	// so that we can tell whether a file is read from the cache without listing cached files.
+	private final Set<String> cachedFileNames = ConcurrentHashMap.newKeySet();
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	// Guarded by "this"
+	private long reportedHitCount = 0L;
+	private long reportedMissCount = 0L;
+
+	MonitoredNRTCachingDirectory(Directory delegate, double maxMergeSizeMB, double maxCachedMB,
+			String indexName, MetricsRecorder metricsRecorder) {
+		super( delegate, maxMergeSizeMB, maxCachedMB );
+		this.indexName = indexName;
+		this.metricsRecorder = metricsRecorder;
+	}
+
+	@Override
+	public String toString() {
+		return super.toString() + "[hitCount=" + hitCount + ", missCount=" + missCount
+				+ ", cachedBytes=" + ramBytesUsed() + "]";
+	}
+
+	@Override
+	protected boolean doCacheWrite(String name, IOContext context) {
+		boolean cache = super.doCacheWrite( name, context );
+		if ( cache ) {
+			cachedFileNames.add( name );
+		}
+		return cache;
+	}
+
+	@Override
+	public IndexOutput createTempOutput(String prefix, String suffix, IOContext context) throws IOException {
+		IndexOutput output = super.createTempOutput( prefix, suffix, context );
+		// doCacheWrite was called with the prefix, not the actual file name
+		if ( cachedFileNames.remove( prefix ) ) {
+			cachedFileNames.add( output.getName() );
+		}
+		return output;
+	}
+
+	@Override
+	public IndexInput openInput(String name, IOContext context) throws IOException {
+		IndexInput input = super.openInput( name, context );
+		( cachedFileNames.contains( name ) ? hitCount : missCount ).increment();
+		return input;
+	}
+
+	@Override
+	public void deleteFile(String name) throws IOException {
+		super.deleteFile( name );
+		cachedFileNames.remove( name );
+	}
+
+	@Override
+	public void rename(String source, String dest) throws IOException {
+		// The source file is written to the underlying directory before being renamed
+		super.rename( source, dest );
+		cachedFileNames.remove( source );
+	}
+
+	@Override
+	public void sync(Collection<String> fileNames) throws IOException {
+		// Called on commit: this writes cached files to the underlying directory.
+		super.sync( fileNames );
+		cachedFileNames.removeAll( fileNames );
+		reportStatistics();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			super.close();
+		}
+		finally {
+			cachedFileNames.clear();
+			reportStatistics();
+		}
+	}
+
+	long hitCount() {
+		return hitCount.sum();
+	}
+
+	long missCount() {
+		return missCount.sum();
+	}
+
+	private synchronized void reportStatistics() {
+		long currentHitCount = hitCount.sum();
+		long currentMissCount = missCount.sum();
+		long newHitCount = currentHitCount - reportedHitCount;
+		long newMissCount = currentMissCount - reportedMissCount;
+		if ( newHitCount == 0L && newMissCount == 0L ) {
+			return;
+		}
+		reportedHitCount = currentHitCount;
+		reportedMissCount = currentMissCount;
+		metricsRecorder.directoryCacheAccessed( indexName, newHitCount, newMissCount, ramBytesUsed() );
+	}
+}
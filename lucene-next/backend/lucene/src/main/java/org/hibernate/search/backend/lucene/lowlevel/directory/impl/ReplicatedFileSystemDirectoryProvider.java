@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.ConfigurationLog;
+import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.directory.ReplicationRoleName;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.store.FSLockFactory;
+import org.apache.lucene.store.LockFactory;
+
+/**
+ * A directory provider replicating the index from a primary node to replica nodes
+ * through a shared filesystem directory.
+ * <p>
+ * The primary node indexes into a local directory and publishes each commit to the shared directory;
+ * replica nodes periodically copy the last published commit to their own local directory,
+ * and only ever read from it.
+ * Thus, the cost of indexing is only paid once, on the primary node.
+ */
+public class ReplicatedFileSystemDirectoryProvider implements DirectoryProvider {
+
+	public static final String NAME = "replicated-filesystem";
+
+	private static final ConfigurationProperty<Path> ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.ROOT )
+					.as( Path.class, Paths::get )
+					.withDefault( () -> Paths.get( LuceneIndexSettings.Defaults.DIRECTORY_ROOT ) )
+					.build();
+
+	private static final ConfigurationProperty<FileSystemAccessStrategyName> FILESYSTEM_ACCESS_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY )
+					.as( FileSystemAccessStrategyName.class, FileSystemAccessStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
+					.build();
+
+	private static final OptionalConfigurationProperty<ReplicationRoleName> REPLICATION_ROLE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.REPLICATION_ROLE )
+					.as( ReplicationRoleName.class, ReplicationRoleName::of )
+					.build();
+
+	private static final OptionalConfigurationProperty<Path> REPLICATION_SHARED_ROOT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.REPLICATION_SHARED_ROOT )
+					.as( Path.class, Paths::get )
+					.build();
+
+	private static final ConfigurationProperty<Integer> REPLICATION_INTERVAL =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.REPLICATION_INTERVAL )
+					.asIntegerStrictlyPositive()
+					.withDefault( LuceneIndexSettings.Defaults.DIRECTORY_REPLICATION_INTERVAL )
+					.build();
+
+	@Override
+	public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
+		ConfigurationPropertySource propertySource = context.configurationPropertySource();
+		ReplicationRoleName role = REPLICATION_ROLE.getOrThrow( propertySource,
+				() -> ConfigurationLog.INSTANCE.missingPropertyValueForDirectoryType( NAME ) );
+		Path sharedRoot = REPLICATION_SHARED_ROOT.getOrThrow( propertySource,
+				() -> ConfigurationLog.INSTANCE.missingPropertyValueForDirectoryType( NAME ) )
+				.toAbsolutePath();
+		Path directoryRoot = ROOT.get( propertySource ).toAbsolutePath();
+		FileSystemAccessStrategyName accessStrategyName = FILESYSTEM_ACCESS_STRATEGY.get( propertySource );
+		FileSystemAccessStrategy accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
+		Supplier<LockFactory> lockFactorySupplier = context.createConfiguredLockFactorySupplier()
+				.orElseGet( () -> FSLockFactory::getDefault );
+
+		Path directoryPath = directoryRoot.resolve( context.indexName() );
+		Path sharedDirectoryPath = sharedRoot.resolve( context.indexName() );
+		Optional<String> shardId = context.shardId();
+		if ( shardId.isPresent() ) {
+			directoryPath = directoryPath.resolve( shardId.get() );
+			sharedDirectoryPath = sharedDirectoryPath.resolve( shardId.get() );
+		}
+
+		DirectoryHolder localDirectoryHolder = new LocalFileSystemDirectoryHolder(
+				directoryPath, accessStrategy, lockFactorySupplier, NrtCacheConfiguration.createOrNull( context ),
+				SnapshotRestoreConfiguration.createOrNull( context ), context.eventContext()
+		);
+		String threadNamePrefix = "Index replication - " + context.eventContext().render();
+		switch ( role ) {
+			case PRIMARY:
+				return new PrimaryReplicatedDirectoryHolder( localDirectoryHolder, sharedDirectoryPath,
+						lockFactorySupplier, context.threadPoolProvider(), threadNamePrefix, context.eventContext() );
+			case REPLICA:
+				return new ReplicaReplicatedDirectoryHolder( localDirectoryHolder, sharedDirectoryPath,
+						REPLICATION_INTERVAL.get( propertySource ), context.threadPoolProvider(), threadNamePrefix,
+						context.eventContext() );
+			default:
+				throw new AssertionFailure( "Unexpected replication role: " + role );
+		}
+	}
+
+}
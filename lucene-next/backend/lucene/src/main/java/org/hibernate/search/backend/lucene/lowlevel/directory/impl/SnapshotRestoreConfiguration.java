@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.NoLockFactory;
+
+/**
+ * The configuration of the restoration of indexes from a snapshot on startup,
+ * see {@link LuceneIndexSettings#DIRECTORY_RESTORE_FROM}.
+ */
+final class SnapshotRestoreConfiguration {
+
+	private static final OptionalConfigurationProperty<Path> RESTORE_FROM =
+			ConfigurationProperty.forKey( LuceneIndexSettings.DirectoryRadicals.RESTORE_FROM )
+					.as( Path.class, Paths::get )
+					.build();
+
+	/**
+	 * @param context The directory creation context.
+	 * @return The configuration of the restoration, or {@code null} if indexes must not be restored.
+	 */
+	static SnapshotRestoreConfiguration createOrNull(DirectoryCreationContext context) {
+		Optional<Path> restoreRoot = RESTORE_FROM.get( context.configurationPropertySource() );
+		if ( restoreRoot.isEmpty() ) {
+			return null;
+		}
+		Path restoreRootPath = restoreRoot.get().toAbsolutePath();
+		Path snapshotPath = restoreRootPath.resolve( context.indexName() );
+		Optional<String> shardId = context.shardId();
+		if ( shardId.isPresent() ) {
+			snapshotPath = snapshotPath.resolve( shardId.get() );
+		}
+		return new SnapshotRestoreConfiguration( restoreRootPath, snapshotPath );
+	}
+
+	private final Path restoreRoot;
+	private final Path snapshotPath;
+
+	SnapshotRestoreConfiguration(Path restoreRoot, Path snapshotPath) {
+		this.restoreRoot = restoreRoot;
+		this.snapshotPath = snapshotPath;
+	}
+
+	/**
+	 * Copies the snapshot to the given directory, unless it already contains an index.
+	 * <p>
+	 * If the snapshot root exists but does not contain any snapshot for this index,
+	 * e.g. because the index (or shard) was added after the snapshot was taken,
+	 * the directory is left empty.
+	 *
+	 * @param directory The directory to restore the snapshot into.
+	 * @param eventContext The event context of the index.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	void restoreIfMissing(Directory directory, EventContext eventContext) throws IOException {
+		if ( DirectoryReader.indexExists( directory ) ) {
+			// Never overwrite an existing index.
+			return;
+		}
+		if ( !Files.isDirectory( restoreRoot ) ) {
+			throw LuceneMiscLog.INSTANCE.missingIndexSnapshot( restoreRoot, eventContext );
+		}
+		if ( !Files.exists( snapshotPath ) ) {
+			// The index or shard did not exist when the snapshot was taken: start with an empty index.
+			LuceneMiscLog.INSTANCE.missingIndexSnapshotStartingEmpty( restoreRoot, snapshotPath, eventContext );
+			return;
+		}
+		try ( Directory snapshotDirectory = FSDirectory.open( snapshotPath, NoLockFactory.INSTANCE ) ) {
+			String segmentsFileName = SegmentInfos.getLastCommitSegmentsFileName( snapshotDirectory );
+			if ( segmentsFileName == null ) {
+				throw LuceneMiscLog.INSTANCE.missingIndexSnapshot( snapshotPath, eventContext );
+			}
+			SegmentInfos commit = SegmentInfos.readCommit( snapshotDirectory, segmentsFileName );
+			IndexCommitCopier.copyCommit( snapshotDirectory, directory, segmentsFileName, commit.files( true ) );
+		}
+		LuceneMiscLog.INSTANCE.restoredIndexFromSnapshot( snapshotPath, eventContext );
+	}
+
+}
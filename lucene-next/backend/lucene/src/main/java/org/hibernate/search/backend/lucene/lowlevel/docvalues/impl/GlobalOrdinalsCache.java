@@ -0,0 +1,87 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReaderBoundLruCache;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+
+/**
+ * A cache for {@link GlobalOrdinals}, shared by all indexes of a backend.
+ * <p>
+ * Since Hibernate Search creates a new top-level reader for each query,
+ * mappings are cached based on the cores of the segments they were built from:
+ * sorted-set doc values cannot be updated in place,
+ * so a mapping remains valid when documents get deleted from its segments.
+ * Mappings are evicted as soon as one of these segment cores is closed,
+ * and the least recently used mappings are evicted first when the cache is full.
+ */
+public final class GlobalOrdinalsCache {
+
+	private final ReaderBoundLruCache<Key, GlobalOrdinals> entries;
+
+	/**
+	 * @param maxEntries The maximum number of cached mappings. {@code 0} disables caching.
+	 */
+	public GlobalOrdinalsCache(int maxEntries) {
+		this.entries = new ReaderBoundLruCache<>( maxEntries );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxEntries=" + entries.maxEntries()
+				+ "]";
+	}
+
+	/**
+	 * @param reader The top-level reader to build global ordinals for.
+	 * @param field The absolute path of a field with sorted-set doc values.
+	 * @return The global ordinals of the given field in the given reader.
+	 * @throws IOException If reading doc values fails.
+	 */
+	public GlobalOrdinals get(IndexReader reader, String field) throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		if ( entries.maxEntries() == 0 || leaves.size() <= 1 ) {
+			return GlobalOrdinals.build( leaves, field );
+		}
+
+		List<IndexReader.CacheHelper> cacheHelpers = new ArrayList<>( leaves.size() );
+		List<IndexReader.CacheKey> coreKeys = new ArrayList<>( leaves.size() );
+		for ( LeafReaderContext leaf : leaves ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			if ( cacheHelper == null ) {
+				// We cannot detect when this segment changes: don't cache.
+				return GlobalOrdinals.build( leaves, field );
+			}
+			cacheHelpers.add( cacheHelper );
+			coreKeys.add( cacheHelper.getKey() );
+		}
+
+		Key key = new Key( field, coreKeys );
+		GlobalOrdinals globalOrdinals = entries.get( key );
+		if ( globalOrdinals != null ) {
+			return globalOrdinals;
+		}
+
+		// Build without holding the cache lock: this is expensive and must not block queries on other fields.
+		globalOrdinals = GlobalOrdinals.build( leaves, field );
+		// Segment cores are still open at this point, since the caller holds a reference to the reader.
+		GlobalOrdinals previous = entries.putIfAbsent( key, globalOrdinals, cacheHelpers );
+		return previous != null ? previous : globalOrdinals;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private record Key(String field, List<IndexReader.CacheKey> coreKeys) {
+	}
+}
@@ -7,9 +7,12 @@
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.IndexCommitCopier;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
@@ -19,11 +22,14 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.store.LockObtainFailedException;
+import org.apache.lucene.store.NoLockFactory;
 import org.apache.lucene.store.SleepingLockWrapper;
 
 /**
@@ -36,6 +42,12 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
 
+	/**
+	 * A reader on the last commit before a rebuild or bulk loading started, exposed to searches until they end,
+	 * so that uncommitted changes are not exposed and near-real-time readers are not reopened in the meantime.
+	 */
+	private volatile DirectoryReader pinnedReader;
+
 	public IndexAccessorImpl(EventContext eventContext,
 			DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
@@ -50,6 +62,7 @@ public void close() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			// Clear the reader first, as it may depend on the writer (see NearRealTimeIndexReaderProvider).
 			closer.push( IndexReaderProvider::clear, indexReaderProvider );
+			closer.push( IndexAccessorImpl::unpinReader, this );
 			closer.push( IndexWriterProvider::clear, indexWriterProvider );
 		}
 	}
@@ -146,6 +159,73 @@ public void refresh() {
 		}
 	}
 
+	@Override
+	public void startRebuild() {
+		try {
+			commit();
+			pinReader();
+			indexWriterProvider.startRebuild();
+		}
+		catch (IOException | RuntimeException e) {
+			throw LuceneMiscLog.INSTANCE.unableToStartRebuild( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public void finishRebuild() {
+		try {
+			indexWriterProvider.finishRebuild();
+			if ( !indexWriterProvider.isBulkLoading() ) {
+				unpinReader();
+				indexReaderProvider.clear();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw LuceneMiscLog.INSTANCE.unableToFinishRebuild( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public void abortRebuild() {
+		try {
+			// Clear the reader first, as it may depend on the writer (see NearRealTimeIndexReaderProvider).
+			indexReaderProvider.clear();
+			indexWriterProvider.abortRebuild();
+			if ( !indexWriterProvider.isBulkLoading() ) {
+				unpinReader();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw LuceneMiscLog.INSTANCE.unableToAbortRebuild( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public void startBulkLoading() {
+		try {
+			commit();
+			pinReader();
+			indexWriterProvider.startBulkLoading();
+		}
+		catch (IOException | RuntimeException e) {
+			throw LuceneMiscLog.INSTANCE.unableToStartBulkLoading( e.getMessage(), eventContext, e );
+		}
+	}
+
+	@Override
+	public void stopBulkLoading() {
+		try {
+			indexWriterProvider.stopBulkLoading();
+			if ( !indexWriterProvider.isRebuilding() ) {
+				unpinReader();
+				indexReaderProvider.clear();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw LuceneMiscLog.INSTANCE.unableToStopBulkLoading( e.getMessage(), eventContext, e );
+		}
+	}
+
 	@Override
 	public void mergeSegments() {
 		try {
@@ -164,6 +244,10 @@ public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
 
 	@Override
 	public DirectoryReader getIndexReader() throws IOException {
+		DirectoryReader reader = pinnedReader;
+		if ( reader != null && reader.tryIncRef() ) {
+			return reader;
+		}
 		return indexReaderProvider.getOrCreate();
 	}
 
@@ -204,6 +288,28 @@ public long computeSizeInBytes() {
 		return totalSize;
 	}
 
+	@Override
+	public void snapshot(Path target) {
+		try {
+			IndexWriterDelegatorImpl indexWriterDelegator = indexWriterProvider.getOrCreate();
+			IndexCommit commit = indexWriterDelegator.snapshot();
+			try ( Directory targetDirectory = FSDirectory.open( target, NoLockFactory.INSTANCE ) ) {
+				int copiedFileCount = IndexCommitCopier.copyCommit( directoryHolder.get(), targetDirectory,
+						commit.getSegmentsFileName(), commit.getFileNames(), true );
+				// Files of a previous snapshot that are no longer part of the index.
+				IndexCommitCopier.deleteFilesExcept( targetDirectory, Set.copyOf( commit.getFileNames() ) );
+				LuceneMiscLog.INSTANCE.createdIndexSnapshot( commit.getSegmentsFileName(), target, copiedFileCount,
+						eventContext );
+			}
+			finally {
+				indexWriterDelegator.releaseSnapshot( commit );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw LuceneMiscLog.INSTANCE.unableToSnapshotIndex( target, e.getMessage(), eventContext, e );
+		}
+	}
+
 	public Directory getDirectoryForTests() {
 		return directoryHolder.get();
 	}
@@ -216,6 +322,20 @@ public IndexReader getCurrentReaderForTests() throws IOException {
 		return indexReaderProvider.getCurrentForTests();
 	}
 
+	private void pinReader() throws IOException {
+		if ( pinnedReader == null ) {
+			pinnedReader = DirectoryReader.open( directoryHolder.get() );
+		}
+	}
+
+	private void unpinReader() throws IOException {
+		DirectoryReader reader = pinnedReader;
+		if ( reader != null ) {
+			pinnedReader = null;
+			reader.decRef();
+		}
+	}
+
 	private void initializeDirectory(Directory directory) throws IOException {
 		try {
 			IndexWriterConfig iwriterConfig = new IndexWriterConfig( AnalyzerConstants.KEYWORD_ANALYZER )
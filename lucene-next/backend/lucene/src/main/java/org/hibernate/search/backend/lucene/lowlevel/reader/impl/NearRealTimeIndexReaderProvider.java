@@ -6,8 +6,10 @@
 
 import java.io.IOException;
 
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -20,25 +22,37 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * When the directory is {@link DirectoryHolder#isReadOnly() read-only},
+ * e.g. a replica of an index written to by another node,
+ * index readers are opened from the directory instead,
+ * and thus expose the last commit copied to the directory.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private final String indexName;
+	private final DirectoryHolder directoryHolder;
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final MetricsRecorder metricsRecorder;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	public NearRealTimeIndexReaderProvider(String indexName, DirectoryHolder directoryHolder,
+			IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval, MetricsRecorder metricsRecorder) {
+		this.indexName = indexName;
+		this.directoryHolder = directoryHolder;
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	@Override
@@ -77,12 +91,13 @@ public synchronized DirectoryReader getCurrentForTests() throws IOException {
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
+		long startNanos = System.nanoTime();
 		if ( oldEntry == null ) {
-			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
+			DirectoryReader newReader = openReader();
 			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
 		}
 		else {
-			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
+			DirectoryReader newReaderOrNull = openReaderIfChanged( oldEntry.reader );
 			if ( newReaderOrNull == null ) {
 				// No change, keep the old reader
 				freshEntry = oldEntry;
@@ -93,6 +108,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		}
 
 		if ( oldEntry != freshEntry ) {
+			metricsRecorder.indexReaderRefreshed( indexName, System.nanoTime() - startNanos );
 			setCurrentReaderEntry( freshEntry );
 		}
 
@@ -103,6 +119,20 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		return freshEntry;
 	}
 
+	private DirectoryReader openReader() throws IOException {
+		if ( directoryHolder.isReadOnly() ) {
+			return DirectoryReader.open( directoryHolder.get() );
+		}
+		return indexWriterProvider.getOrCreate().openReader();
+	}
+
+	private DirectoryReader openReaderIfChanged(DirectoryReader oldReader) throws IOException {
+		if ( directoryHolder.isReadOnly() ) {
+			return DirectoryReader.openIfChanged( oldReader );
+		}
+		return indexWriterProvider.getOrCreate().openReaderIfChanged( oldReader );
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
@@ -6,13 +6,17 @@
 
 import java.util.List;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 import org.apache.lucene.search.similarities.Similarity;
 
 /**
@@ -28,23 +32,31 @@
  */
 public class IndexWriterConfigSource {
 
+	private static final OptionalConfigurationProperty<Integer> BULK_LOADING_RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_BULK_LOADING_RAM_BUFFER_SIZE )
+					.asIntegerStrictlyPositive()
+					.build();
+
 	public static IndexWriterConfigSource create(Similarity similarity, Analyzer analyzer,
 			Codec codec, ConfigurationPropertySource propertySource, EventContext eventContext) {
 		List<IndexWriterSettingValue<?>> values = IndexWriterSettings.extractAll( propertySource, eventContext );
-		return new IndexWriterConfigSource( similarity, analyzer, codec, values );
+		Integer bulkLoadingRamBufferSizeMB = BULK_LOADING_RAM_BUFFER_SIZE.get( propertySource ).orElse( null );
+		return new IndexWriterConfigSource( similarity, analyzer, codec, values, bulkLoadingRamBufferSizeMB );
 	}
 
 	private final Similarity similarity;
 	private final Analyzer analyzer;
 	private final Codec codec;
 	private final List<IndexWriterSettingValue<?>> values;
+	private final Integer bulkLoadingRamBufferSizeMB;
 
 	private IndexWriterConfigSource(Similarity similarity, Analyzer analyzer, Codec codec,
-			List<IndexWriterSettingValue<?>> values) {
+			List<IndexWriterSettingValue<?>> values, Integer bulkLoadingRamBufferSizeMB) {
 		this.similarity = similarity;
 		this.analyzer = analyzer;
 		this.codec = codec;
 		this.values = values;
+		this.bulkLoadingRamBufferSizeMB = bulkLoadingRamBufferSizeMB;
 	}
 
 	@Override
@@ -55,6 +67,9 @@ public String toString() {
 	/**
 	 * Creates a new {@link IndexWriterConfig}.
 	 * Undefined parameters are not set, leaving the lucene default.
+	 * <p>
+	 * The deletion policy is always a {@link SnapshotDeletionPolicy},
+	 * so that commits can be held while they are being copied: see {@link IndexWriterDelegatorImpl#snapshot()}.
 	 */
 	public IndexWriterConfig createIndexWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
@@ -64,9 +79,18 @@ public IndexWriterConfig createIndexWriterConfig() {
 			value.applySetting( writerConfig );
 		}
 		writerConfig.setMergePolicy( createMergePolicy() );
+		writerConfig.setIndexDeletionPolicy( new SnapshotDeletionPolicy( writerConfig.getIndexDeletionPolicy() ) );
 		return writerConfig;
 	}
 
+	/**
+	 * @return The RAM buffer size to use while bulk loading, in megabytes,
+	 * or {@code null} to keep the RAM buffer size of the writer.
+	 */
+	public Integer bulkLoadingRamBufferSizeMB() {
+		return bulkLoadingRamBufferSizeMB;
+	}
+
 	private LogByteSizeMergePolicy createMergePolicy() {
 		LogByteSizeMergePolicy logByteSizeMergePolicy = new LogByteSizeMergePolicy();
 		for ( IndexWriterSettingValue<?> value : values ) {
@@ -6,6 +6,7 @@
 
 import java.io.IOException;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
@@ -22,6 +23,8 @@ public interface IndexWriterDelegator {
 
 	long updateDocuments(Term term, Iterable<? extends Iterable<? extends IndexableField>> docs) throws IOException;
 
+	long updateDocValues(Term term, Field... updates) throws IOException;
+
 	long deleteDocuments(Term term) throws IOException;
 
 	long deleteDocuments(Query query) throws IOException;
@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
 
@@ -19,6 +20,7 @@
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.MergeScheduler;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -33,6 +35,7 @@ public class IndexWriterProvider {
 	private final int commitInterval;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
 
 	/**
 	 * Current open IndexWriter, or null when closed.
@@ -44,11 +47,26 @@ public class IndexWriterProvider {
 	 */
 	private final ReentrantLock currentWriterModificationLock = new ReentrantLock();
 
+	/**
+	 * Whether the index is being rebuilt from scratch, see {@link #startRebuild()}.
+	 * <p>
+	 * The rebuilt documents only exist in the writer that was current when the rebuild started:
+	 * if that writer gets closed before the rebuild ends, e.g. after a failure,
+	 * no other writer can be created until the rebuild is aborted.
+	 */
+	private volatile boolean rebuilding;
+
+	/**
+	 * Whether the index is being bulk loaded, see {@link #startBulkLoading()}.
+	 */
+	private volatile boolean bulkLoading;
+
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
 			TimingSource timingSource, int commitInterval,
 			BackendThreads threads,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			MetricsRecorder metricsRecorder) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.directoryHolder = directoryHolder;
@@ -57,6 +75,7 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.commitInterval = commitInterval;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	/**
@@ -103,6 +122,103 @@ public void clearAfterFailure(Throwable throwable, Object failingOperation) {
 		}
 	}
 
+	/**
+	 * Deletes all documents and suspends commits until {@link #finishRebuild()} or {@link #abortRebuild()} is called,
+	 * so that the previous content of the index remains the last commit in the meantime.
+	 * <p>
+	 * If the writer gets closed before the rebuild ends, e.g. after a failure,
+	 * the rebuild fails: writes and {@link #finishRebuild()} are rejected until {@link #abortRebuild()} is called.
+	 */
+	public void startRebuild() throws IOException {
+		currentWriterModificationLock.lock();
+		try {
+			IndexWriterDelegatorImpl indexWriterDelegator = getOrCreate();
+			indexWriterDelegator.startRebuild();
+			rebuilding = true;
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	/**
+	 * Resumes commits and commits the rebuilt index, unless bulk loading is still in progress.
+	 */
+	public void finishRebuild() {
+		currentWriterModificationLock.lock();
+		try {
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+			if ( indexWriterDelegator == null ) {
+				// Never commit an incomplete index.
+				throw LuceneMiscLog.INSTANCE.indexWriterLostDuringRebuild( eventContext );
+			}
+			rebuilding = false;
+			indexWriterDelegator.finishRebuild();
+			indexWriterDelegator.commit();
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	/**
+	 * Closes the current writer, rolling back all changes since the rebuild started.
+	 */
+	public void abortRebuild() throws IOException {
+		currentWriterModificationLock.lock();
+		try {
+			rebuilding = false;
+			clear();
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	public boolean isRebuilding() {
+		return rebuilding;
+	}
+
+	/**
+	 * Tunes writers for throughput and suspends commits until {@link #stopBulkLoading()} is called.
+	 */
+	public void startBulkLoading() {
+		currentWriterModificationLock.lock();
+		try {
+			bulkLoading = true;
+			// Writers created from now on will be handled in getOrCreate().
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+			if ( indexWriterDelegator != null ) {
+				indexWriterDelegator.startBulkLoading();
+			}
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	/**
+	 * Reverts writers to their configured settings and commits, unless a rebuild is still in progress.
+	 */
+	public void stopBulkLoading() {
+		currentWriterModificationLock.lock();
+		try {
+			bulkLoading = false;
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
+			if ( indexWriterDelegator != null ) {
+				indexWriterDelegator.stopBulkLoading();
+				indexWriterDelegator.commit();
+			}
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	public boolean isBulkLoading() {
+		return bulkLoading;
+	}
+
 	public IndexWriterDelegatorImpl getOrNull() {
 		return currentWriter.get();
 	}
@@ -114,15 +230,33 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 			try {
 				indexWriterDelegator = currentWriter.get();
 				if ( indexWriterDelegator == null ) {
-					IndexWriter indexWriter = createNewIndexWriter();
+					if ( directoryHolder.isReadOnly() ) {
+						throw LuceneMiscLog.INSTANCE.cannotWriteToIndexReplica( eventContext );
+					}
+					if ( rebuilding ) {
+						// The writer holding the rebuilt documents was closed:
+						// restarting the rebuild on a new writer would silently drop these documents.
+						throw LuceneMiscLog.INSTANCE.indexWriterLostDuringRebuild( eventContext );
+					}
+					// Each writer config can be attached only once to an IndexWriter
+					IndexWriterConfig writerConfig = createWriterConfig();
+					// Always set by the config source, but must be retrieved before the directory holder wraps it.
+					SnapshotDeletionPolicy snapshotDeletionPolicy =
+							(SnapshotDeletionPolicy) writerConfig.getIndexDeletionPolicy();
+					writerConfig.setIndexDeletionPolicy(
+							directoryHolder.createIndexDeletionPolicy( snapshotDeletionPolicy ) );
+					IndexWriter indexWriter = new IndexWriter( directoryHolder.get(), writerConfig );
 					indexWriterDelegator = new IndexWriterDelegatorImpl(
-							indexWriter, eventContext,
+							indexWriter, snapshotDeletionPolicy, indexName, eventContext,
 							threads.getWriteExecutor(),
-							timingSource, commitInterval,
-							failureHandler,
+							timingSource, commitInterval, configSource.bulkLoadingRamBufferSizeMB(),
+							failureHandler, metricsRecorder,
 							this::clearAfterFailure
 					);
 					LuceneMiscLog.INSTANCE.openedIndexWriter();
+					if ( bulkLoading ) {
+						indexWriterDelegator.startBulkLoading();
+					}
 					currentWriter.set( indexWriterDelegator );
 				}
 			}
@@ -133,12 +267,6 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 		return indexWriterDelegator;
 	}
 
-	private IndexWriter createNewIndexWriter() throws IOException {
-		// Each writer config can be attached only once to an IndexWriter
-		final IndexWriterConfig indexWriterConfig = createWriterConfig();
-		return new IndexWriter( directoryHolder.get(), indexWriterConfig );
-	}
-
 	private IndexWriterConfig createWriterConfig() {
 		IndexWriterConfig writerConfig = configSource.createIndexWriterConfig();
 		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
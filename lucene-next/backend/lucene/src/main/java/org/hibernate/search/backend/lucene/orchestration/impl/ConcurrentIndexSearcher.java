@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+
+/**
+ * An {@link IndexSearcher} that searches slices of index segments concurrently,
+ * with configurable slice sizes.
+ */
+final class ConcurrentIndexSearcher extends IndexSearcher {
+
+	private final int sliceMaxDocs;
+	private final int sliceMaxSegments;
+
+	ConcurrentIndexSearcher(IndexReader reader, Executor executor, int sliceMaxDocs, int sliceMaxSegments) {
+		super( reader, executor );
+		this.sliceMaxDocs = sliceMaxDocs;
+		this.sliceMaxSegments = sliceMaxSegments;
+	}
+
+	@Override
+	protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+		// Slices are computed lazily, on first use, so the fields above are initialized at this point.
+		return slices( leaves, sliceMaxDocs, sliceMaxSegments, false );
+	}
+}
@@ -8,6 +8,7 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.cache.impl.LuceneQueryCachingContext;
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
@@ -15,6 +16,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -33,13 +35,20 @@
 
 	private final Similarity similarity;
 	private final LuceneQueryCachingContext cachingContext;
+	private final BackendThreads threads;
+	private final int sliceMaxDocs;
+	private final int sliceMaxSegments;
 
 	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity,
-			LuceneQueryCachingContext cachingContext) {
+			LuceneQueryCachingContext cachingContext,
+			BackendThreads threads, int sliceMaxDocs, int sliceMaxSegments) {
 		super( name );
 		this.similarity = similarity;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 		this.cachingContext = cachingContext;
+		this.threads = threads;
+		this.sliceMaxDocs = sliceMaxDocs;
+		this.sliceMaxSegments = sliceMaxSegments;
 	}
 
 	@Override
@@ -47,7 +56,7 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 			Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader, cachingContext
+				this, indexNames, indexManagerContexts, routingKeys, work, indexReader
 		);
 		Throwable throwable = null;
 		try {
@@ -96,22 +105,30 @@ protected void doStop() {
 		// Nothing to do
 	}
 
+	private IndexSearcher createSearcher(HibernateSearchMultiReader indexReader) {
+		Executor searchExecutor = threads.getSearchExecutor();
+		if ( searchExecutor == null ) {
+			return new IndexSearcher( indexReader );
+		}
+		else {
+			return new ConcurrentIndexSearcher( indexReader, searchExecutor, sliceMaxDocs, sliceMaxSegments );
+		}
+	}
+
 	static class WorkExecution<T> implements AutoCloseable, ReadWorkExecutionContext {
-		private final Similarity similarity;
+		private final LuceneSyncWorkOrchestratorImpl orchestrator;
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
 		private final ReadWork<T> work;
 		private final boolean closeIndexReader;
-		private final LuceneQueryCachingContext cachingContext;
 
 		private T result;
 
-		WorkExecution(Similarity similarity, Set<String> indexNames,
+		WorkExecution(LuceneSyncWorkOrchestratorImpl orchestrator, Set<String> indexNames,
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
 				Set<String> routingKeys, ReadWork<T> work,
-				HibernateSearchMultiReader indexReader,
-				LuceneQueryCachingContext cachingContext) {
-			this.similarity = similarity;
+				HibernateSearchMultiReader indexReader) {
+			this.orchestrator = orchestrator;
 			this.indexNames = indexNames;
 			this.work = work;
 
@@ -123,14 +140,14 @@ protected void doStop() {
 				this.indexReader = indexReader;
 				this.closeIndexReader = false;
 			}
-			this.cachingContext = cachingContext;
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
-			searcher.setSimilarity( similarity );
+			IndexSearcher searcher = orchestrator.createSearcher( indexReader );
+			searcher.setSimilarity( orchestrator.similarity );
 
+			LuceneQueryCachingContext cachingContext = orchestrator.cachingContext;
 			cachingContext.queryCache().ifPresent( searcher::setQueryCache );
 			if ( cachingContext.queryCachingPolicy().isPresent() ) {
 				searcher.setQueryCachingPolicy( cachingContext.queryCachingPolicy().get() );
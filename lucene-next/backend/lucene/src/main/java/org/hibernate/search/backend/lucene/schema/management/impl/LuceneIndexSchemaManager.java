@@ -4,7 +4,9 @@
  */
 package org.hibernate.search.backend.lucene.schema.management.impl;
 
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BinaryOperator;
 
@@ -18,12 +20,14 @@
 
 public class LuceneIndexSchemaManager implements IndexSchemaManager {
 
+	private final String indexName;
 	private final LuceneWorkFactory luceneWorkFactory;
 	private final SchemaManagementIndexManagerContext indexManagerContext;
 	private final LuceneIndexSchemaExportImpl export;
 
 	public LuceneIndexSchemaManager(String indexName, LuceneWorkFactory luceneWorkFactory,
 			SchemaManagementIndexManagerContext indexManagerContext) {
+		this.indexName = indexName;
 		this.luceneWorkFactory = luceneWorkFactory;
 		this.indexManagerContext = indexManagerContext;
 		this.export = new LuceneIndexSchemaExportImpl( indexName );
@@ -65,6 +69,21 @@ public CompletableFuture<?> validate(ContextualFailureCollector failureCollector
 		return doSubmit( luceneWorkFactory.validateIndexExists(), operationSubmitter );
 	}
 
+	@Override
+	public CompletableFuture<?> startRebuild(OperationSubmitter operationSubmitter) {
+		return doSubmit( luceneWorkFactory.startRebuild(), operationSubmitter );
+	}
+
+	@Override
+	public CompletableFuture<?> finishRebuild(OperationSubmitter operationSubmitter) {
+		return doSubmit( luceneWorkFactory.finishRebuild(), operationSubmitter );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild(OperationSubmitter operationSubmitter) {
+		return doSubmit( luceneWorkFactory.abortRebuild(), operationSubmitter );
+	}
+
 	@Override
 	public void exportExpectedSchema(IndexSchemaCollector collector) {
 		collector.indexSchema( indexManagerContext.backendName(), this.export.indexName(), this.export );
@@ -82,6 +101,22 @@ public CompletableFuture<Long> computeSizeInBytes(OperationSubmitter operationSu
 		return totalSizeFuture;
 	}
 
+	public CompletableFuture<?> snapshot(Path target, OperationSubmitter operationSubmitter) {
+		// Same layout as the filesystem directory, so that the snapshot can be restored from.
+		Path indexTarget = target.toAbsolutePath().resolve( indexName );
+		Map<String, LuceneParallelWorkOrchestrator> orchestrators =
+				indexManagerContext.managementOrchestratorsByShardId();
+		CompletableFuture<?>[] futures = new CompletableFuture[orchestrators.size()];
+		int i = 0;
+		for ( Map.Entry<String, LuceneParallelWorkOrchestrator> entry : orchestrators.entrySet() ) {
+			String shardIdOrNull = entry.getKey();
+			Path shardTarget = shardIdOrNull == null ? indexTarget : indexTarget.resolve( shardIdOrNull );
+			futures[i] = entry.getValue().submit( luceneWorkFactory.snapshot( shardTarget ), operationSubmitter );
+			++i;
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
 	private CompletableFuture<?> doSubmit(IndexManagementWork<?> work, OperationSubmitter operationSubmitter) {
 		Collection<LuceneParallelWorkOrchestrator> orchestrators =
 				indexManagerContext.allManagementOrchestrators();
@@ -15,6 +15,7 @@
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.LuceneSearchAggregationFactory;
 import org.hibernate.search.backend.lucene.search.aggregation.dsl.impl.LuceneSearchAggregationFactoryImpl;
@@ -67,6 +68,7 @@
 	// Backend context
 	private final SearchBackendContext backendContext;
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 
 	// Global timing source
@@ -85,12 +87,14 @@ public LuceneSearchIndexScopeImpl(BackendMappingContext mappingContext,
 			Class<SR> rootScopeType,
 			SearchBackendContext backendContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
+			GlobalOrdinalsCache globalOrdinalsCache,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
 			Set<? extends LuceneScopeIndexManagerContext> indexManagerContexts) {
 		super( mappingContext, rootScopeType, toModels( indexManagerContexts ) );
 		this.backendContext = backendContext;
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
+		this.globalOrdinalsCache = globalOrdinalsCache;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
 		// Use LinkedHashMap/LinkedHashSet to ensure stable order when generating requests
@@ -110,6 +114,7 @@ private LuceneSearchIndexScopeImpl(LuceneSearchIndexScopeImpl<SR> parentScope,
 		super( parentScope, overriddenRoot );
 		this.backendContext = parentScope.backendContext;
 		this.analysisDefinitionRegistry = parentScope.analysisDefinitionRegistry;
+		this.globalOrdinalsCache = parentScope.globalOrdinalsCache;
 		this.multiTenancyStrategy = parentScope.multiTenancyStrategy;
 		this.timingSource = parentScope.timingSource;
 		this.mappedTypeNameToIndex = parentScope.mappedTypeNameToIndex;
@@ -194,6 +199,11 @@ public LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry() {
 		return analysisDefinitionRegistry;
 	}
 
+	@Override
+	public GlobalOrdinalsCache globalOrdinalsCache() {
+		return globalOrdinalsCache;
+	}
+
 	@Override
 	public Query filterOrNull(String tenantId) {
 		return multiTenancyStrategy.filterOrNull( tenantId );
@@ -62,6 +62,17 @@ public boolean hasTermVectorsConfigured() {
 				"hasTermVectorsConfigured" );
 	}
 
+	@Override
+	public boolean projectableFromDocValues() {
+		// Doc values can only be used if they can be used in every index.
+		for ( LuceneSearchIndexValueFieldContext<F> indexElement : nodeForEachIndex ) {
+			if ( !indexElement.type().projectableFromDocValues() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public LuceneFieldCodec<F, ?> codec() {
 		return fromTypeIfCompatible( LuceneSearchIndexValueFieldTypeContext::codec, LuceneFieldCodec::isCompatibleWith,
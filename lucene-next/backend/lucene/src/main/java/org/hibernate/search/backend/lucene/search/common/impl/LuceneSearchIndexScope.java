@@ -5,6 +5,7 @@
 package org.hibernate.search.backend.lucene.search.common.impl;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.GlobalOrdinalsCache;
 import org.hibernate.search.engine.search.common.spi.SearchIndexCompositeNodeContext;
 import org.hibernate.search.engine.search.common.spi.SearchIndexScope;
 
@@ -16,4 +17,6 @@
 
 	LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry();
 
+	GlobalOrdinalsCache globalOrdinalsCache();
+
 }
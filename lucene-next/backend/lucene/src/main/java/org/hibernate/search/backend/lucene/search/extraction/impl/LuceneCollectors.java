@@ -97,6 +97,17 @@ public void collectMatchingDocs() throws IOException {
 		processCollectedMatchingDocs();
 	}
 
+	/**
+	 * Alternative to phase 1: restore the results of matching docs collected by a previous, identical search.
+	 *
+	 * @param resultTotal The total hit count.
+	 * @param topDocs The top docs.
+	 */
+	public void restoreMatchingDocs(SearchResultTotal resultTotal, TopDocs topDocs) {
+		this.resultTotal = resultTotal;
+		this.topDocs = topDocs;
+	}
+
 	private void processCollectedMatchingDocs() throws IOException {
 		if ( rewrittenLuceneQuery instanceof MatchAllDocsQuery ) {
 			// We can compute the total hit count in constant time.
@@ -156,9 +167,10 @@ public <T> List<T> collectTopDocsData(TopDocsDataCollector.Factory<T> collectorF
 		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
 		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
 		HibernateSearchMultiCollectorManager collectorManager = buildTopDocsDataCollectors( collectorFactory );
+		IndexSearcher topDocsIndexSearcher = sequentialIndexSearcher();
 		var timeout = collectorManager.queryTimeout();
-		indexSearcher.setTimeout( timeout );
-		MultiCollectedResults collectedResults = indexSearcher.search( topDocsQuery, collectorManager );
+		topDocsIndexSearcher.setTimeout( timeout );
+		MultiCollectedResults collectedResults = topDocsIndexSearcher.search( topDocsQuery, collectorManager );
 
 		// If we had a timeout set, and we've reached it while collecting the data
 		//   then the collector state will be unpredictable
@@ -180,6 +192,23 @@ public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
+	public Query getRewrittenLuceneQuery() {
+		return rewrittenLuceneQuery;
+	}
+
+	private IndexSearcher sequentialIndexSearcher() {
+		if ( indexSearcher.getSlices().length <= 1 ) {
+			return indexSearcher;
+		}
+		// Collectors for top docs data share state (stored fields delegate, projection hit mapper, ...)
+		// and thus cannot be executed concurrently.
+		// There are few top docs anyway, so concurrency would not bring much.
+		IndexSearcher sequentialIndexSearcher = new IndexSearcher( indexSearcher.getIndexReader() );
+		sequentialIndexSearcher.setSimilarity( indexSearcher.getSimilarity() );
+		sequentialIndexSearcher.setQueryCache( null );
+		return sequentialIndexSearcher;
+	}
+
 	private void handleRescoring() throws IOException {
 		if ( scoreSortFieldIndexForRescoring != null ) {
 			// If there's a SCORE sort field, just get the score value from the sort field
@@ -4,12 +4,14 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsValuesDelegate;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsDataCollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.Values;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodedDocValues;
 import org.hibernate.search.backend.lucene.search.common.impl.AbstractLuceneCodecAwareSearchQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
@@ -41,11 +43,13 @@
 	private final String requiredContextAbsoluteFieldPath;
 
 	private final Function<IndexableField, T> decodeFunction;
+	private final DecodedDocValues.Factory<T> docValuesFactoryOrNull;
 	private final ProjectionConverter<T, ? extends V> converter;
 	private final ProjectionCollector.Provider<V, P> collectorProvider;
 
 	private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Provider<V, P> collectorProvider) {
-		this( builder.scope, builder.field, builder.decodeFunction, builder.converter, collectorProvider );
+		this( builder.scope, builder.field, builder.decodeFunction, builder.docValuesFactoryOrNull, builder.converter,
+				collectorProvider );
 	}
 
 	LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
@@ -53,6 +57,15 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Prov
 			Function<IndexableField, T> decodeFunction,
 			ProjectionConverter<T, ? extends V> converter,
 			ProjectionCollector.Provider<V, P> collectorProvider) {
+		this( scope, field, decodeFunction, null, converter, collectorProvider );
+	}
+
+	private LuceneFieldProjection(LuceneSearchIndexScope<?> scope,
+			LuceneSearchIndexValueFieldContext<?> field,
+			Function<IndexableField, T> decodeFunction,
+			DecodedDocValues.Factory<T> docValuesFactoryOrNull,
+			ProjectionConverter<T, ? extends V> converter,
+			ProjectionCollector.Provider<V, P> collectorProvider) {
 		super( scope );
 		this.absoluteFieldPath = field.absolutePath();
 		this.nestedDocumentPath = field.nestedDocumentPath();
@@ -60,6 +73,7 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Prov
 				? field.closestMultiValuedParentAbsolutePath()
 				: null;
 		this.decodeFunction = decodeFunction;
+		this.docValuesFactoryOrNull = docValuesFactoryOrNull;
 		this.converter = converter;
 		this.collectorProvider = collectorProvider;
 	}
@@ -68,6 +82,7 @@ private LuceneFieldProjection(Builder<F, V, T> builder, ProjectionCollector.Prov
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "absoluteFieldPath=" + absoluteFieldPath
+				+ ", docValues=" + ( docValuesFactoryOrNull != null )
 				+ ", collectorProvider=" + collectorProvider
 				+ "]";
 	}
@@ -79,7 +94,11 @@ public ValueFieldExtractor<?> request(ProjectionRequestContext context) {
 			throw QueryLog.INSTANCE.invalidSingleValuedProjectionOnValueFieldInMultiValuedObjectField(
 					absoluteFieldPath, requiredContextAbsoluteFieldPath );
 		}
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( docValuesFactoryOrNull == null ) {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
+		// Otherwise, values are read from doc values:
+		// if no other projection requires stored fields, documents won't be loaded at all.
 		return new ValueFieldExtractor<>( context.absoluteCurrentNestedFieldPath(), collectorProvider.get() );
 	}
 
@@ -106,9 +125,37 @@ public String toString() {
 
 		@Override
 		public Values<A> values(ProjectionExtractContext context) {
+			if ( docValuesFactoryOrNull != null ) {
+				return new DocValuesBasedValues( collector, context.collectorExecutionContext() );
+			}
 			return new StoredFieldValues( collector, context.collectorExecutionContext() );
 		}
 
+		private class DocValuesBasedValues extends AbstractNestingAwareAccumulatingValues<T, A> {
+			private DecodedDocValues<T> currentLeafValues;
+
+			public DocValuesBasedValues(ProjectionCollector<T, V, A, P> collector,
+					TopDocsDataCollectorExecutionContext context) {
+				super( contextAbsoluteFieldPath, nestedDocumentPath, collector, context );
+			}
+
+			@Override
+			protected DocIdSetIterator doContext(LeafReaderContext context) throws IOException {
+				currentLeafValues = docValuesFactoryOrNull.create( context.reader(), absoluteFieldPath );
+				return currentLeafValues;
+			}
+
+			@Override
+			protected A accumulate(A accumulated, int docId) throws IOException {
+				if ( currentLeafValues.advanceExact( docId ) ) {
+					for ( int i = 0; i < currentLeafValues.docValueCount(); i++ ) {
+						accumulated = collector.accumulate( accumulated, currentLeafValues.nextValue() );
+					}
+				}
+				return accumulated;
+			}
+		}
+
 		private class StoredFieldValues extends AbstractNestingAwareAccumulatingValues<T, A> {
 			private final StoredFieldsValuesDelegate delegate;
 
@@ -175,9 +222,13 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 		@SuppressWarnings("unchecked")
 		@Override
 		public <V> Builder<F, V, ?> type(Class<V> expectedType, ValueModel valueModel) {
+			// Doc values hold values in ascending order and, for text, without duplicates:
+			// we can only use them instead of stored fields if there is at most one value per document.
+			boolean useDocValues = !field.multiValuedInRoot() && field.type().projectableFromDocValues();
 			if ( ValueModel.RAW.equals( valueModel ) ) {
 				return new Builder<>( scope, field,
 						codec::raw,
+						useDocValues ? codec.projectableDocValuesOrNull( Function.identity() ) : null,
 						// unchecked cast to make eclipse-compiler happy
 						// we know that Lucene projection converters work with the encoded type
 						( (ProjectionConverter<E, ?>) field.type().rawProjectionConverter() )
@@ -187,6 +238,7 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 			else {
 				return new Builder<>( scope, field,
 						codec::decode,
+						useDocValues ? codec.projectableDocValuesOrNull( codec::decode ) : null,
 						field.type().projectionConverter( valueModel ).withConvertedType( expectedType, field )
 				);
 			}
@@ -197,15 +249,18 @@ private TypeSelector(LuceneFieldCodec<F, E> codec,
 			implements FieldProjectionBuilder<V> {
 
 		private final Function<IndexableField, T> decodeFunction;
+		private final DecodedDocValues.Factory<T> docValuesFactoryOrNull;
 
 		private final LuceneSearchIndexValueFieldContext<F> field;
 
 		private final ProjectionConverter<T, ? extends V> converter;
 
 		private Builder(LuceneSearchIndexScope<?> scope, LuceneSearchIndexValueFieldContext<F> field,
-				Function<IndexableField, T> decodeFunction, ProjectionConverter<T, ? extends V> converter) {
+				Function<IndexableField, T> decodeFunction, DecodedDocValues.Factory<T> docValuesFactoryOrNull,
+				ProjectionConverter<T, ? extends V> converter) {
 			super( scope );
 			this.decodeFunction = decodeFunction;
+			this.docValuesFactoryOrNull = docValuesFactoryOrNull;
 			this.field = field;
 			this.converter = converter;
 		}
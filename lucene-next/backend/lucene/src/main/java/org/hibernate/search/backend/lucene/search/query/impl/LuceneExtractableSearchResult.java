@@ -63,6 +63,21 @@ public LuceneLoadableSearchResult<H> extract() throws IOException {
 	}
 
 	public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusive) throws IOException {
+		return extract( startInclusive, endExclusive, null );
+	}
+
+	/**
+	 * @param extractedAggregations Aggregation results extracted by a previous, identical search.
+	 * @return The loadable result, with all hits and the given aggregation results.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	LuceneLoadableSearchResult<H> extract(Map<AggregationKey<?>, ?> extractedAggregations) throws IOException {
+		return extract( 0, Integer.MAX_VALUE, extractedAggregations );
+	}
+
+	private LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusive,
+			Map<AggregationKey<?>, ?> extractedAggregationsOrNull)
+			throws IOException {
 		TopDocs topDocs = luceneCollectors.getTopDocs();
 		if ( topDocs == null ) {
 			startInclusive = 0;
@@ -77,8 +92,13 @@ public LuceneLoadableSearchResult<H> extract(int startInclusive, int endExclusiv
 		ProjectionHitMapper<?> projectionHitMapper = requestContext.getLoadingContext().createProjectionHitMapper();
 		List<Object> extractedData = extractHits( projectionHitMapper, startInclusive, endExclusive );
 
-		Map<AggregationKey<?>, ?> extractedAggregations =
-				aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations();
+		Map<AggregationKey<?>, ?> extractedAggregations;
+		if ( extractedAggregationsOrNull != null ) {
+			extractedAggregations = extractedAggregationsOrNull;
+		}
+		else {
+			extractedAggregations = aggregations.isEmpty() ? Collections.emptyMap() : extractAggregations();
+		}
 
 		return new LuceneLoadableSearchResult<>(
 				fromDocumentValueConvertContext, rootExtractor,
@@ -95,6 +115,15 @@ public int hitSize() {
 		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
 	}
 
+	/**
+	 * @return The last collected hit, to be used as a starting point to collect the following hits,
+	 * or {@code null} if there are no hits.
+	 */
+	public ScoreDoc lastHit() {
+		int hitSize = hitSize();
+		return hitSize == 0 ? null : luceneCollectors.getTopDocs().scoreDocs[hitSize - 1];
+	}
+
 	SearchResultTotal total() {
 		return luceneCollectors.getResultTotal();
 	}
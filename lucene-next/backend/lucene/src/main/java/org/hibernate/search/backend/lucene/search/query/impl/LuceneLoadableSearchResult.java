@@ -66,6 +66,10 @@
 		this.timeoutManager = timeoutManager;
 	}
 
+	Map<AggregationKey<?>, ?> aggregations() {
+		return extractedAggregations;
+	}
+
 	LuceneSearchResult<H> loadBlocking() {
 		ProjectionTransformContext transformContext = new ProjectionTransformContext(
 				fromDocumentValueConvertContext );
@@ -23,6 +23,7 @@
 import org.hibernate.search.engine.backend.types.converter.runtime.ToDocumentValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.DslConverter;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
@@ -31,6 +32,7 @@
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 
 public class LuceneSearchQueryImpl<H> extends AbstractSearchQuery<H, LuceneSearchResult<H>>
@@ -46,6 +48,7 @@
 	private final Sort luceneSort;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
 	private final Long totalHitCountThreshold;
+	private final MetricsRecorder metricsRecorder;
 
 	private TimeoutManager timeoutManager;
 
@@ -57,7 +60,8 @@
 			TimeoutManager timeoutManager,
 			Query luceneQuery, Sort luceneSort,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
-			Long totalHitCountThreshold) {
+			Long totalHitCountThreshold,
+			MetricsRecorder metricsRecorder) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.scope = scope;
@@ -69,6 +73,7 @@
 		this.luceneSort = luceneSort;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
+		this.metricsRecorder = metricsRecorder;
 	}
 
 	@Override
@@ -90,12 +95,18 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
-		return doFetch( offset, limit, true );
+		return doFetch( offset, null, limit, true );
+	}
+
+	@Override
+	public LuceneSearchResult<H> fetchAfter(String pageToken, Integer limit) {
+		ScoreDoc after = pageToken == null ? null : LucenePageTokens.decode( pageToken, luceneSort );
+		return doFetch( null, after, limit, true );
 	}
 
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
-		return doFetch( offset, limit, false ).hits();
+		return doFetch( offset, null, limit, false ).hits();
 	}
 
 	@Override
@@ -164,20 +175,20 @@ public void failAfter(Long timeout, TimeUnit timeUnit) {
 		searcher.setTimeoutManager( timeoutManager );
 	}
 
-	private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean trackTotalHitCount) {
+	private LuceneSearchResult<H> doFetch(Integer offset, ScoreDoc after, Integer limit, boolean trackTotalHitCount) {
 		timeoutManager.start();
-		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit,
+		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, after, limit,
 				totalHitCountThreshold( trackTotalHitCount ) );
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * WARNING: the following call must run in the user thread,
+				 * or in the executor passed to fetchAsync(), which simply calls this method in that executor
+				 * (see AbstractSearchQuery).
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
+		metricsRecorder.queryExecuted( scope.hibernateSearchIndexNames(), result.hits().size(),
+				result.took().toNanos() );
 		return result;
 	}
 
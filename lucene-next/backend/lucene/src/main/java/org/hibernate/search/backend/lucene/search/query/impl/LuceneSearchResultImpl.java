@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.TopDocs;
 
 class LuceneSearchResultImpl<H> extends SimpleSearchResult<H>
@@ -30,4 +31,14 @@
 	public TopDocs topDocs() {
 		return topDocs;
 	}
+
+	@Override
+	public String nextPageToken() {
+		// Computed lazily: most callers never need it.
+		if ( topDocs == null || topDocs.scoreDocs.length == 0 ) {
+			return null;
+		}
+		ScoreDoc lastHit = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+		return LucenePageTokens.encode( lastHit );
+	}
 }
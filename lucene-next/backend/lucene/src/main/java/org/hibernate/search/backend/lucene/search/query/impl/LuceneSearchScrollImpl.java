@@ -7,6 +7,9 @@
 import java.io.IOException;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.logging.impl.LuceneMiscLog;
 import org.hibernate.search.backend.lucene.logging.impl.QueryLog;
@@ -21,6 +24,8 @@
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
+import org.apache.lucene.search.ScoreDoc;
+
 public class LuceneSearchScrollImpl<H> implements LuceneSearchScroll<H> {
 
 	// shared with its query instance:
@@ -35,11 +40,10 @@
 	// specific to this scroll instance:
 	private final HibernateSearchMultiReader indexReader;
 	private final int chunkSize;
+	private final int pageSize;
 
-	private int nextChunkOffset = 0;
-	private int currentPageLimit;
 	private LuceneExtractableSearchResult<H> currentPage;
-	private int currentPageOffset = 0;
+	private int nextChunkStartIndexInPage = 0;
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchQueryIndexScope<?, ?> scope,
@@ -57,7 +61,10 @@ public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.indexReader = indexReader;
 		this.chunkSize = chunkSize;
-		this.currentPageLimit = chunkSize * 4; // Will fetch the topdocs for the first 4 pages initially
+		// Will fetch the topdocs for 4 chunks at a time.
+		// Pages are fetched "after" the last hit of the previous page,
+		// so the cost of fetching a page does not depend on how far we are in the scroll.
+		this.pageSize = Math.toIntExact( Math.min( (long) chunkSize * 4, Integer.MAX_VALUE ) );
 	}
 
 	@Override
@@ -83,19 +90,23 @@ public LuceneSearchScrollResult<H> next() {
 		}
 	}
 
+	@Override
+	public CompletionStage<LuceneSearchScrollResult<H>> nextAsync(Executor executor) {
+		// Lucene queries run in-process: there is nothing to wait for, so just run the query in the given executor.
+		return CompletableFuture.supplyAsync( this::next, executor );
+	}
+
 	private LuceneSearchScrollResult<H> doNext() {
-		if ( currentPage == null || nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
-			if ( currentPage != null ) {
-				currentPageLimit *= 2;
-			}
-			currentPageOffset = nextChunkOffset;
+		if ( currentPage == null
+				|| nextChunkStartIndexInPage >= pageSize && currentPage.hitSize() >= pageSize ) {
+			// Either this is the first page, or the current page is exhausted and there may be more hits.
+			ScoreDoc after = currentPage == null ? null : currentPage.lastHit();
 			currentPage = doSubmitWithIndexReader(
-					workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
+					workFactory.scroll( searcher, after, pageSize, totalHitCountThreshold ),
 					indexReader );
+			nextChunkStartIndexInPage = 0;
 		}
 
-		int nextChunkStartIndexInPage = nextChunkOffset - currentPageOffset;
-
 		// no more results check
 		if ( nextChunkStartIndexInPage >= currentPage.hitSize() ) {
 			return new LuceneSearchScrollResultImpl<>( currentPage.total(), false, Collections.emptyList(),
@@ -115,15 +126,11 @@ private LuceneSearchScrollResult<H> doNext() {
 
 		/*
 		 * WARNING: the following call must run in the user thread.
-		 * If we introduce async processing, we will have to add a nextAsync method here,
-		 * as well as in ProjectionHitMapper and EntityLoader.
-		 * This method may not be easy to implement for blocking mappers,
-		 * so we may choose to throw exceptions for those.
 		 */
 		LuceneSearchResult<H> result = loadableSearchResult.loadBlocking();
 
 		// increasing the index for further next(s)
-		nextChunkOffset += chunkSize;
+		nextChunkStartIndexInPage += chunkSize;
 		return new LuceneSearchScrollResultImpl<>( currentPage.total(), true, result.hits(),
 				result.took(), result.timedOut() );
 	}
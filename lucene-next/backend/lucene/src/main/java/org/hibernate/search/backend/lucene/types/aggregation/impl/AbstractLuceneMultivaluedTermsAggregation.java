@@ -113,6 +113,11 @@ private Map<K, R> toMap(FromDocumentValueConvertContext convertContext, List<Buc
 		protected Map<CollectorKey<?, ?>, Object> prepareResults(LongBucket bucket, TermResults termResults)
 				throws IOException {
 			Map<CollectorKey<?, ?>, Object> result = new HashMap<>();
+			if ( termResults.countsOnly() ) {
+				// Documents were counted directly into the bucket.
+				result.put( termResults.collectorKeys()[0], bucket.count() );
+				return result;
+			}
 			List<Collector>[] collectors = bucket.collectors;
 			CollectorKey<?, ?>[] collectorKeys = termResults.collectorKeys();
 			CollectorManager<Collector, ?>[] managers = termResults.collectorManagers();
@@ -33,6 +33,7 @@
 import org.hibernate.search.engine.search.aggregation.spi.TermsAggregationBuilder;
 import org.hibernate.search.engine.search.common.ValueModel;
 
+import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
@@ -141,10 +142,8 @@ Set<E> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			SortedSet<E> collectedTerms = new TreeSet<>( descending ? termComparator.reversed() : termComparator );
 			for ( LeafReaderContext leaf : reader.leaves() ) {
 				final LeafReader atomicReader = leaf.reader();
-				SortedNumericDocValues docValues = atomicReader.getSortedNumericDocValues( absoluteFieldPath );
-				if ( docValues == null ) {
-					continue;
-				}
+				// Fields may use single-valued doc values: see LuceneIndexModel#isDocValuesUpdatable
+				SortedNumericDocValues docValues = DocValues.getSortedNumeric( atomicReader, absoluteFieldPath );
 				while ( docValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
 					for ( int i = 0; i < docValues.docValueCount(); i++ ) {
 						E term = numericDomain.sortedDocValueToTerm( docValues.nextValue() );
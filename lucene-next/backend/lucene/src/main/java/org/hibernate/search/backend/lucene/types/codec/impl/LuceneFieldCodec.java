@@ -4,6 +4,10 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodedDocValues;
+
 import org.apache.lucene.index.IndexableField;
 
 /**
@@ -71,4 +75,19 @@
 	 * in doubt.
 	 */
 	boolean isCompatibleWith(LuceneFieldCodec<?, ?> other);
+
+	/**
+	 * Get a way to read projected values from doc values instead of stored fields,
+	 * which avoids loading and decompressing stored fields.
+	 * <p>
+	 * Only possible when this codec adds both stored fields and doc values,
+	 * and the doc values hold exactly the same encoded values as the stored fields.
+	 *
+	 * @param decoder A function to apply to encoded values, e.g. {@link #decode(Object)}.
+	 * @param <T> The type of decoded values.
+	 * @return A factory for decoded doc values, or {@code null} if projections must rely on stored fields.
+	 */
+	default <T> DecodedDocValues.Factory<T> projectableDocValuesOrNull(Function<? super E, ? extends T> decoder) {
+		return null;
+	}
 }
@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.backend.lucene.types.codec.impl;
 
+import java.util.function.Function;
+
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodedDocValues;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Field;
@@ -76,6 +79,16 @@ public boolean isCompatibleWith(LuceneFieldCodec<?, ?> obj) {
 		return LuceneStringFieldCodec.class == obj.getClass();
 	}
 
+	@Override
+	public <T> DecodedDocValues.Factory<T> projectableDocValuesOrNull(Function<? super String, ? extends T> decoder) {
+		if ( !DocValues.ENABLED.equals( docValues ) || mainFieldType == null || !mainFieldType.stored()
+				// Doc values hold normalized values, which may differ from stored values.
+				|| analyzerOrNormalizer != AnalyzerConstants.KEYWORD_ANALYZER ) {
+			return null;
+		}
+		return DecodedDocValues.text( decoder );
+	}
+
 	@Override
 	public String encode(String value) {
 		return value;
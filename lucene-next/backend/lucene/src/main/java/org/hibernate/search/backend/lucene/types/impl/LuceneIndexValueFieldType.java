@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.backend.lucene.types.impl;
 
+import java.util.function.Function;
+
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexScope;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldContext;
 import org.hibernate.search.backend.lucene.search.common.impl.LuceneSearchIndexValueFieldTypeContext;
@@ -26,6 +28,7 @@
 	private final Analyzer indexingAnalyzerOrNormalizer;
 	private final Analyzer searchAnalyzerOrNormalizer;
 	private final boolean hasTermVectorsConfigured;
+	private final boolean projectableFromDocValues;
 	private final ProjectionConverter<?, ?> rawProjectionConverter;
 	private final DslConverter<?, ?> rawDslConverter;
 
@@ -35,6 +38,7 @@ private LuceneIndexValueFieldType(Builder<F> builder) {
 		this.indexingAnalyzerOrNormalizer = builder.indexingAnalyzerOrNormalizer;
 		this.searchAnalyzerOrNormalizer = builder.searchAnalyzerOrNormalizer;
 		this.hasTermVectorsConfigured = builder.hasTermVectorsConfigured;
+		this.projectableFromDocValues = codec.projectableDocValuesOrNull( Function.identity() ) != null;
 		this.rawProjectionConverter = ProjectionConverter.passThrough( codec.encodedType() );
 		this.rawDslConverter = DslConverter.passThrough( codec.encodedType() );
 	}
@@ -58,6 +62,11 @@ public boolean hasTermVectorsConfigured() {
 		return hasTermVectorsConfigured;
 	}
 
+	@Override
+	public boolean projectableFromDocValues() {
+		return projectableFromDocValues;
+	}
+
 	@Override
 	public DslConverter<?, ?> rawDslConverter() {
 		return rawDslConverter;
@@ -14,7 +14,9 @@
 import org.hibernate.search.engine.cfg.spi.NumberUtils;
 import org.hibernate.search.util.common.data.Range;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.FloatPoint;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
@@ -29,6 +31,11 @@ public static LuceneNumericDomain<Float> get() {
 		return INSTANCE;
 	}
 
+	@Override
+	public Class<Float> getValueType() {
+		return Float.class;
+	}
+
 	@Override
 	public Float getMinValue() {
 		return -Float.MAX_VALUE;
@@ -102,6 +109,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Float
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.floatToSortableInt( numericValue ) );
 	}
 
+	@Override
+	public Field createUpdatableDocValuesField(String absoluteFieldPath, Float numericValue) {
+		return new NumericDocValuesField( absoluteFieldPath, numericValue == null ? null : (long) NumericUtils.floatToSortableInt( numericValue ) );
+	}
+
 	@Override
 	public FieldComparator<Float> createFieldComparator(String fieldName, int numHits,
 			Float missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
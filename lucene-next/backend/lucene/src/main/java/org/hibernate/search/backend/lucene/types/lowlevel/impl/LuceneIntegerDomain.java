@@ -14,7 +14,9 @@
 import org.hibernate.search.engine.cfg.spi.NumberUtils;
 import org.hibernate.search.util.common.data.Range;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
@@ -28,6 +30,11 @@ public static LuceneNumericDomain<Integer> get() {
 		return INSTANCE;
 	}
 
+	@Override
+	public Class<Integer> getValueType() {
+		return Integer.class;
+	}
+
 	@Override
 	public Integer getMinValue() {
 		return Integer.MIN_VALUE;
@@ -100,6 +107,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Integ
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue.longValue() );
 	}
 
+	@Override
+	public Field createUpdatableDocValuesField(String absoluteFieldPath, Integer numericValue) {
+		return new NumericDocValuesField( absoluteFieldPath, numericValue == null ? null : numericValue.longValue() );
+	}
+
 	@Override
 	public FieldComparator<Integer> createFieldComparator(String fieldName, int numHits,
 			Integer missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
@@ -14,7 +14,9 @@
 import org.hibernate.search.engine.cfg.spi.NumberUtils;
 import org.hibernate.search.util.common.data.Range;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
@@ -28,6 +30,11 @@ public static LuceneNumericDomain<Long> get() {
 		return INSTANCE;
 	}
 
+	@Override
+	public Class<Long> getValueType() {
+		return Long.class;
+	}
+
 	@Override
 	public Long getMinValue() {
 		return Long.MIN_VALUE;
@@ -100,6 +107,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Long
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue );
 	}
 
+	@Override
+	public Field createUpdatableDocValuesField(String absoluteFieldPath, Long numericValue) {
+		return new NumericDocValuesField( absoluteFieldPath, numericValue );
+	}
+
 	@Override
 	public FieldComparator<Long> createFieldComparator(String fieldName, int numHits,
 			Long missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.util.common.data.Range;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Pruning;
@@ -18,6 +19,8 @@
 
 public interface LuceneNumericDomain<E extends Number> {
 
+	Class<E> getValueType();
+
 	E getMinValue();
 
 	E getMaxValue();
@@ -46,6 +49,14 @@
 
 	IndexableField createSortedDocValuesField(String absoluteFieldPath, E numericValue);
 
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param numericValue The value, or {@code null} to create a field that resets the value upon doc values updates.
+	 * @return A single-valued doc values field, using the same encoding as {@link #createSortedDocValuesField(String, Object)},
+	 * but that can be updated in place with {@link org.apache.lucene.index.IndexWriter#updateDocValues}.
+	 */
+	Field createUpdatableDocValuesField(String absoluteFieldPath, E numericValue);
+
 	FieldComparator<E> createFieldComparator(String absoluteFieldPath, int numHits,
 			E missingValue, boolean reversed, Pruning pruning, MultiValueMode multiValueMode,
 			NestedDocsProvider nestedDocsProvider);
@@ -4,19 +4,57 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
+import java.util.Objects;
+
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 
 import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.Query;
 
+/**
+ * A comparator source for sorts on document values.
+ * <p>
+ * Implementations have value semantics for {@link #equals(Object)} and {@link #hashCode()},
+ * so that the {@link org.apache.lucene.search.SortField} of identical sorts are equal,
+ * which is required for query results to be cached.
+ */
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
+	private final String nestedDocumentPath;
+	private final Query filter;
+
 	protected NestedDocsProvider nestedDocsProvider;
 
 	public LuceneFieldComparatorSource(String nestedDocumentPath, Query filter) {
+		this.nestedDocumentPath = nestedDocumentPath;
+		this.filter = filter;
 		this.nestedDocsProvider = nestedDocumentPath == null
 				? null
 				: new NestedDocsProvider( nestedDocumentPath, filter );
 	}
 
+	/**
+	 * @return The type of sort values collected by comparators of this source,
+	 * i.e. of the corresponding values in {@link org.apache.lucene.search.FieldDoc#fields}.
+	 */
+	public abstract Class<?> getSortValueType();
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( this == obj ) {
+			return true;
+		}
+		if ( obj == null || getClass() != obj.getClass() ) {
+			return false;
+		}
+		LuceneFieldComparatorSource other = (LuceneFieldComparatorSource) obj;
+		return Objects.equals( nestedDocumentPath, other.nestedDocumentPath )
+				&& Objects.equals( filter, other.filter );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( getClass(), nestedDocumentPath, filter );
+	}
+
 }
@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -13,9 +14,11 @@
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 
+import org.apache.lucene.document.Field;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public final class LuceneWorkFactory {
 
@@ -45,6 +48,26 @@ public IndexManagementWork<?> refresh() {
 		return new RefreshWork();
 	}
 
+	public IndexManagementWork<Void> startRebuild() {
+		return new StartRebuildWork();
+	}
+
+	public IndexManagementWork<Void> finishRebuild() {
+		return new FinishRebuildWork();
+	}
+
+	public IndexManagementWork<Void> abortRebuild() {
+		return new AbortRebuildWork();
+	}
+
+	public IndexManagementWork<Void> startBulkLoading() {
+		return new StartBulkLoadingWork();
+	}
+
+	public IndexManagementWork<Void> stopBulkLoading() {
+		return new StopBulkLoadingWork();
+	}
+
 	public IndexManagementWork<?> mergeSegments() {
 		return new MergeSegmentsWork();
 	}
@@ -53,6 +76,10 @@ public IndexManagementWork<Long> computeSizeInBytes() {
 		return new ComputeSizeInBytesWork();
 	}
 
+	public IndexManagementWork<Void> snapshot(Path target) {
+		return new SnapshotWork( target );
+	}
+
 	public SingleDocumentIndexingWork add(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier, LuceneIndexEntry indexEntry) {
 		return new AddEntryWork( tenantId, entityTypeName, entityIdentifier,
@@ -66,6 +93,11 @@ public SingleDocumentIndexingWork update(String tenantId, String entityTypeName,
 				documentIdentifier, filter, indexEntry );
 	}
 
+	public SingleDocumentIndexingWork updateDocValues(String tenantId, String entityTypeName, Object entityIdentifier,
+			String documentIdentifier, List<Field> updates) {
+		return new UpdateDocValuesWork( tenantId, entityTypeName, entityIdentifier, documentIdentifier, updates );
+	}
+
 	public SingleDocumentIndexingWork delete(String tenantId, String entityTypeName, Object entityIdentifier,
 			String documentIdentifier) {
 		Query filter = multiTenancyStrategy.filterOrNull( tenantId );
@@ -85,12 +117,14 @@ public IndexManagementWork<?> deleteAll(Set<String> tenantIds, Set<String> routi
 		return new DeleteEntriesByQueryWork( Queries.boolFilter( MatchAllDocsQuery.INSTANCE, filters ) );
 	}
 
-	public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Integer limit, int totalHitCountThreshold) {
-		return new SearchWork<>( searcher, offset, limit, totalHitCountThreshold );
+	public <R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, ScoreDoc after, Integer limit,
+			int totalHitCountThreshold) {
+		return new SearchWork<>( searcher, offset, after, limit, totalHitCountThreshold );
 	}
 
-	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold) {
-		return new ScrollWork<>( searcher, offset, limit, totalHitCountThreshold );
+	public <ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, ScoreDoc after, int limit,
+			int totalHitCountThreshold) {
+		return new ScrollWork<>( searcher, after, limit, totalHitCountThreshold );
 	}
 
 	public ReadWork<Integer> count(LuceneSearcher<?, ?> searcher) {
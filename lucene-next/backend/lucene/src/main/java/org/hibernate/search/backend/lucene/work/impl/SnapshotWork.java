@@ -0,0 +1,32 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.nio.file.Path;
+
+public class SnapshotWork implements IndexManagementWork<Void> {
+
+	private final Path target;
+
+	SnapshotWork(Path target) {
+		this.target = target;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[target=" + target + "]";
+	}
+
+	@Override
+	public Void execute(IndexManagementWorkExecutionContext context) {
+		context.getIndexAccessor().snapshot( target );
+		return null;
+	}
+
+	@Override
+	public Object getInfo() {
+		return this;
+	}
+}
@@ -0,0 +1,43 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.logging.impl.IndexingLog;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.Term;
+
+/**
+ * Updates doc values of an existing document in place, without re-indexing the whole document.
+ */
+public class UpdateDocValuesWork extends AbstractSingleDocumentIndexingWork {
+
+	private final List<Field> updates;
+
+	UpdateDocValuesWork(String tenantId, String entityTypeName, Object entityIdentifier,
+			String documentIdentifier, List<Field> updates) {
+		super( "updateDocValues", tenantId, entityTypeName, entityIdentifier, documentIdentifier );
+		this.updates = updates;
+	}
+
+	@Override
+	public Long execute(IndexingWorkExecutionContext context) {
+		try {
+			IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
+			Term idTerm = new Term( MetadataFields.idFieldName(), documentIdentifier );
+			return indexWriterDelegator.updateDocValues( idTerm, updates.toArray( new Field[0] ) );
+		}
+		catch (IOException e) {
+			throw IndexingLog.INSTANCE.unableToIndexEntry( tenantId, entityTypeName, entityIdentifier, e.getMessage(),
+					context.getEventContext(), e );
+		}
+	}
+
+}
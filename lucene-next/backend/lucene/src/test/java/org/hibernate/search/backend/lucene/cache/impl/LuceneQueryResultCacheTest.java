@@ -0,0 +1,167 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.cache.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.engine.metrics.impl.NoOpMetricsRecorder;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+class LuceneQueryResultCacheTest {
+
+	private static final Set<String> INDEX_NAMES = Collections.singleton( "index" );
+
+	@Test
+	void hitAndMiss() throws IOException {
+		LuceneQueryResultCache cache = new LuceneQueryResultCache( 10, NoOpMetricsRecorder.INSTANCE );
+		try ( Directory directory = createDirectory();
+				DirectoryReader reader = DirectoryReader.open( directory );
+				// Multi-readers over the same directory reader, as created for each query
+				MultiReader multiReader = new MultiReader( new DirectoryReader[] { reader }, false );
+				MultiReader otherMultiReader = new MultiReader( new DirectoryReader[] { reader }, false ) ) {
+			LuceneQueryResultCache.Key key = key( cache, multiReader, new TermQuery( new Term( "id", "1" ) ) );
+			assertThat( key ).isNotNull();
+			assertThat( cache.get( key, INDEX_NAMES ) ).isNull();
+
+			Map<AggregationKey<?>, ?> aggregations = Collections.singletonMap( AggregationKey.of( "agg" ), 42L );
+			cache.put( key, SimpleSearchResultTotal.exact( 1L ), topDocs(), aggregations );
+
+			LuceneQueryResultCache.Entry entry =
+					cache.get( key( cache, otherMultiReader, new TermQuery( new Term( "id", "1" ) ) ), INDEX_NAMES );
+			assertThat( entry ).isNotNull();
+			assertThat( entry.resultTotal().hitCount() ).isEqualTo( 1L );
+			assertThat( entry.topDocs().scoreDocs ).hasSize( 1 );
+			assertThat( entry.aggregations() ).isEqualTo( aggregations );
+
+			assertThat( cache.get( key( cache, multiReader, new TermQuery( new Term( "id", "2" ) ) ), INDEX_NAMES ) )
+					.isNull();
+
+			assertThat( cache.hitCount() ).isEqualTo( 1L );
+			assertThat( cache.missCount() ).isEqualTo( 2L );
+		}
+	}
+
+	@Test
+	void topDocsNotShared() throws IOException {
+		LuceneQueryResultCache cache = new LuceneQueryResultCache( 10, NoOpMetricsRecorder.INSTANCE );
+		try ( Directory directory = createDirectory();
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LuceneQueryResultCache.Key key = key( cache, reader, new MatchAllDocsQuery() );
+			TopDocs topDocs = topDocs();
+			cache.put( key, SimpleSearchResultTotal.exact( 1L ), topDocs, Collections.emptyMap() );
+
+			topDocs.scoreDocs[0] = new ScoreDoc( 1, 1.0f );
+			TopDocs cached = cache.get( key, INDEX_NAMES ).topDocs();
+			assertThat( cached.scoreDocs[0].doc ).isEqualTo( 0 );
+			cached.scoreDocs[0] = new ScoreDoc( 1, 1.0f );
+			assertThat( cache.get( key, INDEX_NAMES ).topDocs().scoreDocs[0].doc ).isEqualTo( 0 );
+		}
+	}
+
+	@Test
+	void aggregationsNotShared() throws IOException {
+		LuceneQueryResultCache cache = new LuceneQueryResultCache( 10, NoOpMetricsRecorder.INSTANCE );
+		try ( Directory directory = createDirectory();
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LuceneQueryResultCache.Key key = key( cache, reader, new MatchAllDocsQuery() );
+			AggregationKey<Long> aggregationKey = AggregationKey.of( "agg" );
+			Map<AggregationKey<?>, Object> aggregations = new HashMap<>();
+			aggregations.put( aggregationKey, 42L );
+			cache.put( key, SimpleSearchResultTotal.exact( 1L ), topDocs(), aggregations );
+
+			aggregations.put( aggregationKey, 43L );
+			Map<AggregationKey<?>, ?> cached = cache.get( key, INDEX_NAMES ).aggregations();
+			assertThat( cached.get( aggregationKey ) ).isEqualTo( 42L );
+			assertThatThrownBy( () -> cached.remove( aggregationKey ) )
+					.isInstanceOf( UnsupportedOperationException.class );
+		}
+	}
+
+	@Test
+	void leastRecentlyUsedEviction() throws IOException {
+		LuceneQueryResultCache cache = new LuceneQueryResultCache( 2, NoOpMetricsRecorder.INSTANCE );
+		try ( Directory directory = createDirectory();
+				DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			LuceneQueryResultCache.Key key1 = key( cache, reader, new TermQuery( new Term( "id", "1" ) ) );
+			LuceneQueryResultCache.Key key2 = key( cache, reader, new TermQuery( new Term( "id", "2" ) ) );
+			LuceneQueryResultCache.Key key3 = key( cache, reader, new TermQuery( new Term( "id", "3" ) ) );
+			cache.put( key1, SimpleSearchResultTotal.exact( 1L ), topDocs(), Collections.emptyMap() );
+			cache.put( key2, SimpleSearchResultTotal.exact( 1L ), topDocs(), Collections.emptyMap() );
+			// Use key1, so that key2 becomes the least recently used entry
+			assertThat( cache.get( key1, INDEX_NAMES ) ).isNotNull();
+			cache.put( key3, SimpleSearchResultTotal.exact( 1L ), topDocs(), Collections.emptyMap() );
+
+			assertThat( cache.size() ).isEqualTo( 2 );
+			assertThat( cache.get( key1, INDEX_NAMES ) ).isNotNull();
+			assertThat( cache.get( key2, INDEX_NAMES ) ).isNull();
+			assertThat( cache.get( key3, INDEX_NAMES ) ).isNotNull();
+		}
+	}
+
+	@Test
+	void evictionOnReaderClose() throws IOException {
+		LuceneQueryResultCache cache = new LuceneQueryResultCache( 10, NoOpMetricsRecorder.INSTANCE );
+		try ( Directory directory = createDirectory() ) {
+			DirectoryReader reader = DirectoryReader.open( directory );
+			LuceneQueryResultCache.Key key = key( cache, reader, new MatchAllDocsQuery() );
+			cache.put( key, SimpleSearchResultTotal.exact( 1L ), topDocs(), Collections.emptyMap() );
+			assertThat( cache.size() ).isEqualTo( 1 );
+
+			reader.close();
+			assertThat( cache.size() ).isZero();
+
+			try ( DirectoryReader newReader = DirectoryReader.open( directory ) ) {
+				assertThat( cache.get( key( cache, newReader, new MatchAllDocsQuery() ), INDEX_NAMES ) ).isNull();
+			}
+		}
+	}
+
+	private static LuceneQueryResultCache.Key key(LuceneQueryResultCache cache, IndexReader reader, Query query) {
+		return cache.createKeyOrNull( reader, query, null, 0, 10, 1000, false, Collections.emptyMap() );
+	}
+
+	private static TopDocs topDocs() {
+		return new TopDocs( new TotalHits( 1L, TotalHits.Relation.EQUAL_TO ), new ScoreDoc[] { new ScoreDoc( 0, 1.0f ) } );
+	}
+
+	private static Directory createDirectory() throws IOException {
+		Directory directory = new ByteBuffersDirectory();
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig() ) ) {
+			Document document = new Document();
+			document.add( new StringField( "id", "1", Field.Store.NO ) );
+			writer.addDocument( document );
+		}
+		return directory;
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryHolderTestUtils.addDocuments;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.FlushInfo;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+
+class MonitoredNRTCachingDirectoryTest {
+
+	private static final String INDEX_NAME = "index";
+
+	private final RecordingMetricsRecorder metricsRecorder = new RecordingMetricsRecorder();
+
+	@TempDir
+	private Path root;
+
+	@Test
+	void flushedSegment_servedFromCache_writtenOnCommit() throws IOException {
+		try ( Directory delegate = FSDirectory.open( root ) ) {
+			MonitoredNRTCachingDirectory directory = wrap( delegate );
+			IndexWriter writer = new IndexWriter( directory, config() );
+			addDocuments( writer, 10 );
+
+			// Opening a NRT reader flushes a new segment, which is small enough to be cached
+			try ( DirectoryReader reader = DirectoryReader.open( writer ) ) {
+				assertThat( reader.numDocs() ).isEqualTo( 10 );
+			}
+			String[] cachedFiles = directory.listCachedFiles();
+			assertThat( cachedFiles ).isNotEmpty();
+			assertThat( delegate.listAll() ).doesNotContain( cachedFiles );
+			assertThat( directory.hitCount() ).isPositive();
+			// Statistics are not reported until the next commit
+			assertThat( metricsRecorder.calls ).hasValue( 0L );
+
+			writer.commit();
+			assertThat( directory.listCachedFiles() ).isEmpty();
+			assertThat( delegate.listAll() ).contains( cachedFiles );
+			assertThat( metricsRecorder.calls ).hasValue( 1L );
+			assertThat( metricsRecorder.hitCount ).hasValue( directory.hitCount() );
+			assertThat( metricsRecorder.missCount ).hasValue( directory.missCount() );
+			writer.close();
+
+			// Files are now read from the underlying directory
+			long hitCountBeforeReopen = directory.hitCount();
+			long missCountBeforeReopen = directory.missCount();
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				assertThat( reader.numDocs() ).isEqualTo( 10 );
+			}
+			assertThat( directory.hitCount() ).isEqualTo( hitCountBeforeReopen );
+			assertThat( directory.missCount() ).isGreaterThan( missCountBeforeReopen );
+
+			// Statistics collected since the previous report are reported on close
+			directory.close();
+			assertThat( metricsRecorder.calls ).hasValue( 2L );
+			assertThat( metricsRecorder.hitCount ).hasValue( directory.hitCount() );
+			assertThat( metricsRecorder.missCount ).hasValue( directory.missCount() );
+		}
+	}
+
+	@Test
+	void flushedFile_writtenOnClose() throws IOException {
+		// Closing the caching directory also closes the underlying directory
+		try ( MonitoredNRTCachingDirectory directory = wrap( FSDirectory.open( root ) ) ) {
+			// This is how the index writer creates files when flushing a segment
+			IOContext flushContext = new IOContext( new FlushInfo( 1, 4L ) );
+			try ( IndexOutput output = directory.createOutput( "someFile", flushContext ) ) {
+				output.writeInt( 42 );
+			}
+			assertThat( directory.listCachedFiles() ).containsExactly( "someFile" );
+			assertThat( directory.getDelegate().listAll() ).doesNotContain( "someFile" );
+
+			try ( IndexInput input = directory.openInput( "someFile", IOContext.DEFAULT ) ) {
+				assertThat( input.readInt() ).isEqualTo( 42 );
+			}
+			assertThat( directory.hitCount() ).isEqualTo( 1L );
+			assertThat( directory.missCount() ).isZero();
+		}
+		assertThat( metricsRecorder.calls ).hasValue( 1L );
+		assertThat( metricsRecorder.hitCount ).hasValue( 1L );
+		assertThat( metricsRecorder.missCount ).hasValue( 0L );
+
+		// Files cached but never synced were written to the underlying directory on close
+		try ( Directory directory = FSDirectory.open( root ) ) {
+			assertThat( directory.listAll() ).contains( "someFile" );
+			try ( IndexInput input = directory.openInput( "someFile", IOContext.DEFAULT ) ) {
+				assertThat( input.readInt() ).isEqualTo( 42 );
+			}
+		}
+	}
+
+	private MonitoredNRTCachingDirectory wrap(Directory delegate) {
+		return new MonitoredNRTCachingDirectory( delegate, 5.0, 60.0, INDEX_NAME, metricsRecorder );
+	}
+
+	private static IndexWriterConfig config() {
+		// Merges would delete flushed segments, which we want to inspect
+		return new IndexWriterConfig().setMergePolicy( NoMergePolicy.INSTANCE );
+	}
+
+	private static class RecordingMetricsRecorder implements MetricsRecorder {
+		private final AtomicLong calls = new AtomicLong();
+		private final AtomicLong hitCount = new AtomicLong();
+		private final AtomicLong missCount = new AtomicLong();
+
+		@Override
+		public void directoryCacheAccessed(String indexName, long hitCount, long missCount, long cachedBytes) {
+			assertThat( indexName ).isEqualTo( INDEX_NAME );
+			calls.incrementAndGet();
+			// Each call only reports what happened since the previous call
+			this.hitCount.addAndGet( hitCount );
+			this.missCount.addAndGet( missCount );
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryHolderTestUtils.addDocuments;
+import static org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryHolderTestUtils.docCount;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
+import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.FSLockFactory;
+
+class ReplicatedDirectoryHolderTest {
+
+	private final EventContext eventContext = EventContexts.fromIndexName( "index" );
+
+	private final ThreadPoolProviderImpl threadPoolProvider = new ThreadPoolProviderImpl(
+			BeanHolder.of( new EmbeddedThreadProvider( ReplicatedDirectoryHolderTest.class.getName() + ": " ) )
+	);
+
+	@TempDir
+	private Path root;
+
+	@AfterEach
+	void cleanup() {
+		threadPoolProvider.close();
+	}
+
+	@Test
+	void replicateCommits() throws IOException {
+		PrimaryReplicatedDirectoryHolder primary = new PrimaryReplicatedDirectoryHolder( localHolder( "primary" ),
+				root.resolve( "shared" ), FSLockFactory::getDefault, threadPoolProvider, "primary", eventContext );
+		ReplicaReplicatedDirectoryHolder replica = new ReplicaReplicatedDirectoryHolder( localHolder( "replica" ),
+				root.resolve( "shared" ), 10, threadPoolProvider, "replica", eventContext );
+		try {
+			primary.start();
+			replica.start();
+			assertThat( primary.isReadOnly() ).isFalse();
+			assertThat( replica.isReadOnly() ).isTrue();
+
+			IndexWriterConfig config = new IndexWriterConfig();
+			config.setIndexDeletionPolicy( primary.createIndexDeletionPolicy( config.getIndexDeletionPolicy() ) );
+			try ( IndexWriter writer = new IndexWriter( primary.get(), config ) ) {
+				addDocuments( writer, 10 );
+				writer.commit();
+				await().untilAsserted( () -> assertThat( docCount( replica.get() ) ).isEqualTo( 10 ) );
+
+				addDocuments( writer, 5 );
+				writer.forceMerge( 1 );
+				writer.commit();
+				await().untilAsserted( () -> assertThat( docCount( replica.get() ) ).isEqualTo( 15 ) );
+
+				// Uncommitted changes are never replicated
+				addDocuments( writer, 1 );
+				writer.flush();
+			}
+			// ... until the writer commits on close
+			await().untilAsserted( () -> assertThat( docCount( replica.get() ) ).isEqualTo( 16 ) );
+		}
+		finally {
+			primary.close();
+			replica.close();
+		}
+	}
+
+	@Test
+	void replicaStartsAfterPrimary() throws IOException {
+		PrimaryReplicatedDirectoryHolder primary = new PrimaryReplicatedDirectoryHolder( localHolder( "primary" ),
+				root.resolve( "shared" ), FSLockFactory::getDefault, threadPoolProvider, "primary", eventContext );
+		try {
+			primary.start();
+			IndexWriterConfig config = new IndexWriterConfig();
+			config.setIndexDeletionPolicy( primary.createIndexDeletionPolicy( config.getIndexDeletionPolicy() ) );
+			try ( IndexWriter writer = new IndexWriter( primary.get(), config ) ) {
+				addDocuments( writer, 3 );
+			}
+		}
+		finally {
+			// Waits for the last commit to be published
+			primary.close();
+		}
+
+		ReplicaReplicatedDirectoryHolder replica = new ReplicaReplicatedDirectoryHolder( localHolder( "replica" ),
+				root.resolve( "shared" ), 10_000, threadPoolProvider, "replica", eventContext );
+		try {
+			replica.start();
+			// The last published commit is replicated on startup
+			assertThat( docCount( replica.get() ) ).isEqualTo( 3 );
+		}
+		finally {
+			replica.close();
+		}
+	}
+
+	private LocalFileSystemDirectoryHolder localHolder(String name) {
+		return DirectoryHolderTestUtils.localHolder( root.resolve( name ), null, eventContext );
+	}
+
+}
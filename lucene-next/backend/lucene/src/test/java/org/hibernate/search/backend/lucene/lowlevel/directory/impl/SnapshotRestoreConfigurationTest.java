@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryHolderTestUtils.addDocuments;
+import static org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryHolderTestUtils.docCount;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SnapshotDeletionPolicy;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+class SnapshotRestoreConfigurationTest {
+
+	private final EventContext eventContext = EventContexts.fromIndexName( "index" );
+
+	@TempDir
+	private Path root;
+
+	@Test
+	void restoreIfMissing() throws IOException {
+		Path snapshotPath = root.resolve( "snapshot" );
+		LocalFileSystemDirectoryHolder live = localHolder( "live", null );
+		try {
+			live.start();
+			SnapshotDeletionPolicy snapshotDeletionPolicy =
+					new SnapshotDeletionPolicy( new IndexWriterConfig().getIndexDeletionPolicy() );
+			IndexWriterConfig config = new IndexWriterConfig().setIndexDeletionPolicy( snapshotDeletionPolicy );
+			try ( IndexWriter writer = new IndexWriter( live.get(), config );
+					Directory snapshotDirectory = FSDirectory.open( snapshotPath ) ) {
+				addDocuments( writer, 10 );
+				writer.commit();
+				IndexCommit commit = snapshotDeletionPolicy.snapshot();
+				// Changes after the snapshot was taken are not part of the snapshot
+				addDocuments( writer, 5 );
+				writer.commit();
+				IndexCommitCopier.copyCommit( live.get(), snapshotDirectory, commit.getSegmentsFileName(),
+						commit.getFileNames(), true );
+				snapshotDeletionPolicy.release( commit );
+			}
+		}
+		finally {
+			live.close();
+		}
+
+		LocalFileSystemDirectoryHolder restored =
+				localHolder( "restored", new SnapshotRestoreConfiguration( root, snapshotPath ) );
+		try {
+			restored.start();
+			assertThat( docCount( restored.get() ) ).isEqualTo( 10 );
+		}
+		finally {
+			restored.close();
+		}
+
+		// Existing indexes are left untouched
+		LocalFileSystemDirectoryHolder existing =
+				localHolder( "live", new SnapshotRestoreConfiguration( root, snapshotPath ) );
+		try {
+			existing.start();
+			assertThat( docCount( existing.get() ) ).isEqualTo( 15 );
+		}
+		finally {
+			existing.close();
+		}
+	}
+
+	@Test
+	void missingSnapshot() throws IOException {
+		// E.g. an index added after the snapshot was taken
+		LocalFileSystemDirectoryHolder restored =
+				localHolder( "restored", new SnapshotRestoreConfiguration( root, root.resolve( "snapshot" ) ) );
+		try {
+			restored.start();
+			assertThat( docCount( restored.get() ) ).isZero();
+		}
+		finally {
+			restored.close();
+		}
+	}
+
+	@Test
+	void missingSnapshotRoot() {
+		Path restoreRoot = root.resolve( "missing" );
+		LocalFileSystemDirectoryHolder restored =
+				localHolder( "restored", new SnapshotRestoreConfiguration( restoreRoot, restoreRoot.resolve( "snapshot" ) ) );
+		assertThatThrownBy( restored::start )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "this directory does not contain any index snapshot" );
+	}
+
+	@Test
+	void emptySnapshot() throws IOException {
+		Files.createDirectories( root.resolve( "snapshot" ) );
+		LocalFileSystemDirectoryHolder restored =
+				localHolder( "restored", new SnapshotRestoreConfiguration( root, root.resolve( "snapshot" ) ) );
+		assertThatThrownBy( restored::start )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "this directory does not contain any index snapshot" );
+	}
+
+	private LocalFileSystemDirectoryHolder localHolder(String name,
+			SnapshotRestoreConfiguration snapshotRestoreConfiguration) {
+		return DirectoryHolderTestUtils.localHolder( root.resolve( name ), snapshotRestoreConfiguration, eventContext );
+	}
+
+}
@@ -0,0 +1,253 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.engine.cfg.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.AllAwareConfigurationPropertySource;
+import org.hibernate.search.engine.environment.thread.impl.EmbeddedThreadProvider;
+import org.hibernate.search.engine.metrics.impl.NoOpMetricsRecorder;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LiveIndexWriterConfig;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class IndexWriterProviderTest {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	private final EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
+
+	private final Directory directory = new ByteBuffersDirectory();
+
+	@Mock
+	private BackendThreads threadsMock;
+	@Mock
+	private FailureHandler failureHandlerMock;
+
+	private IndexWriterProvider provider;
+
+	@BeforeEach
+	void start() {
+		when( threadsMock.getThreadProvider() )
+				.thenReturn( new EmbeddedThreadProvider( IndexWriterProviderTest.class.getName() + ": " ) );
+		provider = createProvider( ConfigurationPropertySource.empty() );
+	}
+
+	@AfterEach
+	void stop() throws IOException {
+		provider.clear();
+		directory.close();
+	}
+
+	@Test
+	void rebuild() throws IOException {
+		addDocuments( "previous1", "previous2" );
+		provider.getOrCreate().commit();
+
+		provider.startRebuild();
+		addDocuments( "rebuilt1" );
+		provider.getOrCreate().commit();
+		// Commits are suspended during the rebuild
+		assertThat( committedDocCount() ).isEqualTo( 2 );
+
+		provider.finishRebuild();
+		assertThat( provider.isRebuilding() ).isFalse();
+		assertThat( committedDocCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	void abortRebuild() throws IOException {
+		addDocuments( "previous1", "previous2" );
+		provider.getOrCreate().commit();
+
+		provider.startRebuild();
+		addDocuments( "rebuilt1" );
+		provider.abortRebuild();
+		assertThat( provider.isRebuilding() ).isFalse();
+		assertThat( committedDocCount() ).isEqualTo( 2 );
+
+		// The index can be written to again
+		addDocuments( "added1" );
+		provider.getOrCreate().commit();
+		assertThat( committedDocCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	void writerLostDuringRebuild() throws IOException {
+		addDocuments( "previous1", "previous2" );
+		provider.getOrCreate().commit();
+
+		provider.startRebuild();
+		addDocuments( "rebuilt1", "rebuilt2" );
+		RuntimeException failure = new RuntimeException( "Some failure" );
+		provider.clearAfterFailure( failure, "Some operation" );
+		verify( failureHandlerMock ).handle( any( FailureContext.class ) );
+
+		// Restarting the rebuild on a new writer would drop "rebuilt1" and "rebuilt2"
+		assertThatThrownBy( () -> addDocuments( "rebuilt3" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "The index writer was closed while the index was being rebuilt",
+						"The rebuild must be aborted", INDEX_NAME );
+		// Finishing the rebuild would commit an incomplete index
+		assertThatThrownBy( () -> provider.finishRebuild() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "The index writer was closed while the index was being rebuilt" );
+		assertThat( provider.isRebuilding() ).isTrue();
+		assertThat( committedDocCount() ).isEqualTo( 2 );
+
+		provider.abortRebuild();
+		assertThat( provider.isRebuilding() ).isFalse();
+		assertThat( committedDocCount() ).isEqualTo( 2 );
+
+		// The index can be written to again
+		addDocuments( "added1" );
+		provider.getOrCreate().commit();
+		assertThat( committedDocCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	void bulkLoading() throws IOException {
+		addDocuments( "previous1" );
+		provider.getOrCreate().commit();
+		LiveIndexWriterConfig config = provider.getOrCreate().getDelegateForTests().getConfig();
+		double ramBufferSizeMB = config.getRAMBufferSizeMB();
+		boolean autoIOThrottle = mergeScheduler( config ).getAutoIOThrottle();
+
+		provider.startBulkLoading();
+		assertThat( provider.isBulkLoading() ).isTrue();
+		// No bulk loading RAM buffer size configured: the RAM buffer of the writer is kept
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( ramBufferSizeMB );
+		assertThat( mergeScheduler( config ).getAutoIOThrottle() ).isFalse();
+		addDocuments( "added1", "added2" );
+		provider.getOrCreate().commit();
+		// Commits are suspended while bulk loading
+		assertThat( committedDocCount() ).isEqualTo( 1 );
+
+		provider.stopBulkLoading();
+		assertThat( provider.isBulkLoading() ).isFalse();
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( ramBufferSizeMB );
+		assertThat( mergeScheduler( config ).getAutoIOThrottle() ).isEqualTo( autoIOThrottle );
+		// Stopping bulk loading commits
+		assertThat( committedDocCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	void bulkLoading_ramBufferSize() throws IOException {
+		provider = createProvider( AllAwareConfigurationPropertySource.fromMap( Map.of(
+				LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE, "32",
+				LuceneIndexSettings.IO_WRITER_BULK_LOADING_RAM_BUFFER_SIZE, "128"
+		) ) );
+		LiveIndexWriterConfig config = provider.getOrCreate().getDelegateForTests().getConfig();
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( 32.0 );
+
+		provider.startBulkLoading();
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( 128.0 );
+
+		provider.stopBulkLoading();
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( 32.0 );
+	}
+
+	@Test
+	void bulkLoading_writerCreatedWhileBulkLoading() throws IOException {
+		provider = createProvider( AllAwareConfigurationPropertySource.fromMap( Map.of(
+				LuceneIndexSettings.IO_WRITER_BULK_LOADING_RAM_BUFFER_SIZE, "128"
+		) ) );
+
+		provider.startBulkLoading();
+		LiveIndexWriterConfig config = provider.getOrCreate().getDelegateForTests().getConfig();
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( 128.0 );
+		assertThat( mergeScheduler( config ).getAutoIOThrottle() ).isFalse();
+		addDocuments( "added1" );
+		provider.getOrCreate().commit();
+		// Nothing was ever committed
+		assertThat( DirectoryReader.indexExists( directory ) ).isFalse();
+
+		provider.stopBulkLoading();
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( IndexWriterConfig.DEFAULT_RAM_BUFFER_SIZE_MB );
+		assertThat( committedDocCount() ).isEqualTo( 1 );
+	}
+
+	private IndexWriterProvider createProvider(ConfigurationPropertySource propertySource) {
+		return new IndexWriterProvider( INDEX_NAME, indexEventContext, new SimpleDirectoryHolder( directory ),
+				IndexWriterConfigSource.create( new BM25Similarity(), new StandardAnalyzer(), Codec.getDefault(),
+						propertySource, indexEventContext ),
+				null, 0, threadsMock, failureHandlerMock, NoOpMetricsRecorder.INSTANCE );
+	}
+
+	private static ConcurrentMergeScheduler mergeScheduler(LiveIndexWriterConfig config) {
+		return (ConcurrentMergeScheduler) config.getMergeScheduler();
+	}
+
+	private void addDocuments(String... ids) throws IOException {
+		IndexWriterDelegatorImpl writer = provider.getOrCreate();
+		for ( String id : ids ) {
+			writer.addDocuments( List.of( List.of( new StringField( "id", id, Field.Store.NO ) ) ) );
+		}
+	}
+
+	private int committedDocCount() throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private static class SimpleDirectoryHolder implements DirectoryHolder {
+		private final Directory directory;
+
+		private SimpleDirectoryHolder(Directory directory) {
+			this.directory = directory;
+		}
+
+		@Override
+		public void start() {
+			// Nothing to do
+		}
+
+		@Override
+		public void close() {
+			// The directory is closed by the test
+		}
+
+		@Override
+		public Directory get() {
+			return directory;
+		}
+	}
+
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneIntegerDomain;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneNumericFieldComparatorSource;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneTextFieldComparatorSource;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.util.BytesRef;
+
+class LucenePageTokensTest {
+
+	private static final SortField INTEGER_SORT = new SortField( "integer",
+			new LuceneNumericFieldComparatorSource<>( null, LuceneIntegerDomain.get(), null, MultiValueMode.MIN, null ),
+			false );
+	private static final SortField TEXT_SORT = new SortField( "text",
+			new LuceneTextFieldComparatorSource( null, null, MultiValueMode.MIN, null ),
+			true );
+
+	@Test
+	void scoreDoc() {
+		String token = LucenePageTokens.encode( new ScoreDoc( 42, 1.5f ) );
+
+		ScoreDoc decoded = LucenePageTokens.decode( token, null );
+		assertThat( decoded ).isNotInstanceOf( FieldDoc.class );
+		assertThat( decoded.doc ).isEqualTo( 42 );
+		assertThat( decoded.score ).isEqualTo( 1.5f );
+	}
+
+	@Test
+	void fieldDoc() {
+		Sort sort = new Sort( INTEGER_SORT, TEXT_SORT, SortField.FIELD_SCORE, SortField.FIELD_DOC );
+		String token = LucenePageTokens.encode( new FieldDoc( 42, 1.5f,
+				new Object[] { 7, new BytesRef( "foo" ), 1.5f, 42 } ) );
+
+		ScoreDoc decoded = LucenePageTokens.decode( token, sort );
+		assertThat( decoded ).isInstanceOf( FieldDoc.class );
+		assertThat( decoded.doc ).isEqualTo( 42 );
+		assertThat( ( (FieldDoc) decoded ).fields ).containsExactly( 7, new BytesRef( "foo" ), 1.5f, 42 );
+	}
+
+	@Test
+	void fieldDoc_missingText() {
+		Sort sort = new Sort( TEXT_SORT );
+		String token = LucenePageTokens.encode( new FieldDoc( 42, Float.NaN, new Object[] { null } ) );
+
+		ScoreDoc decoded = LucenePageTokens.decode( token, sort );
+		assertThat( ( (FieldDoc) decoded ).fields ).containsExactly( (Object) null );
+	}
+
+	@Test
+	void fieldDoc_differentSortValueType() {
+		// Same number of sort fields, but the token holds text where an integer is expected
+		String token = LucenePageTokens.encode( new FieldDoc( 42, Float.NaN, new Object[] { new BytesRef( "foo" ) } ) );
+
+		assertThatThrownBy( () -> LucenePageTokens.decode( token, new Sort( INTEGER_SORT ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid page token", "the token was created for a query with a different sort" );
+	}
+
+	@Test
+	void fieldDoc_differentSortValueType_nullValue() {
+		String token = LucenePageTokens.encode( new FieldDoc( 42, Float.NaN, new Object[] { null } ) );
+
+		assertThatThrownBy( () -> LucenePageTokens.decode( token, new Sort( INTEGER_SORT ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid page token", "the token was created for a query with a different sort" );
+	}
+
+	@Test
+	void fieldDoc_differentSortValueType_reverseScore() {
+		// Scores are floats, even when sorting by ascending score
+		Sort sort = new Sort( new SortField( null, SortField.Type.SCORE, true ) );
+		String token = LucenePageTokens.encode( new FieldDoc( 42, 1.5f, new Object[] { 1.5d } ) );
+
+		assertThatThrownBy( () -> LucenePageTokens.decode( token, sort ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid page token", "the token was created for a query with a different sort" );
+	}
+
+	@Test
+	void fieldDoc_differentSortValueType_doc() {
+		Sort sort = new Sort( INTEGER_SORT, SortField.FIELD_DOC );
+		String token = LucenePageTokens.encode( new FieldDoc( 42, Float.NaN, new Object[] { 7, 42L } ) );
+
+		assertThatThrownBy( () -> LucenePageTokens.decode( token, sort ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid page token", "the token was created for a query with a different sort" );
+	}
+
+}
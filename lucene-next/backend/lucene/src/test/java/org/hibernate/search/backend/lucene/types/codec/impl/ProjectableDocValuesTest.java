@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.backend.lucene.types.codec.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DecodedDocValues;
+
+import org.junit.jupiter.api.Test;
+
+import org.apache.lucene.analysis.core.KeywordTokenizerFactory;
+import org.apache.lucene.analysis.core.LowerCaseFilterFactory;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+class ProjectableDocValuesTest {
+
+	private static final String FIELD = "field";
+
+	@Test
+	void numeric_sameAsStored() throws IOException {
+		assertSameAsStored( new LuceneIntegerFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null ),
+				-42 );
+		assertSameAsStored( new LuceneDoubleFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null ),
+				-0.1 );
+		assertSameAsStored( new LuceneBooleanFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null ),
+				true );
+		assertSameAsStored( new LuceneLocalDateFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null ),
+				LocalDate.of( -1200, 2, 29 ) );
+		assertSameAsStored( new LuceneLocalTimeFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null ),
+				LocalTime.of( 23, 59, 59, 999_999_999 ) );
+		assertSameAsStored( new LuceneMonthDayFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null ),
+				MonthDay.of( 2, 29 ) );
+	}
+
+	@Test
+	void numeric_notProjectable() {
+		// Not sortable/aggregable
+		assertThat( new LuceneIntegerFieldCodec( Indexing.ENABLED, DocValues.DISABLED, Storage.ENABLED, null )
+				.projectableDocValuesOrNull( Function.identity() ) )
+				.isNull();
+		// Not projectable
+		assertThat( new LuceneIntegerFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.DISABLED, null )
+				.projectableDocValuesOrNull( Function.identity() ) )
+				.isNull();
+		// Doc values lose precision (nanoseconds)
+		assertThat( new LuceneInstantFieldCodec( Indexing.ENABLED, DocValues.ENABLED, Storage.ENABLED, null )
+				.projectableDocValuesOrNull( Function.identity() ) )
+				.isNull();
+	}
+
+	@Test
+	void text_sameAsStored() throws IOException {
+		assertSameAsStored( new LuceneStringFieldCodec( StringField.TYPE_STORED, DocValues.ENABLED, null,
+				AnalyzerConstants.KEYWORD_ANALYZER ), "Some Text" );
+	}
+
+	@Test
+	void text_notProjectable() throws IOException {
+		// Doc values hold normalized values
+		CustomAnalyzer normalizer = CustomAnalyzer.builder()
+				.withTokenizer( KeywordTokenizerFactory.class )
+				.addTokenFilter( LowerCaseFilterFactory.class )
+				.build();
+		assertThat( new LuceneStringFieldCodec( StringField.TYPE_STORED, DocValues.ENABLED, null, normalizer )
+				.projectableDocValuesOrNull( Function.identity() ) )
+				.isNull();
+		// Not projectable
+		assertThat( new LuceneStringFieldCodec( StringField.TYPE_NOT_STORED, DocValues.ENABLED, null,
+				AnalyzerConstants.KEYWORD_ANALYZER )
+				.projectableDocValuesOrNull( Function.identity() ) )
+				.isNull();
+	}
+
+	private static <F, E> void assertSameAsStored(LuceneFieldCodec<F, E> codec, F value) throws IOException {
+		DecodedDocValues.Factory<F> decodedFactory = codec.projectableDocValuesOrNull( codec::decode );
+		DecodedDocValues.Factory<E> rawFactory = codec.projectableDocValuesOrNull( Function.identity() );
+		assertThat( decodedFactory ).isNotNull();
+		assertThat( rawFactory ).isNotNull();
+
+		try ( Directory directory = new ByteBuffersDirectory() ) {
+			try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig() ) ) {
+				Document document = new Document();
+				codec.addToDocument( new LuceneDocumentContent() {
+					@Override
+					public void addField(IndexableField field) {
+						document.add( field );
+					}
+
+					@Override
+					public void addFieldName(String absoluteFieldPath) {
+						// Not relevant
+					}
+				}, FIELD, value );
+				writer.addDocument( document );
+			}
+			try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+				IndexableField storedField = reader.storedFields().document( 0 ).getField( FIELD );
+
+				DecodedDocValues<F> decoded = decodedFactory.create( reader.leaves().get( 0 ).reader(), FIELD );
+				assertThat( decoded.advanceExact( 0 ) ).isTrue();
+				assertThat( decoded.docValueCount() ).isEqualTo( 1 );
+				assertThat( decoded.nextValue() )
+						.isEqualTo( value )
+						.isEqualTo( codec.decode( storedField ) );
+
+				DecodedDocValues<E> raw = rawFactory.create( reader.leaves().get( 0 ).reader(), FIELD );
+				assertThat( raw.advanceExact( 0 ) ).isTrue();
+				assertThat( raw.nextValue() ).isEqualTo( codec.raw( storedField ) );
+			}
+		}
+	}
+
+}
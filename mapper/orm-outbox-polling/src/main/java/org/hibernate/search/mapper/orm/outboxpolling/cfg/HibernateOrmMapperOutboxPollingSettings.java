@@ -236,6 +236,27 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	public static final String COORDINATION_EVENT_PROCESSOR_BATCH_SIZE =
 			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_BATCH_SIZE;
 
+	/**
+	 * In the event processor, how many batches of outbox events, at most, are being indexed at the same time.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value #COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * With a value higher than {@code 1}, the event processor fetches the next batch of events
+	 * and loads the corresponding entities while previous batches are still being indexed,
+	 * which improves throughput when indexing takes a significant part of the processing time.
+	 * Events related to an entity that is still being indexed as part of a previous batch
+	 * are left for a later batch, so that events of a given entity are always processed in order.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES},
+	 * i.e. each batch is fully processed before the next one is fetched.
+	 */
+	public static final String COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES =
+			PREFIX + Radicals.COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES;
+
 	/**
 	 * In the event processor, the timeout for transactions processing outbox events.
 	 * <p>
@@ -461,6 +482,21 @@ private HibernateOrmMapperOutboxPollingSettings() {
 	public static final String COORDINATION_ENTITY_MAPPING_OUTBOXEVENT_UUID_TYPE =
 			PREFIX + Radicals.COORDINATION_ENTITY_MAPPING_OUTBOXEVENT_UUID_TYPE;
 
+	/**
+	 * The format used to serialize the payload of outbox events.
+	 * <p>
+	 * Only available when {@value HibernateOrmMapperSettings#COORDINATION_STRATEGY} is
+	 * {@value HibernateOrmMapperOutboxPollingSettings#COORDINATION_STRATEGY_NAME}.
+	 * <p>
+	 * Expects one of the "external representation" strings defined in {@link OutboxEventPayloadFormat}.
+	 * <p>
+	 * Regardless of this setting, event processors are able to read payloads in any format.
+	 * <p>
+	 * Defaults to {@link Defaults#COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT}.
+	 */
+	public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT =
+			PREFIX + Radicals.COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT;
+
 	/**
 	 * The database catalog to use for the agent table.
 	 * <p>
@@ -547,6 +583,8 @@ private Radicals() {
 				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_ORDER;
 		public static final String COORDINATION_EVENT_PROCESSOR_BATCH_SIZE =
 				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_BATCH_SIZE;
+		public static final String COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES =
+				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES;
 		public static final String COORDINATION_EVENT_PROCESSOR_TRANSACTION_TIMEOUT =
 				COORDINATION_PREFIX + CoordinationRadicals.EVENT_PROCESSOR_TRANSACTION_TIMEOUT;
 		public static final String COORDINATION_EVENT_PROCESSOR_RETRY_DELAY =
@@ -571,6 +609,8 @@ private Radicals() {
 				COORDINATION_PREFIX + CoordinationRadicals.ENTITY_MAPPING_OUTBOXEVENT_UUID_GEN_STRATEGY;
 		public static final String COORDINATION_ENTITY_MAPPING_OUTBOXEVENT_UUID_TYPE =
 				COORDINATION_PREFIX + CoordinationRadicals.ENTITY_MAPPING_OUTBOXEVENT_UUID_TYPE;
+		public static final String COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT =
+				COORDINATION_PREFIX + CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_FORMAT;
 		public static final String COORDINATION_ENTITY_MAPPING_AGENT_CATALOG =
 				COORDINATION_PREFIX + CoordinationRadicals.ENTITY_MAPPING_AGENT_CATALOG;
 		public static final String COORDINATION_ENTITY_MAPPING_AGENT_SCHEMA =
@@ -601,6 +641,8 @@ private CoordinationRadicals() {
 		public static final String EVENT_PROCESSOR_PULSE_EXPIRATION = EVENT_PROCESSOR_PREFIX + "pulse_expiration";
 		public static final String EVENT_PROCESSOR_ORDER = EVENT_PROCESSOR_PREFIX + "order";
 		public static final String EVENT_PROCESSOR_BATCH_SIZE = EVENT_PROCESSOR_PREFIX + "batch_size";
+		public static final String EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES =
+				EVENT_PROCESSOR_PREFIX + "max_in_flight_batches";
 		public static final String EVENT_PROCESSOR_TRANSACTION_TIMEOUT = EVENT_PROCESSOR_PREFIX + "transaction_timeout";
 		public static final String EVENT_PROCESSOR_RETRY_DELAY = EVENT_PROCESSOR_PREFIX + "retry_delay";
 		public static final String EVENT_PROCESSOR_EVENT_LOCK_RETRY_MAX = EVENT_PROCESSOR_PREFIX + "event_lock_retry_max";
@@ -624,6 +666,9 @@ private CoordinationRadicals() {
 		public static final String ENTITY_MAPPING_OUTBOXEVENT_UUID_GEN_STRATEGY =
 				ENTITY_MAPPING_OUTBOXEVENT_PREFIX + "uuid_gen_strategy";
 		public static final String ENTITY_MAPPING_OUTBOXEVENT_UUID_TYPE = ENTITY_MAPPING_OUTBOXEVENT_PREFIX + "uuid_type";
+
+		public static final String OUTBOX_EVENT_PREFIX = "outbox_event.";
+		public static final String OUTBOX_EVENT_PAYLOAD_FORMAT = OUTBOX_EVENT_PREFIX + "payload_format";
 	}
 
 	/**
@@ -639,7 +684,10 @@ private Defaults() {
 		public static final int COORDINATION_EVENT_PROCESSOR_PULSE_INTERVAL = 2000;
 		public static final int COORDINATION_EVENT_PROCESSOR_PULSE_EXPIRATION = 30000;
 		public static final OutboxEventProcessingOrder COORDINATION_EVENT_PROCESSOR_ORDER = OutboxEventProcessingOrder.AUTO;
+		public static final OutboxEventPayloadFormat COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT =
+				OutboxEventPayloadFormat.AVRO;
 		public static final int COORDINATION_EVENT_PROCESSOR_BATCH_SIZE = 50;
+		public static final int COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES = 1;
 		public static final int COORDINATION_EVENT_PROCESSOR_RETRY_DELAY = 30;
 		public static final int COORDINATION_EVENT_PROCESSOR_EVENT_LOCK_RETRY_MAX = 20;
 		public static final int COORDINATION_EVENT_PROCESSOR_EVENT_LOCK_RETRY_DELAY = 2;
@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.cfg;
+
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.ConfigurationLog;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+@Incubating
+public enum OutboxEventPayloadFormat {
+
+	/**
+	 * Serialize outbox event payloads with Apache Avro.
+	 * <p>
+	 * Payloads in this format can be read by all versions of Hibernate Search supporting the outbox-polling coordination strategy.
+	 */
+	AVRO( "avro" ),
+	/**
+	 * Serialize outbox event payloads with a compact binary format,
+	 * using variable-length integers and prefix compression for dirty paths.
+	 * <p>
+	 * Payloads in this format are smaller and faster to read than {@link #AVRO} payloads,
+	 * but cannot be read by older versions of Hibernate Search:
+	 * only use this format once all application nodes processing outbox events support it.
+	 */
+	COMPACT( "compact" );
+
+	private final String externalRepresentation;
+
+	OutboxEventPayloadFormat(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static OutboxEventPayloadFormat of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				OutboxEventPayloadFormat.values(),
+				OutboxEventPayloadFormat::externalRepresentation,
+				ConfigurationLog.INSTANCE::invalidOutboxEventPayloadFormatName,
+				value
+		);
+	}
+}
@@ -6,6 +6,7 @@
 
 import static org.hibernate.search.mapper.orm.outboxpolling.event.impl.OutboxPollingOutboxEventAdditionalMappingProducer.ENTITY_NAME;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -27,6 +28,7 @@
 final class OutboxEventLoader implements ToStringTreeAppendable {
 
 	private static final String LOAD_QUERY_STRING = "select e from " + ENTITY_NAME + " e where e.id in (:ids)";
+	private static final String DELETE_QUERY_STRING = "delete from " + ENTITY_NAME + " e where e.id in (:ids)";
 
 	private final LockMode lockMode;
 
@@ -91,4 +93,28 @@ List<OutboxEvent> loadLocking(Session session, Set<UUID> ids, String processorNa
 			return Collections.emptyList();
 		}
 	}
+
+	/**
+	 * Deletes the given events in a single statement.
+	 * <p>
+	 * Events must have been locked in the current transaction through {@link #loadLocking(Session, Set, String)}.
+	 *
+	 * @param session The session.
+	 * @param events The events to delete.
+	 */
+	void delete(Session session, List<OutboxEvent> events) {
+		if ( events.isEmpty() ) {
+			return;
+		}
+		List<UUID> ids = new ArrayList<>( events.size() );
+		for ( OutboxEvent event : events ) {
+			ids.add( event.getId() );
+			// The bulk delete bypasses the persistence context: make sure it no longer holds deleted events.
+			session.detach( event );
+		}
+		session.createMutationQuery( DELETE_QUERY_STRING )
+				.setParameter( "ids", ids )
+				.executeUpdate();
+		OutboxPollingEventsLog.INSTANCE.deletedOutboxEvents( ids.size() );
+	}
 }
@@ -6,9 +6,13 @@
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.Session;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
@@ -19,7 +23,11 @@
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingMappingContext;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingQueueEventProcessingPlan;
-import org.hibernate.search.mapper.orm.outboxpolling.avro.impl.EventPayloadSerializationUtils;
+import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.OutboxPollingEventsLog;
+import org.hibernate.search.mapper.orm.outboxpolling.payload.impl.EventPayloadDecoder;
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
 import org.hibernate.search.util.common.impl.Futures;
 
@@ -31,6 +39,7 @@ final class OutboxEventProcessingPlan {
 	private final List<OutboxEvent> failedEvents = new ArrayList<>();
 
 	private List<OutboxEvent> events = new ArrayList<>();
+	private CompletableFuture<MultiEntityOperationExecutionReport> indexingFuture;
 
 	public OutboxEventProcessingPlan(AutomaticIndexingMappingContext mapping, Session session) {
 		this.processingPlan = mapping.createIndexingQueueEventProcessingPlan( session );
@@ -38,12 +47,32 @@ public OutboxEventProcessingPlan(AutomaticIndexingMappingContext mapping, Sessio
 		this.entityReferenceFactory = mapping.entityReferenceFactory();
 	}
 
-	void processEvents(List<OutboxEvent> events) {
+	/**
+	 * Adds the given events to the plan, loads the corresponding entities
+	 * and submits the resulting indexing works to the backend.
+	 * <p>
+	 * Does not wait for indexing to complete: use {@link #awaitCompletion()} for that.
+	 *
+	 * @param events The events to process.
+	 */
+	void startProcessing(List<OutboxEvent> events) {
 		this.events = events;
 		try {
 			addEventsToThePlan();
-			reportBackendResult(
-					Futures.unwrappedExceptionGet( processingPlan.executeAndReport( OperationSubmitter.blocking() ) ) );
+			indexingFuture = processingPlan.executeAndReport( OperationSubmitter.blocking() );
+		}
+		catch (Throwable throwable) {
+			indexingFuture = CompletableFuture.failedFuture( throwable );
+		}
+	}
+
+	boolean isCompleted() {
+		return indexingFuture.isDone();
+	}
+
+	void awaitCompletion() {
+		try {
+			reportBackendResult( Futures.unwrappedExceptionGet( indexingFuture ) );
 		}
 		catch (Throwable throwable) {
 			if ( throwable instanceof InterruptedException ) {
@@ -76,10 +105,57 @@ EntityReference entityReference(String entityName, String entityId, Throwable th
 	}
 
 	private void addEventsToThePlan() {
+		// Coalesce events per entity, so that each entity is only appended once to the plan,
+		// even if it was updated many times since the last batch.
+		Map<OutboxEventReference, PojoIndexingQueueEventPayload> payloads = new LinkedHashMap<>();
+		// A single decoder for the whole batch, so that decoding state and strings are shared between payloads.
+		EventPayloadDecoder decoder = new EventPayloadDecoder();
 		for ( OutboxEvent event : events ) {
-			PojoIndexingQueueEventPayload payload = EventPayloadSerializationUtils.deserialize( event.getPayload() );
-			processingPlan.append( event.getEntityName(), event.getEntityId(), payload );
+			PojoIndexingQueueEventPayload payload = decoder.decode( event.getPayload() );
+			payloads.merge( event.getReference(), payload, OutboxEventProcessingPlan::merge );
 		}
+		OutboxPollingEventsLog.INSTANCE.coalescedOutboxEvents( events.size(), payloads.size() );
+		for ( Map.Entry<OutboxEventReference, PojoIndexingQueueEventPayload> entry : payloads.entrySet() ) {
+			OutboxEventReference reference = entry.getKey();
+			processingPlan.append( reference.getEntityName(), reference.getEntityId(), entry.getValue() );
+		}
+	}
+
+	// Mirrors the way the indexing plan merges multiple operations on the same entity:
+	// routes of the earlier payload become previous routes, and dirtiness is the union of both.
+	private static PojoIndexingQueueEventPayload merge(PojoIndexingQueueEventPayload earlier,
+			PojoIndexingQueueEventPayload later) {
+		DocumentRoutesDescriptor routes;
+		if ( earlier.routes == null ) {
+			routes = later.routes;
+		}
+		else if ( later.routes == null ) {
+			routes = earlier.routes;
+		}
+		else {
+			Set<DocumentRouteDescriptor> mergedPrevious = new LinkedHashSet<>( earlier.routes.previousRoutes() );
+			// The document may have been indexed with the earlier current route:
+			// if the route changed since then, the document must be deleted from that route.
+			DocumentRouteDescriptor earlierCurrent = earlier.routes.currentRoute();
+			if ( earlierCurrent != null && !earlierCurrent.equals( later.routes.currentRoute() ) ) {
+				mergedPrevious.add( earlierCurrent );
+			}
+			mergedPrevious.addAll( later.routes.previousRoutes() );
+			routes = DocumentRoutesDescriptor.of( later.routes.currentRoute(), mergedPrevious );
+		}
+
+		DirtinessDescriptor earlierDirtiness = earlier.dirtiness;
+		DirtinessDescriptor laterDirtiness = later.dirtiness;
+		Set<String> dirtyPaths = new LinkedHashSet<>( earlierDirtiness.dirtyPaths() );
+		dirtyPaths.addAll( laterDirtiness.dirtyPaths() );
+		DirtinessDescriptor dirtiness = new DirtinessDescriptor(
+				earlierDirtiness.forceSelfDirty() || laterDirtiness.forceSelfDirty(),
+				earlierDirtiness.forceContainingDirty() || laterDirtiness.forceContainingDirty(),
+				dirtyPaths,
+				earlierDirtiness.updatedBecauseOfContained() || laterDirtiness.updatedBecauseOfContained()
+		);
+
+		return new PojoIndexingQueueEventPayload( routes, dirtiness );
 	}
 
 	private void reportMapperFailure(Throwable throwable) {
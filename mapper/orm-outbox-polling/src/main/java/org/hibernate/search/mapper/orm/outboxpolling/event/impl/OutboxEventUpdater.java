@@ -92,9 +92,9 @@ public void process() {
 			}
 		}
 
-		for ( OutboxEvent event : eventToDelete ) {
-			session.remove( event );
-		}
+		// Successfully processed events, including events superseded by a more recent event for the same entity,
+		// are all deleted at once.
+		loader.delete( session, eventToDelete );
 	}
 
 	private void notifyMaxRetriesReached(OutboxEvent failedEvent) {
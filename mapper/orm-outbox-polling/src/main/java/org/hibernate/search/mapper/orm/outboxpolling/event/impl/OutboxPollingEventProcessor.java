@@ -6,8 +6,14 @@
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -74,6 +80,14 @@ public static String namePrefix(String tenantId) {
 					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_BATCH_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> MAX_IN_FLIGHT_BATCHES =
+			ConfigurationProperty
+					.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES )
+					.asIntegerStrictlyPositive()
+					.withDefault(
+							HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_MAX_IN_FLIGHT_BATCHES )
+					.build();
+
 	private static final OptionalConfigurationProperty<Integer> TRANSACTION_TIMEOUT =
 			ConfigurationProperty
 					.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.EVENT_PROCESSOR_TRANSACTION_TIMEOUT )
@@ -114,6 +128,7 @@ public static Factory factory(AutomaticIndexingMappingContext mapping, Clock clo
 				v -> OutboxConfigUtils.checkPulseExpiration( Duration.ofMillis( v ), pulseInterval ) );
 
 		int batchSize = BATCH_SIZE.get( configurationSource );
+		int maxInFlightBatches = MAX_IN_FLIGHT_BATCHES.get( configurationSource );
 		int retryDelay = RETRY_DELAY.get( configurationSource );
 		Integer transactionTimeout = TRANSACTION_TIMEOUT.get( configurationSource )
 				.orElse( null );
@@ -123,7 +138,7 @@ public static Factory factory(AutomaticIndexingMappingContext mapping, Clock clo
 				Duration.ofSeconds( EVENT_PROCESSOR_EVENT_LOCK_RETRY_DELAY.get( configurationSource ) ).toMillis();
 
 		return new Factory( mapping, clock, tenantId, loader, pollingInterval, pulseInterval, pulseExpiration,
-				batchSize, retryDelay, transactionTimeout, lockEventsMaxRetry, lockEventsInterval );
+				batchSize, maxInFlightBatches, retryDelay, transactionTimeout, lockEventsMaxRetry, lockEventsInterval );
 	}
 
 	public static class Factory {
@@ -135,6 +150,7 @@ public static class Factory {
 		private final Duration pulseInterval;
 		private final Duration pulseExpiration;
 		private final int batchSize;
+		private final int maxInFlightBatches;
 		private final int retryDelay;
 		private final Integer transactionTimeout;
 		private final int lockEventsMaxRetry;
@@ -142,7 +158,7 @@ public static class Factory {
 
 		private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String tenantId,
 				OutboxEventLoader loader, Duration pollingInterval, Duration pulseInterval, Duration pulseExpiration,
-				int batchSize, int retryDelay, Integer transactionTimeout,
+				int batchSize, int maxInFlightBatches, int retryDelay, Integer transactionTimeout,
 				int lockEventsMaxRetry, long lockEventsInterval) {
 			this.mapping = mapping;
 			this.clock = clock;
@@ -152,6 +168,7 @@ private Factory(AutomaticIndexingMappingContext mapping, Clock clock, String ten
 			this.pulseInterval = pulseInterval;
 			this.pulseExpiration = pulseExpiration;
 			this.batchSize = batchSize;
+			this.maxInFlightBatches = maxInFlightBatches;
 			this.retryDelay = retryDelay;
 			this.transactionTimeout = transactionTimeout;
 			this.lockEventsMaxRetry = lockEventsMaxRetry;
@@ -183,6 +200,7 @@ private enum Status {
 	private final OutboxEventLoader loader;
 	private final long pollingInterval;
 	private final int batchSize;
+	private final int maxInFlightBatches;
 	private final int retryDelay;
 	private final int lockEventsMaxRetry;
 	private final long lockEventsInterval;
@@ -206,6 +224,7 @@ public OutboxPollingEventProcessor(String name, Factory factory,
 		this.loader = factory.loader;
 		this.pollingInterval = factory.pollingInterval.toMillis();
 		this.batchSize = factory.batchSize;
+		this.maxInFlightBatches = factory.maxInFlightBatches;
 		this.retryDelay = factory.retryDelay;
 		this.lockEventsMaxRetry = factory.lockEventsMaxRetry;
 		this.lockEventsInterval = factory.lockEventsInterval;
@@ -237,6 +256,7 @@ public void appendTo(ToStringTreeAppender appender) {
 				.attribute( "loader", loader )
 				.attribute( "pollingInterval", pollingInterval )
 				.attribute( "batchSize", batchSize )
+				.attribute( "maxInFlightBatches", maxInFlightBatches )
 				.attribute( "retryDelay", retryDelay )
 				.attribute( "clusterLink", clusterLink );
 	}
@@ -270,14 +290,31 @@ private void leaveCluster() {
 
 	private class Worker implements SingletonTask.Worker {
 
+		// Batches whose indexing was started but whose events were not updated yet, oldest first.
+		// Only accessed from the worker, which is never executed concurrently.
+		private final Deque<OutboxEventProcessingPlan> inFlightBatches = new ArrayDeque<>();
+
 		private volatile OutboxPollingEventProcessingInstructions instructions;
 		private volatile boolean lastExecutionProcessedEvents;
 
 		@Override
 		public CompletableFuture<?> work() {
+			try {
+				return doWork();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return CompletableFuture.failedFuture( e );
+			}
+		}
+
+		private CompletableFuture<?> doWork() throws InterruptedException {
 			lastExecutionProcessedEvents = false;
 
 			if ( instructions == null || !instructions.isStillValid() ) {
+				// New instructions may assign in-flight events to another processor:
+				// make sure we're done with these events before we pulse.
+				completeInFlightBatches();
 				// Never perform event processing in the same transaction as a pulse,
 				// to reduce transaction contention.
 				instructions = clusterLinkContextProvider.inTransaction( clusterLink::pulse );
@@ -304,7 +341,7 @@ public CompletableFuture<?> work() {
 
 					List<OutboxEvent> events;
 					try {
-						events = eventFinder.get().findOutboxEvents( session, batchSize );
+						events = findEventsNotInFlight( eventFinder.get(), session );
 						if ( events.isEmpty() ) {
 							// Nothing to do, try again later (complete() will be called, re-scheduling the polling for later)
 							return;
@@ -329,44 +366,32 @@ public CompletableFuture<?> work() {
 
 					OutboxPollingEventsLog.INSTANCE.processingOutboxEvents( events.size(), name, events );
 
-					// Process the events
-					eventProcessing.processEvents( events );
+					// Load entities and start indexing;
+					// indexing may still be in progress when the transaction ends.
+					eventProcessing.startProcessing( events );
 				} );
 
-				// Updating events involves database locks on a table that
-				// can see heavily concurrent access (the outbox table),
-				// so we do that in a separate transaction, one that is as short as possible.
-				OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
-						failureHandler, loader, eventProcessing, session, name, retryDelay );
-				// We potentially perform this update in multiple transactions,
-				// each loading as many events as possible using SKIP_LOCKED,
-				// to only load events that are not already locked by another processor.
-				// This is to avoid problems related to lock escalation in MS SQL for example,
-				// where another processor could be locking on our own events because
-				// it locked a page instead of just a row.
-				// For more information, see
-				// org.hibernate.search.mapper.orm.outboxpolling.impl.OutboxEventLoader.tryLoadLocking
-				int retryCount = 0;
-				while ( true ) {
-					if ( retryCount > lockEventsMaxRetry ) {
-						OutboxPollingEventsLog.INSTANCE.eventLockingRetryLimitReached( clusterLink.selfReference(),
-								lockEventsMaxRetry, eventUpdater.eventsToProcess() );
-						// not failing to not produce an error log:
+				boolean startedBatch = !eventProcessing.getEvents().isEmpty();
+				if ( startedBatch ) {
+					inFlightBatches.addLast( eventProcessing );
+				}
+
+				// Batches are completed in the order they were started.
+				// We only wait for indexing to finish when we reached the maximum number of in-flight batches,
+				// when there is nothing else to do, or when we're about to stop.
+				while ( !inFlightBatches.isEmpty()
+						&& ( inFlightBatches.size() >= maxInFlightBatches
+								|| inFlightBatches.peekFirst().isCompleted()
+								|| !startedBatch
+								|| status.get() != Status.STARTED ) ) {
+					if ( !completeBatch( session, inFlightBatches.pollFirst() ) ) {
 						return CompletableFuture.completedFuture( null );
 					}
-					transactionHelper.inTransaction( session, eventUpdater::process );
-					if ( eventUpdater.thereAreStillEventsToProcess() ) {
-						try {
-							Thread.sleep( lockEventsInterval );
-						}
-						catch (InterruptedException e) {
-							Thread.currentThread().interrupt();
-							return CompletableFuture.failedFuture( e );
-						}
-						retryCount++;
-					}
-					else {
-						break;
+					if ( !startedBatch ) {
+						// Some events may have been skipped because their entity was in flight:
+						// poll again ASAP.
+						lastExecutionProcessedEvents = true;
+						ensureScheduled();
 					}
 				}
 
@@ -376,12 +401,107 @@ public CompletableFuture<?> work() {
 
 		@Override
 		public void complete() {
+			if ( status.get() != Status.STARTED ) {
+				// We're stopping: make sure indexing of in-flight batches is over
+				// before we report the processor as stopped.
+				try {
+					completeInFlightBatches();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					// Remaining events will be processed again when the application restarts.
+				}
+			}
 			// Make sure we poll again in a few seconds.
 			// Since the worker is no longer working at this point,
 			// calling ensureScheduled() will lead to delayed re-execution.
 			ensureScheduled();
 		}
 
+		private List<OutboxEvent> findEventsNotInFlight(OutboxEventFinder eventFinder, SessionImplementor session) {
+			if ( inFlightBatches.isEmpty() ) {
+				return eventFinder.findOutboxEvents( session, batchSize );
+			}
+
+			// Events of in-flight batches are not deleted yet, so the finder will return them again:
+			// fetch more events to make up for them, then filter them out.
+			// Also filter out events of entities that are still in flight,
+			// so that events of a given entity are always processed in order.
+			Set<UUID> inFlightEventIds = new HashSet<>();
+			Set<OutboxEventReference> inFlightReferences = new HashSet<>();
+			for ( OutboxEventProcessingPlan batch : inFlightBatches ) {
+				for ( OutboxEvent event : batch.getEvents() ) {
+					inFlightEventIds.add( event.getId() );
+					inFlightReferences.add( event.getReference() );
+				}
+			}
+			List<OutboxEvent> events = new ArrayList<>();
+			for ( OutboxEvent event : eventFinder.findOutboxEvents( session, batchSize + inFlightEventIds.size() ) ) {
+				if ( inFlightEventIds.contains( event.getId() ) || inFlightReferences.contains( event.getReference() ) ) {
+					continue;
+				}
+				events.add( event );
+				if ( events.size() >= batchSize ) {
+					break;
+				}
+			}
+			return events;
+		}
+
+		private void completeInFlightBatches() throws InterruptedException {
+			if ( inFlightBatches.isEmpty() ) {
+				return;
+			}
+			try ( SessionImplementor session = sessionHelper.openSession() ) {
+				while ( !inFlightBatches.isEmpty() ) {
+					completeBatch( session, inFlightBatches.pollFirst() );
+				}
+			}
+		}
+
+		/**
+		 * Waits for indexing of the given batch to complete, then deletes successfully processed events
+		 * and schedules failed events for a retry.
+		 *
+		 * @return {@code true} if all events were updated,
+		 * {@code false} if we gave up because events remained locked by another processor.
+		 */
+		private boolean completeBatch(SessionImplementor session, OutboxEventProcessingPlan eventProcessing)
+				throws InterruptedException {
+			eventProcessing.awaitCompletion();
+
+			// Updating events involves database locks on a table that
+			// can see heavily concurrent access (the outbox table),
+			// so we do that in a separate transaction, one that is as short as possible.
+			OutboxEventUpdater eventUpdater = new OutboxEventUpdater(
+					failureHandler, loader, eventProcessing, session, name, retryDelay );
+			// We potentially perform this update in multiple transactions,
+			// each loading as many events as possible using SKIP_LOCKED,
+			// to only load events that are not already locked by another processor.
+			// This is to avoid problems related to lock escalation in MS SQL for example,
+			// where another processor could be locking on our own events because
+			// it locked a page instead of just a row.
+			// For more information, see
+			// org.hibernate.search.mapper.orm.outboxpolling.impl.OutboxEventLoader.tryLoadLocking
+			int retryCount = 0;
+			while ( true ) {
+				if ( retryCount > lockEventsMaxRetry ) {
+					OutboxPollingEventsLog.INSTANCE.eventLockingRetryLimitReached( clusterLink.selfReference(),
+							lockEventsMaxRetry, eventUpdater.eventsToProcess() );
+					// not failing to not produce an error log:
+					return false;
+				}
+				transactionHelper.inTransaction( session, eventUpdater::process );
+				if ( eventUpdater.thereAreStillEventsToProcess() ) {
+					Thread.sleep( lockEventsInterval );
+					retryCount++;
+				}
+				else {
+					return true;
+				}
+			}
+		}
+
 		private void ensureScheduled() {
 			// Only schedule the task while the Hibernate Search is started;
 			// as soon as Hibernate Search stops,
@@ -16,7 +16,9 @@
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingQueueEventSendingPlan;
 import org.hibernate.search.mapper.orm.outboxpolling.avro.impl.EventPayloadSerializationUtils;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.OutboxEventPayloadFormat;
 import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.OutboxPollingEventsLog;
+import org.hibernate.search.mapper.orm.outboxpolling.payload.impl.CompactEventPayloadFormat;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
 import org.hibernate.search.util.common.data.impl.RangeCompatibleHashFunction;
 
@@ -28,12 +30,14 @@ public final class OutboxPollingOutboxEventSendingPlan implements AutomaticIndex
 
 	private final EntityReferenceFactory entityReferenceFactory;
 	private final Session session;
+	private final OutboxEventPayloadFormat payloadFormat;
 	private final List<OutboxEvent> events = new ArrayList<>();
 
 	public OutboxPollingOutboxEventSendingPlan(EntityReferenceFactory entityReferenceFactory,
-			Session session) {
+			Session session, OutboxEventPayloadFormat payloadFormat) {
 		this.entityReferenceFactory = entityReferenceFactory;
 		this.session = session;
+		this.payloadFormat = payloadFormat;
 	}
 
 	@Override
@@ -41,11 +45,21 @@ public void append(String entityName, Object identifier, String serializedId,
 			PojoIndexingQueueEventPayload payload) {
 		events.add( new OutboxEvent( entityName, serializedId,
 				HASH_FUNCTION.hash( serializedId ),
-				EventPayloadSerializationUtils.serialize( payload ),
+				serialize( payload ),
 				identifier
 		) );
 	}
 
+	private byte[] serialize(PojoIndexingQueueEventPayload payload) {
+		switch ( payloadFormat ) {
+			case COMPACT:
+				return CompactEventPayloadFormat.serialize( payload );
+			case AVRO:
+			default:
+				return EventPayloadSerializationUtils.serialize( payload );
+		}
+	}
+
 	@Override
 	public void discard() {
 		events.clear();
@@ -24,6 +24,7 @@
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyPreStopContext;
 import org.hibernate.search.mapper.orm.coordination.common.spi.CoordinationStrategyStartContext;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.HibernateOrmMapperOutboxPollingSettings;
+import org.hibernate.search.mapper.orm.outboxpolling.cfg.OutboxEventPayloadFormat;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.OutboxEventProcessingOrder;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.UuidGenerationStrategy;
 import org.hibernate.search.mapper.orm.outboxpolling.cfg.impl.HibernateOrmMapperOutboxPollingImplSettings;
@@ -72,12 +73,21 @@ public class OutboxPollingCoordinationStrategy implements CoordinationStrategy {
 					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_EVENT_PROCESSOR_ORDER )
 					.build();
 
+	private static final ConfigurationProperty<OutboxEventPayloadFormat> OUTBOX_EVENT_PAYLOAD_FORMAT =
+			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingSettings.CoordinationRadicals.OUTBOX_EVENT_PAYLOAD_FORMAT )
+					.as( OutboxEventPayloadFormat.class, OutboxEventPayloadFormat::of )
+					.withDefault( HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends OutboxPollingInternalConfigurer>> INTERNAL_CONFIGURER =
 			ConfigurationProperty.forKey( HibernateOrmMapperOutboxPollingImplSettings.CoordinationRadicals.INTERNAL_CONFIGURER )
 					.asBeanReference( OutboxPollingInternalConfigurer.class )
 					.withDefault( BeanReference.ofInstance( OutboxPollingInternalConfigurer.DEFAULT ) )
 					.build();
 
+	// Set on start, but read when sending events, which may happen from any thread.
+	private volatile OutboxEventPayloadFormat payloadFormat =
+			HibernateOrmMapperOutboxPollingSettings.Defaults.COORDINATION_OUTBOX_EVENT_PAYLOAD_FORMAT;
 	private OutboxEventFinderProvider finderProvider;
 	private AgentRepositoryProvider agentRepositoryProvider;
 
@@ -90,13 +100,17 @@ public void configure(CoordinationConfigurationContext context) {
 		context.mappingProducer( new OutboxPollingOutboxEventAdditionalMappingProducer() );
 		context.mappingProducer( new OutboxPollingAgentAdditionalMappingProducer() );
 		context.sendIndexingEventsTo(
-				ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.entityReferenceFactory(), ctx.session() ), true );
+				ctx -> new OutboxPollingOutboxEventSendingPlan( ctx.entityReferenceFactory(), ctx.session(),
+						payloadFormat ),
+				true );
 	}
 
 	@Override
 	public CompletableFuture<?> start(CoordinationStrategyStartContext context) {
 		ConfigurationPropertySource configurationSource = context.configurationPropertySource();
 
+		payloadFormat = OUTBOX_EVENT_PAYLOAD_FORMAT.get( configurationSource );
+
 		OutboxEventOrder processingOrder = OutboxEventOrder.of(
 				EVENT_PROCESSOR_ORDER.get( configurationSource ),
 				OutboxPollingOutboxEventAdditionalMappingProducer.ENTITY_MAPPING_OUTBOXEVENT_UUID_GEN_STRATEGY
@@ -134,6 +134,10 @@ SearchException conflictingOutboxEventBackgroundProcessorAgentShardsForStaticSha
 			+ " Valid names are: %2$s.")
 	SearchException invalidPayloadTypeName(String name, List<String> values);
 
+	@Message(id = ID_OFFSET + 74, value = "Invalid name for the outbox event payload format: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidOutboxEventPayloadFormatName(String name, List<String> values);
+
 	@Message(id = ID_OFFSET + 35,
 			value = "Unable to process provided entity mappings: %1$s")
 	SearchException unableToProcessEntityMappings(String causeMessage, @Cause Exception cause);
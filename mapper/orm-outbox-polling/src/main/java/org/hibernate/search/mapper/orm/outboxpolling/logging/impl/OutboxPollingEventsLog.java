@@ -80,6 +80,9 @@ void startingOutboxEventProcessor(String name,
 	@Message(id = ID_OFFSET + 13, value = "Unable to deserialize OutboxEvent payload with Avro: %1$s")
 	SearchException unableToDeserializeOutboxEventPayloadWithAvro(String causeMessage, @Cause Throwable cause);
 
+	@Message(id = ID_OFFSET + 73, value = "Unable to deserialize OutboxEvent payload: %1$s")
+	SearchException unableToDeserializeOutboxEventPayload(String causeMessage, @Cause Throwable cause);
+
 	@Message(value = "Pulse operation for agent '%1$s'")
 	String outboxEventProcessorPulse(AgentReference agentReference);
 
@@ -272,4 +275,12 @@ void clusterMembersAreInClusterReachedExpectedStates(AgentReference agentReferen
 			value = "Agent '%s': after %d retries, failed to acquire a lock on the following outbox events: %s. " +
 					"Events will be re-processed at a later time.")
 	void eventLockingRetryLimitReached(AgentReference agentReference, int numberOfRetries, Set<UUID> events);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 71, value = "Coalesced %1$d outbox events into %2$d entity reindexing operations.")
+	void coalescedOutboxEvents(int eventCount, int entityCount);
+
+	@LogMessage(level = TRACE)
+	@Message(id = ID_OFFSET + 72, value = "Deleted %1$d processed outbox events in a single statement.")
+	void deletedOutboxEvents(int eventCount);
 }
@@ -30,6 +30,6 @@ public interface OutboxPollingLog extends ConfigurationLog, DeprecationLog, Outb
 	 * here to the next value.
 	 */
 	@LogMessage(level = TRACE)
-	@Message(id = ID_OFFSET + 71, value = "")
+	@Message(id = ID_OFFSET + 75, value = "")
 	void nextLoggerIdForConvenience();
 }
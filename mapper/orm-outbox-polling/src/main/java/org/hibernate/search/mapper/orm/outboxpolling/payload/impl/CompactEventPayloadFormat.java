@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.payload.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+
+/**
+ * A compact binary format for outbox event payloads.
+ * <p>
+ * Layout:
+ * <ol>
+ *     <li>A marker byte, {@link #MARKER}.
+ *     Avro payloads start with the zigzag-encoded index of a union branch, which is always even,
+ *     so the marker allows telling the two formats apart.</li>
+ *     <li>A byte holding boolean flags: see the {@code FLAG_*} constants.</li>
+ *     <li>If {@link #FLAG_HAS_CURRENT_ROUTE} is set, the routing key of the current route.</li>
+ *     <li>The number of previous routes as a varint, followed by the routing key of each previous route.</li>
+ *     <li>The number of dirty paths as a varint, followed by each dirty path, in lexicographical order,
+ *     as the length of the prefix it shares with the previous path (a varint)
+ *     followed by the remaining characters (a string).</li>
+ * </ol>
+ * Strings are encoded as their length in bytes (a varint) followed by their UTF-8 bytes.
+ * Routing keys are encoded as strings whose length is incremented by one,
+ * so that a length of {@code 0} can represent a {@code null} routing key.
+ */
+public final class CompactEventPayloadFormat {
+
+	static final byte MARKER = 0x01;
+
+	static final int FLAG_FORCE_SELF_DIRTY = 1;
+	static final int FLAG_FORCE_CONTAINING_DIRTY = 1 << 1;
+	static final int FLAG_UPDATED_BECAUSE_OF_CONTAINED = 1 << 2;
+	static final int FLAG_HAS_ROUTES = 1 << 3;
+	static final int FLAG_HAS_CURRENT_ROUTE = 1 << 4;
+
+	private CompactEventPayloadFormat() {
+	}
+
+	static boolean isCompact(byte[] payloadData) {
+		return payloadData.length > 0 && payloadData[0] == MARKER;
+	}
+
+	public static byte[] serialize(PojoIndexingQueueEventPayload payload) {
+		Writer writer = new Writer();
+		writer.writeByte( MARKER );
+
+		DocumentRoutesDescriptor routes = payload.routes;
+		DirtinessDescriptor dirtiness = payload.dirtiness;
+		int flags = 0;
+		if ( dirtiness.forceSelfDirty() ) {
+			flags |= FLAG_FORCE_SELF_DIRTY;
+		}
+		if ( dirtiness.forceContainingDirty() ) {
+			flags |= FLAG_FORCE_CONTAINING_DIRTY;
+		}
+		if ( dirtiness.updatedBecauseOfContained() ) {
+			flags |= FLAG_UPDATED_BECAUSE_OF_CONTAINED;
+		}
+		if ( routes != null ) {
+			flags |= FLAG_HAS_ROUTES;
+			if ( routes.currentRoute() != null ) {
+				flags |= FLAG_HAS_CURRENT_ROUTE;
+			}
+		}
+		writer.writeByte( (byte) flags );
+
+		if ( routes != null ) {
+			if ( routes.currentRoute() != null ) {
+				writer.writeRoutingKey( routes.currentRoute().routingKey() );
+			}
+			Collection<DocumentRouteDescriptor> previousRoutes = routes.previousRoutes();
+			writer.writeVarInt( previousRoutes.size() );
+			for ( DocumentRouteDescriptor previousRoute : previousRoutes ) {
+				writer.writeRoutingKey( previousRoute.routingKey() );
+			}
+		}
+
+		List<String> dirtyPaths = new ArrayList<>( dirtiness.dirtyPaths() );
+		// Sorting maximizes the length of prefixes shared between consecutive paths,
+		// e.g. "author.firstName" and "author.lastName".
+		Collections.sort( dirtyPaths );
+		writer.writeVarInt( dirtyPaths.size() );
+		String previousPath = "";
+		for ( String path : dirtyPaths ) {
+			int prefixLength = sharedPrefixLength( previousPath, path );
+			writer.writeVarInt( prefixLength );
+			writer.writeString( path.substring( prefixLength ) );
+			previousPath = path;
+		}
+
+		return writer.toByteArray();
+	}
+
+	private static int sharedPrefixLength(String previous, String current) {
+		int max = Math.min( previous.length(), current.length() );
+		int length = 0;
+		while ( length < max && previous.charAt( length ) == current.charAt( length ) ) {
+			length++;
+		}
+		if ( length > 0 && Character.isHighSurrogate( current.charAt( length - 1 ) ) ) {
+			// Never split a surrogate pair, as the suffix would not be valid UTF-16.
+			length--;
+		}
+		return length;
+	}
+
+	private static final class Writer {
+		private byte[] buffer = new byte[64];
+		private int length = 0;
+
+		void writeByte(byte value) {
+			ensureCapacity( 1 );
+			buffer[length++] = value;
+		}
+
+		void writeVarInt(int value) {
+			ensureCapacity( 5 );
+			while ( ( value & ~0x7F ) != 0 ) {
+				buffer[length++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[length++] = (byte) value;
+		}
+
+		void writeString(String value) {
+			byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+			writeVarInt( bytes.length );
+			writeBytes( bytes );
+		}
+
+		void writeRoutingKey(String routingKey) {
+			if ( routingKey == null ) {
+				writeVarInt( 0 );
+				return;
+			}
+			byte[] bytes = routingKey.getBytes( StandardCharsets.UTF_8 );
+			writeVarInt( bytes.length + 1 );
+			writeBytes( bytes );
+		}
+
+		private void writeBytes(byte[] bytes) {
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, length, bytes.length );
+			length += bytes.length;
+		}
+
+		private void ensureCapacity(int additional) {
+			if ( length + additional > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, length + additional ) );
+			}
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( buffer, length );
+		}
+	}
+}
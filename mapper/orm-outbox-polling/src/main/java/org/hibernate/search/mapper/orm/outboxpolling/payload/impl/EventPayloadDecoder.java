@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.payload.impl;
+
+import static org.hibernate.search.mapper.orm.outboxpolling.payload.impl.CompactEventPayloadFormat.FLAG_FORCE_CONTAINING_DIRTY;
+import static org.hibernate.search.mapper.orm.outboxpolling.payload.impl.CompactEventPayloadFormat.FLAG_FORCE_SELF_DIRTY;
+import static org.hibernate.search.mapper.orm.outboxpolling.payload.impl.CompactEventPayloadFormat.FLAG_HAS_CURRENT_ROUTE;
+import static org.hibernate.search.mapper.orm.outboxpolling.payload.impl.CompactEventPayloadFormat.FLAG_HAS_ROUTES;
+import static org.hibernate.search.mapper.orm.outboxpolling.payload.impl.CompactEventPayloadFormat.FLAG_UPDATED_BECAUSE_OF_CONTAINED;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.mapper.orm.outboxpolling.avro.impl.EventPayloadSerializationUtils;
+import org.hibernate.search.mapper.orm.outboxpolling.logging.impl.OutboxPollingEventsLog;
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+
+/**
+ * A decoder for outbox event payloads, accepting both the {@link CompactEventPayloadFormat compact format}
+ * and the legacy Avro format.
+ * <p>
+ * Meant to be reused to decode all payloads of a batch of events:
+ * strings (dirty paths, routing keys) are interned, so that payloads of a batch share the same instances,
+ * and the decoding buffer is reused from one payload to the next.
+ * <p>
+ * Not thread-safe.
+ */
+public final class EventPayloadDecoder {
+
+	private final Map<String, String> internedStrings = new HashMap<>();
+	private char[] pathBuffer = new char[64];
+
+	private byte[] data;
+	private int position;
+
+	public PojoIndexingQueueEventPayload decode(byte[] payloadData) {
+		if ( !CompactEventPayloadFormat.isCompact( payloadData ) ) {
+			return EventPayloadSerializationUtils.deserialize( payloadData );
+		}
+		this.data = payloadData;
+		// Skip the marker
+		this.position = 1;
+		try {
+			return decodeCompact();
+		}
+		catch (RuntimeException e) {
+			throw OutboxPollingEventsLog.INSTANCE.unableToDeserializeOutboxEventPayload( e.getMessage(), e );
+		}
+		finally {
+			this.data = null;
+		}
+	}
+
+	private PojoIndexingQueueEventPayload decodeCompact() {
+		int flags = readByte();
+
+		DocumentRoutesDescriptor routes = null;
+		if ( ( flags & FLAG_HAS_ROUTES ) != 0 ) {
+			DocumentRouteDescriptor currentRoute = ( flags & FLAG_HAS_CURRENT_ROUTE ) != 0 ? readRoute() : null;
+			int previousRouteCount = readVarInt();
+			Collection<DocumentRouteDescriptor> previousRoutes;
+			if ( previousRouteCount == 0 ) {
+				previousRoutes = Collections.emptySet();
+			}
+			else {
+				previousRoutes = new LinkedHashSet<>();
+				for ( int i = 0; i < previousRouteCount; i++ ) {
+					previousRoutes.add( readRoute() );
+				}
+			}
+			routes = DocumentRoutesDescriptor.of( currentRoute, previousRoutes );
+		}
+
+		int dirtyPathCount = readVarInt();
+		Set<String> dirtyPaths;
+		if ( dirtyPathCount == 0 ) {
+			dirtyPaths = Collections.emptySet();
+		}
+		else {
+			dirtyPaths = new HashSet<>();
+			int pathLength = 0;
+			for ( int i = 0; i < dirtyPathCount; i++ ) {
+				int prefixLength = readVarInt();
+				if ( prefixLength > pathLength ) {
+					throw new IllegalStateException( "Invalid dirty path prefix length: " + prefixLength );
+				}
+				// The prefix is already in the buffer: only append the suffix.
+				pathLength = readChars( readVarInt(), prefixLength );
+				dirtyPaths.add( intern( new String( pathBuffer, 0, pathLength ) ) );
+			}
+		}
+
+		DirtinessDescriptor dirtiness = new DirtinessDescriptor(
+				( flags & FLAG_FORCE_SELF_DIRTY ) != 0,
+				( flags & FLAG_FORCE_CONTAINING_DIRTY ) != 0,
+				dirtyPaths,
+				( flags & FLAG_UPDATED_BECAUSE_OF_CONTAINED ) != 0
+		);
+		return new PojoIndexingQueueEventPayload( routes, dirtiness );
+	}
+
+	private DocumentRouteDescriptor readRoute() {
+		int lengthPlusOne = readVarInt();
+		if ( lengthPlusOne == 0 ) {
+			return DocumentRouteDescriptor.of( null );
+		}
+		int length = lengthPlusOne - 1;
+		checkAvailable( length );
+		String routingKey = intern( new String( data, position, length, StandardCharsets.UTF_8 ) );
+		position += length;
+		return DocumentRouteDescriptor.of( routingKey );
+	}
+
+	/**
+	 * Decodes UTF-8 bytes into {@link #pathBuffer}, starting at the given offset.
+	 *
+	 * @return The length of the content of the buffer.
+	 */
+	private int readChars(int byteLength, int offset) {
+		checkAvailable( byteLength );
+		// A UTF-8 byte never yields more than one UTF-16 char.
+		if ( pathBuffer.length < offset + byteLength ) {
+			char[] newBuffer = new char[Math.max( pathBuffer.length * 2, offset + byteLength )];
+			System.arraycopy( pathBuffer, 0, newBuffer, 0, offset );
+			pathBuffer = newBuffer;
+		}
+		int end = position + byteLength;
+		int charPosition = offset;
+		// Fast path for ASCII, by far the most common case for property paths.
+		while ( position < end && data[position] >= 0 ) {
+			pathBuffer[charPosition++] = (char) data[position++];
+		}
+		if ( position < end ) {
+			String rest = new String( data, position, end - position, StandardCharsets.UTF_8 );
+			rest.getChars( 0, rest.length(), pathBuffer, charPosition );
+			charPosition += rest.length();
+			position = end;
+		}
+		return charPosition;
+	}
+
+	private int readByte() {
+		checkAvailable( 1 );
+		return data[position++] & 0xFF;
+	}
+
+	private int readVarInt() {
+		int value = 0;
+		for ( int shift = 0; shift < 32; shift += 7 ) {
+			int b = readByte();
+			value |= ( b & 0x7F ) << shift;
+			if ( ( b & 0x80 ) == 0 ) {
+				if ( value < 0 ) {
+					break;
+				}
+				return value;
+			}
+		}
+		throw new IllegalStateException( "Invalid varint at position " + position );
+	}
+
+	private void checkAvailable(int length) {
+		if ( length > data.length - position ) {
+			throw new IllegalStateException( "Unexpected end of payload at position " + position );
+		}
+	}
+
+	private String intern(String value) {
+		String interned = internedStrings.putIfAbsent( value, value );
+		return interned == null ? value : interned;
+	}
+}
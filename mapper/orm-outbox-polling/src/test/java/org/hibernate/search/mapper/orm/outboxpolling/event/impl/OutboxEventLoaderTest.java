@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.query.MutationQuery;
+
+import org.junit.jupiter.api.Test;
+
+import org.assertj.core.api.InstanceOfAssertFactories;
+
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class OutboxEventLoaderTest {
+
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+	private Dialect dialectMock;
+	@Mock
+	private Session sessionMock;
+	@Mock
+	private MutationQuery queryMock;
+
+	@Test
+	void delete() {
+		OutboxEventLoader loader = new OutboxEventLoader( dialectMock );
+		OutboxEvent event1 = event();
+		OutboxEvent event2 = event();
+		OutboxEvent event3 = event();
+
+		ArgumentCaptor<String> queryStringCaptor = ArgumentCaptor.forClass( String.class );
+		ArgumentCaptor<Object> idsCaptor = ArgumentCaptor.forClass( Object.class );
+		when( sessionMock.createMutationQuery( queryStringCaptor.capture() ) ).thenReturn( queryMock );
+		when( queryMock.setParameter( eq( "ids" ), idsCaptor.capture() ) ).thenReturn( queryMock );
+		when( queryMock.executeUpdate() ).thenReturn( 3 );
+
+		loader.delete( sessionMock, List.of( event1, event2, event3 ) );
+
+		// All events are deleted with a single statement, after being detached from the session
+		InOrder inOrder = inOrder( sessionMock, queryMock );
+		inOrder.verify( sessionMock ).detach( event1 );
+		inOrder.verify( sessionMock ).detach( event2 );
+		inOrder.verify( sessionMock ).detach( event3 );
+		inOrder.verify( sessionMock ).createMutationQuery( anyString() );
+		inOrder.verify( queryMock ).setParameter( eq( "ids" ), any( Object.class ) );
+		inOrder.verify( queryMock ).executeUpdate();
+		verifyNoMoreInteractions( sessionMock, queryMock );
+
+		assertThat( queryStringCaptor.getValue() )
+				.startsWith( "delete from " + OutboxPollingOutboxEventAdditionalMappingProducer.ENTITY_NAME );
+		assertThat( idsCaptor.getValue() ).asInstanceOf( InstanceOfAssertFactories.LIST )
+				.containsExactly( event1.getId(), event2.getId(), event3.getId() );
+	}
+
+	@Test
+	void delete_empty() {
+		OutboxEventLoader loader = new OutboxEventLoader( dialectMock );
+
+		loader.delete( sessionMock, Collections.emptyList() );
+
+		verifyNoInteractions( sessionMock );
+	}
+
+	private static OutboxEvent event() {
+		OutboxEvent event = new OutboxEvent( "SomeEntity", "1", 1, new byte[0], 1 );
+		event.setId( UUID.randomUUID() );
+		return event;
+	}
+
+}
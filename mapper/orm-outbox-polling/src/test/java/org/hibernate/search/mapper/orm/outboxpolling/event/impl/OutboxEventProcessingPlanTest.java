@@ -0,0 +1,185 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.event.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.Session;
+import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.common.spi.MultiEntityOperationExecutionReport;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingMappingContext;
+import org.hibernate.search.mapper.orm.automaticindexing.spi.AutomaticIndexingQueueEventProcessingPlan;
+import org.hibernate.search.mapper.orm.outboxpolling.payload.impl.CompactEventPayloadFormat;
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class OutboxEventProcessingPlanTest {
+
+	private static final String ENTITY_NAME = "SomeEntity";
+
+	@Mock
+	private AutomaticIndexingMappingContext mappingMock;
+	@Mock
+	private AutomaticIndexingQueueEventProcessingPlan processingPlanMock;
+	@Mock
+	private Session sessionMock;
+	@Mock
+	private FailureHandler failureHandlerMock;
+	@Mock
+	private EntityReferenceFactory entityReferenceFactoryMock;
+
+	@BeforeEach
+	void setup() {
+		when( mappingMock.createIndexingQueueEventProcessingPlan( sessionMock ) ).thenReturn( processingPlanMock );
+		when( mappingMock.failureHandler() ).thenReturn( failureHandlerMock );
+		when( mappingMock.entityReferenceFactory() ).thenReturn( entityReferenceFactoryMock );
+	}
+
+	@Test
+	void coalesce_addUpdateDelete() {
+		PojoIndexingQueueEventPayload payload = processAndCaptureSinglePayload( List.of(
+				// Add with the entity routed to "key1"
+				event( "1", routes( "key1" ), dirtiness( true, false ) ),
+				// Update that changed the route to "key2"
+				event( "1", routes( "key2", "key1" ), dirtiness( false, false, "title" ) ),
+				// Delete
+				event( "1", routes( null, "key2" ), dirtiness( false, true ) )
+		) );
+
+		assertThat( payload.routes.currentRoute() ).isNull();
+		assertThat( payload.routes.previousRoutes() )
+				.extracting( DocumentRouteDescriptor::routingKey )
+				.containsExactlyInAnyOrder( "key1", "key2" );
+		assertThat( payload.dirtiness.forceSelfDirty() ).isTrue();
+		assertThat( payload.dirtiness.forceContainingDirty() ).isTrue();
+		assertThat( payload.dirtiness.dirtyPaths() ).containsExactly( "title" );
+		assertThat( payload.dirtiness.updatedBecauseOfContained() ).isFalse();
+	}
+
+	@Test
+	void coalesce_earlierCurrentRouteBecomesPrevious() {
+		// The later event does not know the entity was routed to "key1" before:
+		// the document must still be deleted from that route.
+		PojoIndexingQueueEventPayload payload = processAndCaptureSinglePayload( List.of(
+				event( "1", routes( "key1" ), dirtiness( false, false, "title" ) ),
+				event( "1", routes( "key2" ), dirtiness( false, false, "author" ) )
+		) );
+
+		assertThat( payload.routes.currentRoute().routingKey() ).isEqualTo( "key2" );
+		assertThat( payload.routes.previousRoutes() )
+				.extracting( DocumentRouteDescriptor::routingKey )
+				.containsExactly( "key1" );
+		assertThat( payload.dirtiness.dirtyPaths() ).containsExactlyInAnyOrder( "title", "author" );
+	}
+
+	@Test
+	void coalesce_sameRoute() {
+		PojoIndexingQueueEventPayload payload = processAndCaptureSinglePayload( List.of(
+				event( "1", routes( "key1" ), dirtiness( false, false, "title" ) ),
+				event( "1", routes( "key1" ), dirtiness( false, false, "title" ) )
+		) );
+
+		// The current route must not be considered as a previous route, or the document would be deleted
+		assertThat( payload.routes.currentRoute().routingKey() ).isEqualTo( "key1" );
+		assertThat( payload.routes.previousRoutes() ).isEmpty();
+	}
+
+	@Test
+	void coalesce_noRoutes() {
+		PojoIndexingQueueEventPayload payload = processAndCaptureSinglePayload( List.of(
+				event( "1", null, dirtiness( false, false, "title" ) ),
+				event( "1", routes( "key1" ), dirtiness( false, false ) )
+		) );
+
+		assertThat( payload.routes.currentRoute().routingKey() ).isEqualTo( "key1" );
+		assertThat( payload.routes.previousRoutes() ).isEmpty();
+	}
+
+	@Test
+	void distinctEntities() {
+		OutboxEventProcessingPlan plan = new OutboxEventProcessingPlan( mappingMock, sessionMock );
+		when( processingPlanMock.executeAndReport( any() ) )
+				.thenReturn( CompletableFuture.completedFuture( MultiEntityOperationExecutionReport.builder().build() ) );
+
+		List<OutboxEvent> events = List.of(
+				event( "1", routes( "key1" ), dirtiness( false, false, "title" ) ),
+				event( "2", routes( "key2" ), dirtiness( false, false, "title" ) ),
+				event( "1", routes( "key1" ), dirtiness( false, false, "author" ) )
+		);
+		plan.startProcessing( events );
+
+		ArgumentCaptor<PojoIndexingQueueEventPayload> payload1Captor =
+				ArgumentCaptor.forClass( PojoIndexingQueueEventPayload.class );
+		ArgumentCaptor<PojoIndexingQueueEventPayload> payload2Captor =
+				ArgumentCaptor.forClass( PojoIndexingQueueEventPayload.class );
+		verify( processingPlanMock ).append( ENTITY_NAME, "1", payload1Captor.capture() );
+		verify( processingPlanMock ).append( ENTITY_NAME, "2", payload2Captor.capture() );
+		verify( processingPlanMock ).executeAndReport( any() );
+		verifyNoMoreInteractions( processingPlanMock );
+
+		assertThat( payload1Captor.getValue().dirtiness.dirtyPaths() ).containsExactlyInAnyOrder( "title", "author" );
+		assertThat( payload2Captor.getValue().dirtiness.dirtyPaths() ).containsExactly( "title" );
+		// Coalescing does not affect the events: they will all be deleted or retried
+		assertThat( plan.getEvents() ).isSameAs( events );
+	}
+
+	private PojoIndexingQueueEventPayload processAndCaptureSinglePayload(List<OutboxEvent> events) {
+		OutboxEventProcessingPlan plan = new OutboxEventProcessingPlan( mappingMock, sessionMock );
+		when( processingPlanMock.executeAndReport( any() ) )
+				.thenReturn( CompletableFuture.completedFuture( MultiEntityOperationExecutionReport.builder().build() ) );
+
+		plan.startProcessing( events );
+
+		ArgumentCaptor<PojoIndexingQueueEventPayload> payloadCaptor =
+				ArgumentCaptor.forClass( PojoIndexingQueueEventPayload.class );
+		verify( processingPlanMock ).append( ENTITY_NAME, "1", payloadCaptor.capture() );
+		verify( processingPlanMock ).executeAndReport( any() );
+		verifyNoMoreInteractions( processingPlanMock );
+		return payloadCaptor.getValue();
+	}
+
+	private static OutboxEvent event(String id, DocumentRoutesDescriptor routes, DirtinessDescriptor dirtiness) {
+		return new OutboxEvent( ENTITY_NAME, id, id.hashCode(),
+				CompactEventPayloadFormat.serialize( new PojoIndexingQueueEventPayload( routes, dirtiness ) ), id );
+	}
+
+	private static DocumentRoutesDescriptor routes(String currentRoutingKey, String... previousRoutingKeys) {
+		DocumentRouteDescriptor currentRoute = currentRoutingKey == null
+				? null
+				: DocumentRouteDescriptor.of( currentRoutingKey );
+		Set<DocumentRouteDescriptor> previousRoutes = new LinkedHashSet<>();
+		for ( String previousRoutingKey : previousRoutingKeys ) {
+			previousRoutes.add( DocumentRouteDescriptor.of( previousRoutingKey ) );
+		}
+		return DocumentRoutesDescriptor.of( currentRoute, previousRoutes );
+	}
+
+	private static DirtinessDescriptor dirtiness(boolean forceSelfDirty, boolean forceContainingDirty,
+			String... dirtyPaths) {
+		return new DirtinessDescriptor( forceSelfDirty, forceContainingDirty, Set.of( dirtyPaths ), false );
+	}
+
+}
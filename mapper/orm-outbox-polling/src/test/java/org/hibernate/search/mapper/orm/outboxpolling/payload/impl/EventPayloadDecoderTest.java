@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.outboxpolling.payload.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.mapper.orm.outboxpolling.avro.impl.EventPayloadSerializationUtils;
+import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
+import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.DirtinessDescriptor;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingQueueEventPayload;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class EventPayloadDecoderTest {
+
+	private static final Set<String> DIRTY_PATHS = Set.of( "author", "author.firstName", "author.lastName", "title",
+			"télé", "a😀b", "a😁c" );
+
+	@Test
+	void compact_roundTrip() {
+		PojoIndexingQueueEventPayload payload = new PojoIndexingQueueEventPayload(
+				DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( "key1" ),
+						new LinkedHashSet<>( List.of( DocumentRouteDescriptor.of( null ),
+								DocumentRouteDescriptor.of( "key2" ) ) ) ),
+				new DirtinessDescriptor( true, false, DIRTY_PATHS, true )
+		);
+
+		PojoIndexingQueueEventPayload decoded =
+				new EventPayloadDecoder().decode( CompactEventPayloadFormat.serialize( payload ) );
+
+		assertThat( decoded.routes.currentRoute().routingKey() ).isEqualTo( "key1" );
+		assertThat( decoded.routes.previousRoutes() )
+				.extracting( DocumentRouteDescriptor::routingKey )
+				.containsExactly( null, "key2" );
+		assertThat( decoded.dirtiness.forceSelfDirty() ).isTrue();
+		assertThat( decoded.dirtiness.forceContainingDirty() ).isFalse();
+		assertThat( decoded.dirtiness.updatedBecauseOfContained() ).isTrue();
+		assertThat( decoded.dirtiness.dirtyPaths() ).containsExactlyInAnyOrderElementsOf( DIRTY_PATHS );
+	}
+
+	@Test
+	void compact_noRoutesNoDirtyPaths() {
+		PojoIndexingQueueEventPayload payload = new PojoIndexingQueueEventPayload( null,
+				new DirtinessDescriptor( false, true, Collections.emptySet(), false ) );
+
+		PojoIndexingQueueEventPayload decoded =
+				new EventPayloadDecoder().decode( CompactEventPayloadFormat.serialize( payload ) );
+
+		assertThat( decoded.routes ).isNull();
+		assertThat( decoded.dirtiness.forceContainingDirty() ).isTrue();
+		assertThat( decoded.dirtiness.dirtyPaths() ).isEmpty();
+	}
+
+	@Test
+	void compact_smallerThanAvro() {
+		PojoIndexingQueueEventPayload payload = new PojoIndexingQueueEventPayload(
+				DocumentRoutesDescriptor.of( DocumentRouteDescriptor.of( null ) ),
+				new DirtinessDescriptor( false, false, DIRTY_PATHS, false )
+		);
+
+		assertThat( CompactEventPayloadFormat.serialize( payload ) )
+				.hasSizeLessThan( EventPayloadSerializationUtils.serialize( payload ).length );
+	}
+
+	@Test
+	void compact_truncated() {
+		PojoIndexingQueueEventPayload payload = new PojoIndexingQueueEventPayload( null,
+				new DirtinessDescriptor( false, false, DIRTY_PATHS, false ) );
+		byte[] serialized = CompactEventPayloadFormat.serialize( payload );
+
+		assertThatThrownBy( () -> new EventPayloadDecoder().decode( Arrays.copyOf( serialized, serialized.length - 2 ) ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to deserialize OutboxEvent payload" );
+	}
+
+	@Test
+	void stringsSharedWithinDecoder() {
+		PojoIndexingQueueEventPayload payload = new PojoIndexingQueueEventPayload( null,
+				new DirtinessDescriptor( false, false, Set.of( "title" ), false ) );
+		byte[] serialized = CompactEventPayloadFormat.serialize( payload );
+		EventPayloadDecoder decoder = new EventPayloadDecoder();
+
+		String first = decoder.decode( serialized ).dirtiness.dirtyPaths().iterator().next();
+		String second = decoder.decode( serialized ).dirtiness.dirtyPaths().iterator().next();
+		assertThat( second ).isSameAs( first );
+	}
+
+	public static List<? extends Arguments> avroPayloads() throws IOException, URISyntaxException {
+		try ( Stream<Path> payloads = Files.list( avroPayloadTestResourceLocation() ) ) {
+			return payloads.map( Arguments::of ).collect( Collectors.toList() );
+		}
+	}
+
+	@ParameterizedTest
+	@MethodSource("avroPayloads")
+	void avro(Path payload) throws IOException {
+		PojoIndexingQueueEventPayload decoded = new EventPayloadDecoder().decode( Files.readAllBytes( payload ) );
+		assertThat( decoded.routes.currentRoute().routingKey() )
+				.as( payload.toString() )
+				.isEqualTo( "key1" );
+		assertThat( decoded.dirtiness.dirtyPaths() )
+				.as( payload.toString() )
+				.containsExactlyInAnyOrder( "a", "b", "c" );
+	}
+
+	private static Path avroPayloadTestResourceLocation() throws URISyntaxException {
+		return Path.of( EventPayloadDecoderTest.class.getProtectionDomain().getCodeSource().getLocation().toURI() )
+				.getParent().getParent().resolve( "src/test/resources/avro" );
+	}
+}
@@ -64,6 +64,12 @@ public abstract class HibernateSearchPreIntegrationService implements Service, A
 					.withDefault( HibernateOrmMapperSpiSettings.Defaults.JBOSS_LOG_VERSIONS )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> MAPPING_GENERATE_ACCESSORS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.MAPPING_GENERATE_ACCESSORS )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_GENERATE_ACCESSORS )
+					.build();
+
 	public static class Contributor implements ServiceContributor {
 		@Override
 		public void contribute(StandardServiceRegistryBuilder serviceRegistryBuilder) {
@@ -262,6 +268,9 @@ HibernateOrmIntegrationPartialBuildState doBootFirstPhase(Metadata metadata,
 				SearchIntegration.Builder builder = SearchIntegration.builder( environment );
 
 				HibernateOrmMappingKey mappingKey = new HibernateOrmMappingKey();
+				if ( MAPPING_GENERATE_ACCESSORS.get( environment.propertySource() ) ) {
+					valueHandleFactory = ValueHandleFactory.usingGeneratedAccessors( valueHandleFactory );
+				}
 				mappingInitiator = HibernateOrmMappingInitiator.create( metadata, classDetailsRegistry,
 						valueHandleFactory, serviceRegistry );
 				builder.addMappingInitiator( mappingKey, mappingInitiator );
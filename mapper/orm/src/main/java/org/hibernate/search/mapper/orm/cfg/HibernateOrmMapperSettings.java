@@ -19,6 +19,7 @@
 import org.hibernate.search.mapper.pojo.tenancy.spi.StringTenantIdentifierConverter;
 import org.hibernate.search.mapper.pojo.work.IndexingPlanSynchronizationStrategy;
 import org.hibernate.search.mapper.pojo.work.IndexingPlanSynchronizationStrategyNames;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * @author Emmanuel Bernard
@@ -131,6 +132,22 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * Whether Hibernate Search should generate accessor classes at bootstrap
+	 * to read the value of properties exposed through getters.
+	 * <p>
+	 * Generated accessors call getters directly instead of going through reflection or method handles,
+	 * which speeds up indexing of large object graphs at the cost of a slightly longer bootstrap.
+	 * Properties for which an accessor cannot be generated are accessed as usual.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#MAPPING_GENERATE_ACCESSORS}.
+	 */
+	@Incubating
+	public static final String MAPPING_GENERATE_ACCESSORS = PREFIX + Radicals.MAPPING_GENERATE_ACCESSORS;
+
 	/**
 	 * How indexes and their schema are created, updated, validated or dropped on startup and shutdown.
 	 * <p>
@@ -239,6 +256,7 @@ private Radicals() {
 		public static final String MAPPING_DISCOVER_ANNOTATED_TYPES_FROM_ROOT_MAPPING_ANNOTATIONS =
 				MAPPING_PREFIX + "discover_annotated_types_from_root_mapping_annotations";
 		public static final String MAPPING_CONFIGURER = MAPPING_PREFIX + "configurer";
+		public static final String MAPPING_GENERATE_ACCESSORS = MAPPING_PREFIX + "generate_accessors";
 		public static final String SCHEMA_MANAGEMENT_STRATEGY = "schema_management.strategy";
 		public static final String COORDINATION = "coordination";
 		public static final String COORDINATION_PREFIX = COORDINATION + ".";
@@ -310,6 +328,7 @@ private Defaults() {
 		public static final boolean MAPPING_PROCESS_ANNOTATIONS = true;
 		public static final boolean MAPPING_BUILD_MISSING_DISCOVERED_JANDEX_INDEXES = true;
 		public static final boolean MAPPING_DISCOVER_ANNOTATED_TYPES_FROM_ROOT_MAPPING_ANNOTATIONS = true;
+		public static final boolean MAPPING_GENERATE_ACCESSORS = false;
 		public static final SchemaManagementStrategyName SCHEMA_MANAGEMENT_STRATEGY =
 				SchemaManagementStrategyName.CREATE_OR_VALIDATE;
 		public static final BeanReference<CoordinationStrategy> COORDINATION_STRATEGY =
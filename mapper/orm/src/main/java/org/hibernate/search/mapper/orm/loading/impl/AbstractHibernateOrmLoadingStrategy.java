@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -21,6 +22,7 @@
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.model.domain.EntityDomainType;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
+import org.hibernate.search.mapper.orm.common.spi.TransactionHelper;
 import org.hibernate.search.mapper.orm.loading.spi.ConditionalExpression;
 import org.hibernate.search.mapper.orm.loading.spi.HibernateOrmEntityLoadingStrategy;
 import org.hibernate.search.mapper.orm.loading.spi.HibernateOrmQueryLoader;
@@ -127,12 +129,19 @@ public final PojoMassIdentifierLoader createIdentifierLoader(
 		var ormContext = (HibernateOrmMassLoadingContext) context.parent();
 		SessionFactoryImplementor sessionFactory = ormContext.mapping().sessionFactory();
 
-		HibernateOrmQueryLoader<E, I> queryLoader = createQueryLoader( sessionFactory, expectedTypes,
-				conditionalExpressions( expectedTypes, ormContext ) );
-		SharedSessionContractImplementor session = (SharedSessionContractImplementor) sessionFactory
-				.withStatelessOptions()
-				.tenantIdentifier( ormContext.tenancyConfiguration().convert( context.tenantIdentifier() ) )
-				.openStatelessSession();
+		List<ConditionalExpression> conditionalExpressions = conditionalExpressions( expectedTypes, ormContext );
+		HibernateOrmQueryLoader<E, I> queryLoader;
+		if ( context.partition() == null ) {
+			queryLoader = createQueryLoader( sessionFactory, expectedTypes, conditionalExpressions );
+		}
+		else {
+			List<ConditionalExpression> partitionConditionalExpressions = new ArrayList<>( conditionalExpressions );
+			partitionConditionalExpressions.addAll( ( (HibernateOrmMassIdentifierRange) context.partition() )
+					.toConditionalExpressions( uniquePropertyName ) );
+			queryLoader = createQueryLoader( sessionFactory, expectedTypes, partitionConditionalExpressions, null, true );
+		}
+		SharedSessionContractImplementor session = openStatelessSession( sessionFactory, ormContext,
+				context.tenantIdentifier() );
 		try {
 			PojoMassIdentifierSink<I> sink = context.createSink();
 			return new HibernateOrmMassIdentifierLoader<>( queryLoader, ormContext, sink, session );
@@ -143,6 +152,52 @@ public final PojoMassIdentifierLoader createIdentifierLoader(
 		}
 	}
 
+	@Override
+	public final List<?> createIdentifierPartitions(Set<? extends PojoLoadingTypeContext<? extends E>> expectedTypes,
+			PojoMassIdentifierLoadingContext<I> context, int maxPartitionCount) {
+		var ormContext = (HibernateOrmMassLoadingContext) context.parent();
+		if ( maxPartitionCount < 2 || ormContext.objectsLimit() != 0
+				|| !HibernateOrmMassIdentifierRange.supports( uniquePropertyType ) ) {
+			// With a limit, we would need to know how many identifiers each partition loaded so far.
+			return List.of();
+		}
+		SessionFactoryImplementor sessionFactory = ormContext.mapping().sessionFactory();
+		List<ConditionalExpression> conditionalExpressions = conditionalExpressions( expectedTypes, ormContext );
+		HibernateOrmQueryLoader<E, I> lowestQueryLoader = createQueryLoader( sessionFactory, expectedTypes,
+				conditionalExpressions, "e." + uniquePropertyName + " asc", true );
+		HibernateOrmQueryLoader<E, I> highestQueryLoader = createQueryLoader( sessionFactory, expectedTypes,
+				conditionalExpressions, "e." + uniquePropertyName + " desc", true );
+		try ( SharedSessionContractImplementor session = openStatelessSession( sessionFactory, ormContext,
+				context.tenantIdentifier() ) ) {
+			TransactionHelper transactionHelper = new TransactionHelper( sessionFactory,
+					ormContext.idLoadingTransactionTimeout() );
+			return transactionHelper.inTransaction( session, () -> {
+				I lowest = firstIdentifier( lowestQueryLoader, session );
+				if ( lowest == null ) {
+					// Nothing to load
+					return List.of();
+				}
+				I highest = firstIdentifier( highestQueryLoader, session );
+				return HibernateOrmMassIdentifierRange.split( uniquePropertyType, lowest, highest, maxPartitionCount );
+			} );
+		}
+	}
+
+	private I firstIdentifier(HibernateOrmQueryLoader<E, I> queryLoader, SharedSessionContractImplementor session) {
+		return queryLoader.createIdentifiersQuery( session )
+				.setCacheable( false )
+				.setMaxResults( 1 )
+				.uniqueResult();
+	}
+
+	private static SharedSessionContractImplementor openStatelessSession(SessionFactoryImplementor sessionFactory,
+			HibernateOrmMassLoadingContext ormContext, String tenantIdentifier) {
+		return (SharedSessionContractImplementor) sessionFactory
+				.withStatelessOptions()
+				.tenantIdentifier( ormContext.tenancyConfiguration().convert( tenantIdentifier ) )
+				.openStatelessSession();
+	}
+
 	@Override
 	public final PojoMassEntityLoader<I> createEntityLoader(Set<? extends PojoLoadingTypeContext<? extends E>> expectedTypes,
 			PojoMassEntityLoadingContext<E> context) {
@@ -191,6 +246,16 @@ public HibernateOrmQueryLoader<E, I> createQueryLoader(SessionFactoryImplementor
 	public HibernateOrmQueryLoader<E, I> createQueryLoader(SessionFactoryImplementor sessionFactory,
 			Set<? extends PojoLoadingTypeContext<? extends E>> typeContexts,
 			List<ConditionalExpression> conditionalExpressions, String order) {
+		return createQueryLoader( sessionFactory, typeContexts, conditionalExpressions, order, false );
+	}
+
+	/**
+	 * @param expressionsApplyToAllTypes Whether the conditional expressions and order
+	 * only involve the unique property, and thus can be applied to the common supertype of multiple types.
+	 */
+	private HibernateOrmQueryLoader<E, I> createQueryLoader(SessionFactoryImplementor sessionFactory,
+			Set<? extends PojoLoadingTypeContext<? extends E>> typeContexts,
+			List<ConditionalExpression> conditionalExpressions, String order, boolean expressionsApplyToAllTypes) {
 
 		EntityMappingType commonSuperType = toMostSpecificCommonEntitySuperType( sessionFactory, typeContexts );
 		if ( commonSuperType == null ) {
@@ -212,13 +277,19 @@ public HibernateOrmQueryLoader<E, I> createQueryLoader(SessionFactoryImplementor
 		TypeQueryFactory<E, I> actualQueryFactory = createFactory( sessionFactory, commonSuperType );
 
 		if ( !conditionalExpressions.isEmpty() || order != null ) {
-			if ( typeContexts.size() != 1 ) {
+			String entityName;
+			if ( typeContexts.size() == 1 ) {
+				entityName = typeContexts.iterator().next().secondaryEntityName();
+			}
+			else if ( expressionsApplyToAllTypes ) {
+				entityName = commonSuperType.getEntityName();
+			}
+			else {
 				// TODO HSEARCH-4252 Apply a condition to multiple types in the same query
 				throw new AssertionFailure( "conditional/order expression is always defined on a single type" );
 			}
 
-			EntityDomainType<?> entityDomainType = HibernateOrmUtils.entityDomainType( sessionFactory,
-					typeContexts.iterator().next().secondaryEntityName() );
+			EntityDomainType<?> entityDomainType = HibernateOrmUtils.entityDomainType( sessionFactory, entityName );
 			return new HibernateOrmQueryLoaderImpl<>( actualQueryFactory, entityDomainType,
 					includedTypesFilter, conditionalExpressions, order );
 		}
@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.loading.impl;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.mapper.orm.loading.spi.ConditionalExpression;
+
+/**
+ * A range of integer identifiers, used as a partition when loading identifiers in parallel during mass indexing.
+ * <p>
+ * The first range of a partitioning has no lower bound and the last has no upper bound,
+ * so that entities created after the partitioning are not missed.
+ */
+final class HibernateOrmMassIdentifierRange {
+
+	private static final String LOWER_BOUND_PARAM_NAME = "HIBERNATE_SEARCH_ID_RANGE_LOWER_BOUND";
+	private static final String UPPER_BOUND_PARAM_NAME = "HIBERNATE_SEARCH_ID_RANGE_UPPER_BOUND";
+
+	static boolean supports(Class<?> identifierType) {
+		return Long.class.equals( identifierType ) || Integer.class.equals( identifierType )
+				|| Short.class.equals( identifierType ) || BigInteger.class.equals( identifierType );
+	}
+
+	/**
+	 * @param identifierType The type of identifiers; must be {@link #supports(Class) supported}.
+	 * @param min The lowest identifier.
+	 * @param max The highest identifier.
+	 * @param maxRangeCount The maximum number of ranges.
+	 * @return Contiguous, non-overlapping ranges of roughly the same width, covering all identifiers.
+	 */
+	static List<HibernateOrmMassIdentifierRange> split(Class<?> identifierType, Object min, Object max,
+			int maxRangeCount) {
+		BigInteger lowest = toBigInteger( min );
+		BigInteger width = toBigInteger( max ).subtract( lowest ).add( BigInteger.ONE );
+		List<HibernateOrmMassIdentifierRange> ranges = new ArrayList<>( maxRangeCount );
+		Object lowerBound = null;
+		BigInteger previousBoundary = null;
+		for ( int i = 1; i < maxRangeCount; i++ ) {
+			BigInteger boundary = lowest.add( width.multiply( BigInteger.valueOf( i ) )
+					.divide( BigInteger.valueOf( maxRangeCount ) ) );
+			if ( boundary.equals( previousBoundary ) || boundary.equals( lowest ) ) {
+				// Fewer identifiers than ranges: skip empty ranges.
+				continue;
+			}
+			Object upperBound = fromBigInteger( identifierType, boundary );
+			ranges.add( new HibernateOrmMassIdentifierRange( lowerBound, upperBound ) );
+			lowerBound = upperBound;
+			previousBoundary = boundary;
+		}
+		ranges.add( new HibernateOrmMassIdentifierRange( lowerBound, null ) );
+		return ranges;
+	}
+
+	private static BigInteger toBigInteger(Object identifier) {
+		if ( identifier instanceof BigInteger ) {
+			return (BigInteger) identifier;
+		}
+		return BigInteger.valueOf( ( (Number) identifier ).longValue() );
+	}
+
+	private static Object fromBigInteger(Class<?> identifierType, BigInteger value) {
+		if ( Long.class.equals( identifierType ) ) {
+			return value.longValueExact();
+		}
+		else if ( Integer.class.equals( identifierType ) ) {
+			return value.intValueExact();
+		}
+		else if ( Short.class.equals( identifierType ) ) {
+			return value.shortValueExact();
+		}
+		else {
+			return value;
+		}
+	}
+
+	// Inclusive, or null if unbounded
+	private final Object lowerBound;
+	// Exclusive, or null if unbounded
+	private final Object upperBound;
+
+	private HibernateOrmMassIdentifierRange(Object lowerBound, Object upperBound) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + ( lowerBound == null ? "" : lowerBound ) + ", " + ( upperBound == null ? "" : upperBound ) + ")";
+	}
+
+	List<ConditionalExpression> toConditionalExpressions(String identifierPropertyName) {
+		List<ConditionalExpression> expressions = new ArrayList<>( 2 );
+		if ( lowerBound != null ) {
+			ConditionalExpression expression = new ConditionalExpression(
+					"e." + identifierPropertyName + " >= :" + LOWER_BOUND_PARAM_NAME );
+			expression.param( LOWER_BOUND_PARAM_NAME, lowerBound );
+			expressions.add( expression );
+		}
+		if ( upperBound != null ) {
+			ConditionalExpression expression = new ConditionalExpression(
+					"e." + identifierPropertyName + " < :" + UPPER_BOUND_PARAM_NAME );
+			expression.param( UPPER_BOUND_PARAM_NAME, upperBound );
+			expressions.add( expression );
+		}
+		return expressions;
+	}
+
+}
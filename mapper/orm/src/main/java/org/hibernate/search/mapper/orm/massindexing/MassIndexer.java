@@ -49,6 +49,24 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of threads to be used to load
+	 * the identifiers of entities of each type.
+	 * <p>
+	 * When set to more than {@code 1}, the range of identifiers of each type
+	 * is split into that many partitions, which are loaded in parallel, each in its own transaction.
+	 * This is only possible for entities with an integer identifier
+	 * and when the number of indexed objects is not {@link #limitIndexedObjectsTo(long) limited};
+	 * otherwise, a single thread is used.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 *
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -116,6 +134,41 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Rebuilds the indexes into new generations, and swaps them with the current generations on finish.
+	 * <p>
+	 * While mass indexing is in progress, searches keep targeting the current generations of indexes,
+	 * so they return complete (though possibly stale) results instead of the partial results
+	 * they would return while a {@link #purgeAllOnStart(boolean) purged} index is being filled.
+	 * On success, searches are atomically switched to the new generations and the previous generations are dropped.
+	 * On failure, the new generations are dropped and the current generations are left untouched,
+	 * except for changes indexed concurrently during mass indexing, which are lost.
+	 * <p>
+	 * Cannot be combined with {@link #dropAndCreateSchemaOnStart(boolean)} or {@link #purgeAllOnStart(boolean)}.
+	 * Not allowed with multitenancy.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to rebuild indexes into new generations and swap them on finish.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer swapIndexesOnFinish(boolean enable);
+
+	/**
+	 * Tunes indexes for bulk loading while mass indexing is in progress.
+	 * <p>
+	 * With the Lucene backend, this applies the configured bulk loading RAM buffer size, if any, disables merge throttling
+	 * and suspends intermediate commits and near-real-time reader refreshes,
+	 * so that changes are committed and become visible to searches only once mass indexing finishes.
+	 * Other backends may ignore this setting.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to tune indexes for bulk loading while mass indexing is in progress.
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer tuneIndexesForBulkLoading(boolean enable);
+
 	/**
 	 * Stops indexing after having indexed a set amount of objects.
 	 * <p>
@@ -55,6 +55,12 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		delegate.threadsToLoadIdentifiers( numberOfThreads );
+		return this;
+	}
+
 	@Override
 	public HibernateOrmMassIndexer batchSizeToLoadObjects(int batchSize) {
 		context.objectLoadingBatchSize( batchSize );
@@ -85,6 +91,18 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer swapIndexesOnFinish(boolean enable) {
+		delegate.swapIndexesOnFinish( enable );
+		return this;
+	}
+
+	@Override
+	public MassIndexer tuneIndexesForBulkLoading(boolean enable) {
+		delegate.tuneIndexesForBulkLoading( enable );
+		return this;
+	}
+
 	@Override
 	public HibernateOrmMassIndexer limitIndexedObjectsTo(long maximum) {
 		context.objectsLimit( maximum );
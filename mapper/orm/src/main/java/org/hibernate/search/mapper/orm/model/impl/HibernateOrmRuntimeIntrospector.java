@@ -64,6 +64,18 @@ public Object unproxy(Object value) {
 		return value;
 	}
 
+	@Override
+	public Object uninitializedProxyIdentifier(Object value) {
+		if ( value instanceof HibernateProxy ) {
+			final LazyInitializer lazyInitializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+			// Proxies from another session cannot be loaded through this session: let unproxy() handle them.
+			if ( lazyInitializer.isUninitialized() && lazyInitializer.getSession() == sessionImplementor ) {
+				return lazyInitializer.getInternalIdentifier();
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public boolean isIgnorableDataAccessThrowable(Throwable throwable) {
 		// Ideally we would only need to ignore LazyInitializationException,
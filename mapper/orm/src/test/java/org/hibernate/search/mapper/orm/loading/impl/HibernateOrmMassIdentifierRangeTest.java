@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.orm.loading.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+
+import org.junit.jupiter.api.Test;
+
+class HibernateOrmMassIdentifierRangeTest {
+
+	@Test
+	void supports() {
+		assertThat( HibernateOrmMassIdentifierRange.supports( Long.class ) ).isTrue();
+		assertThat( HibernateOrmMassIdentifierRange.supports( Integer.class ) ).isTrue();
+		assertThat( HibernateOrmMassIdentifierRange.supports( Short.class ) ).isTrue();
+		assertThat( HibernateOrmMassIdentifierRange.supports( BigInteger.class ) ).isTrue();
+		assertThat( HibernateOrmMassIdentifierRange.supports( String.class ) ).isFalse();
+		assertThat( HibernateOrmMassIdentifierRange.supports( Double.class ) ).isFalse();
+	}
+
+	@Test
+	void split() {
+		assertThat( HibernateOrmMassIdentifierRange.split( Long.class, 1L, 10L, 3 ) )
+				.extracting( Object::toString )
+				.containsExactly( "[, 4)", "[4, 7)", "[7, )" );
+	}
+
+	@Test
+	void split_unevenWidth() {
+		// Each upper bound is the lower bound of the next range: no gap, no overlap
+		assertThat( HibernateOrmMassIdentifierRange.split( Long.class, 1L, 11L, 4 ) )
+				.extracting( Object::toString )
+				.containsExactly( "[, 3)", "[3, 6)", "[6, 9)", "[9, )" );
+	}
+
+	@Test
+	void split_fewerIdentifiersThanRanges() {
+		assertThat( HibernateOrmMassIdentifierRange.split( Integer.class, 5, 6, 4 ) )
+				.extracting( Object::toString )
+				.containsExactly( "[, 6)", "[6, )" );
+		assertThat( HibernateOrmMassIdentifierRange.split( Integer.class, 5, 5, 4 ) )
+				.extracting( Object::toString )
+				.containsExactly( "[, )" );
+	}
+
+	@Test
+	void split_extremeValues() {
+		assertThat( HibernateOrmMassIdentifierRange.split( Long.class, Long.MIN_VALUE, Long.MAX_VALUE, 2 ) )
+				.extracting( Object::toString )
+				.containsExactly( "[, 0)", "[0, )" );
+	}
+
+}
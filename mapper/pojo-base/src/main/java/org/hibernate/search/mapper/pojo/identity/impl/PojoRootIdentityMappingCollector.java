@@ -75,6 +75,21 @@ public BoundIdentifierMapping<?, E> build(IdentityMappingMode mode) {
 		return identifierMapping;
 	}
 
+	/**
+	 * @return {@code true} if the document identifier is the entity identifier,
+	 * in which case identifiers of uninitialized proxies can be used to load entities.
+	 * Only relevant after {@link #build(IdentityMappingMode)} was called.
+	 */
+	public boolean isDocumentIdEntityId() {
+		if ( identifierMapping == null || identifierMapping.documentIdSourceProperty.isEmpty() ) {
+			return false;
+		}
+		String documentIdSourcePropertyName = identifierMapping.documentIdSourceProperty.get().name();
+		return mappingHelper.indexModelBinder().createEntityIdPropertyPath( typeModel )
+				.map( path -> path.getPropertyModel().name().equals( documentIdSourcePropertyName ) )
+				.orElse( false );
+	}
+
 	private void applyDefaults(IdentityMappingMode mode) {
 		if ( identifierMapping != null ) {
 			return;
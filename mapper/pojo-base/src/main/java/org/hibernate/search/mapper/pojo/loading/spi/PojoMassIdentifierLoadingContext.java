@@ -26,4 +26,13 @@
 	 */
 	String tenantIdentifier();
 
+	/**
+	 * @return The partition of the identifier space that the loader should restrict itself to,
+	 * as returned by {@link PojoMassLoadingStrategy#createIdentifierPartitions(java.util.Set, PojoMassIdentifierLoadingContext, int)},
+	 * or {@code null} if the loader should load all identifiers.
+	 */
+	default Object partition() {
+		return null;
+	}
+
 }
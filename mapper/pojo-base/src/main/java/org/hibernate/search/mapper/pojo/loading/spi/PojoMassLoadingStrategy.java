@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.mapper.pojo.loading.spi;
 
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -45,6 +46,26 @@
 	PojoMassIdentifierLoader createIdentifierLoader(Set<? extends PojoLoadingTypeContext<? extends E>> expectedTypes,
 			PojoMassIdentifierLoadingContext<I> context);
 
+	/**
+	 * Splits the identifier space into partitions that can be loaded concurrently,
+	 * each by its own {@link #createIdentifierLoader(Set, PojoMassIdentifierLoadingContext) identifier loader}.
+	 * <p>
+	 * Partitions must not overlap, and together they must cover all identifiers
+	 * that an unpartitioned loader would load.
+	 *
+	 * @param expectedTypes The expected types of loaded entities.
+	 * The types are guaranteed to be {@link PojoLoadingTypeContext#massLoadingStrategy() assigned this strategy}.
+	 * @param context A context, used to retrieve information about the loading environment and options.
+	 * The {@link PojoMassIdentifierLoadingContext#createSink() sink} must not be used.
+	 * @param maxPartitionCount The maximum number of partitions to return.
+	 * @return Opaque partitions, to be exposed to identifier loaders through {@link PojoMassIdentifierLoadingContext#partition()},
+	 * or an empty list if identifiers cannot be partitioned.
+	 */
+	default List<?> createIdentifierPartitions(Set<? extends PojoLoadingTypeContext<? extends E>> expectedTypes,
+			PojoMassIdentifierLoadingContext<I> context, int maxPartitionCount) {
+		return List.of();
+	}
+
 	/**
 	 * @param expectedTypes The expected types of loaded entities.
 	 * The types are guaranteed to be {@link PojoLoadingTypeContext#massLoadingStrategy() assigned this strategy}.
@@ -159,4 +159,18 @@ void indexingProgressWithRemainingTime(float estimatePercentileComplete, long do
 	@LogMessage(level = DEBUG)
 	@Message(id = ID_OFFSET + 178, value = "Entity loading will attempt to load entities for ids: %s.")
 	void entityLoadingAttemptToLoadIds(List<?> ids);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 180, value = "Identifier loading for %1$s split into %2$d partitions loaded in parallel.")
+	void identifierLoadingPartitioned(String typeGroup, int partitionCount);
+
+	@Message(id = ID_OFFSET + 181,
+			value = "Swapping indexes on finish cannot be combined with dropping the schema or purging the indexes on start:"
+					+ " indexes are rebuilt into a new, empty generation, so there is nothing to drop or purge.")
+	SearchException swapIndexesNotAllowedWithDropOrPurge();
+
+	@Message(id = ID_OFFSET + 182,
+			value = "Swapping indexes on finish is not allowed when multitenancy is enabled. "
+					+ "Indexes would be swapped for all tenants, but data will only be indexed for tenant ids '%1$s'.")
+	SearchException swapIndexesNotAllowedWithMultitenancy(Set<String> tenantIds);
 }
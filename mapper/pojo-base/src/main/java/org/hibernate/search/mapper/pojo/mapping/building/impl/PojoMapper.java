@@ -22,6 +22,7 @@
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingPartialBuildState;
 import org.hibernate.search.engine.mapper.model.spi.MappableTypeModel;
 import org.hibernate.search.engine.mapper.model.spi.TypeMetadataContributorProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -74,6 +75,7 @@
 
 	private final FailureHandler failureHandler;
 	private final ThreadPoolProvider threadPoolProvider;
+	private final MetricsRecorder metricsRecorder;
 
 	private final PojoMapperDelegate<MPBS> delegate;
 	private final PojoTypeAdditionalMetadataProvider typeAdditionalMetadataProvider;
@@ -106,6 +108,7 @@ public PojoMapper(MappingBuildContext buildContext,
 
 		this.failureHandler = buildContext.failureHandler();
 		this.threadPoolProvider = buildContext.threadPoolProvider();
+		this.metricsRecorder = buildContext.metricsRecorder();
 
 		this.delegate = delegate;
 
@@ -332,7 +335,7 @@ public MPBS prepareBuild() throws MappingAbortedException {
 			var typeManagerContainer = typeManagerContainerBuilder.build( reindexingResolverBuildingHelper );
 
 			mappingDelegate = new PojoMappingDelegateImpl(
-					threadPoolProvider, failureHandler, tenancyMode,
+					threadPoolProvider, failureHandler, metricsRecorder, tenancyMode,
 					typeManagerContainer,
 					searchQueryElementRegistry
 			);
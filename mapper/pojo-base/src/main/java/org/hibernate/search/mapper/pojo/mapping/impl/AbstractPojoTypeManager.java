@@ -58,6 +58,7 @@
 	protected final String secondaryEntityName;
 	private final boolean singleConcreteTypeInEntityHierarchy;
 	protected final IdentifierMappingImplementor<I, E> identifierMapping;
+	private final boolean documentIdIsEntityId;
 	private final PojoPathOrdinals pathOrdinals;
 	protected final PojoImplicitReindexingResolver<E> reindexingResolver;
 	private final Optional<PojoSelectionLoadingStrategy<? super E>> selectionLoadingStrategyOptional;
@@ -74,6 +75,7 @@ public AbstractPojoTypeManager(Builder<E> builder, IdentifierMappingImplementor<
 		this.secondaryEntityName = builder.secondaryEntityName;
 		this.singleConcreteTypeInEntityHierarchy = builder.singleConcreteTypeInEntityHierarchy;
 		this.identifierMapping = identifierMapping;
+		this.documentIdIsEntityId = builder.documentIdIsEntityId;
 		this.pathOrdinals = builder.pathOrdinals;
 		this.reindexingResolver = builder.reindexingResolver;
 		this.selectionLoadingStrategyOptional = Optional.ofNullable( builder.selectionLoadingStrategy );
@@ -199,6 +201,16 @@ public final Supplier<E> toEntitySupplier(PojoWorkSessionContext sessionContext,
 		return new CachingCastingEntitySupplier<>( caster, introspector, entity );
 	}
 
+	@Override
+	@SuppressWarnings("unchecked") // The document identifier is the entity identifier, so it has type I
+	public final I uninitializedProxyIdentifierOrNull(PojoWorkSessionContext sessionContext, Object entity) {
+		if ( !documentIdIsEntityId || selectionLoadingStrategyOptional.isEmpty() ) {
+			// We wouldn't be able to load the entity from the proxy identifier.
+			return null;
+		}
+		return (I) sessionContext.runtimeIntrospector().uninitializedProxyIdentifier( entity );
+	}
+
 	@Override
 	public final void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoWorkSessionContext sessionContext,
 			Object identifier, Supplier<E> entitySupplier,
@@ -247,6 +259,7 @@ public boolean hasNonIndexedConcreteSubtypes() {
 
 		private PojoRootIdentityMappingCollector<E> identityMappingCollector;
 		protected BoundIdentifierMapping<?, E> identifierMapping;
+		private boolean documentIdIsEntityId;
 
 		private PojoImplicitReindexingResolver<E> reindexingResolver;
 
@@ -289,6 +302,7 @@ public void preBuildIdentifierMapping(IdentityMappingMode identityMappingMode) {
 				throw new AssertionFailure( "Internal error - preBuildIdentifierMapping should be called only once" );
 			}
 			this.identifierMapping = this.identityMappingCollector.build( identityMappingMode );
+			this.documentIdIsEntityId = this.identityMappingCollector.isDocumentIdEntityId();
 			this.identityMappingCollector = null;
 
 			if ( identifierMapping.documentIdSourceProperty.isPresent() ) {
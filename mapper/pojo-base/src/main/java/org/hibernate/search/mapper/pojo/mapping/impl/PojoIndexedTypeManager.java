@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
@@ -36,6 +38,8 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.processing.building.impl.PojoIndexingProcessorOriginalTypeNodeBuilder;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessors;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.mapper.pojo.scope.impl.PojoScopeIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.work.impl.PojoDocumentContributor;
@@ -54,6 +58,7 @@
 		PojoMassIndexingIndexedTypeContext<E>, ProjectionMappedTypeContext {
 	private final DocumentRouter<? super E> documentRouter;
 	private final PojoIndexingProcessor<E> processor;
+	private final PojoPartialIndexingProcessors<E> partialProcessors;
 	private final MappedIndexManager indexManager;
 
 	public PojoIndexedTypeManager(Builder<E> builder, IdentifierMappingImplementor<I, E> identifierMapping) {
@@ -62,6 +67,10 @@ public PojoIndexedTypeManager(Builder<E> builder, IdentifierMappingImplementor<I
 				? new RoutingBridgeDocumentRouter<>( builder.routingBridge.getBridgeHolder() )
 				: NoOpDocumentRouter.INSTANCE;
 		this.processor = builder.indexingProcessor;
+		// Partial updates would ignore the routing bridge, which may depend on any property.
+		this.partialProcessors = builder.routingBridge != null
+				? null
+				: PojoPartialIndexingProcessors.create( processor, reindexingResolver.dirtySelfFilter() );
 		this.indexManager = builder.indexManager;
 	}
 
@@ -101,6 +110,36 @@ public PojoDocumentContributor<E> toDocumentContributor(PojoWorkSessionContext s
 				identifier, entitySupplier );
 	}
 
+	@Override
+	public PojoPartialIndexingProcessor<E> partialProcessorOrNull(BitSet dirtyPaths) {
+		if ( partialProcessors == null ) {
+			return null;
+		}
+		PojoPathFilter dirtySelfFilter = reindexingResolver.dirtySelfFilter();
+		Set<String> propertyNames = new HashSet<>();
+		for ( int ordinal = dirtyPaths.nextSetBit( 0 ); ordinal >= 0; ordinal = dirtyPaths.nextSetBit( ordinal + 1 ) ) {
+			if ( dirtySelfFilter.filter( ordinal ) == null ) {
+				// Irrelevant to this entity's document.
+				continue;
+			}
+			String path = pathOrdinals().toPath( ordinal );
+			int dotIndex = path.indexOf( '.' );
+			propertyNames.add( dotIndex < 0 ? path : path.substring( 0, dotIndex ) );
+		}
+		if ( propertyNames.isEmpty() ) {
+			return null;
+		}
+		return partialProcessors.select( propertyNames );
+	}
+
+	@Override
+	public PojoDocumentContributor<E> toPartialDocumentContributor(PojoWorkSessionContext sessionContext,
+			PojoIndexingProcessorRootContext processorContext, PojoPartialIndexingProcessor<E> partialProcessor,
+			I identifier, Supplier<E> entitySupplier) {
+		return new PojoDocumentContributor<>( typeIdentifier, entityName, partialProcessor.processor(),
+				sessionContext, processorContext, identifier, entitySupplier );
+	}
+
 	@Override
 	public PojoPathFilter dirtySelfFilter() {
 		return reindexingResolver.dirtySelfFilter();
@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.common.EntityReference;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.projection.definition.spi.ProjectionRegistry;
 import org.hibernate.search.engine.search.projection.spi.ProjectionMappedTypeContext;
@@ -48,17 +49,20 @@ public class PojoMappingDelegateImpl implements PojoMappingDelegate {
 
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
+	private final MetricsRecorder metricsRecorder;
 	private final TenancyMode tenancyMode;
 	private final PojoTypeManagerContainer typeManagers;
 	private final PojoSearchQueryElementRegistry searchQueryElementRegistry;
 
 	public PojoMappingDelegateImpl(ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler,
+			MetricsRecorder metricsRecorder,
 			TenancyMode tenancyMode,
 			PojoTypeManagerContainer typeManagers,
 			PojoSearchQueryElementRegistry searchQueryElementRegistry) {
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.metricsRecorder = metricsRecorder;
 		this.tenancyMode = tenancyMode;
 		this.typeManagers = typeManagers;
 		this.searchQueryElementRegistry = searchQueryElementRegistry;
@@ -79,6 +83,11 @@ public FailureHandler failureHandler() {
 		return failureHandler;
 	}
 
+	@Override
+	public MetricsRecorder metricsRecorder() {
+		return metricsRecorder;
+	}
+
 	@Override
 	public PojoRawTypeIdentifierResolver typeIdentifierResolver() {
 		return typeManagers;
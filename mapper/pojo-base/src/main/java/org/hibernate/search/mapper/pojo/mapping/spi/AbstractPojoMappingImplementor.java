@@ -16,6 +16,7 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPreStopContext;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingStartContext;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.projection.definition.spi.ProjectionRegistry;
 import org.hibernate.search.engine.search.projection.spi.ProjectionMappedTypeContext;
@@ -100,6 +101,11 @@ public FailureHandler failureHandler() {
 		return delegate().failureHandler();
 	}
 
+	@Override
+	public MetricsRecorder metricsRecorder() {
+		return delegate().metricsRecorder();
+	}
+
 	@Override
 	public final PojoRawTypeIdentifierResolver typeIdentifierResolver() {
 		return delegate.typeIdentifierResolver();
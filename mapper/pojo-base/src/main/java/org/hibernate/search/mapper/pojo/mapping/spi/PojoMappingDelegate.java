@@ -12,6 +12,7 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.common.EntityReference;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.projection.definition.spi.ProjectionRegistry;
 import org.hibernate.search.engine.search.projection.spi.ProjectionMappedTypeContext;
@@ -39,6 +40,8 @@ public interface PojoMappingDelegate extends AutoCloseable {
 
 	FailureHandler failureHandler();
 
+	MetricsRecorder metricsRecorder();
+
 	PojoRawTypeIdentifierResolver typeIdentifierResolver();
 
 	PojoLoadingTypeContextProvider typeContextProvider();
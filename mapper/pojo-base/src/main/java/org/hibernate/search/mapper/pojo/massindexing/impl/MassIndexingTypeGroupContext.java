@@ -54,6 +54,14 @@ public OptionalLong totalCount() {
 		}
 	}
 
+	List<?> createIdentifierPartitions(int maxPartitionCount) {
+		return typeGroup.loadingStrategy().createIdentifierPartitions(
+				typeGroup.includedTypes(),
+				new DummyIdentifierLoadingContext<>(),
+				maxPartitionCount
+		);
+	}
+
 	private PojoMassIdentifierLoader createLoader() {
 		return typeGroup.loadingStrategy().createIdentifierLoader(
 				typeGroup.includedTypes(),
@@ -53,9 +53,12 @@ public void afterExecution(Context context) {
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
 	private int documentBuilderThreads = 6;
+	private int identifierLoadingThreads = 1;
 	private Boolean mergeSegmentsOnFinish;
 	private Boolean dropAndCreateSchemaOnStart;
 	private Boolean purgeAtStart;
+	private boolean swapIndexesOnFinish = false;
+	private boolean tuneIndexesForBulkLoading = false;
 	private Boolean mergeSegmentsAfterPurge;
 	private Boolean failFast;
 	private Long failureFloodingThreshold = null;
@@ -96,6 +99,15 @@ public PojoDefaultMassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.identifierLoadingThreads = numberOfThreads;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer mergeSegmentsOnFinish(boolean enable) {
 		this.mergeSegmentsOnFinish = enable;
@@ -120,6 +132,18 @@ public PojoDefaultMassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public PojoDefaultMassIndexer swapIndexesOnFinish(boolean enable) {
+		this.swapIndexesOnFinish = enable;
+		return this;
+	}
+
+	@Override
+	public PojoDefaultMassIndexer tuneIndexesForBulkLoading(boolean enable) {
+		this.tuneIndexesForBulkLoading = enable;
+		return this;
+	}
+
 	@Override
 	public PojoDefaultMassIndexer monitor(MassIndexingMonitor monitor) {
 		this.monitor = monitor;
@@ -170,7 +194,18 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				failureFloodingThreshold
 		);
 
-		if ( dropAndCreateSchemaOnStart == null && purgeAtStart == null ) {
+		if ( swapIndexesOnFinish ) {
+			if ( Boolean.TRUE.equals( dropAndCreateSchemaOnStart ) || Boolean.TRUE.equals( purgeAtStart ) ) {
+				throw MassIndexingLog.INSTANCE.swapIndexesNotAllowedWithDropOrPurge();
+			}
+			if ( TenancyMode.MULTI_TENANCY.equals( massIndexingContext.tenancyMode() ) ) {
+				throw MassIndexingLog.INSTANCE.swapIndexesNotAllowedWithMultitenancy( massIndexingContext.tenantIds() );
+			}
+			// The new index generations start empty: there is nothing to drop or purge.
+			dropAndCreateSchemaOnStart = false;
+			purgeAtStart = false;
+		}
+		else if ( dropAndCreateSchemaOnStart == null && purgeAtStart == null ) {
 			// we should decide the defaults:
 			MassIndexingDefaultCleanOperation operation = massIndexingContext.massIndexingDefaultCleanOperation();
 			purgeAtStart = MassIndexingDefaultCleanOperation.PURGE.equals( operation );
@@ -196,13 +231,14 @@ private PojoMassIndexingBatchCoordinator createCoordinator() {
 				scopeSchemaManager,
 				pojoScopeDelegate,
 				resolvedMassIndexingEnvironment(),
-				typesToIndexInParallel, documentBuilderThreads,
+				typesToIndexInParallel, documentBuilderThreads, identifierLoadingThreads,
 				mergeSegmentsOnFinish,
 				// false by default:
 				actualDropAndCreateSchemaOnStart,
 				// false if not set explicitly and dropAndCreateSchemaOnStart is set to true, otherwise true by default:
 				purgeAtStart == null ? !actualDropAndCreateSchemaOnStart : purgeAtStart,
-				mergeSegmentsAfterPurge
+				mergeSegmentsAfterPurge,
+				swapIndexesOnFinish, tuneIndexesForBulkLoading
 		);
 	}
 
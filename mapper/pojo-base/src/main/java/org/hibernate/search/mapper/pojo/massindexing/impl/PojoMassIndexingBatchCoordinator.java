@@ -15,7 +15,9 @@
 
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.engine.reporting.spi.FailureCollector;
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
+import org.hibernate.search.mapper.pojo.logging.impl.MassIndexingLog;
 import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexerAgent;
 import org.hibernate.search.mapper.pojo.massindexing.spi.PojoMassIndexingContext;
@@ -25,6 +27,7 @@
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeDelegate;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.function.TriFunction;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.Futures;
 
@@ -46,15 +49,20 @@ public class PojoMassIndexingBatchCoordinator extends PojoMassIndexingFailureHan
 	private final PojoScopeDelegate<?, ?, ?, ?> pojoScopeDelegate;
 	private final int typesToIndexInParallel;
 	private final int documentBuilderThreads;
+	private final int identifierLoadingThreads;
 	private final Boolean mergeSegmentsOnFinish;
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
 	private final Boolean mergeSegmentsAfterPurge;
+	private final boolean swapIndexesOnFinish;
+	private final boolean tuneIndexesForBulkLoading;
 
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 
 	private final Collection<SessionContext> sessionContexts = new ArrayList<>();
 	private PojoScopeWorkspace allTenantsWorkspace;
+	private boolean rebuildInProgress = false;
+	private boolean bulkLoadingInProgress = false;
 
 	public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingContext,
 			PojoMassIndexingNotifier notifier,
@@ -63,8 +71,10 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 			PojoScopeSchemaManager scopeSchemaManager,
 			PojoScopeDelegate<?, ?, ?, ?> pojoScopeDelegate,
 			MassIndexingEnvironment environment,
-			int typesToIndexInParallel, int documentBuilderThreads, Boolean mergeSegmentsOnFinish,
-			boolean dropAndCreateSchemaOnStart, Boolean purgeAtStart, Boolean mergeSegmentsAfterPurge) {
+			int typesToIndexInParallel, int documentBuilderThreads, int identifierLoadingThreads,
+			Boolean mergeSegmentsOnFinish,
+			boolean dropAndCreateSchemaOnStart, Boolean purgeAtStart, Boolean mergeSegmentsAfterPurge,
+			boolean swapIndexesOnFinish, boolean tuneIndexesForBulkLoading) {
 		super( notifier, environment );
 		this.mappingContext = mappingContext;
 		this.typeGroupsToIndex = typeGroupsToIndex;
@@ -74,10 +84,13 @@ public PojoMassIndexingBatchCoordinator(PojoMassIndexingMappingContext mappingCo
 		this.massIndexingContext = massIndexingContext;
 		this.typesToIndexInParallel = typesToIndexInParallel;
 		this.documentBuilderThreads = documentBuilderThreads;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.swapIndexesOnFinish = swapIndexesOnFinish;
+		this.tuneIndexesForBulkLoading = tuneIndexesForBulkLoading;
 
 		this.agentStartContext = new PojoMassIndexerAgentStartContextImpl(
 				mappingContext.threadPoolProvider(),
@@ -130,6 +143,12 @@ private void beforeBatch() throws InterruptedException {
 			failureCollector.checkNoFailure();
 		}
 
+		if ( swapIndexesOnFinish ) {
+			// Mark the rebuild as in progress first, so that partially started rebuilds get aborted on failure.
+			rebuildInProgress = true;
+			applyToSchemaManager( PojoScopeSchemaManager::startRebuild );
+		}
+
 		if ( purgeAtStart ) {
 			Futures.unwrappedExceptionGet(
 					allTenantsWorkspace.purge( Collections.emptySet(), OperationSubmitter.blocking(),
@@ -143,6 +162,12 @@ private void beforeBatch() throws InterruptedException {
 				);
 			}
 		}
+
+		if ( tuneIndexesForBulkLoading ) {
+			// Mark bulk loading as in progress first, so that partially applied tuning gets reverted on failure.
+			bulkLoadingInProgress = true;
+			Futures.unwrappedExceptionGet( allTenantsWorkspace.startBulkLoading( OperationSubmitter.blocking() ) );
+		}
 	}
 
 	private boolean isEnabledWithDefault(Boolean enabled, boolean defaultValue) {
@@ -192,7 +217,7 @@ private void doBatchWork() throws InterruptedException {
 		return new PojoMassIndexingBatchIndexingWorkspace<>(
 				mappingContext, getNotifier(), getMassIndexingEnvironment(), typeGroup,
 				typeGroup.loadingStrategy(), massIndexingContext,
-				documentBuilderThreads,
+				documentBuilderThreads, identifierLoadingThreads,
 				context.tenantIdentifier()
 		);
 	}
@@ -205,7 +230,12 @@ private void afterBatch() throws InterruptedException {
 			Futures.unwrappedExceptionGet( allTenantsWorkspace.mergeSegments( OperationSubmitter.blocking(),
 					failIfUnsupportedAndExplicitlyEnabled( mergeSegmentsOnFinish ) ) );
 		}
+		stopBulkLoadingIfInProgress();
 		flushAndRefresh();
+		if ( rebuildInProgress ) {
+			applyToSchemaManager( PojoScopeSchemaManager::finishRebuild );
+			rebuildInProgress = false;
+		}
 		applyToAllContexts(
 				context -> context.agent().preStop()
 		);
@@ -231,7 +261,9 @@ protected void cleanUpOnInterruption() throws InterruptedException {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
 			// Indexing performed before the exception must still be committed,
 			// in order to leave the index in a consistent state
+			closer.push( PojoMassIndexingBatchCoordinator::stopBulkLoadingIfInProgress, this );
 			closer.push( PojoMassIndexingBatchCoordinator::flushAndRefresh, this );
+			closer.push( PojoMassIndexingBatchCoordinator::abortRebuildIfInProgress, this );
 			closer.pushAll( PojoMassIndexerAgent::stop, sessionContexts, SessionContext::agent );
 			closer.push( PojoMassIndexerAgentStartContextImpl::clear, agentStartContext );
 			sessionContexts.clear();
@@ -242,12 +274,61 @@ protected void cleanUpOnInterruption() throws InterruptedException {
 	protected void cleanUpOnFailure() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.pushAll( this::cancelPendingTask, indexingFutures );
+			closer.push( PojoMassIndexingBatchCoordinator::stopBulkLoadingIfInProgressUninterruptibly, this );
+			closer.push( PojoMassIndexingBatchCoordinator::abortRebuildIfInProgressUninterruptibly, this );
 			closer.pushAll( PojoMassIndexerAgent::stop, sessionContexts, SessionContext::agent );
 			closer.push( PojoMassIndexerAgentStartContextImpl::clear, agentStartContext );
 			sessionContexts.clear();
 		}
 	}
 
+	private void abortRebuildIfInProgress() throws InterruptedException {
+		if ( !rebuildInProgress ) {
+			return;
+		}
+		rebuildInProgress = false;
+		applyToSchemaManager( PojoScopeSchemaManager::abortRebuild );
+	}
+
+	private void abortRebuildIfInProgressUninterruptibly() {
+		try {
+			abortRebuildIfInProgress();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw MassIndexingLog.INSTANCE.massIndexingThreadInterrupted( e );
+		}
+	}
+
+	private void stopBulkLoadingIfInProgress() throws InterruptedException {
+		if ( !bulkLoadingInProgress ) {
+			return;
+		}
+		bulkLoadingInProgress = false;
+		Futures.unwrappedExceptionGet( allTenantsWorkspace.stopBulkLoading( OperationSubmitter.blocking() ) );
+	}
+
+	private void stopBulkLoadingIfInProgressUninterruptibly() {
+		try {
+			stopBulkLoadingIfInProgress();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw MassIndexingLog.INSTANCE.massIndexingThreadInterrupted( e );
+		}
+	}
+
+	private void applyToSchemaManager(
+			TriFunction<PojoScopeSchemaManager, FailureCollector, OperationSubmitter, CompletableFuture<?>> operation)
+			throws InterruptedException {
+		RootFailureCollector failureCollector = new RootFailureCollector(
+				PojoEventContextMessages.INSTANCE.schemaManagement()
+		);
+		Futures.unwrappedExceptionGet( operation.apply( scopeSchemaManager, failureCollector,
+				OperationSubmitter.blocking() ) );
+		failureCollector.checkNoFailure();
+	}
+
 	private void cancelPendingTask(Future<?> task) {
 		if ( !task.isDone() ) {
 			task.cancel( true );
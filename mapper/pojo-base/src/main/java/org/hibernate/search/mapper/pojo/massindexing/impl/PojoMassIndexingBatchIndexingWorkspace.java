@@ -38,6 +38,7 @@
 	private final PojoMassLoadingStrategy<E, I> loadingStrategy;
 
 	private final int entityExtractingThreads;
+	private final int identifierLoadingThreads;
 	private final String tenantId;
 	private final MassIndexingTypeGroupMonitor typeGroupMonitor;
 	private final MassIndexingTypeGroupContext<E> massIndexingTypeGroupContext;
@@ -48,12 +49,13 @@
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassLoadingStrategy<E, I> loadingStrategy,
 			PojoMassIndexingContext massIndexingContext,
-			int entityExtractingThreads, String tenantId) {
+			int entityExtractingThreads, int identifierLoadingThreads, String tenantId) {
 		super( notifier, environment );
 		this.mappingContext = mappingContext;
 		this.typeGroup = typeGroup;
 		this.loadingStrategy = loadingStrategy;
 		this.entityExtractingThreads = entityExtractingThreads;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.tenantId = tenantId;
 		this.massIndexingTypeGroupContext = new MassIndexingTypeGroupContext<>( typeGroup, massIndexingContext, tenantId );
 		this.typeGroupMonitor = notifier.typeGroupMonitor( massIndexingTypeGroupContext );
@@ -65,11 +67,22 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchIndexingWorkspace instance not expected to be reused" );
 		}
 
-		PojoProducerConsumerQueue<List<I>> identifierQueue = new PojoProducerConsumerQueue<>( 1 );
+		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
+				identifierLoadingThreads,
+				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - ID loading"
+		);
+		try {
+			List<?> partitions = createIdentifierPartitions( identifierProducingExecutor );
+			PojoProducerConsumerQueue<List<I>> identifierQueue =
+					new PojoProducerConsumerQueue<>( Math.max( 1, partitions.size() ) );
 
-		// First start the consumers, then the producers (reverse order):
-		startIndexing( identifierQueue );
-		startProducingPrimaryKeys( identifierQueue );
+			// First start the consumers, then the producers (reverse order):
+			startIndexing( identifierQueue );
+			startProducingPrimaryKeys( identifierQueue, partitions, identifierProducingExecutor );
+		}
+		finally {
+			identifierProducingExecutor.shutdown();
+		}
 		// Wait for indexing to finish.
 		List<CompletableFuture<?>> allFutures = new ArrayList<>();
 		allFutures.addAll( identifierProducingFutures );
@@ -99,24 +112,46 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identifierQueue) {
-		final Runnable runnable = new PojoMassIndexingEntityIdentifierLoadingRunnable<>(
-				getNotifier(),
-				typeGroupMonitor,
-				massIndexingTypeGroupContext, getMassIndexingEnvironment(),
-				typeGroup, loadingStrategy,
-				identifierQueue
-		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
-		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
-				1,
-				THREAD_NAME_PREFIX + typeGroup.notifiedGroupName() + " - ID loading"
-		);
-		try {
-			identifierProducingFutures.add( Futures.runAsync( runnable, identifierProducingExecutor ) );
+	private List<?> createIdentifierPartitions(ThreadPoolExecutor identifierProducingExecutor)
+			throws InterruptedException {
+		if ( identifierLoadingThreads <= 1 ) {
+			// A single producer: the list of identifiers is consistent as produced by one transaction.
+			return List.of();
 		}
-		finally {
-			identifierProducingExecutor.shutdown();
+		// Partitioning may involve accessing the database, so it must happen in a thread with lifecycle hooks.
+		PojoMassIndexingEntityIdentifierPartitioningRunnable<E> runnable =
+				new PojoMassIndexingEntityIdentifierPartitioningRunnable<>(
+						getNotifier(),
+						massIndexingTypeGroupContext, getMassIndexingEnvironment(),
+						typeGroup, identifierLoadingThreads
+				);
+		CompletableFuture<?> future = Futures.runAsync( runnable, identifierProducingExecutor );
+		identifierProducingFutures.add( future );
+		Futures.unwrappedExceptionGet( future );
+		return runnable.partitions();
+	}
+
+	private void startProducingPrimaryKeys(PojoProducerConsumerQueue<List<I>> identifierQueue, List<?> partitions,
+			ThreadPoolExecutor identifierProducingExecutor) {
+		if ( partitions.isEmpty() ) {
+			identifierProducingFutures.add( Futures.runAsync( new PojoMassIndexingEntityIdentifierLoadingRunnable<>(
+					getNotifier(),
+					typeGroupMonitor,
+					massIndexingTypeGroupContext, getMassIndexingEnvironment(),
+					typeGroup, loadingStrategy,
+					identifierQueue
+			), identifierProducingExecutor ) );
+			return;
+		}
+		MassIndexingLog.INSTANCE.identifierLoadingPartitioned( typeGroup.notifiedGroupName(), partitions.size() );
+		for ( int i = 0; i < partitions.size(); i++ ) {
+			identifierProducingFutures.add( Futures.runAsync( new PojoMassIndexingEntityIdentifierLoadingRunnable<>(
+					getNotifier(),
+					typeGroupMonitor,
+					massIndexingTypeGroupContext, getMassIndexingEnvironment(),
+					typeGroup, loadingStrategy,
+					identifierQueue, partitions.get( i ), i == 0
+			), identifierProducingExecutor ) );
 		}
 	}
 
@@ -126,7 +161,8 @@ private void startIndexing(PojoProducerConsumerQueue<List<I>> identifierQueue) {
 				typeGroupMonitor,
 				massIndexingTypeGroupContext.massIndexingContext(), getMassIndexingEnvironment(),
 				typeGroup, loadingStrategy,
-				identifierQueue, tenantId
+				identifierQueue, tenantId,
+				mappingContext.metricsRecorder()
 		);
 		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
 				entityExtractingThreads,
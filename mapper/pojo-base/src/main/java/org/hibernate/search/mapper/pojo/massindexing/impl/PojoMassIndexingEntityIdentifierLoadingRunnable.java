@@ -25,6 +25,8 @@
 	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
 	private final PojoMassLoadingStrategy<E, I> loadingStrategy;
 	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
+	private final Object partition;
+	private final boolean firstPartition;
 	private final MassIndexingEnvironment.EntityIdentifierLoadingContext identifierLoadingContext;
 
 	public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier notifier,
@@ -33,12 +35,32 @@ public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassLoadingStrategy<E, I> loadingStrategy,
 			PojoProducerConsumerQueue<List<I>> identifierQueue) {
+		this( notifier, typeGroupMonitor, massIndexingTypeGroupContext, environment, typeGroup, loadingStrategy,
+				identifierQueue, null, true );
+	}
+
+	/**
+	 * @param partition The partition of the identifier space to load,
+	 * as returned by {@link PojoMassLoadingStrategy#createIdentifierPartitions(java.util.Set, PojoMassIdentifierLoadingContext, int)},
+	 * or {@code null} to load all identifiers.
+	 * @param firstPartition Whether this runnable handles the first (or only) partition,
+	 * and thus should notify the monitor that indexing started.
+	 */
+	public PojoMassIndexingEntityIdentifierLoadingRunnable(PojoMassIndexingNotifier notifier,
+			MassIndexingTypeGroupMonitor typeGroupMonitor,
+			MassIndexingTypeGroupContext<E> massIndexingTypeGroupContext, MassIndexingEnvironment environment,
+			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
+			PojoMassLoadingStrategy<E, I> loadingStrategy,
+			PojoProducerConsumerQueue<List<I>> identifierQueue,
+			Object partition, boolean firstPartition) {
 		super( notifier, environment );
 		this.typeGroupMonitor = typeGroupMonitor;
 		this.massIndexingTypeGroupContext = massIndexingTypeGroupContext;
 		this.loadingStrategy = loadingStrategy;
 		this.typeGroup = typeGroup;
 		this.identifierQueue = identifierQueue;
+		this.partition = partition;
+		this.firstPartition = firstPartition;
 
 		this.identifierLoadingContext = new EntityIdentifierLoadingContextImpl();
 	}
@@ -48,7 +70,13 @@ protected void runWithFailureHandler() throws InterruptedException {
 		MassIndexingLog.INSTANCE.identifierLoadingStarted( typeGroup.notifiedGroupName() );
 		LoadingContext context = new LoadingContext();
 		try ( PojoMassIdentifierLoader loader = loadingStrategy.createIdentifierLoader( typeGroup.includedTypes(), context ) ) {
-			typeGroupMonitor.indexingStarted( massIndexingTypeGroupContext.withIdentifierLoader( loader ) );
+			if ( partition == null ) {
+				typeGroupMonitor.indexingStarted( massIndexingTypeGroupContext.withIdentifierLoader( loader ) );
+			}
+			else if ( firstPartition ) {
+				// The loader only covers part of the identifiers: count them all.
+				typeGroupMonitor.indexingStarted( massIndexingTypeGroupContext );
+			}
 			do {
 				loader.loadNext();
 			}
@@ -116,6 +144,11 @@ public void complete() {
 		public String tenantIdentifier() {
 			return massIndexingTypeGroupContext.tenantIdentifier();
 		}
+
+		@Override
+		public Object partition() {
+			return partition;
+		}
 	}
 
 	private static final class EntityIdentifierLoadingContextImpl
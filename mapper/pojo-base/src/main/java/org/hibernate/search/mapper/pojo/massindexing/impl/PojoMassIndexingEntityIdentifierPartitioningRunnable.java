@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.massindexing.impl;
+
+import java.util.List;
+
+import org.hibernate.search.mapper.pojo.massindexing.MassIndexingEnvironment;
+import org.hibernate.search.mapper.pojo.reporting.impl.PojoMassIndexerMessages;
+
+/**
+ * Splits the identifiers of a type group into partitions,
+ * so that they can be loaded by multiple {@link PojoMassIndexingEntityIdentifierLoadingRunnable}s in parallel.
+ *
+ * @param <E> The type of indexed entities.
+ */
+public class PojoMassIndexingEntityIdentifierPartitioningRunnable<E>
+		extends PojoMassIndexingFailureHandledRunnable {
+
+	private final MassIndexingTypeGroupContext<E> massIndexingTypeGroupContext;
+	private final PojoMassIndexingIndexedTypeGroup<E> typeGroup;
+	private final int maxPartitionCount;
+	private final MassIndexingEnvironment.EntityIdentifierLoadingContext identifierLoadingContext;
+
+	private volatile List<?> partitions = List.of();
+
+	public PojoMassIndexingEntityIdentifierPartitioningRunnable(PojoMassIndexingNotifier notifier,
+			MassIndexingTypeGroupContext<E> massIndexingTypeGroupContext, MassIndexingEnvironment environment,
+			PojoMassIndexingIndexedTypeGroup<E> typeGroup, int maxPartitionCount) {
+		super( notifier, environment );
+		this.massIndexingTypeGroupContext = massIndexingTypeGroupContext;
+		this.typeGroup = typeGroup;
+		this.maxPartitionCount = maxPartitionCount;
+
+		this.identifierLoadingContext = new EntityIdentifierLoadingContextImpl();
+	}
+
+	/**
+	 * @return The partitions, or an empty list if the loading strategy does not support partitioning.
+	 * Only meaningful once this runnable completed successfully.
+	 */
+	public List<?> partitions() {
+		return partitions;
+	}
+
+	@Override
+	protected void runWithFailureHandler() {
+		partitions = massIndexingTypeGroupContext.createIdentifierPartitions( maxPartitionCount );
+	}
+
+	@Override
+	protected void cleanUpOnFailure() {
+		// Nothing to do
+	}
+
+	@Override
+	protected void cleanUpOnInterruption() {
+		// Nothing to do
+	}
+
+	@Override
+	protected MassIndexingEnvironment.Context createMassIndexingEnvironmentContext() {
+		return identifierLoadingContext;
+	}
+
+	@Override
+	protected boolean supportsThreadLifecycleHooks() {
+		return true;
+	}
+
+	@Override
+	protected String operationName() {
+		return PojoMassIndexerMessages.INSTANCE.massIndexerFetchingIds( typeGroup.notifiedGroupName() );
+	}
+
+	private static final class EntityIdentifierLoadingContextImpl
+			implements MassIndexingEnvironment.EntityIdentifierLoadingContext {
+	}
+
+}
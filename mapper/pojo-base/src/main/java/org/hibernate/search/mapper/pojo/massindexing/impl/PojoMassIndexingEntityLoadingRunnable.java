@@ -11,6 +11,7 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassEntityLoader;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassEntityLoadingContext;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoMassEntitySink;
@@ -35,6 +36,7 @@
 	private final PojoMassLoadingStrategy<E, I> loadingStrategy;
 	private final PojoProducerConsumerQueue<List<I>> identifierQueue;
 	private final String tenantId;
+	private final MetricsRecorder metricsRecorder;
 	private final MassIndexingEnvironment.EntityLoadingContext entityLoadingContext;
 
 	protected PojoMassIndexingEntityLoadingRunnable(PojoMassIndexingNotifier notifier,
@@ -43,7 +45,8 @@ protected PojoMassIndexingEntityLoadingRunnable(PojoMassIndexingNotifier notifie
 			PojoMassIndexingIndexedTypeGroup<E> typeGroup,
 			PojoMassLoadingStrategy<E, I> loadingStrategy,
 			PojoProducerConsumerQueue<List<I>> identifierQueue,
-			String tenantId) {
+			String tenantId,
+			MetricsRecorder metricsRecorder) {
 		super( notifier, environment );
 		this.typeGroupMonitor = typeGroupMonitor;
 		this.massIndexingContext = massIndexingContext;
@@ -51,6 +54,7 @@ protected PojoMassIndexingEntityLoadingRunnable(PojoMassIndexingNotifier notifie
 		this.loadingStrategy = loadingStrategy;
 		this.identifierQueue = identifierQueue;
 		this.tenantId = tenantId;
+		this.metricsRecorder = metricsRecorder;
 
 		this.entityLoadingContext = new EntityLoadingContextImpl();
 	}
@@ -172,12 +176,14 @@ private final class IndexingBatch {
 		private PojoMassIndexingSessionContext sessionContext;
 		private List<?> entities;
 		private CompletableFuture<?>[] indexingFutures;
+		private long startNanos;
 
 		public void startIndexingList(PojoMassIndexingSessionContext sessionContext, PojoIndexer indexer,
 				List<?> entities)
 				throws InterruptedException {
 			this.sessionContext = sessionContext;
 			this.entities = entities;
+			this.startNanos = System.nanoTime();
 			getNotifier().reportEntitiesLoaded( entities.size() );
 			this.indexingFutures = new CompletableFuture<?>[entities.size()];
 
@@ -220,6 +226,8 @@ private void waitForIndexingEndAndReport() throws InterruptedException {
 
 			getNotifier().reportDocumentsAdded( successfulEntities );
 			typeGroupMonitor.documentsIndexed( successfulEntities );
+			metricsRecorder.massIndexingBatchProcessed( typeGroup.notifiedGroupName(), entities.size(),
+					System.nanoTime() - startNanos );
 
 			this.sessionContext = null;
 			this.entities = null;
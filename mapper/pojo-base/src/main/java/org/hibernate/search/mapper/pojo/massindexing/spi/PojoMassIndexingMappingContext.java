@@ -6,6 +6,7 @@
 
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.mapper.pojo.common.spi.PojoEntityReferenceFactoryDelegate;
 
@@ -24,6 +25,11 @@ public interface PojoMassIndexingMappingContext extends BackendMappingContext {
 	 */
 	FailureHandler failureHandler();
 
+	/**
+	 * @return A {@link MetricsRecorder}.
+	 */
+	MetricsRecorder metricsRecorder();
+
 	/**
 	 * Creates a {@link PojoMassIndexerAgent},
 	 * able to exert control over other agents that could perform indexing concurrently (e.g. indexing plans).
@@ -26,6 +26,15 @@ public interface PojoRuntimeIntrospector {
 	 */
 	Object unproxy(Object value);
 
+	/**
+	 * @param value An entity instance, or a proxy.
+	 * @return The identifier of the entity if {@code value} is a proxy that was not initialized yet
+	 * and its identifier can be retrieved without initializing it, {@code null} otherwise.
+	 */
+	default Object uninitializedProxyIdentifier(Object value) {
+		return null;
+	}
+
 	/**
 	 * @param throwable A {@link Throwable} thrown while accessing data on an entity: calling a getter, accessing a field,
 	 * accessing the elements of a container, etc.
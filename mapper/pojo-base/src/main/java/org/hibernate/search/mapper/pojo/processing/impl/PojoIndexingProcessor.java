@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.util.common.spi.ToStringTreeAppendable;
 
@@ -26,6 +29,19 @@ public void close() {
 
 	public abstract void process(DocumentElement target, T source, PojoIndexingProcessorRootContext context);
 
+	/**
+	 * Collects the index fields populated by this processor,
+	 * provided this processor only applies value bridges to the processed value.
+	 *
+	 * @param collector The collection to add index field references to.
+	 * @return {@code true} if this processor only populates fields that were added to {@code collector},
+	 * with values derived from the processed value only;
+	 * {@code false} if it may populate other fields or use other values (type bridges, property bridges, ...).
+	 */
+	boolean collectValueBridgeFields(Collection<IndexFieldReference<?>> collector) {
+		return false;
+	}
+
 	public static <T> PojoIndexingProcessor<T> noOp() {
 		return NoOpPojoIndexingProcessor.get();
 	}
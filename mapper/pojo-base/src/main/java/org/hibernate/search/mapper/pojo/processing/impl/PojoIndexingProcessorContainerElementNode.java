@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.extractor.ValueProcessor;
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
@@ -51,4 +54,9 @@ public void appendTo(ToStringTreeAppender appender) {
 	public final void process(DocumentElement target, C source, PojoIndexingProcessorRootContext context) {
 		extractingDelegate.process( target, source, context, PojoIndexingProcessorContainerExtractionContext.INSTANCE );
 	}
+
+	@Override
+	boolean collectValueBridgeFields(Collection<IndexFieldReference<?>> collector) {
+		return nested.collectValueBridgeFields( collector );
+	}
 }
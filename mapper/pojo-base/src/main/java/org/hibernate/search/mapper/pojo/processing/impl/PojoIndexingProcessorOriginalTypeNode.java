@@ -61,4 +61,16 @@ public final void process(DocumentElement target, T source, PojoIndexingProcesso
 		nested.process( parentObject, source, context );
 	}
 
+	Iterable<IndexObjectFieldReference> parentIndexObjectReferences() {
+		return parentIndexObjectReferences;
+	}
+
+	PojoIndexingProcessor<? super T> nested() {
+		return nested;
+	}
+
+	boolean isEntityType() {
+		return isEntityType;
+	}
+
 }
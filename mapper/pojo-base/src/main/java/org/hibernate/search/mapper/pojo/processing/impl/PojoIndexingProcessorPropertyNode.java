@@ -4,7 +4,10 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.mapper.pojo.common.annotation.impl.SearchProcessingWithContextException;
 import org.hibernate.search.mapper.pojo.logging.impl.IndexingLog;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
@@ -64,4 +67,13 @@ public final void process(DocumentElement target, T source, PojoIndexingProcesso
 			throw IndexingLog.INSTANCE.searchProcessingFailure( e, e.getMessage(), PojoEventContexts.fromPath( modelPath ) );
 		}
 	}
+
+	@Override
+	boolean collectValueBridgeFields(Collection<IndexFieldReference<?>> collector) {
+		return nested.collectValueBridgeFields( collector );
+	}
+
+	PojoModelPath modelPath() {
+		return modelPath;
+	}
 }
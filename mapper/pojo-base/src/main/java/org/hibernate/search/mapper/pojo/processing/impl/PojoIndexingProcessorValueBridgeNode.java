@@ -4,6 +4,8 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Collection;
+
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -51,4 +53,10 @@ public void process(DocumentElement target, V source, PojoIndexingProcessorRootC
 		target.addValue( indexFieldReference, indexFieldValue );
 	}
 
+	@Override
+	boolean collectValueBridgeFields(Collection<IndexFieldReference<?>> collector) {
+		collector.add( indexFieldReference );
+		return true;
+	}
+
 }
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.Collection;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+
+/**
+ * A processor that only populates some fields of a document,
+ * along with the references to these fields.
+ *
+ * @param <T> The processed type
+ * @see PojoPartialIndexingProcessors
+ */
+public final class PojoPartialIndexingProcessor<T> {
+
+	private final PojoIndexingProcessor<T> processor;
+	private final Collection<IndexFieldReference<?>> fields;
+
+	PojoPartialIndexingProcessor(PojoIndexingProcessor<T> processor, Collection<IndexFieldReference<?>> fields) {
+		this.processor = processor;
+		this.fields = fields;
+	}
+
+	public PojoIndexingProcessor<T> processor() {
+		return processor;
+	}
+
+	public Collection<IndexFieldReference<?>> fields() {
+		return fields;
+	}
+
+}
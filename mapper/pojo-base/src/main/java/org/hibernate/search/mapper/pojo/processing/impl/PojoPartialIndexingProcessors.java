@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+
+/**
+ * A provider of processors that only populate the index fields derived from a given set of root properties,
+ * allowing partial updates of documents.
+ * <p>
+ * Only root properties whose value is transferred to the document through value bridges exclusively
+ * can be processed independently of the rest of the entity:
+ * type bridges, property bridges, indexed-embedded and derived properties
+ * may populate fields from multiple properties, and thus require processing the whole entity.
+ *
+ * @param <T> The processed type
+ */
+public final class PojoPartialIndexingProcessors<T> {
+
+	/**
+	 * @param processor The processor for the whole entity.
+	 * @param dirtySelfFilter A filter accepting the paths that require reindexing the entity when dirty.
+	 * @param <T> The processed type
+	 * @return A provider of partial processors, or {@code null} if the given processor cannot be split
+	 * into independent root property processors.
+	 */
+	public static <T> PojoPartialIndexingProcessors<T> create(PojoIndexingProcessor<T> processor,
+			PojoPathFilter dirtySelfFilter) {
+		if ( !( processor instanceof PojoIndexingProcessorOriginalTypeNode ) ) {
+			return null;
+		}
+		PojoIndexingProcessorOriginalTypeNode<T> typeNode = (PojoIndexingProcessorOriginalTypeNode<T>) processor;
+		if ( typeNode.parentIndexObjectReferences().iterator().hasNext() ) {
+			return null;
+		}
+		PojoIndexingProcessor<? super T> nested = typeNode.nested();
+		Collection<? extends PojoIndexingProcessor<? super T>> elements =
+				nested instanceof PojoIndexingProcessorMultiNode
+						? ( (PojoIndexingProcessorMultiNode<? super T>) nested ).elements()
+						: Collections.singletonList( nested );
+		Map<String, PropertyProcessors<T>> properties = new LinkedHashMap<>();
+		for ( PojoIndexingProcessor<? super T> element : elements ) {
+			if ( !( element instanceof PojoIndexingProcessorPropertyNode ) ) {
+				// Type bridge: may use any property.
+				return null;
+			}
+			PojoModelPath modelPath = ( (PojoIndexingProcessorPropertyNode<?, ?>) element ).modelPath();
+			if ( !( modelPath instanceof PojoModelPathPropertyNode )
+					|| ( (PojoModelPathPropertyNode) modelPath ).parent() != null ) {
+				return null;
+			}
+			String propertyName = ( (PojoModelPathPropertyNode) modelPath ).propertyName();
+			if ( dirtySelfFilter.filter( propertyName ) == null ) {
+				// The property is indexed, but changes to the property itself do not trigger reindexing:
+				// it's derived from other properties, and we cannot tell which ones.
+				return null;
+			}
+			properties.computeIfAbsent( propertyName, ignored -> new PropertyProcessors<>() ).add( element );
+		}
+		return new PojoPartialIndexingProcessors<>( typeNode.isEntityType(), properties );
+	}
+
+	private final boolean isEntityType;
+	private final Map<String, PropertyProcessors<T>> properties;
+
+	private PojoPartialIndexingProcessors(boolean isEntityType, Map<String, PropertyProcessors<T>> properties) {
+		this.isEntityType = isEntityType;
+		this.properties = properties;
+	}
+
+	/**
+	 * @param propertyNames The names of root properties to process.
+	 * @return A partial processor for the given properties,
+	 * or {@code null} if at least one of these properties cannot be processed independently.
+	 */
+	public PojoPartialIndexingProcessor<T> select(Set<String> propertyNames) {
+		List<PojoIndexingProcessor<? super T>> processors = new ArrayList<>();
+		List<IndexFieldReference<?>> fields = new ArrayList<>();
+		for ( String propertyName : propertyNames ) {
+			PropertyProcessors<T> property = properties.get( propertyName );
+			if ( property == null || property.fields == null ) {
+				// Either the property is not processed through value bridges exclusively,
+				// or it is not processed at all, in which case changes to this property
+				// only matter to some other, unknown part of the mapping.
+				return null;
+			}
+			processors.addAll( property.processors );
+			fields.addAll( property.fields );
+		}
+		if ( fields.isEmpty() ) {
+			return null;
+		}
+		return new PojoPartialIndexingProcessor<>(
+				new PojoIndexingProcessorOriginalTypeNode<>( Collections.emptyList(),
+						new PojoIndexingProcessorMultiNode<>( processors ), isEntityType ),
+				fields );
+	}
+
+	private static final class PropertyProcessors<T> {
+		private final List<PojoIndexingProcessor<? super T>> processors = new ArrayList<>();
+		// null if the property is not processed through value bridges exclusively
+		private List<IndexFieldReference<?>> fields = new ArrayList<>();
+
+		void add(PojoIndexingProcessor<? super T> processor) {
+			processors.add( processor );
+			if ( fields != null && !processor.collectValueBridgeFields( fields ) ) {
+				fields = null;
+			}
+		}
+	}
+
+}
@@ -65,6 +65,21 @@ public CompletableFuture<?> validate(FailureCollector failureCollector, Operatio
 		return doOperationOnTypesTriFunction( IndexSchemaManager::validate, failureCollector, operationSubmitter );
 	}
 
+	@Override
+	public CompletableFuture<?> startRebuild(FailureCollector failureCollector, OperationSubmitter operationSubmitter) {
+		return doOperationOnTypesBiFunction( IndexSchemaManager::startRebuild, failureCollector, operationSubmitter );
+	}
+
+	@Override
+	public CompletableFuture<?> finishRebuild(FailureCollector failureCollector, OperationSubmitter operationSubmitter) {
+		return doOperationOnTypesBiFunction( IndexSchemaManager::finishRebuild, failureCollector, operationSubmitter );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild(FailureCollector failureCollector, OperationSubmitter operationSubmitter) {
+		return doOperationOnTypesBiFunction( IndexSchemaManager::abortRebuild, failureCollector, operationSubmitter );
+	}
+
 	@Override
 	public void exportExpectedSchema(SearchSchemaCollector collector) {
 		IndexSchemaCollectorDelegate collectorDelegate = new IndexSchemaCollectorDelegate( collector );
@@ -62,6 +62,24 @@ default CompletableFuture<?> validate(FailureCollector failureCollector) {
 		return validate( failureCollector, OperationSubmitter.blocking() );
 	}
 
+	/**
+	 * @see org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager#startRebuild(OperationSubmitter)
+	 */
+	@Incubating
+	CompletableFuture<?> startRebuild(FailureCollector failureCollector, OperationSubmitter operationSubmitter);
+
+	/**
+	 * @see org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager#finishRebuild(OperationSubmitter)
+	 */
+	@Incubating
+	CompletableFuture<?> finishRebuild(FailureCollector failureCollector, OperationSubmitter operationSubmitter);
+
+	/**
+	 * @see org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager#abortRebuild(OperationSubmitter)
+	 */
+	@Incubating
+	CompletableFuture<?> abortRebuild(FailureCollector failureCollector, OperationSubmitter operationSubmitter);
+
 	@Incubating
 	void exportExpectedSchema(SearchSchemaCollector collector);
 
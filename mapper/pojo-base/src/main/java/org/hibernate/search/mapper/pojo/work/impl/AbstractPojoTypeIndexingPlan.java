@@ -44,6 +44,7 @@
 	// Use a LinkedHashMap for deterministic iteration
 	final Map<I, S> statesPerId = new LinkedHashMap<>();
 	private boolean mayRequireLoading = false;
+	private boolean hasDeferredLoading = false;
 
 	AbstractPojoTypeIndexingPlan(PojoWorkSessionContext sessionContext,
 			PojoIndexingPlanImpl root,
@@ -109,6 +110,16 @@ public void updateAssociationInverseSide(BitSet dirtyAssociationPaths, Object[]
 	// but it's simpler to implement this method for both indexed and contained types.
 
 	void updateBecauseOfContained(Object entity) {
+		I proxyIdentifier = typeContext().uninitializedProxyIdentifierOrNull( sessionContext, entity );
+		if ( proxyIdentifier != null ) {
+			// Initializing the proxy now would mean one load per containing entity:
+			// defer loading so that all containing entities get loaded in batches.
+			// See planDeferredLoading().
+			if ( getState( proxyIdentifier ).updateBecauseOfContainedDeferLoading() ) {
+				hasDeferredLoading = true;
+			}
+			return;
+		}
 		Supplier<E> entitySupplier = typeContext().toEntitySupplier( sessionContext, entity );
 		I identifier = typeContext().identifierMapping().getIdentifier( null, entitySupplier );
 		getState( identifier ).updateBecauseOfContained( entitySupplier );
@@ -141,12 +152,24 @@ void resolveDirty(boolean deleteOnly) {
 		}
 	}
 
+	boolean hasDeferredLoading() {
+		return hasDeferredLoading;
+	}
+
+	void planDeferredLoading() {
+		for ( S state : statesPerId.values() ) {
+			state.planDeferredLoading();
+		}
+		hasDeferredLoading = false;
+	}
+
 	void discard() {
 		delegate.discard();
 	}
 
 	void clearStates() {
 		this.mayRequireLoading = false;
+		this.hasDeferredLoading = false;
 		this.statesPerId.clear();
 	}
 
@@ -248,6 +271,7 @@ boolean isDeleted(Object unproxiedObject) {
 		final I identifier;
 		private Supplier<E> entitySupplier;
 		private Integer loadingOrdinal;
+		private boolean loadingDeferred;
 
 		EntityStatus initialStatus = EntityStatus.UNKNOWN;
 		EntityStatus currentStatus = EntityStatus.UNKNOWN;
@@ -327,6 +351,28 @@ void updateBecauseOfContained(Supplier<E> entitySupplier) {
 			// Thus we don't set 'shouldResolveToReindex' to true here, but leave it as is.
 		}
 
+		/**
+		 * Same as {@link #updateBecauseOfContained(Supplier)},
+		 * but for an entity that will be loaded later, see {@link #planDeferredLoading()}.
+		 *
+		 * @return {@code true} if loading was deferred, {@code false} if the entity is already available,
+		 * or if it doesn't need to be loaded.
+		 */
+		boolean updateBecauseOfContainedDeferLoading() {
+			if ( currentStatus == EntityStatus.ABSENT ) {
+				// See updateBecauseOfContained(Supplier)
+				return false;
+			}
+			currentStatus = EntityStatus.PRESENT;
+			updatedBecauseOfContained = true;
+			if ( entitySupplier != null || loadingOrdinal != null ) {
+				// Already loaded, or already planned for loading.
+				return false;
+			}
+			loadingDeferred = true;
+			return true;
+		}
+
 		void doAddOrUpdate(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
 			currentStatus = EntityStatus.PRESENT;
@@ -369,6 +415,19 @@ void planLoading() {
 			}
 		}
 
+		void planDeferredLoading() {
+			if ( entitySupplier == null && loadingOrdinal != null ) {
+				// Retrieve what was loaded previously, before the loading plan gets executed again.
+				entitySupplierOrLoad( root );
+			}
+			if ( loadingDeferred ) {
+				loadingDeferred = false;
+				if ( entitySupplier == null ) {
+					loadingOrdinal = root.loadingPlan().planLoading( typeContext(), identifier );
+				}
+			}
+		}
+
 		void resolveDirty(boolean deleteOnly) {
 			// In some configurations, we will perform reindexing resolution later,
 			// after we reloaded the entities from the database;
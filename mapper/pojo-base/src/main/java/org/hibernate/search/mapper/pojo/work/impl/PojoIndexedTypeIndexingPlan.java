@@ -8,7 +8,6 @@
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.DocumentRouter;
 import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
@@ -31,13 +30,6 @@ public PojoIndexedTypeIndexingPlan(PojoWorkIndexedTypeContext<I, E> typeContext,
 		this.typeContext = typeContext;
 	}
 
-	@Override
-	void updateBecauseOfContained(Object entity) {
-		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
-		I identifier = typeContext.identifierMapping().getIdentifier( null, entitySupplier );
-		getState( identifier ).updateBecauseOfContained( entitySupplier );
-	}
-
 	@Override
 	void resolveDirty(boolean deleteOnly) {
 		// We need to iterate on a "frozen snapshot" of the states because of HSEARCH-3857
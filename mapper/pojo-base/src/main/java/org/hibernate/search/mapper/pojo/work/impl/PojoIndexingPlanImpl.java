@@ -158,6 +158,17 @@ public void process() {
 			for ( PojoIndexedTypeIndexingPlan<?, ?> delegate : frozenIndexedTypeDelegates ) {
 				delegate.resolveDirty( shouldResolveDirtyForDeleteOnly );
 			}
+			if ( hasDeferredLoading() ) {
+				// Reindexing resolution found containing entities that were not loaded yet:
+				// load them all at once rather than one by one.
+				for ( PojoContainedTypeIndexingPlan<?, ?> delegate : containedTypeDelegates.values() ) {
+					delegate.planDeferredLoading();
+				}
+				for ( PojoIndexedTypeIndexingPlan<?, ?> delegate : indexedTypeDelegates.values() ) {
+					delegate.planDeferredLoading();
+				}
+				loadingPlan().loadBlocking( null );
+			}
 			for ( PojoContainedTypeIndexingPlan<?, ?> delegate : containedTypeDelegates.values() ) {
 				delegate.process( this );
 			}
@@ -172,6 +183,20 @@ public void process() {
 		}
 	}
 
+	private boolean hasDeferredLoading() {
+		for ( PojoContainedTypeIndexingPlan<?, ?> delegate : containedTypeDelegates.values() ) {
+			if ( delegate.hasDeferredLoading() ) {
+				return true;
+			}
+		}
+		for ( PojoIndexedTypeIndexingPlan<?, ?> delegate : indexedTypeDelegates.values() ) {
+			if ( delegate.hasDeferredLoading() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	@Override
 	public CompletableFuture<MultiEntityOperationExecutionReport> executeAndReport(OperationSubmitter operationSubmitter) {
 		try {
@@ -55,6 +55,20 @@ public CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 		return doOperationOnTypes( IndexWorkspace::refresh, operationSubmitter, unsupportedOperationBehavior );
 	}
 
+	@Override
+	public CompletableFuture<?> startBulkLoading(OperationSubmitter operationSubmitter) {
+		return doOperationOnTypes(
+				(indexWorkspace, submitter, ignored) -> indexWorkspace.startBulkLoading( submitter ),
+				operationSubmitter, UnsupportedOperationBehavior.IGNORE );
+	}
+
+	@Override
+	public CompletableFuture<?> stopBulkLoading(OperationSubmitter operationSubmitter) {
+		return doOperationOnTypes(
+				(indexWorkspace, submitter, ignored) -> indexWorkspace.stopBulkLoading( submitter ),
+				operationSubmitter, UnsupportedOperationBehavior.IGNORE );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(
 			TriFunction<IndexWorkspace, OperationSubmitter, UnsupportedOperationBehavior, CompletableFuture<?>> operation,
 			OperationSubmitter operationSubmitter,
@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessor;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.mapper.pojo.route.DocumentRouteDescriptor;
 import org.hibernate.search.mapper.pojo.route.DocumentRoutesDescriptor;
@@ -74,6 +75,17 @@ public void addOrUpdate(I identifier, DocumentRoutesDescriptor routes, Supplier<
 		}
 		DocumentReferenceProvider referenceProvider = new PojoDocumentReferenceProvider( documentIdentifier,
 				routes.currentRoute().routingKey(), identifier );
+		PojoPartialIndexingProcessor<E> partialProcessor = forceSelfDirty || updatedBecauseOfContained
+				|| dirtyPaths == null || !routes.previousRoutes().isEmpty()
+						? null
+						: typeContext.partialProcessorOrNull( dirtyPaths );
+		if ( partialProcessor != null && indexPlan.supportsPartialUpdate( partialProcessor.fields() ) ) {
+			// Only some value-bridged properties changed: only send the corresponding fields to the index.
+			indexPlan.updatePartially( referenceProvider, partialProcessor.fields(),
+					typeContext.toPartialDocumentContributor( sessionContext, processorContext, partialProcessor,
+							identifier, entitySupplier ) );
+			return;
+		}
 		indexPlan.addOrUpdate( referenceProvider,
 				typeContext.toDocumentContributor( sessionContext, processorContext, identifier, entitySupplier ) );
 	}
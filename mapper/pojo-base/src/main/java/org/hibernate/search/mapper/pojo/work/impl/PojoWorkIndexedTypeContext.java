@@ -4,6 +4,7 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
+import java.util.BitSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -15,6 +16,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.DocumentRouter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessor;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
@@ -30,6 +32,17 @@ PojoDocumentContributor<E> toDocumentContributor(PojoWorkSessionContext sessionC
 			PojoIndexingProcessorRootContext processorContext,
 			I identifier, Supplier<E> entitySupplier);
 
+	/**
+	 * @param dirtyPaths The dirty paths of an entity.
+	 * @return A processor populating only the document fields affected by the given dirty paths,
+	 * or {@code null} if the whole document must be rebuilt.
+	 */
+	PojoPartialIndexingProcessor<E> partialProcessorOrNull(BitSet dirtyPaths);
+
+	PojoDocumentContributor<E> toPartialDocumentContributor(PojoWorkSessionContext sessionContext,
+			PojoIndexingProcessorRootContext processorContext, PojoPartialIndexingProcessor<E> partialProcessor,
+			I identifier, Supplier<E> entitySupplier);
+
 	PojoPathFilter dirtySelfFilter();
 
 	IndexIndexingPlan createIndexingPlan(PojoWorkSessionContext sessionContext,
@@ -35,6 +35,14 @@
 
 	Supplier<E> toEntitySupplier(PojoWorkSessionContext sessionContext, Object entity);
 
+	/**
+	 * @param sessionContext The session context.
+	 * @param entity An entity instance, or a proxy.
+	 * @return The identifier of the given entity if it is an uninitialized proxy
+	 * and it can be loaded later from that identifier, {@code null} otherwise.
+	 */
+	I uninitializedProxyIdentifierOrNull(PojoWorkSessionContext sessionContext, Object entity);
+
 	void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoWorkSessionContext sessionContext, Object identifier,
 			Supplier<E> entitySupplier,
@@ -9,6 +9,7 @@
 
 import org.hibernate.search.engine.backend.work.execution.OperationSubmitter;
 import org.hibernate.search.engine.backend.work.execution.spi.UnsupportedOperationBehavior;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 public interface PojoScopeWorkspace {
 
@@ -64,4 +65,20 @@ default CompletableFuture<?> refresh(OperationSubmitter operationSubmitter) {
 	CompletableFuture<?> refresh(OperationSubmitter operationSubmitter,
 			UnsupportedOperationBehavior unsupportedOperationBehavior);
 
+	/**
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future.
+	 * @see org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace#startBulkLoading(OperationSubmitter)
+	 */
+	@Incubating
+	CompletableFuture<?> startBulkLoading(OperationSubmitter operationSubmitter);
+
+	/**
+	 * @param operationSubmitter How to handle request to submit operation when the queue is full.
+	 * @return A future.
+	 * @see org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace#stopBulkLoading(OperationSubmitter)
+	 */
+	@Incubating
+	CompletableFuture<?> stopBulkLoading(OperationSubmitter operationSubmitter);
+
 }
@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.pojo.bridge.TypeBridge;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorRootContext;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+import org.junit.jupiter.api.Test;
+
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@MockitoSettings(strictness = Strictness.STRICT_STUBS)
+class PojoPartialIndexingProcessorsTest {
+
+	@Mock
+	private IndexFieldReference<String> textFieldMock;
+	@Mock
+	private IndexFieldReference<Integer> numberFieldMock;
+	@Mock
+	private IndexObjectFieldReference embeddedObjectFieldMock;
+	@Mock
+	private IndexFieldReference<String> embeddedTextFieldMock;
+	@Mock
+	private TypeBridge<IndexedEntity> typeBridgeMock;
+	@Mock
+	private DocumentElement documentMock;
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+	private PojoIndexingProcessorRootContext contextMock;
+
+	@Test
+	void valueBridgesOnly() {
+		PojoPartialIndexingProcessors<IndexedEntity> processors = PojoPartialIndexingProcessors.create(
+				root( textProperty(), numberProperty() ), dirtySelfFilter() );
+		assertThat( processors ).isNotNull();
+
+		PojoPartialIndexingProcessor<IndexedEntity> partial = processors.select( Set.of( "number" ) );
+		assertThat( partial ).isNotNull();
+		assertThat( partial.fields() ).containsExactly( numberFieldMock );
+
+		// Only the fields of the selected properties are populated
+		IndexedEntity entity = new IndexedEntity( "some text", 42 );
+		process( partial, entity );
+		verify( documentMock ).addValue( numberFieldMock, 42 );
+		verifyNoMoreInteractions( documentMock );
+
+		partial = processors.select( Set.of( "text", "number" ) );
+		assertThat( partial ).isNotNull();
+		assertThat( partial.fields() ).containsExactlyInAnyOrder( textFieldMock, numberFieldMock );
+	}
+
+	@Test
+	void nullValue() {
+		PojoPartialIndexingProcessors<IndexedEntity> processors = PojoPartialIndexingProcessors.create(
+				root( textProperty(), numberProperty() ), dirtySelfFilter() );
+		PojoPartialIndexingProcessor<IndexedEntity> partial = processors.select( Set.of( "text" ) );
+		assertThat( partial ).isNotNull();
+		// The field is reported even though it may not get any value,
+		// so that the backend can clear its previous value
+		assertThat( partial.fields() ).containsExactly( textFieldMock );
+
+		process( partial, new IndexedEntity( null, 42 ) );
+		verify( documentMock ).addValue( textFieldMock, null );
+		verifyNoMoreInteractions( documentMock );
+	}
+
+	@Test
+	void objectField() {
+		// An indexed-embedded populates an object field: the property cannot be updated on its own
+		PojoPartialIndexingProcessors<IndexedEntity> processors = PojoPartialIndexingProcessors.create(
+				root( textProperty(), embeddedProperty() ), dirtySelfFilter() );
+		assertThat( processors ).isNotNull();
+
+		assertThat( processors.select( Set.of( "embedded" ) ) ).isNull();
+		assertThat( processors.select( Set.of( "text", "embedded" ) ) ).isNull();
+		// Other properties can still be updated on their own
+		assertThat( processors.select( Set.of( "text" ) ) ).isNotNull();
+	}
+
+	@Test
+	void embeddedType() {
+		// The processor of an embedded type populates fields of an object: cannot be split
+		PojoIndexingProcessor<IndexedEntity> processor = new PojoIndexingProcessorOriginalTypeNode<>(
+				List.of( embeddedObjectFieldMock ), textProperty(), false );
+		assertThat( PojoPartialIndexingProcessors.create( processor, dirtySelfFilter() ) ).isNull();
+	}
+
+	@Test
+	void fallback_typeBridge() {
+		// Type bridges may use any property
+		PojoPartialIndexingProcessors<IndexedEntity> processors = PojoPartialIndexingProcessors.create(
+				root( textProperty(), new PojoIndexingProcessorTypeBridgeNode<>( BeanHolder.of( typeBridgeMock ) ) ),
+				dirtySelfFilter() );
+		assertThat( processors ).isNull();
+	}
+
+	@Test
+	void fallback_derivedProperty() {
+		// Changes to a derived property are not reported: we cannot tell which properties it depends on
+		PojoPartialIndexingProcessors<IndexedEntity> processors = PojoPartialIndexingProcessors.create(
+				root( textProperty(), numberProperty() ), dirtySelfFilter( "number" ) );
+		assertThat( processors ).isNull();
+	}
+
+	@Test
+	void fallback_propertyNotIndexed() {
+		PojoPartialIndexingProcessors<IndexedEntity> processors = PojoPartialIndexingProcessors.create(
+				root( textProperty(), numberProperty() ), dirtySelfFilter() );
+
+		// Changes to this property may matter to some other part of the mapping
+		assertThat( processors.select( Set.of( "notIndexed" ) ) ).isNull();
+		assertThat( processors.select( Set.of( "text", "notIndexed" ) ) ).isNull();
+		assertThat( processors.select( Collections.emptySet() ) ).isNull();
+	}
+
+	private void process(PojoPartialIndexingProcessor<IndexedEntity> partial, IndexedEntity entity) {
+		when( contextMock.sessionContext().runtimeIntrospector().unproxy( entity ) ).thenReturn( entity );
+		partial.processor().process( documentMock, entity, contextMock );
+	}
+
+	@SafeVarargs
+	private static PojoIndexingProcessor<IndexedEntity> root(PojoIndexingProcessor<? super IndexedEntity>... elements) {
+		return new PojoIndexingProcessorOriginalTypeNode<>( Collections.emptyList(),
+				new PojoIndexingProcessorMultiNode<IndexedEntity>( List.of( elements ) ), true );
+	}
+
+	private PojoIndexingProcessor<IndexedEntity> textProperty() {
+		return property( "text", entity -> ( (IndexedEntity) entity ).text, valueBridge( textFieldMock ) );
+	}
+
+	private PojoIndexingProcessor<IndexedEntity> numberProperty() {
+		return property( "number", entity -> ( (IndexedEntity) entity ).number, valueBridge( numberFieldMock ) );
+	}
+
+	private PojoIndexingProcessor<IndexedEntity> embeddedProperty() {
+		PojoIndexingProcessor<EmbeddedEntity> embeddedTypeProcessor = new PojoIndexingProcessorOriginalTypeNode<>(
+				List.of( embeddedObjectFieldMock ),
+				new PojoIndexingProcessorPropertyNode<EmbeddedEntity, String>(
+						entity -> ( (EmbeddedEntity) entity ).text, valueBridge( embeddedTextFieldMock ),
+						PojoModelPath.ofProperty( "text" ) ),
+				false );
+		return property( "embedded", entity -> ( (IndexedEntity) entity ).embedded, embeddedTypeProcessor );
+	}
+
+	private static <P> PojoIndexingProcessor<IndexedEntity> property(String name, ValueReadHandle<P> handle,
+			PojoIndexingProcessor<? super P> nested) {
+		return new PojoIndexingProcessorPropertyNode<>( handle, nested, PojoModelPath.ofProperty( name ) );
+	}
+
+	private static <F> PojoIndexingProcessor<F> valueBridge(IndexFieldReference<F> field) {
+		ValueBridge<F, F> bridge = (value, context) -> value;
+		return new PojoIndexingProcessorValueBridgeNode<>( BeanHolder.of( bridge ), field );
+	}
+
+	private static PojoPathFilter dirtySelfFilter(String... derivedProperties) {
+		Set<String> derived = Set.of( derivedProperties );
+		// Only PojoPathFilter#filter(String) is expected to be called
+		return mock( PojoPathFilter.class,
+				invocation -> derived.contains( invocation.<String>getArgument( 0 ) ) ? null : new BitSet() );
+	}
+
+	private static class IndexedEntity {
+		private final String text;
+		private final Integer number;
+		private EmbeddedEntity embedded;
+
+		private IndexedEntity(String text, Integer number) {
+			this.text = text;
+			this.number = number;
+		}
+	}
+
+	private static class EmbeddedEntity {
+		private String text;
+	}
+
+}
@@ -27,6 +27,7 @@
 import org.hibernate.search.mapper.pojo.standalone.bootstrap.spi.StandalonePojoIntegrationBooter;
 import org.hibernate.search.mapper.pojo.standalone.bootstrap.spi.StandalonePojoIntegrationBooterBehavior;
 import org.hibernate.search.mapper.pojo.standalone.bootstrap.spi.StandalonePojoPartialMapping;
+import org.hibernate.search.mapper.pojo.standalone.cfg.StandalonePojoMapperSettings;
 import org.hibernate.search.mapper.pojo.standalone.cfg.spi.StandalonePojoMapperSpiSettings;
 import org.hibernate.search.mapper.pojo.standalone.logging.impl.ConfigurationLog;
 import org.hibernate.search.mapper.pojo.standalone.mapping.impl.StandalonePojoMapping;
@@ -46,6 +47,12 @@ public class StandalonePojoIntegrationBooterImpl implements StandalonePojoIntegr
 					} )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> MAPPING_GENERATE_ACCESSORS =
+			ConfigurationProperty.forKey( StandalonePojoMapperSettings.MAPPING_GENERATE_ACCESSORS )
+					.asBoolean()
+					.withDefault( StandalonePojoMapperSettings.Defaults.MAPPING_GENERATE_ACCESSORS )
+					.build();
+
 	private final List<AnnotatedTypeSource> annotatedTypeSources;
 	private final ConfigurationPropertyChecker propertyChecker;
 	private final ValueHandleFactory valueHandleFactory;
@@ -86,6 +93,16 @@ private StandalonePojoIntegrationPartialBuildState getPartialBuildStateOrDoBootF
 		}
 	}
 
+	private ValueHandleFactory valueHandleFactory() {
+		ValueHandleFactory result = valueHandleFactory != null
+				? valueHandleFactory
+				: ValueHandleFactory.usingMethodHandle( MethodHandles.publicLookup() );
+		if ( MAPPING_GENERATE_ACCESSORS.get( propertySource ) ) {
+			result = ValueHandleFactory.usingGeneratedAccessors( result );
+		}
+		return result;
+	}
+
 	private StandalonePojoIntegrationPartialBuildState doBootFirstPhase() {
 		SearchIntegrationEnvironment environment = null;
 		SearchIntegrationPartialBuildState integrationPartialBuildState = null;
@@ -97,9 +114,7 @@ private StandalonePojoIntegrationPartialBuildState doBootFirstPhase() {
 							environment.classResolver(),
 							environment.resourceResolver(),
 							null,
-							valueHandleFactory != null
-									? valueHandleFactory
-									: ValueHandleFactory.usingMethodHandle( MethodHandles.publicLookup() ) );
+							valueHandleFactory() );
 			introspector = introspectorCustomizer.apply( introspector );
 			StandalonePojoMappingKey mappingKey = new StandalonePojoMappingKey();
 			StandalonePojoMappingInitiator mappingInitiator = new StandalonePojoMappingInitiator( introspector );
@@ -87,6 +87,22 @@ private StandalonePojoMapperSettings() {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * Whether Hibernate Search should generate accessor classes at bootstrap
+	 * to read the value of properties exposed through getters.
+	 * <p>
+	 * Generated accessors call getters directly instead of going through reflection or method handles,
+	 * which speeds up indexing of large object graphs at the cost of a slightly longer bootstrap.
+	 * Properties for which an accessor cannot be generated are accessed as usual.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#MAPPING_GENERATE_ACCESSORS}.
+	 */
+	@Incubating
+	public static final String MAPPING_GENERATE_ACCESSORS = PREFIX + Radicals.MAPPING_GENERATE_ACCESSORS;
+
 	/**
 	 * Enables or disables multi-tenancy.
 	 * <p>
@@ -150,6 +166,7 @@ private Radicals() {
 		public static final String MAPPING_DISCOVER_ANNOTATED_TYPES_FROM_ROOT_MAPPING_ANNOTATIONS =
 				MAPPING_PREFIX + "discover_annotated_types_from_root_mapping_annotations";
 		public static final String MAPPING_CONFIGURER = MAPPING_PREFIX + "configurer";
+		public static final String MAPPING_GENERATE_ACCESSORS = MAPPING_PREFIX + "generate_accessors";
 		public static final String MULTI_TENANCY_ENABLED = MAPPING_PREFIX + "multi_tenancy.enabled";
 		public static final String MULTI_TENANCY_TENANT_IDENTIFIER_CONVERTER =
 				MAPPING_PREFIX + "multi_tenancy.tenant_identifier_converter";
@@ -171,6 +188,7 @@ private Defaults() {
 				SchemaManagementStrategyName.CREATE_OR_VALIDATE;
 		public static final boolean MAPPING_BUILD_MISSING_DISCOVERED_JANDEX_INDEXES = true;
 		public static final boolean MAPPING_DISCOVER_ANNOTATED_TYPES_FROM_ROOT_MAPPING_ANNOTATIONS = true;
+		public static final boolean MAPPING_GENERATE_ACCESSORS = false;
 		public static final boolean MULTI_TENANCY_ENABLED = false;
 
 		public static final BeanReference<IndexingPlanSynchronizationStrategy> INDEXING_PLAN_SYNCHRONIZATION_STRATEGY =
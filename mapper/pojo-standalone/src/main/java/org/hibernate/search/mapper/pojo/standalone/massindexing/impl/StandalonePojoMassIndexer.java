@@ -65,6 +65,18 @@ public MassIndexer purgeAllOnStart(boolean purgeAll) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer swapIndexesOnFinish(boolean enable) {
+		delegate.swapIndexesOnFinish( enable );
+		return this;
+	}
+
+	@Override
+	public MassIndexer tuneIndexesForBulkLoading(boolean enable) {
+		delegate.tuneIndexesForBulkLoading( enable );
+		return this;
+	}
+
 	@Override
 	public CompletionStage<?> start() {
 		return delegate.start();
@@ -20,6 +20,7 @@
 
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.logging.CategorizedLogger;
+import org.hibernate.search.util.common.reflect.spi.ValueHandleFactory;
 
 import org.jboss.logging.Logger;
 import org.jboss.logging.annotations.Cause;
@@ -152,4 +153,10 @@ SearchException errorInvokingStaticMember(Member member, String argumentsAsStrin
 	@LogMessage(level = TRACE)
 	@Message(id = ID_OFFSET + 23, value = "Could not cancel Future %s (mayInterruptIfRunning = %s)")
 	void cancellingFutureFailed(Future<?> future, boolean mayInterruptIfRunning);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 24,
+			value = "Unable to generate an accessor for '%1$s', falling back to '%2$s': %3$s")
+	void unableToGenerateAccessor(Member member, ValueHandleFactory fallback, String causeMessage,
+			@Cause Throwable cause);
 }
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.util.common.reflect.impl;
+
+import java.lang.reflect.Member;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.CommonMiscLog;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+/**
+ * A value read handle relying on a {@link Function} generated to access a member directly,
+ * so that reading the value involves neither reflection nor method handle invocation.
+ */
+public final class FunctionValueReadHandle<T> implements ValueReadHandle<T> {
+
+	private final Member member;
+	private final Function<Object, ?> getter;
+
+	public FunctionValueReadHandle(Member member, Function<Object, ?> getter) {
+		this.member = member;
+		this.getter = getter;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + member + "]";
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(Object thiz) {
+		try {
+			return (T) getter.apply( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			throw CommonMiscLog.INSTANCE.errorInvokingMember( member, Throwables.safeToString( e, thiz ), e,
+					e.getMessage() );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return member.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		FunctionValueReadHandle<?> other = (FunctionValueReadHandle<?>) obj;
+		return member.equals( other.member );
+	}
+
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ * Copyright Red Hat Inc. and Hibernate Authors
+ */
+package org.hibernate.search.util.common.reflect.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.annotation.impl.SuppressForbiddenApis;
+import org.hibernate.search.util.common.logging.impl.CommonMiscLog;
+import org.hibernate.search.util.common.reflect.impl.FunctionValueReadHandle;
+
+/**
+ * A factory generating, for each getter method, a hidden class implementing {@link Function}
+ * that invokes the getter with a plain method call instead of reflection or method handles.
+ * <p>
+ * Falls back to another factory for fields, constructors,
+ * for getters the fallback factory would not be allowed to access,
+ * and whenever an accessor cannot be generated (e.g. because of module encapsulation).
+ */
+@SuppressForbiddenApis(reason = "MethodHandles don't always work, but usage of this class is configurable,"
+		+ " so it should only be used in contexts where MethodHandles actually work.")
+final class GeneratedAccessorValueHandleFactory implements ValueHandleFactory {
+
+	private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType FUNCTION_ERASED_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final ValueHandleFactory fallback;
+	private final MethodHandles.Lookup accessCheckLookup;
+
+	GeneratedAccessorValueHandleFactory(ValueHandleFactory fallback) {
+		this.fallback = fallback;
+		// Generated accessors must not grant access to more getters than the fallback:
+		// method handles are subject to the access rights of their lookup,
+		// and java.lang.reflect to those of Hibernate Search, unless setAccessible(true) was called.
+		// Unreflecting a method with a lookup enforces the same rules, including setAccessible(true).
+		this.accessCheckLookup = fallback instanceof MethodHandleValueHandleFactory
+				? ( (MethodHandleValueHandleFactory) fallback ).lookup()
+				: MethodHandles.lookup();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[fallback=" + fallback + "]";
+	}
+
+	@Override
+	public <T> ValueCreateHandle<T> createForConstructor(Constructor<T> constructor) throws IllegalAccessException {
+		return fallback.createForConstructor( constructor );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForField(Field field) throws IllegalAccessException {
+		return fallback.createForField( field );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForMethod(Method method) throws IllegalAccessException {
+		if ( Modifier.isStatic( method.getModifiers() ) || method.getParameterCount() != 0
+				|| void.class.equals( method.getReturnType() ) ) {
+			return fallback.createForMethod( method );
+		}
+		try {
+			accessCheckLookup.unreflect( method );
+		}
+		catch (IllegalAccessException e) {
+			// Let the fallback report the illegal access as it usually does.
+			return fallback.createForMethod( method );
+		}
+		Function<Object, ?> getter;
+		try {
+			getter = generateGetter( method );
+		}
+		catch (Throwable e) {
+			CommonMiscLog.INSTANCE.unableToGenerateAccessor( method, fallback, e.getMessage(), e );
+			return fallback.createForMethod( method );
+		}
+		return new FunctionValueReadHandle<>( method, getter );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, ?> generateGetter(Method method) throws Throwable {
+		Class<?> declaringClass = method.getDeclaringClass();
+		// The generated class is defined as a nest-mate of the declaring class,
+		// which gives it access to non-public getters.
+		// Access rights of the caller were checked beforehand, see createForMethod().
+		MethodHandles.Lookup lookup = MethodHandles.privateLookupIn( declaringClass, MethodHandles.lookup() );
+		MethodHandle getterHandle = lookup.unreflect( method );
+		CallSite callSite = LambdaMetafactory.metafactory( lookup, "apply", FUNCTION_FACTORY_TYPE,
+				FUNCTION_ERASED_TYPE, getterHandle, getterHandle.type().wrap() );
+		return (Function<Object, ?>) callSite.getTarget().invokeExact();
+	}
+}
@@ -23,6 +23,10 @@ final class MethodHandleValueHandleFactory implements ValueHandleFactory {
 		this.lookup = lookup;
 	}
 
+	MethodHandles.Lookup lookup() {
+		return lookup;
+	}
+
 	@Override
 	public <T> ValueCreateHandle<T> createForConstructor(Constructor<T> constructor) throws IllegalAccessException {
 		return new MethodHandleValueCreateHandle<>( constructor, lookup.unreflectConstructor( constructor ) );
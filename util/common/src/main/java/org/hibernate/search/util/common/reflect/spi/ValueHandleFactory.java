@@ -35,4 +35,16 @@ static ValueHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueHandleFactory( lookup );
 	}
 
+	/**
+	 * @param fallback A factory to fall back to for fields, constructors,
+	 * and methods for which an accessor cannot be generated.
+	 * @return A factory producing value handles that rely on accessor classes generated at runtime
+	 * to call getter methods directly instead of through reflection or method handles,
+	 * at the cost of a slightly longer bootstrap.
+	 * Getters are only accessed if the fallback factory would be allowed to access them.
+	 */
+	static ValueHandleFactory usingGeneratedAccessors(ValueHandleFactory fallback) {
+		return new GeneratedAccessorValueHandleFactory( fallback );
+	}
+
 }
@@ -35,7 +35,9 @@ public static List<? extends Arguments> params() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList(
 				Arguments.of( ValueHandleFactory.usingMethodHandle( lookup ) ),
-				Arguments.of( ValueHandleFactory.usingJavaLangReflect() )
+				Arguments.of( ValueHandleFactory.usingJavaLangReflect() ),
+				Arguments.of( ValueHandleFactory.usingGeneratedAccessors( ValueHandleFactory.usingMethodHandle( lookup ) ) ),
+				Arguments.of( ValueHandleFactory.usingGeneratedAccessors( ValueHandleFactory.usingJavaLangReflect() ) )
 		);
 	}
 
@@ -148,7 +150,8 @@ void failure_method_runtimeException(ValueHandleFactory factory) throws Exceptio
 	@MethodSource("params")
 	void failure_method_illegalAccessException(ValueHandleFactory factory) throws Exception {
 		assumeFalse(
-				factory.getClass().getSimpleName().contains( "MethodHandle" ),
+				// Also covers generated accessors falling back to method handles
+				factory.toString().contains( "MethodHandle" ),
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method."
@@ -171,7 +174,8 @@ void failure_method_illegalAccessException(ValueHandleFactory factory) throws Ex
 	@MethodSource("params")
 	void failure_field_illegalAccessException(ValueHandleFactory factory) throws Exception {
 		assumeFalse(
-				factory.getClass().getSimpleName().contains( "MethodHandle" ),
+				// Also covers generated accessors falling back to method handles
+				factory.toString().contains( "MethodHandle" ),
 				"Cannot test IllegalAccessException with MethodHandles: "
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method."
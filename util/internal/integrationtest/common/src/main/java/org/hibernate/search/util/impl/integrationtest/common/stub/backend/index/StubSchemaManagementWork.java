@@ -15,7 +15,10 @@ public enum Type {
 		CREATE_OR_UPDATE,
 		DROP_IF_EXISTING,
 		DROP_AND_CREATE,
-		VALIDATE
+		VALIDATE,
+		START_REBUILD,
+		FINISH_REBUILD,
+		ABORT_REBUILD
 	}
 
 	public static Builder builder(Type type) {
@@ -13,6 +13,7 @@
 import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
 import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.metrics.spi.MetricsRecorder;
 import org.hibernate.search.engine.reporting.FailureHandler;
 
 public class StubBackendBuildContext implements BackendBuildContext {
@@ -56,6 +57,11 @@ public TimingSource timingSource() {
 		return delegate.timingSource();
 	}
 
+	@Override
+	public MetricsRecorder metricsRecorder() {
+		return delegate.metricsRecorder();
+	}
+
 	@Override
 	public boolean multiTenancyEnabled() {
 		return delegate.multiTenancyEnabled();
@@ -59,6 +59,27 @@ public CompletableFuture<?> dropAndCreate(OperationSubmitter operationSubmitter)
 		return behavior.executeSchemaManagementWork( indexName, work, null );
 	}
 
+	@Override
+	public CompletableFuture<?> startRebuild(OperationSubmitter operationSubmitter) {
+		StubSchemaManagementWork work =
+				StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.START_REBUILD ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
+	@Override
+	public CompletableFuture<?> finishRebuild(OperationSubmitter operationSubmitter) {
+		StubSchemaManagementWork work =
+				StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.FINISH_REBUILD ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
+	@Override
+	public CompletableFuture<?> abortRebuild(OperationSubmitter operationSubmitter) {
+		StubSchemaManagementWork work =
+				StubSchemaManagementWork.builder( StubSchemaManagementWork.Type.ABORT_REBUILD ).build();
+		return behavior.executeSchemaManagementWork( indexName, work, null );
+	}
+
 	@Override
 	public CompletableFuture<?> validate(ContextualFailureCollector failureCollector,
 			OperationSubmitter operationSubmitter) {
@@ -69,6 +69,14 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		return result;
 	}
 
+	@Override
+	public SearchResult<H> fetchAfter(String pageToken, Integer limit) {
+		if ( pageToken != null ) {
+			throw new UnsupportedOperationException( "Page tokens are not supported by the stub backend" );
+		}
+		return fetch( null, limit );
+	}
+
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		return fetch( offset, limit ).hits();
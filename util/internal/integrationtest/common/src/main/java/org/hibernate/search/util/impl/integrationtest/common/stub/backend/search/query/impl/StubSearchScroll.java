@@ -5,6 +5,9 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.query.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
@@ -54,4 +57,9 @@ public SearchScrollResult<T> next() {
 		timeoutManager.stop();
 		return result;
 	}
+
+	@Override
+	public CompletionStage<SearchScrollResult<T>> nextAsync(Executor executor) {
+		return CompletableFuture.supplyAsync( this::next, executor );
+	}
 }